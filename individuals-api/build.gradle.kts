@@ -10,9 +10,12 @@ val versions = mapOf(
 	"mapstruct" to "1.6.3",
 	"logstash-logback-encoder" to "9.0",
 
+	"jmh" to "1.37",
+
 	"mockwebserver" to "5.3.2",
 	"junit-jupiter" to "1.21.4",
 	"wiremock" to "3.13.0",
+	"hdrhistogram" to "2.2.2",
 
 	"lombok-mapstruct-binding" to "0.2.0",
 	"mapstruct-processor" to "1.6.3",
@@ -23,6 +26,7 @@ plugins {
 	id("org.springframework.boot") version "4.0.3"
 	id("io.spring.dependency-management") version "1.1.7"
 	id("org.openapi.generator") version "7.20.0"
+	id("me.champeau.jmh") version "0.7.3"
 }
 
 group = "com.ersted"
@@ -81,11 +85,13 @@ dependencies {
 	implementation("io.github.resilience4j:resilience4j-circuitbreaker:${versions["resilience4j"]}")
 	implementation("io.github.resilience4j:resilience4j-bulkhead:${versions["resilience4j"]}")
 	implementation("io.github.resilience4j:resilience4j-reactor:${versions["resilience4j"]}")
+	implementation("io.github.resilience4j:resilience4j-micrometer:${versions["resilience4j"]}")
 
 //	Helpers
 	implementation("org.mapstruct:mapstruct:${versions["mapstruct"]}")
 	implementation("org.projectlombok:lombok")
 	implementation("net.logstash.logback:logstash-logback-encoder:${versions["logstash-logback-encoder"]}")
+	implementation("com.github.ben-manes.caffeine:caffeine")
 
 
 //	Tests
@@ -103,7 +109,7 @@ dependencies {
 	annotationProcessor("org.mapstruct:mapstruct-processor:${versions["mapstruct-processor"]}")
 }
 
-configurations.testRuntimeClasspath {
+configurations.matching { it.name == "testRuntimeClasspath" || it.name == "loadTestRuntimeClasspath" }.configureEach {
 	resolutionStrategy.eachDependency {
 		if (requested.group == "org.eclipse.jetty" ||
 			requested.group == "org.eclipse.jetty.http2" ||
@@ -118,6 +124,98 @@ tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+jmh {
+	jmhVersion.set(versions["jmh"])
+	includes.set(listOf(project.findProperty("jmhIncludes")?.toString() ?: ".*"))
+	profilers.set(project.findProperty("jmhProfilers")?.toString()?.split(",")?.filter { it.isNotBlank() } ?: listOf("gc"))
+	resultFormat.set("JSON")
+}
+
+val jmhResults = layout.buildDirectory.file("results/jmh/results.json")
+val jmhBaseline = layout.projectDirectory.file("src/jmh/baseline/results.json")
+
+tasks.register<Copy>("jmhUpdateBaseline") {
+	group = "benchmark"
+	description = "Stores the latest JMH results as the checked-in baseline"
+	mustRunAfter("jmh")
+	from(jmhResults)
+	into(jmhBaseline.asFile.parentFile)
+}
+
+tasks.register("jmhCompare") {
+	group = "benchmark"
+	description = "Compares the latest JMH results with the checked-in baseline"
+	mustRunAfter("jmh")
+	val tolerance = project.findProperty("jmhTolerance")?.toString()?.toDouble() ?: 0.10
+	val results = jmhResults.get().asFile
+	val baseline = jmhBaseline.asFile
+	doLast {
+		fun load(file: File): Map<String, Map<String, Any?>> {
+			@Suppress("UNCHECKED_CAST")
+			val runs = groovy.json.JsonSlurper().parse(file) as List<Map<String, Any?>>
+			return runs.associateBy { run ->
+				val params = (run["params"] as Map<*, *>?)?.entries?.joinToString(",") { "${it.key}=${it.value}" }
+				run["benchmark"].toString().removePrefix("com.ersted.individualsapi.benchmark.") +
+						(if (params.isNullOrEmpty()) "" else "[$params]")
+			}
+		}
+		fun number(value: Any?) = value?.toString()?.toDoubleOrNull()?.takeUnless { it.isNaN() } ?: 0.0
+
+		if (!results.exists()) throw GradleException("No JMH results at $results, run ./gradlew jmh first")
+		if (!baseline.exists()) throw GradleException("No JMH baseline at $baseline, record it with ./gradlew jmh jmhUpdateBaseline")
+		val current = load(results)
+		val reference = load(baseline)
+		fun jvm(runs: Map<String, Map<String, Any?>>) =
+			runs.values.map { "${it["vmName"]} ${it["jdkVersion"]} ${it["jvmArgs"]}" }.toSet()
+		if (jvm(current) != jvm(reference)) {
+			throw GradleException("JMH baseline was recorded on ${jvm(reference)}, the latest run on ${jvm(current)}; " +
+					"record the baseline again with ./gradlew jmh jmhUpdateBaseline on the toolchain JVM")
+		}
+		val regressions = mutableListOf<String>()
+
+		current.forEach { (name, run) ->
+			val base = reference[name]
+			if (base == null) {
+				logger.lifecycle("NEW   $name")
+				return@forEach
+			}
+			@Suppress("UNCHECKED_CAST")
+			fun metrics(run: Map<String, Any?>): Map<String, Map<String, Any?>> {
+				val secondary = (run["secondaryMetrics"] as Map<String, Map<String, Any?>>?).orEmpty()
+				return secondary.filterKeys { it.endsWith("gc.alloc.rate.norm") }
+					.mapKeys { "alloc" } + ("score" to run["primaryMetric"] as Map<String, Any?>)
+			}
+			val higherIsBetter = run["mode"] == "thrpt"
+			val baseMetrics = metrics(base)
+			metrics(run).forEach { (metric, value) ->
+				val was = baseMetrics[metric] ?: return@forEach
+				val now = number(value["score"])
+				val before = number(was["score"])
+				val noise = number(value["scoreError"]) + number(was["scoreError"])
+				val delta = if (higherIsBetter && metric == "score") before - now else now - before
+				val change = if (before == 0.0) 0.0 else (now - before) / before
+				val line = "%-60s %-5s %12.3f -> %12.3f %s (%+.1f%%)"
+					.format(name, metric, before, now, value["scoreUnit"], change * 100)
+				val floor = if (metric == "alloc") 8.0 else 0.0
+				if (delta > maxOf(before * tolerance, floor) && delta > noise) {
+					regressions += line
+					logger.lifecycle("WORSE $line")
+				} else {
+					logger.lifecycle("OK    $line")
+				}
+			}
+		}
+		if (regressions.isNotEmpty()) {
+			throw GradleException("JMH regressions over ${(tolerance * 100).toInt()}% against $baseline:\n" +
+					regressions.joinToString("\n"))
+		}
+	}
+}
+
+tasks.named<Jar>("jmhJar") {
+	isZip64 = true
+}
+
 openApiGenerate {
 	generatorName.set("spring")
 
@@ -163,3 +261,29 @@ sourceSets {
 tasks.named("compileJava") {
 	dependsOn(tasks.openApiGenerate)
 }
+
+val loadTest: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
+
+dependencies {
+	loadTest.implementationConfigurationName("org.wiremock:wiremock-jetty12:${versions["wiremock"]}")
+	loadTest.implementationConfigurationName("org.hdrhistogram:HdrHistogram:${versions["hdrhistogram"]}")
+}
+
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "Runs individuals-api against Keycloak and person-service stand-ins under open-model load"
+	classpath = loadTest.runtimeClasspath
+	mainClass.set("com.ersted.individualsapi.loadtest.LoadTestRunner")
+	javaLauncher.set(javaToolchains.launcherFor(java.toolchain))
+	jvmArgs((project.findProperty("loadtest.jvm-args")?.toString() ?: "-Xms1g -Xmx1g -XX:+UseG1GC").split(" "))
+	systemProperty("loadtest.report-dir", layout.buildDirectory.dir("reports/loadtest").get().asFile.absolutePath)
+	project.properties
+		.filterKeys { it.startsWith("loadtest.") && it != "loadtest.jvm-args" }
+		.forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
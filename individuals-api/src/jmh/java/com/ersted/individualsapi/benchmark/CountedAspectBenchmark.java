@@ -0,0 +1,143 @@
+package com.ersted.individualsapi.benchmark;
+
+import com.ersted.individualsapi.annotation.Counted;
+import com.ersted.individualsapi.aspect.CountedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.aop.aspectj.MethodInvocationProceedingJoinPoint;
+import org.springframework.aop.framework.ReflectiveMethodInvocation;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import reactor.core.publisher.Mono;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CountedAspectBenchmark {
+
+    private final CountedTarget target = new CountedTarget();
+
+    private LegacyCountedAspect legacyAspect;
+    private CountedAspect cachedAspect;
+
+    private ProceedingJoinPoint monoJoinPoint;
+    private ProceedingJoinPoint syncJoinPoint;
+    private Counted monoCounted;
+    private Counted syncCounted;
+
+    @Setup
+    public void setUp() throws Exception {
+        legacyAspect = new LegacyCountedAspect(new SimpleMeterRegistry());
+        cachedAspect = new CountedAspect(new SimpleMeterRegistry(), new DefaultListableBeanFactory());
+
+        Method mono = CountedTarget.class.getMethod("mono");
+        Method sync = CountedTarget.class.getMethod("sync");
+        monoJoinPoint = joinPoint(mono);
+        syncJoinPoint = joinPoint(sync);
+        monoCounted = mono.getAnnotation(Counted.class);
+        syncCounted = sync.getAnnotation(Counted.class);
+    }
+
+    @Benchmark
+    public void monoWithoutAspect(Blackhole blackhole) throws Throwable {
+        ((Mono<?>) monoJoinPoint.proceed()).subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void monoLegacyAspect(Blackhole blackhole) throws Throwable {
+        ((Mono<?>) legacyAspect.count(monoJoinPoint, monoCounted)).subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public void monoCachedAspect(Blackhole blackhole) throws Throwable {
+        ((Mono<?>) cachedAspect.count(monoJoinPoint, monoCounted)).subscribe(blackhole::consume);
+    }
+
+    @Benchmark
+    public Object syncWithoutAspect() throws Throwable {
+        return syncJoinPoint.proceed();
+    }
+
+    @Benchmark
+    public Object syncLegacyAspect() throws Throwable {
+        return legacyAspect.count(syncJoinPoint, syncCounted);
+    }
+
+    @Benchmark
+    public Object syncCachedAspect() throws Throwable {
+        return cachedAspect.count(syncJoinPoint, syncCounted);
+    }
+
+    private ProceedingJoinPoint joinPoint(Method method) {
+        return new MethodInvocationProceedingJoinPoint(new TargetInvocation(target, method));
+    }
+
+    private static class TargetInvocation extends ReflectiveMethodInvocation {
+
+        TargetInvocation(Object target, Method method) {
+            super(target, target, method, new Object[0], target.getClass(), List.of());
+        }
+
+    }
+
+    public static class CountedTarget {
+
+        @Counted
+        public Mono<String> mono() {
+            return Mono.just("ok");
+        }
+
+        @Counted
+        public String sync() {
+            return "ok";
+        }
+
+    }
+
+    @Aspect
+    public static class LegacyCountedAspect {
+
+        private final MeterRegistry meterRegistry;
+
+        public LegacyCountedAspect(MeterRegistry meterRegistry) {
+            this.meterRegistry = meterRegistry;
+        }
+
+        @Around("@annotation(counted)")
+        public Object count(ProceedingJoinPoint point, Counted counted) throws Throwable {
+            String metricName = counted.value().isEmpty()
+                    ? point.getSignature().toShortString()
+                    : counted.value();
+
+            Tags baseTags = Tags.of(counted.tags());
+
+            Object result = point.proceed();
+
+            if (result instanceof Mono<?> mono) {
+                return mono
+                        .doOnSuccess(_ -> meterRegistry.counter(metricName, baseTags.and("status", "success")).increment())
+                        .doOnError(error -> meterRegistry.counter(metricName,
+                                baseTags.and("status", "error").and("exception", error.getClass().getSimpleName())
+                        ).increment());
+            }
+
+            meterRegistry.counter(metricName, baseTags).increment();
+
+            return result;
+        }
+
+    }
+
+}
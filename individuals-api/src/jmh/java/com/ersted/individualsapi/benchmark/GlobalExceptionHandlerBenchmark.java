@@ -0,0 +1,34 @@
+package com.ersted.individualsapi.benchmark;
+
+import com.ersted.individualsapi.dto.ErrorResponse;
+import com.ersted.individualsapi.exception.InvalidCredentialsException;
+import com.ersted.individualsapi.exception.ValidationException;
+import com.ersted.individualsapi.exception.handler.GlobalExceptionHandler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.ResponseEntity;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GlobalExceptionHandlerBenchmark {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final InvalidCredentialsException invalidCredentials = new InvalidCredentialsException("Invalid user credentials");
+    private final ValidationException validation = new ValidationException("Password confirmation does not match");
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> invalidCredentials() {
+        return handler.handleInvalidCredentialsException(invalidCredentials).block();
+    }
+
+    @Benchmark
+    public ResponseEntity<ErrorResponse> validation() {
+        return handler.handleValidationException(validation).block();
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.ersted.individualsapi.benchmark;
+
+import com.ersted.individualsapi.exception.handler.KeycloakErrorHandler;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class KeycloakErrorHandlerBenchmark {
+
+    private static final String INVALID_GRANT = """
+            {"error":"invalid_grant","error_description":"Invalid user credentials"}
+            """;
+
+    private static final String MALFORMED = "<html><body>Bad Request</body></html>";
+
+    private KeycloakErrorHandler errorHandler;
+    private WebClientResponseException invalidGrant;
+    private WebClientResponseException malformed;
+    private WebClientResponseException conflict;
+
+    @Setup
+    public void setUp() {
+        errorHandler = new KeycloakErrorHandler();
+        invalidGrant = response(400, INVALID_GRANT);
+        malformed = response(400, MALFORMED);
+        conflict = response(409, "{\"errorMessage\":\"User exists with same username\"}");
+    }
+
+    @Benchmark
+    public Throwable badRequestInvalidGrant() {
+        return handle(invalidGrant);
+    }
+
+    @Benchmark
+    public Throwable badRequestMalformedBody() {
+        return handle(malformed);
+    }
+
+    @Benchmark
+    public Throwable conflict() {
+        return handle(conflict);
+    }
+
+    private Throwable handle(WebClientResponseException error) {
+        Throwable[] mapped = new Throwable[1];
+        errorHandler.handle(Mono.error(error)).subscribe(null, e -> mapped[0] = e);
+        return mapped[0];
+    }
+
+    private static WebClientResponseException response(int status, String body) {
+        return WebClientResponseException.create(status, "", HttpHeaders.EMPTY,
+                body.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8);
+    }
+
+}
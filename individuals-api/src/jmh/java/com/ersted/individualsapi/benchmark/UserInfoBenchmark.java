@@ -0,0 +1,83 @@
+package com.ersted.individualsapi.benchmark;
+
+import com.ersted.individualsapi.config.CachingReactiveJwtDecoder;
+import com.ersted.individualsapi.dto.UserInfoResponse;
+import com.ersted.individualsapi.service.TokenService;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.NimbusReactiveJwtDecoder;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class UserInfoBenchmark {
+
+    private ReactiveJwtDecoder nimbusDecoder;
+    private ReactiveJwtDecoder cachingDecoder;
+    private TokenService tokenService;
+    private String token;
+
+    @Setup
+    public void setUp() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        KeyPair keyPair = generator.generateKeyPair();
+
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(UUID.randomUUID().toString())
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(1, ChronoUnit.HOURS)))
+                .claim("email", "benchmark@example.com")
+                .claim("roles", List.of("USER"))
+                .claim("created_at", now.toEpochMilli())
+                .build();
+        SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.RS256), claims);
+        jwt.sign(new RSASSASigner(keyPair.getPrivate()));
+        token = jwt.serialize();
+
+        nimbusDecoder = NimbusReactiveJwtDecoder.withPublicKey((RSAPublicKey) keyPair.getPublic()).build();
+        cachingDecoder = new CachingReactiveJwtDecoder(nimbusDecoder, 10_000, new SimpleMeterRegistry());
+        tokenService = new TokenService(null);
+    }
+
+    @Benchmark
+    public UserInfoResponse headerDecodedTwice() {
+        nimbusDecoder.decode(token).block();
+        Jwt jwt = nimbusDecoder.decode(token).block();
+        return tokenService.getUserInfo(jwt).block();
+    }
+
+    @Benchmark
+    public UserInfoResponse principalUncached() {
+        Jwt jwt = nimbusDecoder.decode(token).block();
+        return tokenService.getUserInfo(jwt).block();
+    }
+
+    @Benchmark
+    public UserInfoResponse principalCached() {
+        Jwt jwt = cachingDecoder.decode(token).block();
+        return tokenService.getUserInfo(jwt).block();
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.ersted.individualsapi.loadtest;
+
+import com.sun.management.GarbageCollectionNotificationInfo;
+import com.sun.management.ThreadMXBean;
+import org.HdrHistogram.Histogram;
+
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import javax.management.openmbean.CompositeData;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+public class JvmStats implements AutoCloseable {
+
+    private static final String[] HARNESS_THREAD_PREFIXES = {OpenModelLoadGenerator.THREAD_PREFIX, "qtp"};
+
+    private final ThreadMXBean threads = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private final Map<String, Collector> collectors = new ConcurrentHashMap<>();
+    private final Histogram pauses = new Histogram(3);
+    private final NotificationListener listener = (notification, _) -> {
+        if (GarbageCollectionNotificationInfo.GARBAGE_COLLECTION_NOTIFICATION.equals(notification.getType())) {
+            record(GarbageCollectionNotificationInfo.from((CompositeData) notification.getUserData()));
+        }
+    };
+
+    private long startedAt;
+    private long totalAllocatedAtStart;
+    private long harnessAllocatedAtStart;
+
+    public JvmStats() {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) gc).addNotificationListener(listener, null, null);
+        }
+    }
+
+    public void reset() {
+        collectors.clear();
+        synchronized (pauses) {
+            pauses.reset();
+        }
+        startedAt = System.nanoTime();
+        totalAllocatedAtStart = threads.getTotalThreadAllocatedBytes();
+        harnessAllocatedAtStart = harnessAllocatedBytes();
+    }
+
+    public Snapshot snapshot() {
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        long total = threads.getTotalThreadAllocatedBytes() - totalAllocatedAtStart;
+        long harness = harnessAllocatedBytes() - harnessAllocatedAtStart;
+
+        Map<String, CollectorStats> byCollector = new TreeMap<>();
+        collectors.forEach((name, collector) -> byCollector.put(name,
+                new CollectorStats(collector.count.sum(), collector.totalMillis.sum(), collector.maxMillis)));
+        Histogram pauseHistogram;
+        synchronized (pauses) {
+            pauseHistogram = pauses.copy();
+        }
+        return new Snapshot(byCollector, pauseHistogram, total / seconds, (total - harness) / seconds);
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            ((NotificationEmitter) gc).removeNotificationListener(listener);
+        }
+    }
+
+    private void record(GarbageCollectionNotificationInfo info) {
+        long millis = info.getGcInfo().getDuration();
+        Collector collector = collectors.computeIfAbsent(info.getGcName(), _ -> new Collector());
+        collector.count.increment();
+        collector.totalMillis.add(millis);
+        synchronized (collector) {
+            collector.maxMillis = Math.max(collector.maxMillis, millis);
+        }
+        if (isPause(info.getGcName())) {
+            synchronized (pauses) {
+                pauses.recordValue(millis);
+            }
+        }
+    }
+
+    private static boolean isPause(String collectorName) {
+        return !collectorName.contains("Cycles") && !collectorName.contains("Concurrent");
+    }
+
+    private long harnessAllocatedBytes() {
+        long bytes = 0;
+        for (Map.Entry<Thread, StackTraceElement[]> entry : Thread.getAllStackTraces().entrySet()) {
+            Thread thread = entry.getKey();
+            for (String prefix : HARNESS_THREAD_PREFIXES) {
+                if (thread.getName().startsWith(prefix)) {
+                    bytes += Math.max(0, threads.getThreadAllocatedBytes(thread.threadId()));
+                    break;
+                }
+            }
+        }
+        return bytes;
+    }
+
+    public record CollectorStats(long count, long totalMillis, long maxMillis) {
+    }
+
+    public record Snapshot(Map<String, CollectorStats> collectors, Histogram pauses,
+                           double allocationRate, double applicationAllocationRate) {
+    }
+
+    private static final class Collector {
+
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalMillis = new LongAdder();
+        private long maxMillis;
+
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.ersted.individualsapi.loadtest;
+
+import com.ersted.individualsapi.loadtest.OpenModelLoadGenerator.ScenarioResult;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public final class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private LoadTestReport() {
+    }
+
+    public static String render(LoadTestSettings settings, Map<Scenario, ScenarioResult> results, JvmStats.Snapshot jvm) {
+        StringBuilder report = new StringBuilder();
+        report.append("individuals-api load test: %d rps for %ds after %ds warmup, mix %s%n".formatted(
+                settings.rps(), settings.duration().toSeconds(), settings.warmup().toSeconds(),
+                settings.mix().entrySet().stream()
+                        .map(entry -> entry.getKey().label() + ":" + entry.getValue())
+                        .collect(Collectors.joining(","))));
+        report.append("stand-ins: keycloak token %s (errors %.2f%%), keycloak admin %s (errors %.2f%%), person-service %s (errors %.2f%%)%n%n".formatted(
+                settings.keycloakToken().latency(), settings.keycloakToken().errorRate() * 100,
+                settings.keycloakAdmin().latency(), settings.keycloakAdmin().errorRate() * 100,
+                settings.personService().latency(), settings.personService().errorRate() * 100));
+
+        report.append("%-14s %9s %9s %7s %7s %7s %8s %9s %9s %9s %9s%n".formatted(
+                "scenario", "requests", "ok/s", "4xx", "5xx", "failed", "dropped", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        Histogram total = new Histogram(3);
+        long ok = 0, clientErrors = 0, serverErrors = 0, failed = 0, dropped = 0, requests = 0;
+        double seconds = 0;
+        for (Map.Entry<Scenario, ScenarioResult> entry : results.entrySet()) {
+            ScenarioResult result = entry.getValue();
+            report.append(row(entry.getKey().label(), result.requests(), result.throughput(), result.clientErrors(),
+                    result.serverErrors(), result.failed(), result.dropped(), result.latency()));
+            total.add(result.latency());
+            requests += result.requests();
+            ok += result.ok();
+            clientErrors += result.clientErrors();
+            serverErrors += result.serverErrors();
+            failed += result.failed();
+            dropped += result.dropped();
+            seconds = result.seconds();
+        }
+        report.append(row("total", requests, seconds > 0 ? ok / seconds : 0, clientErrors, serverErrors, failed, dropped, total));
+
+        report.append("%n%-24s %7s %10s %8s%n".formatted("collector", "count", "total ms", "max ms"));
+        jvm.collectors().forEach((name, stats) -> report.append("%-24s %7d %10d %8d%n".formatted(
+                name, stats.count(), stats.totalMillis(), stats.maxMillis())));
+        Histogram pauses = jvm.pauses();
+        report.append("gc pauses: count %d, p50 %d ms, p99 %d ms, max %d ms%n".formatted(
+                pauses.getTotalCount(), pauses.getValueAtPercentile(50), pauses.getValueAtPercentile(99), pauses.getMaxValue()));
+        report.append("allocation rate: %.1f MB/s application, %.1f MB/s whole JVM%n".formatted(
+                jvm.applicationAllocationRate() / (1024 * 1024), jvm.allocationRate() / (1024 * 1024)));
+        return report.toString();
+    }
+
+    public static void write(LoadTestSettings settings, String report, Map<Scenario, ScenarioResult> results) throws IOException {
+        Files.createDirectories(settings.reportDir());
+        Files.writeString(settings.reportDir().resolve("report.txt"), report);
+        for (Map.Entry<Scenario, ScenarioResult> entry : results.entrySet()) {
+            try (PrintStream out = new PrintStream(Files.newOutputStream(settings.reportDir().resolve(entry.getKey().label() + ".hgrm")))) {
+                entry.getValue().latency().outputPercentileDistribution(out, NANOS_PER_MILLI);
+            }
+        }
+    }
+
+    private static String row(String name, long requests, double throughput, long clientErrors, long serverErrors,
+                              long failed, long dropped, Histogram latency) {
+        return "%-14s %9d %9.1f %7d %7d %7d %8d %9.2f %9.2f %9.2f %9.2f%n".formatted(
+                name, requests, throughput, clientErrors, serverErrors, failed, dropped,
+                millis(latency, 50), millis(latency, 99), millis(latency, 99.9), latency.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+}
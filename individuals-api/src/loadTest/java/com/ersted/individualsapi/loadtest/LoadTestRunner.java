@@ -0,0 +1,75 @@
+package com.ersted.individualsapi.loadtest;
+
+import com.ersted.individualsapi.IndividualsApiApplication;
+import com.ersted.individualsapi.loadtest.OpenModelLoadGenerator.ScenarioResult;
+import com.ersted.individualsapi.loadtest.standin.KeycloakStandIn;
+import com.ersted.individualsapi.loadtest.standin.PersonServiceStandIn;
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+public class LoadTestRunner {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.from(System.getProperties());
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        try (var keycloak = new KeycloakStandIn(settings);
+             var personService = new PersonServiceStandIn(settings);
+             var application = start(settings, keycloak, personService);
+             var jvmStats = new JvmStats();
+             var generator = new OpenModelLoadGenerator(settings,
+                     "http://localhost:" + application.getEnvironment().getProperty("local.server.port"),
+                     keycloak::randomAccessToken);
+             // one scheduler thread for warm-up and measurement, so JvmStats still sees it when taking the snapshot
+             var scheduler = schedulerThread()) {
+
+            System.out.printf("Warming up for %ds at %d rps%n", settings.warmup().toSeconds(), settings.rps());
+            scheduler.submit(() -> generator.run(settings.warmup())).get();
+
+            System.out.printf("Measuring for %ds at %d rps%n", settings.duration().toSeconds(), settings.rps());
+            jvmStats.reset();
+            Map<Scenario, ScenarioResult> results = scheduler.submit(() -> generator.run(settings.duration())).get();
+            JvmStats.Snapshot jvm = jvmStats.snapshot();
+
+            String report = LoadTestReport.render(settings, results, jvm);
+            LoadTestReport.write(settings, report, results);
+            System.out.println();
+            System.out.print(report);
+            System.out.println("Latency distributions: " + settings.reportDir().toAbsolutePath());
+        }
+        System.exit(0);
+    }
+
+    private static ConfigurableApplicationContext start(LoadTestSettings settings, KeycloakStandIn keycloak,
+                                                        PersonServiceStandIn personService) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("keycloak.url", keycloak.url());
+        properties.put("keycloak.realm", KeycloakStandIn.REALM);
+        properties.put("keycloak.client-id", "individuals-api");
+        properties.put("keycloak.client-secret", "load-test-secret");
+        properties.put("spring.http.serviceclient.person-service.base-url", personService.url());
+        properties.putAll(settings.appProperties());
+
+        return new SpringApplicationBuilder(IndividualsApiApplication.class)
+                .profiles("loadtest")
+                .run(properties.entrySet().stream()
+                        .map(property -> "--" + property.getKey() + "=" + property.getValue())
+                        .toArray(String[]::new));
+    }
+
+    private static ExecutorService schedulerThread() {
+        return Executors.newSingleThreadExecutor(Thread.ofPlatform()
+                .name(OpenModelLoadGenerator.THREAD_PREFIX + "-scheduler")
+                .factory());
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.ersted.individualsapi.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+
+public record LoadTestSettings(
+        int rps,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        int maxInFlight,
+        int users,
+        Endpoint keycloakToken,
+        Endpoint keycloakAdmin,
+        Endpoint personService,
+        Map<String, Object> appProperties,
+        Path reportDir
+) {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String APP_PREFIX = PREFIX + "app.";
+
+    public record Endpoint(String latency, double errorRate) {
+
+        static Endpoint of(Properties properties, String name, String defaultLatency) {
+            return new Endpoint(
+                    properties.getProperty(PREFIX + name + ".latency", defaultLatency),
+                    Double.parseDouble(properties.getProperty(PREFIX + name + ".error-rate", "0"))
+            );
+        }
+
+    }
+
+    public static LoadTestSettings from(Properties properties) {
+        Map<String, Object> appProperties = new LinkedHashMap<>();
+        properties.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APP_PREFIX))
+                .forEach(name -> appProperties.put(name.substring(APP_PREFIX.length()), properties.getProperty(name)));
+
+        return new LoadTestSettings(
+                Integer.parseInt(properties.getProperty(PREFIX + "rps", "100")),
+                Duration.ofSeconds(Long.parseLong(properties.getProperty(PREFIX + "warmup-seconds", "20"))),
+                Duration.ofSeconds(Long.parseLong(properties.getProperty(PREFIX + "duration-seconds", "60"))),
+                parseMix(properties.getProperty(PREFIX + "mix", "login:3,me:6,registration:1")),
+                Integer.parseInt(properties.getProperty(PREFIX + "max-in-flight", "2000")),
+                Integer.parseInt(properties.getProperty(PREFIX + "users", "1000")),
+                Endpoint.of(properties, "keycloak.token", "lognormal:15,0.4"),
+                Endpoint.of(properties, "keycloak.admin", "lognormal:25,0.4"),
+                Endpoint.of(properties, "person-service", "lognormal:10,0.3"),
+                appProperties,
+                Path.of(properties.getProperty(PREFIX + "report-dir", "build/reports/loadtest"))
+        );
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.byName(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load mix has no scenarios: " + mix);
+        }
+        return weights;
+    }
+
+}
@@ -0,0 +1,198 @@
+package com.ersted.individualsapi.loadtest;
+
+import io.netty.handler.codec.http.HttpHeaderNames;
+import io.netty.handler.codec.http.HttpHeaderValues;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+import reactor.core.publisher.Mono;
+import reactor.netty.ByteBufFlux;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.netty.resources.LoopResources;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Open-model load: arrivals follow the target rate regardless of response times, and latency
+ * is measured from the intended send time so that queueing is not hidden (coordinated omission).
+ */
+public class OpenModelLoadGenerator implements AutoCloseable {
+
+    public static final String THREAD_PREFIX = "loadtest";
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(2);
+
+    private final LoadTestSettings settings;
+    private final Supplier<String> accessTokens;
+    private final LoopResources loops;
+    private final ConnectionProvider connections;
+    private final HttpClient httpClient;
+
+    private final Scenario[] schedule;
+    private final Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong registrations = new AtomicLong();
+
+    public OpenModelLoadGenerator(LoadTestSettings settings, String baseUrl, Supplier<String> accessTokens) {
+        this.settings = settings;
+        this.accessTokens = accessTokens;
+        this.loops = LoopResources.create(THREAD_PREFIX, Math.max(2, Runtime.getRuntime().availableProcessors() / 2), true);
+        this.connections = ConnectionProvider.builder(THREAD_PREFIX)
+                .maxConnections(settings.maxInFlight())
+                .pendingAcquireMaxCount(-1)
+                .build();
+        this.httpClient = HttpClient.create(connections)
+                .runOn(loops)
+                .baseUrl(baseUrl)
+                .responseTimeout(Duration.ofNanos(MAX_LATENCY_NANOS));
+
+        this.schedule = settings.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Scenario[]::new);
+        settings.mix().keySet().forEach(scenario -> stats.put(scenario, new ScenarioStats()));
+    }
+
+    public Map<Scenario, ScenarioResult> run(Duration duration) {
+        long interval = TimeUnit.SECONDS.toNanos(1) / settings.rps();
+        long startedAt = System.nanoTime();
+        long stopAt = startedAt + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intendedAt = startedAt + i * interval;
+            if (intendedAt >= stopAt) {
+                break;
+            }
+            long wait = intendedAt - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            fire(schedule[ThreadLocalRandom.current().nextInt(schedule.length)], intendedAt);
+        }
+        awaitInFlight();
+
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        Map<Scenario, ScenarioResult> results = new EnumMap<>(Scenario.class);
+        stats.forEach((scenario, scenarioStats) -> results.put(scenario, scenarioStats.snapshot(seconds)));
+        return results;
+    }
+
+    @Override
+    public void close() {
+        connections.dispose();
+        loops.dispose();
+    }
+
+    private void fire(Scenario scenario, long intendedAt) {
+        ScenarioStats scenarioStats = stats.get(scenario);
+        if (inFlight.incrementAndGet() > settings.maxInFlight()) {
+            inFlight.decrementAndGet();
+            scenarioStats.dropped.increment();
+            return;
+        }
+        request(scenario)
+                .subscribe(
+                        status -> scenarioStats.record(status, intendedAt),
+                        _ -> {
+                            scenarioStats.failed.increment();
+                            scenarioStats.latency(intendedAt);
+                            inFlight.decrementAndGet();
+                        },
+                        inFlight::decrementAndGet
+                );
+    }
+
+    private Mono<Integer> request(Scenario scenario) {
+        return switch (scenario) {
+            case LOGIN -> post("/v1/auth/login", """
+                    {"email":"user-%d@loadtest.local","password":"password"}
+                    """.formatted(ThreadLocalRandom.current().nextInt(settings.users())));
+            case REGISTRATION -> post("/v1/auth/registration", registration("load-" + registrations.incrementAndGet() + "@loadtest.local"));
+            case ME -> httpClient
+                    .headers(headers -> headers.set(HttpHeaderNames.AUTHORIZATION, "Bearer " + accessTokens.get()))
+                    .get()
+                    .uri("/v1/auth/me")
+                    .responseSingle((response, body) -> body.asByteArray().then(Mono.just(response.status().code())));
+        };
+    }
+
+    private Mono<Integer> post(String uri, String body) {
+        return httpClient
+                .headers(headers -> headers.set(HttpHeaderNames.CONTENT_TYPE, HttpHeaderValues.APPLICATION_JSON))
+                .post()
+                .uri(uri)
+                .send(ByteBufFlux.fromString(Mono.just(body)))
+                .responseSingle((response, content) -> content.asByteArray().then(Mono.just(response.status().code())));
+    }
+
+    private static String registration(String email) {
+        return """
+                {"email":"%1$s","password":"password","confirm_password":"password","profile":{
+                  "passport_number":"AB123456","phone_number":"+79001234567","email":"%1$s",
+                  "first_name":"Load","last_name":"Test","secret_key":"load-test",
+                  "address":{"address":"Test Street 1","zip_code":"101000","city":"Moscow","state":"Moscow",
+                    "country":{"name":"Russia","alpha2":"RU","alpha3":"RUS"}}}}
+                """.formatted(email);
+    }
+
+    private void awaitInFlight() {
+        long deadline = System.nanoTime() + MAX_LATENCY_NANOS;
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(10));
+        }
+    }
+
+    public record ScenarioResult(Histogram latency, long ok, long clientErrors, long serverErrors,
+                                 long failed, long dropped, double seconds) {
+
+        public long requests() {
+            return ok + clientErrors + serverErrors + failed;
+        }
+
+        public double throughput() {
+            return ok / seconds;
+        }
+
+    }
+
+    private static final class ScenarioStats {
+
+        private final Recorder recorder = new Recorder(MAX_LATENCY_NANOS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final LongAdder dropped = new LongAdder();
+
+        void record(int status, long intendedAt) {
+            if (status >= 500) {
+                serverErrors.increment();
+            } else if (status >= 400) {
+                clientErrors.increment();
+            } else {
+                ok.increment();
+            }
+            latency(intendedAt);
+        }
+
+        void latency(long intendedAt) {
+            recorder.recordValue(Math.min(System.nanoTime() - intendedAt, MAX_LATENCY_NANOS));
+        }
+
+        ScenarioResult snapshot(double seconds) {
+            return new ScenarioResult(recorder.getIntervalHistogram(), ok.sumThenReset(), clientErrors.sumThenReset(),
+                    serverErrors.sumThenReset(), failed.sumThenReset(), dropped.sumThenReset(), seconds);
+        }
+
+    }
+
+}
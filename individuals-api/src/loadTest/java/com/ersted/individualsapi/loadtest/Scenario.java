@@ -0,0 +1,28 @@
+package com.ersted.individualsapi.loadtest;
+
+import java.util.Arrays;
+
+public enum Scenario {
+
+    LOGIN("login"),
+    ME("me"),
+    REGISTRATION("registration");
+
+    private final String label;
+
+    Scenario(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public static Scenario byName(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.label.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario: " + name));
+    }
+
+}
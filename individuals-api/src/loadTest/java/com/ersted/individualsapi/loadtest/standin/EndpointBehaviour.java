@@ -0,0 +1,35 @@
+package com.ersted.individualsapi.loadtest.standin;
+
+import com.ersted.individualsapi.loadtest.LoadTestSettings;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.http.DelayDistribution;
+import com.github.tomakehurst.wiremock.http.FixedDelayDistribution;
+import com.github.tomakehurst.wiremock.http.LogNormal;
+import com.github.tomakehurst.wiremock.http.UniformDistribution;
+
+public final class EndpointBehaviour {
+
+    private EndpointBehaviour() {
+    }
+
+    public static ResponseDefinitionBuilder apply(ResponseDefinitionBuilder response, LoadTestSettings.Endpoint endpoint) {
+        return response
+                .withRandomDelay(latency(endpoint.latency()))
+                .withTransformerParameter(FaultInjectionTransformer.ERROR_RATE, endpoint.errorRate());
+    }
+
+    static DelayDistribution latency(String spec) {
+        String[] parts = spec.split(":", 2);
+        String[] args = parts.length > 1 ? parts[1].split(",") : new String[0];
+        return switch (parts[0].trim().toLowerCase()) {
+            case "none" -> new FixedDelayDistribution(0);
+            case "fixed" -> new FixedDelayDistribution(Long.parseLong(args[0].trim()));
+            case "uniform" -> new UniformDistribution(Integer.parseInt(args[0].trim()), Integer.parseInt(args[1].trim()));
+            case "lognormal" -> args.length > 2
+                    ? new LogNormal(Double.parseDouble(args[0].trim()), Double.parseDouble(args[1].trim()), Double.parseDouble(args[2].trim()))
+                    : new LogNormal(Double.parseDouble(args[0].trim()), Double.parseDouble(args[1].trim()));
+            default -> throw new IllegalArgumentException("Unknown latency distribution: " + spec);
+        };
+    }
+
+}
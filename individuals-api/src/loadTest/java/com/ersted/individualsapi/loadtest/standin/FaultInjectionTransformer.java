@@ -0,0 +1,45 @@
+package com.ersted.individualsapi.loadtest.standin;
+
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.Parameters;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+public class FaultInjectionTransformer implements ResponseDefinitionTransformerV2 {
+
+    public static final String NAME = "fault-injection";
+    public static final String ERROR_RATE = "errorRate";
+
+    @Override
+    public ResponseDefinition transform(ServeEvent serveEvent) {
+        ResponseDefinition definition = serveEvent.getResponseDefinition();
+        Parameters parameters = definition.getTransformerParameters();
+        double errorRate = parameters != null && parameters.containsKey(ERROR_RATE)
+                ? ((Number) parameters.get(ERROR_RATE)).doubleValue()
+                : 0.0;
+
+        if (errorRate <= 0.0 || ThreadLocalRandom.current().nextDouble() >= errorRate) {
+            return definition;
+        }
+        return ResponseDefinitionBuilder.like(definition)
+                .but()
+                .withStatus(503)
+                .withHeader("Content-Type", "application/json")
+                .withBody("{\"error\":\"service_unavailable\",\"error_description\":\"Injected by load test\"}")
+                .build();
+    }
+
+    @Override
+    public boolean applyGlobally() {
+        return false;
+    }
+
+    @Override
+    public String getName() {
+        return NAME;
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.ersted.individualsapi.loadtest.standin;
+
+import com.ersted.individualsapi.loadtest.LoadTestSettings;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.github.tomakehurst.wiremock.client.ResponseDefinitionBuilder;
+import com.github.tomakehurst.wiremock.extension.ResponseDefinitionTransformerV2;
+import com.github.tomakehurst.wiremock.http.ResponseDefinition;
+import com.github.tomakehurst.wiremock.stubbing.ServeEvent;
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.RSASSASigner;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.KeyUse;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.NoSuchAlgorithmException;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+public class KeycloakStandIn implements AutoCloseable {
+
+    public static final String REALM = "payment-system";
+
+    private static final String KEY_ID = "loadtest";
+    private static final Duration TOKEN_TTL = Duration.ofHours(2);
+
+    private final WireMockServer server;
+    private final KeyPair keyPair;
+    private final List<String> accessTokens;
+    private final List<String> tokenResponses;
+
+    public KeycloakStandIn(LoadTestSettings settings) throws NoSuchAlgorithmException, JOSEException {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+        generator.initialize(2048);
+        this.keyPair = generator.generateKeyPair();
+        this.accessTokens = new ArrayList<>(settings.users());
+        this.tokenResponses = new ArrayList<>(settings.users());
+
+        this.server = new WireMockServer(wireMockConfig()
+                .dynamicPort()
+                .containerThreads(200)
+                .asynchronousResponseEnabled(true)
+                .extensions(new FaultInjectionTransformer(), new TokenPoolTransformer()));
+        this.server.start();
+
+        mintTokens(settings.users());
+        stub(settings);
+    }
+
+    public String url() {
+        return server.baseUrl();
+    }
+
+    public String issuer() {
+        return url() + "/realms/" + REALM;
+    }
+
+    public String randomAccessToken() {
+        return accessTokens.get(ThreadLocalRandom.current().nextInt(accessTokens.size()));
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+
+    private void mintTokens(int users) throws JOSEException {
+        RSASSASigner signer = new RSASSASigner(keyPair.getPrivate());
+        Instant now = Instant.now();
+        for (int i = 0; i < users; i++) {
+            JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                    .issuer(issuer())
+                    .subject(UUID.randomUUID().toString())
+                    .issueTime(Date.from(now))
+                    .expirationTime(Date.from(now.plus(TOKEN_TTL)))
+                    .claim("email", "user-" + i + "@loadtest.local")
+                    .claim("roles", List.of("USER"))
+                    .claim("created_at", now.toEpochMilli())
+                    .build();
+            SignedJWT jwt = new SignedJWT(new JWSHeader.Builder(JWSAlgorithm.RS256).keyID(KEY_ID).build(), claims);
+            jwt.sign(signer);
+
+            String accessToken = jwt.serialize();
+            accessTokens.add(accessToken);
+            tokenResponses.add("""
+                    {"access_token":"%s","expires_in":%d,"refresh_expires_in":%d,"refresh_token":"%s","token_type":"Bearer","scope":"openid email profile"}
+                    """.formatted(accessToken, TOKEN_TTL.toSeconds(), TOKEN_TTL.toSeconds(), UUID.randomUUID()));
+        }
+    }
+
+    private void stub(LoadTestSettings settings) {
+        String realmPath = "/realms/" + REALM;
+
+        server.stubFor(get(urlEqualTo(realmPath + "/.well-known/openid-configuration"))
+                .willReturn(okJson("""
+                        {
+                          "issuer": "%1$s",
+                          "authorization_endpoint": "%1$s/protocol/openid-connect/auth",
+                          "token_endpoint": "%1$s/protocol/openid-connect/token",
+                          "jwks_uri": "%1$s/protocol/openid-connect/certs",
+                          "subject_types_supported": ["public"],
+                          "response_types_supported": ["code"],
+                          "id_token_signing_alg_values_supported": ["RS256"]
+                        }
+                        """.formatted(issuer()))));
+
+        RSAKey jwk = new RSAKey.Builder((RSAPublicKey) keyPair.getPublic())
+                .keyID(KEY_ID)
+                .keyUse(KeyUse.SIGNATURE)
+                .algorithm(JWSAlgorithm.RS256)
+                .build();
+        server.stubFor(get(urlEqualTo(realmPath + "/protocol/openid-connect/certs"))
+                .willReturn(okJson(new JWKSet(jwk).toString())));
+
+        server.stubFor(post(urlEqualTo(realmPath + "/protocol/openid-connect/token"))
+                .willReturn(EndpointBehaviour.apply(aResponse().withStatus(200), settings.keycloakToken())
+                        .withTransformers(TokenPoolTransformer.NAME, FaultInjectionTransformer.NAME)));
+
+        server.stubFor(post(urlEqualTo("/admin" + realmPath + "/users"))
+                .willReturn(EndpointBehaviour.apply(aResponse().withStatus(201)
+                        .withHeader("Location", url() + "/admin" + realmPath + "/users/" + UUID.randomUUID()), settings.keycloakAdmin())
+                        .withTransformers(FaultInjectionTransformer.NAME)));
+    }
+
+    private class TokenPoolTransformer implements ResponseDefinitionTransformerV2 {
+
+        static final String NAME = "token-pool";
+
+        @Override
+        public ResponseDefinition transform(ServeEvent serveEvent) {
+            String body = tokenResponses.get(ThreadLocalRandom.current().nextInt(tokenResponses.size()));
+            return ResponseDefinitionBuilder.like(serveEvent.getResponseDefinition())
+                    .but()
+                    .withHeader("Content-Type", "application/json")
+                    .withBody(body)
+                    .build();
+        }
+
+        @Override
+        public boolean applyGlobally() {
+            return false;
+        }
+
+        @Override
+        public String getName() {
+            return NAME;
+        }
+
+    }
+
+}
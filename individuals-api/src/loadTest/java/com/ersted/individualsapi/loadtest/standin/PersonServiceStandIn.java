@@ -0,0 +1,46 @@
+package com.ersted.individualsapi.loadtest.standin;
+
+import com.ersted.individualsapi.loadtest.LoadTestSettings;
+import com.github.tomakehurst.wiremock.WireMockServer;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+
+public class PersonServiceStandIn implements AutoCloseable {
+
+    private final WireMockServer server;
+
+    public PersonServiceStandIn(LoadTestSettings settings) {
+        this.server = new WireMockServer(wireMockConfig()
+                .dynamicPort()
+                .containerThreads(200)
+                .asynchronousResponseEnabled(true)
+                .extensions(new FaultInjectionTransformer()));
+        this.server.start();
+
+        LoadTestSettings.Endpoint behaviour = settings.personService();
+
+        server.stubFor(post(urlEqualTo("/individuals"))
+                .willReturn(EndpointBehaviour.apply(aResponse()
+                                .withStatus(201)
+                                .withHeader("Content-Type", "application/json")
+                                .withBody("""
+                                        {"id":"{{randomValue type='UUID'}}","user_id":"{{randomValue type='UUID'}}"}
+                                        """), behaviour)
+                        .withTransformers("response-template", FaultInjectionTransformer.NAME)));
+
+        server.stubFor(post(urlMatching("/individuals/[^/]+/(active|purge)"))
+                .willReturn(EndpointBehaviour.apply(aResponse().withStatus(204), behaviour)
+                        .withTransformers(FaultInjectionTransformer.NAME)));
+    }
+
+    public String url() {
+        return server.baseUrl();
+    }
+
+    @Override
+    public void close() {
+        server.stop();
+    }
+
+}
@@ -1,78 +1,181 @@
 package com.ersted.individualsapi.aspect;
 
 import com.ersted.individualsapi.annotation.Counted;
+import io.micrometer.core.instrument.Counter;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotationUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
 @Slf4j
 @Aspect
 @Component
 @RequiredArgsConstructor
-public class CountedAspect {
+public class CountedAspect implements SmartInitializingSingleton {
+
+    public static final int MAX_EXCEPTION_TAGS = 10;
+    public static final String OTHER_EXCEPTION = "other";
 
     private final MeterRegistry meterRegistry;
+    private final ListableBeanFactory beanFactory;
+
+    private final Map<Method, CountedMeters> meters = new ConcurrentHashMap<>();
+
 
+    @Override
+    public void afterSingletonsInstantiated() {
+        for (String beanName : beanFactory.getBeanDefinitionNames()) {
+            Class<?> beanType = beanFactory.getType(beanName, false);
+            if (beanType == null || !AnnotationUtils.isCandidateClass(beanType, Counted.class)) {
+                continue;
+            }
+            MethodIntrospector.selectMethods(ClassUtils.getUserClass(beanType),
+                            (ReflectionUtils.MethodFilter) method -> method.isAnnotationPresent(Counted.class))
+                    .forEach(method -> meters(method, method.getAnnotation(Counted.class)));
+        }
+        log.info("Registered meters for {} @Counted methods", meters.size());
+    }
 
     @Around("@annotation(counted)")
     public Object count(ProceedingJoinPoint point, Counted counted) throws Throwable {
-        String metricName = counted.value().isEmpty()
-                ? point.getSignature().toShortString()
-                : counted.value();
+        CountedMeters methodMeters = meters(((MethodSignature) point.getSignature()).getMethod(), counted);
 
-        Tags baseTags = Tags.of(counted.tags());
-
-        Object result = point.proceed();
+        long startedAt = System.nanoTime();
+        Object result;
+        try {
+            result = point.proceed();
+        } catch (Throwable error) {
+            methodMeters.recordError(error, startedAt);
+            throw error;
+        }
 
         if (result instanceof Mono<?> mono) {
-            return countMono(mono, metricName, baseTags, counted.recordErrors());
+            return countMono(mono, methodMeters);
         }
 
         if (result instanceof Flux<?> flux) {
-            return countFlux(flux, metricName, baseTags, counted.recordErrors());
+            return countFlux(flux, methodMeters);
         }
 
-        meterRegistry.counter(metricName, baseTags).increment();
+        methodMeters.recordSuccess(startedAt);
 
         return result;
     }
 
-    private <T> Mono<T> countMono(Mono<T> mono, String metricName, Tags baseTags, boolean recordErrors) {
-        return mono
-                .doOnSuccess(_ -> meterRegistry.counter(metricName, baseTags.and("status", "success")).increment())
-                .doOnError(error -> {
-                    if (recordErrors) {
-                        meterRegistry.counter(metricName,
-                                baseTags
-                                        .and("status", "error")
-                                        .and("exception", error.getClass().getSimpleName())
-                        ).increment();
-                    }
-                });
+    private CountedMeters meters(Method method, Counted counted) {
+        CountedMeters existing = meters.get(method);
+        if (existing != null) {
+            return existing;
+        }
+        return meters.computeIfAbsent(method, m -> new CountedMeters(m, counted));
+    }
+
+    private <T> Mono<T> countMono(Mono<T> mono, CountedMeters methodMeters) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return mono
+                    .doOnSuccess(_ -> methodMeters.recordSuccess(startedAt))
+                    .doOnError(error -> methodMeters.recordError(error, startedAt));
+        });
+    }
+
+    private <T> Flux<T> countFlux(Flux<T> flux, CountedMeters methodMeters) {
+        return Flux.defer(() -> {
+            long startedAt = System.nanoTime();
+            return flux
+                    .doOnComplete(() -> methodMeters.recordSuccess(startedAt))
+                    .doOnError(error -> methodMeters.recordError(error, startedAt));
+        });
     }
 
-    private <T> Flux<T> countFlux(Flux<T> flux, String metricName, Tags baseTags, boolean recordErrors) {
-        return flux
-                .doOnComplete(() -> meterRegistry
-                        .counter(metricName, baseTags.and("status", "success"))
-                        .increment()
-                )
-                .doOnError(error -> {
-                    if (recordErrors) {
-                        meterRegistry.counter(metricName,
-                                baseTags
-                                        .and("status", "error")
-                                        .and("exception", error.getClass().getSimpleName())
-                        ).increment();
-                    }
-                });
+    private final class CountedMeters {
+
+        private final String metricName;
+        private final String description;
+        private final Tags baseTags;
+        private final boolean recordErrors;
+
+        private final Counter success;
+        private final Timer successTimer;
+        private final Timer errorTimer;
+        private final Map<Class<?>, Counter> errors = new ConcurrentHashMap<>();
+        private final Counter otherErrors;
+
+        private CountedMeters(Method method, Counted counted) {
+            this.metricName = counted.value().isEmpty()
+                    ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                    : counted.value();
+            this.description = counted.description().isEmpty() ? null : counted.description();
+            this.baseTags = Tags.of(counted.tags());
+            this.recordErrors = counted.recordErrors();
+
+            this.success = counter(baseTags.and("status", "success"));
+            this.successTimer = timer("success");
+            this.errorTimer = timer("error");
+            this.otherErrors = recordErrors ? errorCounter(OTHER_EXCEPTION) : null;
+        }
+
+        void recordSuccess(long startedAt) {
+            success.increment();
+            successTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        void recordError(Throwable error, long startedAt) {
+            if (!recordErrors) {
+                return;
+            }
+            errorCounter(error.getClass()).increment();
+            errorTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        private Counter errorCounter(Class<?> errorType) {
+            Counter counter = errors.get(errorType);
+            if (counter != null) {
+                return counter;
+            }
+            if (errors.size() >= MAX_EXCEPTION_TAGS) {
+                return otherErrors;
+            }
+            return errors.computeIfAbsent(errorType, type -> errorCounter(type.getSimpleName()));
+        }
+
+        private Counter errorCounter(String exception) {
+            return counter(baseTags.and("status", "error").and("exception", exception));
+        }
+
+        private Counter counter(Tags tags) {
+            return Counter.builder(metricName)
+                    .description(description)
+                    .tags(tags)
+                    .register(meterRegistry);
+        }
+
+        private Timer timer(String status) {
+            return Timer.builder(metricName + ".duration")
+                    .description(description)
+                    .tags(baseTags.and("status", status))
+                    .register(meterRegistry);
+        }
+
     }
 
 }
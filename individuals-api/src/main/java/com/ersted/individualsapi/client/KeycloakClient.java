@@ -1,13 +1,22 @@
 package com.ersted.individualsapi.client;
 
+import com.ersted.individualsapi.config.Resilience4jConfig;
 import com.ersted.individualsapi.dto.CreateKeycloakUserRequest;
 import com.ersted.individualsapi.dto.TokenResponse;
 import com.ersted.individualsapi.exception.KeycloakClientServiceUnavailableException;
 import com.ersted.individualsapi.exception.handler.KeycloakErrorHandler;
 import com.ersted.individualsapi.provider.KeycloakAdminTokenProvider;
+import com.ersted.individualsapi.provider.RefreshTokenCoalescer;
+import com.ersted.individualsapi.resilience.RetryBudget;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
+import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.observation.annotation.Observed;
 import io.netty.handler.timeout.TimeoutException;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.http.HttpHeaders;
@@ -22,10 +31,10 @@ import reactor.util.retry.Retry;
 import java.net.ConnectException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class KeycloakClient {
 
     private static final String BEARER_TOKEN_PREFIX = "Bearer ";
@@ -35,23 +44,63 @@ public class KeycloakClient {
     private static final String GRANT_TYPE_CLIENT_CREDENTIALS = "client_credentials";
     private static final String SCOPE_OPENID = "openid email profile";
 
+    private static final String DEADLINE_EXCEEDED_METRIC = "keycloak.client.deadline.exceeded";
+
+    private static final String TOKEN_GRANT_INSTANCE_NAME = "keycloak-token-grant";
+    private static final String REFRESH_INSTANCE_NAME = "keycloak-refresh";
+    private static final String ADMIN_TOKEN_INSTANCE_NAME = "keycloak-admin-token";
+    private static final String CREATE_USER_INSTANCE_NAME = "keycloak-create-user";
+
     private final WebClient keycloakWebClient;
     private final KeycloakClientSettings settings;
     private final KeycloakErrorHandler errorHandler;
     private final KeycloakAdminTokenProvider adminTokenProvider;
+    private final RefreshTokenCoalescer refreshTokenCoalescer;
+    private final RetryBudget retryBudget;
+    private final MeterRegistry meterRegistry;
+
+    private final OperationGuard tokenGrantGuard;
+    private final OperationGuard refreshGuard;
+    private final OperationGuard adminTokenGuard;
+    private final OperationGuard createUserGuard;
+
+    public KeycloakClient(
+            WebClient keycloakWebClient,
+            KeycloakClientSettings settings,
+            KeycloakErrorHandler errorHandler,
+            KeycloakAdminTokenProvider adminTokenProvider,
+            RefreshTokenCoalescer refreshTokenCoalescer,
+            RetryBudget keycloakRetryBudget,
+            MeterRegistry meterRegistry,
+            CircuitBreakerRegistry circuitBreakerRegistry,
+            BulkheadRegistry bulkheadRegistry
+    ) {
+        this.keycloakWebClient = keycloakWebClient;
+        this.settings = settings;
+        this.errorHandler = errorHandler;
+        this.adminTokenProvider = adminTokenProvider;
+        this.refreshTokenCoalescer = refreshTokenCoalescer;
+        this.retryBudget = keycloakRetryBudget;
+        this.meterRegistry = meterRegistry;
+        this.tokenGrantGuard = OperationGuard.of(TOKEN_GRANT_INSTANCE_NAME, circuitBreakerRegistry, bulkheadRegistry);
+        this.refreshGuard = OperationGuard.of(REFRESH_INSTANCE_NAME, circuitBreakerRegistry, bulkheadRegistry);
+        this.adminTokenGuard = OperationGuard.of(ADMIN_TOKEN_INSTANCE_NAME, circuitBreakerRegistry, bulkheadRegistry);
+        this.createUserGuard = OperationGuard.of(CREATE_USER_INSTANCE_NAME, circuitBreakerRegistry, bulkheadRegistry);
+    }
 
     @Observed(name = "keycloakClient.requestToken")
     public Mono<TokenResponse> requestToken(String email, String password) {
         var formData = buildPasswordGrantFormData(email, password);
         return executeTokenRequest(formData)
+                .transform(tokenGrantGuard::protect)
                 .doOnSubscribe(_ -> log.info("Authenticating user: {}", email))
                 .doOnSuccess(_ -> log.info("User authenticated: {}", email));
     }
 
     @Observed(name = "keycloakClient.refreshToken")
     public Mono<TokenResponse> refreshToken(String refreshToken) {
-        var formData = buildRefreshTokenGrantFormData(refreshToken);
-        return executeTokenRequest(formData)
+        return refreshTokenCoalescer.refresh(refreshToken, () -> executeTokenRequest(buildRefreshTokenGrantFormData(refreshToken))
+                        .transform(refreshGuard::protect))
                 .doOnSubscribe(_ -> log.debug("Refreshing token: ...{}", StringUtils.right(refreshToken, 5)))
                 .doOnSuccess(_ -> log.info("Token refreshed successfully"));
     }
@@ -68,12 +117,13 @@ public class KeycloakClient {
         return adminTokenProvider.getToken(this::fetchAdminToken);
     }
 
-    public void invalidateAdminToken() {
-        adminTokenProvider.invalidate();
+    public boolean invalidateAdminToken(TokenResponse rejectedToken) {
+        return adminTokenProvider.invalidate(rejectedToken);
     }
 
     private Mono<TokenResponse> fetchAdminToken() {
         return executeTokenRequest(buildClientCredentialsGrantFormData())
+                .transform(adminTokenGuard::protect)
                 .doOnSubscribe(_ -> log.debug("Requesting admin token"))
                 .doOnSuccess(_ -> log.info("Admin token obtained"));
     }
@@ -94,7 +144,8 @@ public class KeycloakClient {
                         .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN_PREFIX + accessToken)
                         .contentType(MediaType.APPLICATION_JSON)
                         .bodyValue(request),
-                Void.class);
+                Void.class)
+                .transform(createUserGuard::protect);
     }
 
     private Mono<TokenResponse> executeTokenRequest(MultiValueMap<String, String> formData) {
@@ -137,15 +188,30 @@ public class KeycloakClient {
     }
 
     private <T> Mono<T> retrieve(WebClient.RequestHeadersSpec<?> spec, Class<T> responseType) {
-        return spec.retrieve()
-                .bodyToMono(responseType)
-                .transform(errorHandler::handle)
-                .timeout(settings.retry().timeout())
-                .retryWhen(Retry.backoff(settings.retry().attempts(), settings.retry().delay())
-                        .filter(this::isRetryableError)
-                        .doBeforeRetry(signal ->
-                                log.warn("Retrying request, attempt: {}", signal.totalRetries() + 1))
-                );
+        return Mono.defer(() -> {
+            retryBudget.recordRequest();
+            AtomicInteger retries = new AtomicInteger();
+
+            return spec.retrieve()
+                    .bodyToMono(responseType)
+                    .transform(errorHandler::handle)
+                    .timeout(settings.retry().timeout())
+                    .retryWhen(Retry.backoff(settings.retry().attempts(), settings.retry().delay())
+                            .maxBackoff(settings.retry().maxBackoff())
+                            .jitter(settings.retry().jitter())
+                            .filter(e -> isRetryableError(e)
+                                    && retries.get() < settings.retry().attempts()
+                                    && retryBudget.tryAcquireRetry())
+                            .doBeforeRetry(signal -> {
+                                retries.incrementAndGet();
+                                log.warn("Retrying request, attempt: {}", signal.totalRetries() + 1);
+                            })
+                    );
+        })
+                .timeout(settings.retry().deadline(), Mono.defer(() -> {
+                    meterRegistry.counter(DEADLINE_EXCEEDED_METRIC).increment();
+                    return Mono.error(new KeycloakClientServiceUnavailableException("Keycloak request deadline exceeded"));
+                }));
     }
 
     private boolean isRetryableError(Throwable throwable) {
@@ -173,4 +239,21 @@ public class KeycloakClient {
                 .build();
     }
 
-}
\ No newline at end of file
+    private record OperationGuard(CircuitBreaker circuitBreaker, Bulkhead bulkhead) {
+
+        static OperationGuard of(String name, CircuitBreakerRegistry circuitBreakerRegistry, BulkheadRegistry bulkheadRegistry) {
+            return new OperationGuard(
+                    circuitBreakerRegistry.circuitBreaker(name, Resilience4jConfig.KEYCLOAK_CONFIG),
+                    bulkheadRegistry.bulkhead(name, Resilience4jConfig.KEYCLOAK_CONFIG)
+            );
+        }
+
+        <T> Mono<T> protect(Mono<T> mono) {
+            return mono
+                    .transformDeferred(BulkheadOperator.of(bulkhead))
+                    .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
+        }
+
+    }
+
+}
@@ -17,7 +17,10 @@ public record KeycloakClientSettings(
     public record RetrySettings(
             int attempts,
             Duration delay,
-            Duration timeout
+            Duration maxBackoff,
+            double jitter,
+            Duration timeout,
+            Duration deadline
     ) {}
 
 }
@@ -1,42 +1,64 @@
 package com.ersted.individualsapi.client;
 
+import com.ersted.individualsapi.config.PersonServiceClientProperties;
+import com.ersted.individualsapi.exception.PersonServiceUnavailableException;
 import com.ersted.individualsapi.exception.handler.PersonServiceErrorHandler;
+import com.ersted.individualsapi.resilience.AdaptiveConcurrencyLimiter;
+import com.ersted.individualsapi.resilience.LatencyTracker;
 import com.ersted.personservice.sdk.api.IndividualsApi;
 import com.ersted.personservice.sdk.model.IndividualCreateProfileRequest;
 import com.ersted.personservice.sdk.model.IndividualInfoResponse;
-import io.github.resilience4j.bulkhead.Bulkhead;
-import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreaker;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
-import io.github.resilience4j.reactor.bulkhead.operator.BulkheadOperator;
 import io.github.resilience4j.reactor.circuitbreaker.operator.CircuitBreakerOperator;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
+import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.util.retry.Retry;
 
+import java.net.ConnectException;
+import java.time.Duration;
+import java.util.NoSuchElementException;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
 
 @Slf4j
 @Component
 public class PersonServiceClient {
 
     private static final String RESILIENCE4J_INSTANCE_NAME = "person-service";
+    private static final String METRIC_PREFIX = "person.service.client";
 
     private final IndividualsApi personServiceApi;
     private final PersonServiceErrorHandler errorHandler;
     private final CircuitBreaker circuitBreaker;
-    private final Bulkhead bulkhead;
+    private final AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private final PersonServiceClientProperties properties;
+
+    private final IdempotentOperation activate;
+    private final IdempotentOperation purge;
 
     public PersonServiceClient(
             IndividualsApi personServiceApi,
             PersonServiceErrorHandler errorHandler,
             CircuitBreakerRegistry circuitBreakerRegistry,
-            BulkheadRegistry bulkheadRegistry
+            AdaptiveConcurrencyLimiter personServiceConcurrencyLimiter,
+            PersonServiceClientProperties properties,
+            MeterRegistry meterRegistry
     ) {
         this.personServiceApi = personServiceApi;
         this.errorHandler = errorHandler;
         this.circuitBreaker = circuitBreakerRegistry.circuitBreaker(RESILIENCE4J_INSTANCE_NAME);
-        this.bulkhead = bulkheadRegistry.bulkhead(RESILIENCE4J_INSTANCE_NAME);
+        this.concurrencyLimiter = personServiceConcurrencyLimiter;
+        this.properties = properties;
+        this.activate = new IdempotentOperation("activate", Duration.ofMillis(properties.getDeadline().getActivateMs()), meterRegistry);
+        this.purge = new IdempotentOperation("purge", Duration.ofMillis(properties.getDeadline().getPurgeMs()), meterRegistry);
     }
 
     public Mono<IndividualInfoResponse> createProfile(IndividualCreateProfileRequest request) {
@@ -44,22 +66,21 @@ public class PersonServiceClient {
                 .flatMap(responseEntity -> Mono.justOrEmpty(responseEntity.getBody()))
                 .switchIfEmpty(Mono.error(new IllegalStateException("Empty response")))
                 .as(this::withResilience)
+                .as(mono -> withDeadline(mono, Duration.ofMillis(properties.getDeadline().getCreateMs())))
                 .doOnSubscribe(_ -> log.info("Creating individual profile"))
                 .doOnSuccess(info -> log.info("Individual profile created: {}", info.getId()));
     }
 
     public Mono<Void> purgeProfile(UUID individualId) {
-        return personServiceApi.purgeIndividual(individualId)
-                .flatMap(responseEntity -> Mono.justOrEmpty(responseEntity.getBody()))
-                .as(this::withResilience)
+        return purge.execute(() -> personServiceApi.purgeIndividual(individualId)
+                        .flatMap(responseEntity -> Mono.justOrEmpty(responseEntity.getBody())))
                 .doOnSubscribe(_ -> log.info("Purging individual profile: {}", individualId))
                 .doOnSuccess(_ -> log.info("Individual profile purged: {}", individualId));
     }
 
     public Mono<Void> activateProfile(UUID individualId) {
-        return personServiceApi.activateIndividual(individualId)
-                .flatMap(responseEntity -> Mono.justOrEmpty(responseEntity.getBody()))
-                .as(this::withResilience)
+        return activate.execute(() -> personServiceApi.activateIndividual(individualId)
+                        .flatMap(responseEntity -> Mono.justOrEmpty(responseEntity.getBody())))
                 .doOnSubscribe(_ -> log.info("Activating individual profile: {}", individualId))
                 .doOnSuccess(_ -> log.info("Individual profile activated: {}", individualId));
     }
@@ -67,8 +88,115 @@ public class PersonServiceClient {
     private <T> Mono<T> withResilience(Mono<T> mono) {
         return mono
                 .transform(errorHandler::handle)
-                .transformDeferred(BulkheadOperator.of(bulkhead))
+                .transform(concurrencyLimiter::apply)
                 .transformDeferred(CircuitBreakerOperator.of(circuitBreaker));
     }
 
+    private <T> Mono<T> withDeadline(Mono<T> mono, Duration deadline) {
+        return mono.timeout(deadline, Mono.error(() -> new PersonServiceUnavailableException("Person service deadline exceeded")));
+    }
+
+    private boolean isRetryableError(Throwable throwable) {
+        return throwable instanceof PersonServiceUnavailableException ||
+                throwable instanceof TimeoutException ||
+                throwable instanceof io.netty.handler.timeout.TimeoutException ||
+                throwable instanceof ConnectException;
+    }
+
+    /**
+     * {@link Mono#firstWithValue} fails with a {@link NoSuchElementException} wrapping the failures of all sources;
+     * the first one is kept so retries and error handling see the original exception.
+     */
+    private static Throwable firstFailure(NoSuchElementException exception) {
+        return exception.getCause() == null ? exception : Exceptions.unwrapMultiple(exception.getCause()).getFirst();
+    }
+
+    private final class IdempotentOperation {
+
+        private final Duration deadline;
+        private final LatencyTracker latencies;
+        private final Counter hedgeEligible;
+        private final Counter hedgeSent;
+        private final Counter hedgeWon;
+
+        private IdempotentOperation(String name, Duration deadline, MeterRegistry meterRegistry) {
+            this.deadline = deadline;
+            this.latencies = new LatencyTracker(properties.getHedging().getSampleSize());
+            this.hedgeEligible = Counter.builder(METRIC_PREFIX + ".hedge.eligible")
+                    .description("Calls that could be hedged")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+            this.hedgeSent = Counter.builder(METRIC_PREFIX + ".hedge.sent")
+                    .description("Hedged requests sent to person-service")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+            this.hedgeWon = Counter.builder(METRIC_PREFIX + ".hedge.won")
+                    .description("Hedged requests whose answer was used instead of the original request")
+                    .tag("operation", name)
+                    .register(meterRegistry);
+        }
+
+        <T> Mono<T> execute(Supplier<Mono<T>> call) {
+            PersonServiceClientProperties.RetryProperties retry = properties.getRetry();
+
+            return hedged(call)
+                    .retryWhen(Retry.backoff(retry.getAttempts(), Duration.ofMillis(retry.getDelayMs()))
+                            .maxBackoff(Duration.ofMillis(retry.getMaxBackoffMs()))
+                            .jitter(retry.getJitter())
+                            .filter(PersonServiceClient.this::isRetryableError)
+                            .onRetryExhaustedThrow((_, signal) -> signal.failure())
+                            .doBeforeRetry(signal ->
+                                    log.warn("Retrying person-service request, attempt: {}", signal.totalRetries() + 1)))
+                    .as(mono -> withDeadline(mono, deadline));
+        }
+
+        private <T> Mono<T> hedged(Supplier<Mono<T>> call) {
+            if (!properties.getHedging().isEnabled()) {
+                return attempt(call);
+            }
+
+            return Mono.defer(() -> {
+                hedgeEligible.increment();
+                Sinks.Empty<Void> primaryFailed = Sinks.empty();
+                Mono<Optional<T>> primary = valued(attempt(call))
+                        .doOnError(_ -> primaryFailed.tryEmitEmpty());
+                Mono<Optional<T>> hedge = Mono.delay(hedgeDelay())
+                        .takeUntilOther(primaryFailed.asMono())
+                        .flatMap(_ -> {
+                            hedgeSent.increment();
+                            return valued(attempt(call)).doOnNext(_ -> hedgeWon.increment());
+                        });
+
+                return Mono.firstWithValue(primary, hedge)
+                        .onErrorMap(NoSuchElementException.class, PersonServiceClient::firstFailure)
+                        .flatMap(Mono::justOrEmpty);
+            });
+        }
+
+        /**
+         * Wraps the result so a call that completes empty still counts as a value for {@link Mono#firstWithValue}.
+         */
+        private <T> Mono<Optional<T>> valued(Mono<T> mono) {
+            return mono.map(Optional::of).defaultIfEmpty(Optional.empty());
+        }
+
+        private <T> Mono<T> attempt(Supplier<Mono<T>> call) {
+            return Mono.defer(() -> {
+                long startedAt = System.nanoTime();
+                return Mono.defer(call)
+                        .as(PersonServiceClient.this::withResilience)
+                        .doOnSuccess(_ -> latencies.record(Duration.ofNanos(System.nanoTime() - startedAt)));
+            });
+        }
+
+        private Duration hedgeDelay() {
+            PersonServiceClientProperties.HedgingProperties hedging = properties.getHedging();
+            Duration min = Duration.ofMillis(hedging.getMinDelayMs());
+            Duration max = Duration.ofMillis(hedging.getMaxDelayMs());
+            Duration delay = latencies.percentile(hedging.getPercentile(), hedging.getMinSamples(), max);
+            return delay.compareTo(min) < 0 ? min : delay.compareTo(max) > 0 ? max : delay;
+        }
+
+    }
+
 }
@@ -0,0 +1,82 @@
+package com.ersted.individualsapi.config;
+
+import com.ersted.individualsapi.utils.TokenDigestUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.Duration;
+
+public class CachingReactiveJwtDecoder implements ReactiveJwtDecoder {
+
+    public static final String CACHE_NAME = "jwt.verified";
+
+    private final ReactiveJwtDecoder delegate;
+    private final Cache<String, Jwt> cache;
+    private final Clock clock;
+
+    public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry) {
+        this(delegate, maximumSize, meterRegistry, Clock.systemUTC());
+    }
+
+    public CachingReactiveJwtDecoder(ReactiveJwtDecoder delegate, long maximumSize, MeterRegistry meterRegistry, Clock clock) {
+        this.delegate = delegate;
+        this.clock = clock;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new ExpiresAtExpiry())
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    @Override
+    public Mono<Jwt> decode(String token) throws JwtException {
+        String key = TokenDigestUtils.digest(token);
+
+        Jwt cached = cache.getIfPresent(key);
+        if (cached != null) {
+            return Mono.just(cached);
+        }
+
+        return delegate.decode(token)
+                .doOnNext(jwt -> {
+                    if (jwt.getExpiresAt() != null && jwt.getExpiresAt().isAfter(clock.instant())) {
+                        cache.put(key, jwt);
+                    }
+                });
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private final class ExpiresAtExpiry implements Expiry<String, Jwt> {
+
+        @Override
+        public long expireAfterCreate(String key, Jwt jwt, long currentTime) {
+            Duration remaining = Duration.between(clock.instant(), jwt.getExpiresAt());
+            return Math.max(0, remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, jwt, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Jwt jwt, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.ersted.individualsapi.config;
+
+import com.ersted.individualsapi.exception.PersonServiceUnavailableException;
+import com.ersted.individualsapi.resilience.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.net.ConnectException;
+import java.util.concurrent.TimeoutException;
+
+@Configuration(proxyBeanMethods = false)
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    AdaptiveConcurrencyLimiter personServiceConcurrencyLimiter(
+            @Value("${concurrency-limit.person-service.initial-limit:20}") int initialLimit,
+            @Value("${concurrency-limit.person-service.min-limit:2}") int minLimit,
+            @Value("${concurrency-limit.person-service.max-limit:200}") int maxLimit,
+            @Value("${concurrency-limit.person-service.smoothing:0.2}") double smoothing,
+            @Value("${concurrency-limit.person-service.rtt-tolerance:1.5}") double rttTolerance,
+            @Value("${concurrency-limit.person-service.backoff-ratio:0.9}") double backoffRatio,
+            @Value("${concurrency-limit.person-service.short-window:10}") int shortWindow,
+            @Value("${concurrency-limit.person-service.long-window:600}") int longWindow,
+            MeterRegistry meterRegistry
+    ) {
+        AdaptiveConcurrencyLimiter.Settings settings = new AdaptiveConcurrencyLimiter.Settings(
+                initialLimit, minLimit, maxLimit, smoothing, rttTolerance, backoffRatio, shortWindow, longWindow
+        );
+
+        return new AdaptiveConcurrencyLimiter("person-service", settings, ConcurrencyLimitConfig::isOverload, meterRegistry);
+    }
+
+    private static boolean isOverload(Throwable throwable) {
+        return throwable instanceof PersonServiceUnavailableException ||
+                throwable instanceof TimeoutException ||
+                throwable instanceof io.netty.handler.timeout.TimeoutException ||
+                throwable instanceof ConnectException;
+    }
+
+}
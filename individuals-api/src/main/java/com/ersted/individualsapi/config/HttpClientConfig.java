@@ -0,0 +1,51 @@
+package com.ersted.individualsapi.config;
+
+import io.netty.channel.ChannelOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+
+@Configuration(proxyBeanMethods = false)
+@RequiredArgsConstructor
+public class HttpClientConfig {
+
+    private final HttpClientProperties properties;
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider keycloakConnectionProvider() {
+        return connectionProvider("keycloak", properties.getKeycloak());
+    }
+
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider personServiceConnectionProvider() {
+        return connectionProvider("person-service", properties.getPersonService());
+    }
+
+    public static ReactorClientHttpConnector clientHttpConnector(ConnectionProvider connectionProvider,
+                                                                 HttpClientProperties.PoolProperties pool) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(pool.getProtocols().toArray(HttpProtocol[]::new))
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, pool.getConnectTimeoutMs());
+
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
+    private static ConnectionProvider connectionProvider(String name, HttpClientProperties.PoolProperties pool) {
+        return ConnectionProvider.builder(name)
+                .maxConnections(pool.getMaxConnections())
+                .pendingAcquireMaxCount(pool.getPendingAcquireMaxCount())
+                .pendingAcquireTimeout(Duration.ofMillis(pool.getPendingAcquireTimeoutMs()))
+                .maxIdleTime(Duration.ofSeconds(pool.getMaxIdleTimeSeconds()))
+                .maxLifeTime(Duration.ofSeconds(pool.getMaxLifeTimeSeconds()))
+                .evictInBackground(Duration.ofSeconds(pool.getEvictInBackgroundSeconds()))
+                .metrics(true)
+                .build();
+    }
+
+}
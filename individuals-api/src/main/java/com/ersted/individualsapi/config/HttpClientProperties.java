@@ -0,0 +1,56 @@
+package com.ersted.individualsapi.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotEmpty;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+import reactor.netty.http.HttpProtocol;
+
+import java.util.List;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientProperties {
+
+    @Valid
+    private PoolProperties keycloak = new PoolProperties();
+
+    @Valid
+    private PoolProperties personService = new PoolProperties();
+
+    @Getter
+    @Setter
+    public static class PoolProperties {
+
+        @Min(value = 1)
+        private int maxConnections = 50;
+
+        @Min(value = 0)
+        private int pendingAcquireMaxCount = 100;
+
+        @Min(value = 1)
+        private long pendingAcquireTimeoutMs = 2000;
+
+        @Min(value = 1)
+        private long maxIdleTimeSeconds = 30;
+
+        @Min(value = 1)
+        private long maxLifeTimeSeconds = 300;
+
+        @Min(value = 1)
+        private long evictInBackgroundSeconds = 30;
+
+        @Min(value = 1)
+        private int connectTimeoutMs = 2000;
+
+        @NotEmpty
+        private List<HttpProtocol> protocols = List.of(HttpProtocol.HTTP11, HttpProtocol.H2);
+
+    }
+
+}
@@ -2,11 +2,15 @@ package com.ersted.individualsapi.config;
 
 import com.ersted.individualsapi.client.KeycloakClientSettings;
 import com.ersted.individualsapi.provider.KeycloakAdminTokenProvider;
+import com.ersted.individualsapi.provider.RefreshTokenCoalescer;
+import com.ersted.individualsapi.resilience.RetryBudget;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
+import reactor.netty.resources.ConnectionProvider;
 
 import java.time.Duration;
 
@@ -16,6 +20,7 @@ import java.time.Duration;
 public class KeycloakClientConfig {
 
     private final KeycloakProperties properties;
+    private final HttpClientProperties httpClientProperties;
 
 
     @Bean
@@ -30,21 +35,48 @@ public class KeycloakClientConfig {
                 new KeycloakClientSettings.RetrySettings(
                         properties.getRequestsRetry().getAttempts(),
                         Duration.ofSeconds(properties.getRequestsRetry().getDelaySeconds()),
-                        Duration.ofSeconds(properties.getRequestsRetry().getRequestTimeoutSeconds())
+                        Duration.ofSeconds(properties.getRequestsRetry().getMaxBackoffSeconds()),
+                        properties.getRequestsRetry().getJitter(),
+                        Duration.ofSeconds(properties.getRequestsRetry().getRequestTimeoutSeconds()),
+                        Duration.ofSeconds(properties.getRequestsRetry().getDeadlineSeconds())
                 )
         );
     }
 
     @Bean
-    public WebClient keycloakWebClient() {
-        return WebClient.builder().build();
+    public WebClient keycloakWebClient(ConnectionProvider keycloakConnectionProvider) {
+        return WebClient.builder()
+                .clientConnector(HttpClientConfig.clientHttpConnector(keycloakConnectionProvider, httpClientProperties.getKeycloak()))
+                .build();
     }
 
     @Bean
-    public KeycloakAdminTokenProvider keycloakAdminTokenProvider(){
+    public KeycloakAdminTokenProvider keycloakAdminTokenProvider(MeterRegistry meterRegistry) {
         return new KeycloakAdminTokenProvider(
                 properties.getAdminToken().getRefreshMarginSeconds(),
-                properties.getAdminToken().getTtlSeconds()
+                properties.getAdminToken().getTtlSeconds(),
+                properties.getAdminToken().getRefreshAheadSeconds(),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public RefreshTokenCoalescer refreshTokenCoalescer(MeterRegistry meterRegistry) {
+        return new RefreshTokenCoalescer(
+                Duration.ofMillis(properties.getRefreshCoalescing().getWindowMs()),
+                properties.getRefreshCoalescing().getMaximumSize(),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public RetryBudget keycloakRetryBudget(MeterRegistry meterRegistry) {
+        return new RetryBudget(
+                "keycloak",
+                properties.getRetryBudget().getRatio(),
+                properties.getRetryBudget().getMinRetriesPerSecond(),
+                Duration.ofSeconds(properties.getRetryBudget().getWindowSeconds()),
+                meterRegistry
         );
     }
 
@@ -1,5 +1,7 @@
 package com.ersted.individualsapi.config;
 
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.*;
@@ -30,6 +32,10 @@ public class KeycloakProperties {
 
     private RequestsRetryProperties requestsRetry = new RequestsRetryProperties();
 
+    private RefreshCoalescingProperties refreshCoalescing = new RefreshCoalescingProperties();
+
+    private RetryBudgetProperties retryBudget = new RetryBudgetProperties();
+
     @Getter
     @Setter
     public static class AdminTokenProperties {
@@ -40,6 +46,9 @@ public class KeycloakProperties {
         @Min(value = 15)
         private long refreshMarginSeconds;
 
+        @Min(value = 0)
+        private long refreshAheadSeconds;
+
     }
 
     @Getter
@@ -52,10 +61,46 @@ public class KeycloakProperties {
         @Min(value = 0)
         private int delaySeconds;
 
+        @Min(value = 0)
+        private int maxBackoffSeconds;
+
+        @DecimalMin(value = "0.0")
+        @DecimalMax(value = "1.0")
+        private double jitter;
+
         @Min(value = 0)
         private int requestTimeoutSeconds;
 
+        @Min(value = 1)
+        private int deadlineSeconds;
+
     }
 
-}
+    @Getter
+    @Setter
+    public static class RefreshCoalescingProperties {
+
+        @Min(value = 1)
+        private long windowMs;
+
+        @Min(value = 1)
+        private long maximumSize;
 
+    }
+
+    @Getter
+    @Setter
+    public static class RetryBudgetProperties {
+
+        @DecimalMin(value = "0.0")
+        private double ratio;
+
+        @Min(value = 0)
+        private int minRetriesPerSecond;
+
+        @Min(value = 1)
+        private int windowSeconds;
+
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.ersted.individualsapi.config;
+
+import com.ersted.individualsapi.logging.LoggingMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration(proxyBeanMethods = false)
+public class LoggingConfig {
+
+    @Bean
+    MeterBinder loggingMetrics() {
+        return new LoggingMetrics();
+    }
+
+}
@@ -0,0 +1,85 @@
+package com.ersted.individualsapi.config;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "person-service-client")
+public class PersonServiceClientProperties {
+
+    @Valid
+    private DeadlineProperties deadline = new DeadlineProperties();
+
+    @Valid
+    private RetryProperties retry = new RetryProperties();
+
+    @Valid
+    private HedgingProperties hedging = new HedgingProperties();
+
+    @Getter
+    @Setter
+    public static class DeadlineProperties {
+
+        @Min(value = 1)
+        private long createMs = 3000;
+
+        @Min(value = 1)
+        private long activateMs = 2000;
+
+        @Min(value = 1)
+        private long purgeMs = 2000;
+
+    }
+
+    @Getter
+    @Setter
+    public static class RetryProperties {
+
+        @Min(value = 0)
+        private int attempts = 2;
+
+        @Min(value = 0)
+        private long delayMs = 100;
+
+        @Min(value = 0)
+        private long maxBackoffMs = 500;
+
+        @DecimalMin(value = "0.0")
+        @DecimalMax(value = "1.0")
+        private double jitter = 0.5;
+
+    }
+
+    @Getter
+    @Setter
+    public static class HedgingProperties {
+
+        private boolean enabled = false;
+
+        @DecimalMin(value = "0.5")
+        @DecimalMax(value = "1.0")
+        private double percentile = 0.95;
+
+        @Min(value = 1)
+        private long minDelayMs = 20;
+
+        @Min(value = 1)
+        private long maxDelayMs = 500;
+
+        @Min(value = 1)
+        private int sampleSize = 256;
+
+        @Min(value = 1)
+        private int minSamples = 20;
+
+    }
+
+}
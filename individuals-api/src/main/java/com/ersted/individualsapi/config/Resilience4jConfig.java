@@ -1,18 +1,26 @@
 package com.ersted.individualsapi.config;
 
+import com.ersted.individualsapi.exception.KeycloakClientServiceUnavailableException;
 import io.github.resilience4j.bulkhead.BulkheadConfig;
 import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
 import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedBulkheadMetrics;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
 
 import java.time.Duration;
+import java.util.concurrent.TimeoutException;
 
 @Configuration(proxyBeanMethods = false)
 public class Resilience4jConfig {
 
+    public static final String KEYCLOAK_CONFIG = "keycloak";
+
     @Bean
     CircuitBreakerRegistry circuitBreakerRegistry(
             @Value("${resilience4j.circuitbreaker.sliding-window-size:10}") int slidingWindowSize,
@@ -31,20 +39,50 @@ public class Resilience4jConfig {
                 .permittedNumberOfCallsInHalfOpenState(permittedCallsInHalfOpenState)
                 .build();
 
-        return CircuitBreakerRegistry.of(config);
+        CircuitBreakerConfig keycloakConfig = CircuitBreakerConfig.from(config)
+                .recordException(Resilience4jConfig::isKeycloakFailure)
+                .build();
+
+        CircuitBreakerRegistry registry = CircuitBreakerRegistry.of(config);
+        registry.addConfiguration(KEYCLOAK_CONFIG, keycloakConfig);
+        return registry;
     }
 
     @Bean
     BulkheadRegistry bulkheadRegistry(
             @Value("${resilience4j.bulkhead.max-concurrent-calls:20}") int maxConcurrentCalls,
-            @Value("${resilience4j.bulkhead.max-wait-duration-ms:0}") long maxWaitDurationMs
+            @Value("${resilience4j.bulkhead.max-wait-duration-ms:0}") long maxWaitDurationMs,
+            @Value("${resilience4j.bulkhead.keycloak.max-concurrent-calls:50}") int keycloakMaxConcurrentCalls
     ) {
         BulkheadConfig config = BulkheadConfig.custom()
                 .maxConcurrentCalls(maxConcurrentCalls)
                 .maxWaitDuration(Duration.ofMillis(maxWaitDurationMs))
                 .build();
 
-        return BulkheadRegistry.of(config);
+        BulkheadConfig keycloakConfig = BulkheadConfig.from(config)
+                .maxConcurrentCalls(keycloakMaxConcurrentCalls)
+                .build();
+
+        BulkheadRegistry registry = BulkheadRegistry.of(config);
+        registry.addConfiguration(KEYCLOAK_CONFIG, keycloakConfig);
+        return registry;
+    }
+
+    @Bean
+    MeterBinder circuitBreakerMetrics(CircuitBreakerRegistry circuitBreakerRegistry) {
+        return TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry);
+    }
+
+    @Bean
+    MeterBinder bulkheadMetrics(BulkheadRegistry bulkheadRegistry) {
+        return TaggedBulkheadMetrics.ofBulkheadRegistry(bulkheadRegistry);
+    }
+
+    private static boolean isKeycloakFailure(Throwable throwable) {
+        return throwable instanceof KeycloakClientServiceUnavailableException ||
+                throwable instanceof TimeoutException ||
+                throwable instanceof io.netty.handler.timeout.TimeoutException ||
+                throwable instanceof WebClientRequestException;
     }
 
 }
@@ -1,6 +1,7 @@
 package com.ersted.individualsapi.config;
 
 import com.ersted.individualsapi.client.KeycloakClient;
+import com.ersted.individualsapi.dto.TokenResponse;
 import com.ersted.personservice.sdk.api.IndividualsApi;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.annotation.Bean;
@@ -8,10 +9,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.client.reactive.ClientHttpConnector;
 import org.springframework.web.reactive.function.client.ClientRequest;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
 import org.springframework.web.reactive.function.client.support.WebClientHttpServiceGroupConfigurer;
 import reactor.core.publisher.Mono;
+import reactor.netty.resources.ConnectionProvider;
 import org.springframework.web.service.registry.HttpServiceGroup;
 import org.springframework.web.service.registry.ImportHttpServices;
 
@@ -26,7 +29,10 @@ import org.springframework.web.service.registry.ImportHttpServices;
 public class SdkConfig {
 
     @Bean
-    WebClientHttpServiceGroupConfigurer personServiceGroupConfigurer(Environment env, KeycloakClient keycloakClient) {
+    WebClientHttpServiceGroupConfigurer personServiceGroupConfigurer(Environment env,
+                                                                     KeycloakClient keycloakClient,
+                                                                     HttpClientProperties httpClientProperties,
+                                                                     ConnectionProvider personServiceConnectionProvider) {
         String baseUrl = env.getProperty(
                 "spring.http.serviceclient.person-service.base-url",
                 "http://localhost:8080"
@@ -35,27 +41,34 @@ public class SdkConfig {
                 keycloakClient.adminToken()
                         .doOnSuccess(token -> log.info("Sending request to person-service: {} {}, token present: {}",
                                 request.method(), request.url(), token != null && token.getAccessToken() != null))
-                        .map(token -> ClientRequest.from(request)
-                                .headers(h -> h.set(HttpHeaders.AUTHORIZATION, "Bearer " + token.getAccessToken()))
-                                .build())
-                        .flatMap(next::exchange)
-                        .flatMap(response -> {
-                            if (response.statusCode() == HttpStatus.UNAUTHORIZED) {
-                                keycloakClient.invalidateAdminToken();
-                                return keycloakClient.adminToken()
-                                        .map(token -> ClientRequest.from(request)
-                                                .header(HttpHeaders.AUTHORIZATION, "Bearer " + token.getAccessToken())
-                                                .build())
-                                        .flatMap(next::exchange);
-                            }
-                            return Mono.just(response);
-                        });
+                        .flatMap(token -> next.exchange(withBearer(request, token))
+                                .flatMap(response -> {
+                                    if (response.statusCode() == HttpStatus.UNAUTHORIZED) {
+                                        keycloakClient.invalidateAdminToken(token);
+                                        return response.releaseBody()
+                                                .then(keycloakClient.adminToken())
+                                                .flatMap(freshToken -> next.exchange(withBearer(request, freshToken)));
+                                    }
+                                    return Mono.just(response);
+                                }));
+
+        ClientHttpConnector connector = HttpClientConfig.clientHttpConnector(
+                personServiceConnectionProvider,
+                httpClientProperties.getPersonService()
+        );
 
         return groups -> groups
                 .filterByName("person-service")
                 .forEachClient((group, builder) -> builder
                         .baseUrl(baseUrl)
+                        .clientConnector(connector)
                         .filter(bearerAuthFilter));
     }
 
+    private static ClientRequest withBearer(ClientRequest request, TokenResponse token) {
+        return ClientRequest.from(request)
+                .headers(h -> h.set(HttpHeaders.AUTHORIZATION, "Bearer " + token.getAccessToken()))
+                .build();
+    }
+
 }
@@ -5,8 +5,8 @@ import com.ersted.individualsapi.api.DefaultApi;
 import com.ersted.individualsapi.dto.*;
 import com.ersted.individualsapi.service.UserService;
 import lombok.RequiredArgsConstructor;
-import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
@@ -31,12 +31,10 @@ public class AuthController implements DefaultApi {
 
     @Override
     public Mono<ResponseEntity<UserInfoResponse>> authMeGet(ServerWebExchange exchange) {
-        String token = exchange
-                .getRequest()
-                .getHeaders()
-                .getFirst(HttpHeaders.AUTHORIZATION);
-
-        return userService.fetchUserInfo(token)
+        return exchange.getPrincipal()
+                .cast(JwtAuthenticationToken.class)
+                .map(JwtAuthenticationToken::getToken)
+                .flatMap(userService::fetchUserInfo)
                 .map(ResponseEntity::ok);
     }
 
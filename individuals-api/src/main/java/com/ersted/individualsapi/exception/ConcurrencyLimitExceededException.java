@@ -0,0 +1,9 @@
+package com.ersted.individualsapi.exception;
+
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(String name) {
+        super("Concurrency limit exceeded for " + name);
+    }
+
+}
@@ -33,6 +33,11 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.UNAUTHORIZED, ex.getMessage());
     }
 
+    @ExceptionHandler(KeycloakClientServiceUnavailableException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleKeycloakClientServiceUnavailableException(KeycloakClientServiceUnavailableException ex) {
+        return buildErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, ex.getMessage());
+    }
+
     @ExceptionHandler(KeycloakClientException.class)
     public Mono<ResponseEntity<ErrorResponse>> handleKeycloakException(KeycloakClientException ex) {
         return buildErrorResponse(HttpStatus.INTERNAL_SERVER_ERROR, ex.getMessage());
@@ -68,6 +73,11 @@ public class GlobalExceptionHandler {
         return buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, "Too many concurrent requests");
     }
 
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public Mono<ResponseEntity<ErrorResponse>> handleConcurrencyLimitExceededException(ConcurrencyLimitExceededException ex) {
+        return buildErrorResponse(HttpStatus.TOO_MANY_REQUESTS, "Too many concurrent requests");
+    }
+
     private Mono<ResponseEntity<ErrorResponse>> buildErrorResponse(HttpStatus status, String error) {
 
         log.warn("{}: {}", status, error);
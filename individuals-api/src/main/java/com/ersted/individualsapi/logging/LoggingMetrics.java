@@ -0,0 +1,77 @@
+package com.ersted.individualsapi.logging;
+
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.LoggerFactory;
+
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.Set;
+
+public class LoggingMetrics implements MeterBinder {
+
+    private static final String METRIC_PREFIX = "logging";
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext context)) {
+            return;
+        }
+
+        Set<Appender<ILoggingEvent>> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Logger logger : context.getLoggerList()) {
+            Iterator<Appender<ILoggingEvent>> appenders = logger.iteratorForAppenders();
+            while (appenders.hasNext()) {
+                Appender<ILoggingEvent> appender = appenders.next();
+                if (appender instanceof MeteredAsyncDisruptorAppender async && seen.add(appender)) {
+                    bindAppender(async, registry);
+                }
+            }
+        }
+
+        for (TurboFilter filter : context.getTurboFilterList()) {
+            if (filter instanceof LoggerRateLimitFilter rateLimitFilter) {
+                bindRateLimits(rateLimitFilter, registry);
+            }
+        }
+    }
+
+    private static void bindAppender(MeteredAsyncDisruptorAppender appender, MeterRegistry registry) {
+        Gauge.builder(METRIC_PREFIX + ".async.queue.depth", appender, MeteredAsyncDisruptorAppender::getQueueDepth)
+                .description("Log events waiting in the async appender ring buffer")
+                .tag("appender", appender.getName())
+                .register(registry);
+        Gauge.builder(METRIC_PREFIX + ".async.queue.capacity", appender, MeteredAsyncDisruptorAppender::getRingBufferSize)
+                .description("Size of the async appender ring buffer")
+                .tag("appender", appender.getName())
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".async.dropped", appender, MeteredAsyncDisruptorAppender::getDroppedFull)
+                .description("Log events dropped by the async appender")
+                .tag("appender", appender.getName())
+                .tag("reason", "full")
+                .register(registry);
+        FunctionCounter.builder(METRIC_PREFIX + ".async.dropped", appender, MeteredAsyncDisruptorAppender::getDroppedThreshold)
+                .description("Log events dropped by the async appender")
+                .tag("appender", appender.getName())
+                .tag("reason", "threshold")
+                .register(registry);
+    }
+
+    private static void bindRateLimits(LoggerRateLimitFilter filter, MeterRegistry registry) {
+        for (LoggerRateLimitFilter.Limit limit : filter.getLimits()) {
+            FunctionCounter.builder(METRIC_PREFIX + ".rate.limited", limit, LoggerRateLimitFilter.Limit::getSuppressed)
+                    .description("Log events suppressed by the per-logger rate limit")
+                    .tag("logger", limit.getLogger())
+                    .register(registry);
+        }
+    }
+
+}
@@ -2,63 +2,200 @@ package com.ersted.individualsapi.provider;
 
 
 import com.ersted.individualsapi.dto.TokenResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import reactor.core.Disposable;
+import reactor.core.Disposables;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 
 @Slf4j
 public class KeycloakAdminTokenProvider {
 
-    private final AtomicReference<Mono<TokenResponse>> cachedTokenMono = new AtomicReference<>();
+    private static final String METRIC_PREFIX = "keycloak.admin.token";
+    private static final Duration MIN_RETRY_DELAY = Duration.ofSeconds(1);
+
+    private final AtomicReference<CachedToken> cachedToken = new AtomicReference<>();
+    private final AtomicReference<Mono<TokenResponse>> inFlightRequest = new AtomicReference<>();
+    private final AtomicLong generations = new AtomicLong();
+    private final AtomicBoolean backgroundRefreshRunning = new AtomicBoolean();
+    private final Disposable.Swap scheduledRefresh = Disposables.swap();
 
     private final long tokenRefreshMarginSeconds;
     private final int defaultTokenTtlSeconds;
+    private final long refreshAheadSeconds;
+    private final Scheduler scheduler;
+
+    private final Timer onDemandRefreshTimer;
+    private final Timer backgroundRefreshTimer;
+    private final Counter onDemandRefreshFailures;
+    private final Counter backgroundRefreshFailures;
+    private final Counter staleServed;
+    private final Counter invalidationsApplied;
+    private final Counter invalidationsIgnored;
+
+    private volatile Supplier<Mono<TokenResponse>> tokenSupplier;
+
+    public KeycloakAdminTokenProvider(long tokenRefreshMarginSeconds,
+                                      int defaultTokenTtlSeconds,
+                                      long refreshAheadSeconds,
+                                      MeterRegistry meterRegistry) {
+        this(tokenRefreshMarginSeconds, defaultTokenTtlSeconds, refreshAheadSeconds, meterRegistry, Schedulers.parallel());
+    }
 
-    private volatile TokenResponse cachedToken;
-    private volatile Instant expiresAt;
-
-    public KeycloakAdminTokenProvider(long tokenRefreshMarginSeconds, int defaultTokenTtlSeconds) {
+    public KeycloakAdminTokenProvider(long tokenRefreshMarginSeconds,
+                                      int defaultTokenTtlSeconds,
+                                      long refreshAheadSeconds,
+                                      MeterRegistry meterRegistry,
+                                      Scheduler scheduler) {
         this.tokenRefreshMarginSeconds = tokenRefreshMarginSeconds;
         this.defaultTokenTtlSeconds = defaultTokenTtlSeconds;
+        this.refreshAheadSeconds = refreshAheadSeconds;
+        this.scheduler = scheduler;
+
+        this.onDemandRefreshTimer = refreshTimer(meterRegistry, "on-demand");
+        this.backgroundRefreshTimer = refreshTimer(meterRegistry, "background");
+        this.onDemandRefreshFailures = refreshFailureCounter(meterRegistry, "on-demand");
+        this.backgroundRefreshFailures = refreshFailureCounter(meterRegistry, "background");
+        this.staleServed = Counter.builder(METRIC_PREFIX + ".stale.served")
+                .description("Admin token served after its planned refresh time")
+                .register(meterRegistry);
+        this.invalidationsApplied = invalidationCounter(meterRegistry, "applied");
+        this.invalidationsIgnored = invalidationCounter(meterRegistry, "ignored");
     }
 
     public Mono<TokenResponse> getToken(Supplier<Mono<TokenResponse>> tokenSupplier) {
         return Mono.defer(() -> {
-            if (isTokenValid()) {
-                return Mono.just(cachedToken);
+            this.tokenSupplier = tokenSupplier;
+
+            CachedToken current = cachedToken.get();
+            Instant now = now();
+            if (current != null && now.isBefore(current.expiresAt())) {
+                if (!now.isBefore(current.refreshAt())) {
+                    staleServed.increment();
+                    triggerBackgroundRefresh(current.generation());
+                }
+                return Mono.just(current.token());
             }
-            return cachedTokenMono.updateAndGet(current -> {
-                if (current != null) return current;
-                return tokenSupplier.get()
-                        .doOnSuccess(this::cacheToken)
-                        .doFinally(_ -> cachedTokenMono.set(null))
+            return inFlightRequest.updateAndGet(inFlight -> {
+                if (inFlight != null) return inFlight;
+                return fetch(tokenSupplier, onDemandRefreshTimer, onDemandRefreshFailures)
+                        .doFinally(_ -> inFlightRequest.set(null))
                         .cache();
             });
         });
     }
 
     public boolean isTokenValid() {
-        return cachedToken != null
-                && expiresAt != null
-                && Instant.now().isBefore(expiresAt);
+        CachedToken current = cachedToken.get();
+        return current != null && now().isBefore(current.expiresAt());
+    }
+
+    public boolean invalidate(TokenResponse rejectedToken) {
+        CachedToken current = cachedToken.get();
+        if (current == null
+                || rejectedToken == null
+                || !Objects.equals(current.token().getAccessToken(), rejectedToken.getAccessToken())
+                || !cachedToken.compareAndSet(current, null)) {
+            invalidationsIgnored.increment();
+            log.debug("Admin token invalidation ignored, rejected token is not the cached one");
+            return false;
+        }
+
+        scheduledRefresh.update(null);
+        invalidationsApplied.increment();
+        log.info("Admin token generation {} invalidated", current.generation());
+        return true;
     }
 
-    public void invalidate() {
-        log.info("Admin token cache invalidated");
-        this.cachedToken = null;
-        this.expiresAt = null;
+    public void close() {
+        scheduledRefresh.dispose();
     }
 
-    private void cacheToken(TokenResponse token) {
-        this.cachedToken = token;
+    private Mono<TokenResponse> fetch(Supplier<Mono<TokenResponse>> supplier, Timer timer, Counter failures) {
+        return Mono.defer(() -> {
+            long startedAt = System.nanoTime();
+            return supplier.get()
+                    .doOnSuccess(token -> {
+                        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                        if (token != null) {
+                            cacheToken(token);
+                        }
+                    })
+                    .doOnError(_ -> failures.increment());
+        });
+    }
+
+    private void triggerBackgroundRefresh(long generation) {
+        Supplier<Mono<TokenResponse>> supplier = this.tokenSupplier;
+        if (supplier == null || !isCurrentGeneration(generation) || !backgroundRefreshRunning.compareAndSet(false, true)) {
+            return;
+        }
+
+        fetch(supplier, backgroundRefreshTimer, backgroundRefreshFailures)
+                .subscribeOn(scheduler)
+                .doFinally(_ -> backgroundRefreshRunning.set(false))
+                .subscribe(
+                        _ -> log.debug("Admin token refreshed in background"),
+                        e -> {
+                            log.warn("Background admin token refresh failed: {}", e.getMessage());
+                            scheduleRetry(generation);
+                        });
+    }
 
+    private void cacheToken(TokenResponse token) {
         int expiresIn = getExpiresInSeconds(token);
-        this.expiresAt = calculateExpiration(expiresIn);
+        Instant now = now();
+        Instant expiresAt = calculateExpiration(now, expiresIn);
+        Instant refreshAt = calculateRefreshTime(now, expiresAt);
+
+        CachedToken cached = new CachedToken(token, generations.incrementAndGet(), expiresAt, refreshAt);
+        cachedToken.set(cached);
+        scheduleRefresh(cached.generation(), Duration.between(now, refreshAt));
 
-        log.info("Admin token cached for {} seconds, expires at: {}", expiresIn, expiresAt);
+        log.info("Admin token generation {} cached for {} seconds, refresh at: {}, expires at: {}",
+                cached.generation(), expiresIn, refreshAt, expiresAt);
+    }
+
+    private void scheduleRefresh(long generation, Duration delay) {
+        scheduledRefresh.update(scheduler.schedule(
+                () -> triggerBackgroundRefresh(generation),
+                Math.max(0, delay.toMillis()),
+                TimeUnit.MILLISECONDS
+        ));
+    }
+
+    private void scheduleRetry(long generation) {
+        CachedToken current = cachedToken.get();
+        if (current == null || current.generation() != generation) {
+            return;
+        }
+
+        Duration remaining = Duration.between(now(), current.expiresAt());
+        if (remaining.compareTo(MIN_RETRY_DELAY) <= 0) {
+            log.warn("Admin token generation {} expires before next refresh attempt", generation);
+            return;
+        }
+
+        Duration delay = remaining.dividedBy(2);
+        scheduleRefresh(generation, delay.compareTo(MIN_RETRY_DELAY) < 0 ? MIN_RETRY_DELAY : delay);
+    }
+
+    private boolean isCurrentGeneration(long generation) {
+        CachedToken current = cachedToken.get();
+        return current != null && current.generation() == generation;
     }
 
     private int getExpiresInSeconds(TokenResponse token) {
@@ -71,9 +208,42 @@ public class KeycloakAdminTokenProvider {
         return expiresIn;
     }
 
-    private Instant calculateExpiration(int expiresInSeconds) {
+    private Instant calculateExpiration(Instant now, int expiresInSeconds) {
         long safetyMargin = Math.min(tokenRefreshMarginSeconds, expiresInSeconds / 2);
-        return Instant.now().plusSeconds(expiresInSeconds - safetyMargin);
+        return now.plusSeconds(expiresInSeconds - safetyMargin);
+    }
+
+    private Instant calculateRefreshTime(Instant now, Instant expiresAt) {
+        long lifetimeSeconds = Duration.between(now, expiresAt).toSeconds();
+        return expiresAt.minusSeconds(Math.min(refreshAheadSeconds, lifetimeSeconds / 2));
+    }
+
+    private Instant now() {
+        return Instant.ofEpochMilli(scheduler.now(TimeUnit.MILLISECONDS));
+    }
+
+    private static Timer refreshTimer(MeterRegistry meterRegistry, String trigger) {
+        return Timer.builder(METRIC_PREFIX + ".refresh")
+                .description("Latency of admin token requests to Keycloak")
+                .tag("trigger", trigger)
+                .register(meterRegistry);
+    }
+
+    private static Counter refreshFailureCounter(MeterRegistry meterRegistry, String trigger) {
+        return Counter.builder(METRIC_PREFIX + ".refresh.failures")
+                .description("Failed admin token requests to Keycloak")
+                .tag("trigger", trigger)
+                .register(meterRegistry);
+    }
+
+    private static Counter invalidationCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".invalidations")
+                .description("Admin token invalidations caused by rejected requests")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private record CachedToken(TokenResponse token, long generation, Instant expiresAt, Instant refreshAt) {
     }
 
-}
\ No newline at end of file
+}
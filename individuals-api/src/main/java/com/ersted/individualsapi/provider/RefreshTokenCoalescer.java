@@ -0,0 +1,94 @@
+package com.ersted.individualsapi.provider;
+
+import com.ersted.individualsapi.dto.TokenResponse;
+import com.ersted.individualsapi.exception.InvalidCredentialsException;
+import com.ersted.individualsapi.utils.TokenDigestUtils;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.nimbusds.jwt.JWTParser;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.text.ParseException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+@Slf4j
+public class RefreshTokenCoalescer {
+
+    private static final String METRIC_PREFIX = "keycloak.refresh.token";
+    private static final String TOKEN_NOT_ACTIVE = "Token is not active";
+
+    private final Cache<String, Mono<TokenResponse>> sharedRefreshes;
+    private final Clock clock;
+
+    private final Counter coalesced;
+    private final Counter rejectedLocally;
+
+    public RefreshTokenCoalescer(Duration window, long maximumSize, MeterRegistry meterRegistry) {
+        this(window, maximumSize, meterRegistry, Clock.systemUTC());
+    }
+
+    public RefreshTokenCoalescer(Duration window, long maximumSize, MeterRegistry meterRegistry, Clock clock) {
+        this.clock = clock;
+        this.sharedRefreshes = Caffeine.newBuilder()
+                .expireAfterWrite(window)
+                .maximumSize(maximumSize)
+                .build();
+
+        this.coalesced = Counter.builder(METRIC_PREFIX + ".coalesced")
+                .description("Refresh requests served by an already running refresh of the same token")
+                .register(meterRegistry);
+        this.rejectedLocally = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Refresh requests rejected without calling Keycloak because the token has expired")
+                .register(meterRegistry);
+    }
+
+    public Mono<TokenResponse> refresh(String refreshToken, Supplier<Mono<TokenResponse>> upstream) {
+        return Mono.defer(() -> {
+            if (isExpired(refreshToken)) {
+                rejectedLocally.increment();
+                return Mono.error(new InvalidCredentialsException(TOKEN_NOT_ACTIVE));
+            }
+
+            String key = TokenDigestUtils.digest(refreshToken);
+            AtomicBoolean created = new AtomicBoolean();
+            Mono<TokenResponse> shared = sharedRefreshes.get(key, _ -> {
+                created.set(true);
+                return share(key, upstream);
+            });
+
+            if (!created.get()) {
+                coalesced.increment();
+                log.debug("Refresh request coalesced with an in-flight refresh");
+            }
+            return shared;
+        });
+    }
+
+    private Mono<TokenResponse> share(String key, Supplier<Mono<TokenResponse>> upstream) {
+        AtomicReference<Mono<TokenResponse>> self = new AtomicReference<>();
+        Mono<TokenResponse> shared = Mono.defer(upstream)
+                .doOnError(_ -> sharedRefreshes.asMap().remove(key, self.get()))
+                .cache();
+        self.set(shared);
+        return shared;
+    }
+
+    private boolean isExpired(String refreshToken) {
+        try {
+            Date expirationTime = JWTParser.parse(refreshToken).getJWTClaimsSet().getExpirationTime();
+            return expirationTime != null && !expirationTime.toInstant().isAfter(clock.instant());
+        } catch (ParseException e) {
+            log.debug("Refresh token is not a JWT, expiration is left to Keycloak");
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,187 @@
+package com.ersted.individualsapi.resilience;
+
+import com.ersted.individualsapi.exception.ConcurrencyLimitExceededException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+import java.util.function.Predicate;
+
+@Slf4j
+public class AdaptiveConcurrencyLimiter {
+
+    private static final String METRIC_PREFIX = "adaptive.concurrency";
+
+    private final String name;
+    private final Settings settings;
+    private final Predicate<Throwable> isOverload;
+    private final LongSupplier nanoClock;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final Counter rejected;
+
+    private volatile double limit;
+    private double shortRttNanos;
+    private double longRttNanos;
+
+    public AdaptiveConcurrencyLimiter(String name, Settings settings, Predicate<Throwable> isOverload, MeterRegistry meterRegistry) {
+        this(name, settings, isOverload, meterRegistry, System::nanoTime);
+    }
+
+    public AdaptiveConcurrencyLimiter(String name,
+                                      Settings settings,
+                                      Predicate<Throwable> isOverload,
+                                      MeterRegistry meterRegistry,
+                                      LongSupplier nanoClock) {
+        this.name = name;
+        this.settings = settings;
+        this.isOverload = isOverload;
+        this.nanoClock = nanoClock;
+        this.limit = settings.initialLimit();
+
+        Gauge.builder(METRIC_PREFIX + ".limit", this, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current concurrency limit")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".inflight", inflight, AtomicInteger::get)
+                .description("Calls currently holding a permit")
+                .tag("name", name)
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".rtt", this, limiter -> limiter.getRttMillis(false))
+                .description("Short-term average round trip time")
+                .tag("name", name)
+                .tag("window", "short")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + ".rtt", this, limiter -> limiter.getRttMillis(true))
+                .description("Long-term average round trip time")
+                .tag("name", name)
+                .tag("window", "long")
+                .baseUnit("milliseconds")
+                .register(meterRegistry);
+        this.rejected = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("Calls rejected because the concurrency limit was reached")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public <T> Mono<T> apply(Mono<T> source) {
+        return Mono.defer(() -> {
+            Permit permit = tryAcquire();
+            if (permit == null) {
+                return Mono.error(new ConcurrencyLimitExceededException(name));
+            }
+            return source
+                    .doOnSuccess(_ -> permit.release(false))
+                    .doOnError(e -> permit.release(isOverload.test(e)))
+                    .doOnCancel(permit::ignore);
+        });
+    }
+
+    public Permit tryAcquire() {
+        while (true) {
+            int current = inflight.get();
+            if (current >= (int) limit) {
+                rejected.increment();
+                return null;
+            }
+            if (inflight.compareAndSet(current, current + 1)) {
+                return new Permit(nanoClock.getAsLong(), current + 1);
+            }
+        }
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInflight() {
+        return inflight.get();
+    }
+
+    private synchronized double getRttMillis(boolean longWindow) {
+        return (longWindow ? longRttNanos : shortRttNanos) / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+
+    private synchronized void onSample(long rttNanos, int inflightAtStart, boolean dropped) {
+        double current = limit;
+        double next;
+
+        if (dropped) {
+            next = current * settings.backoffRatio();
+        } else {
+            shortRttNanos = shortRttNanos == 0 ? rttNanos : ewma(shortRttNanos, rttNanos, settings.shortWindow());
+            longRttNanos = longRttNanos == 0 ? rttNanos : ewma(longRttNanos, rttNanos, settings.longWindow());
+
+            if (longRttNanos / shortRttNanos > 2) {
+                longRttNanos *= 0.95;
+            }
+
+            if (inflightAtStart < current / 2) {
+                return;
+            }
+
+            double gradient = Math.max(0.5, Math.min(1.0, settings.rttTolerance() * longRttNanos / shortRttNanos));
+            double queueSize = Math.sqrt(current);
+            next = current * gradient + queueSize;
+        }
+
+        next = current * (1 - settings.smoothing()) + next * settings.smoothing();
+        next = Math.max(settings.minLimit(), Math.min(settings.maxLimit(), next));
+
+        if ((int) next != (int) current) {
+            log.debug("Concurrency limit for {} changed from {} to {}", name, (int) current, (int) next);
+        }
+        limit = next;
+    }
+
+    private static double ewma(double average, long sample, int window) {
+        double factor = 2.0 / (window + 1);
+        return average * (1 - factor) + sample * factor;
+    }
+
+    public record Settings(
+            int initialLimit,
+            int minLimit,
+            int maxLimit,
+            double smoothing,
+            double rttTolerance,
+            double backoffRatio,
+            int shortWindow,
+            int longWindow
+    ) {
+    }
+
+    public final class Permit {
+
+        private final long startedAt;
+        private final int inflightAtStart;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Permit(long startedAt, int inflightAtStart) {
+            this.startedAt = startedAt;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        public void release(boolean dropped) {
+            if (released.compareAndSet(false, true)) {
+                inflight.decrementAndGet();
+                onSample(nanoClock.getAsLong() - startedAt, inflightAtStart, dropped);
+            }
+        }
+
+        public void ignore() {
+            if (released.compareAndSet(false, true)) {
+                inflight.decrementAndGet();
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.ersted.individualsapi.resilience;
+
+import java.time.Duration;
+import java.util.Arrays;
+
+public class LatencyTracker {
+
+    private final long[] samples;
+    private int next;
+    private int size;
+
+    public LatencyTracker(int capacity) {
+        this.samples = new long[capacity];
+    }
+
+    public synchronized void record(Duration latency) {
+        samples[next] = latency.toNanos();
+        next = (next + 1) % samples.length;
+        size = Math.min(size + 1, samples.length);
+    }
+
+    public synchronized Duration percentile(double percentile, int minSamples, Duration fallback) {
+        if (size < minSamples) {
+            return fallback;
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * size) - 1;
+        return Duration.ofNanos(sorted[Math.max(0, Math.min(size - 1, index))]);
+    }
+
+}
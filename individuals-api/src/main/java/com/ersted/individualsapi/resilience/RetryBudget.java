@@ -0,0 +1,94 @@
+package com.ersted.individualsapi.resilience;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class RetryBudget {
+
+    private static final String METRIC_PREFIX = "retry.budget";
+
+    private final double retryRatio;
+    private final int minRetriesPerSecond;
+    private final LongSupplier nanoClock;
+
+    private final long[] requests;
+    private final long[] retries;
+    private final long[] slotSeconds;
+
+    private final Counter retriesGranted;
+    private final Counter retriesRejected;
+
+    public RetryBudget(String name, double retryRatio, int minRetriesPerSecond, Duration window, MeterRegistry meterRegistry) {
+        this(name, retryRatio, minRetriesPerSecond, window, meterRegistry, System::nanoTime);
+    }
+
+    public RetryBudget(String name,
+                       double retryRatio,
+                       int minRetriesPerSecond,
+                       Duration window,
+                       MeterRegistry meterRegistry,
+                       LongSupplier nanoClock) {
+        this.retryRatio = retryRatio;
+        this.minRetriesPerSecond = minRetriesPerSecond;
+        this.nanoClock = nanoClock;
+
+        int slots = (int) Math.max(1, window.toSeconds());
+        this.requests = new long[slots];
+        this.retries = new long[slots];
+        this.slotSeconds = new long[slots];
+
+        this.retriesGranted = Counter.builder(METRIC_PREFIX + ".retries")
+                .description("Retries allowed by the retry budget")
+                .tag("name", name)
+                .register(meterRegistry);
+        this.retriesRejected = Counter.builder(METRIC_PREFIX + ".exhausted")
+                .description("Retries refused because the retry budget was exhausted")
+                .tag("name", name)
+                .register(meterRegistry);
+    }
+
+    public synchronized void recordRequest() {
+        requests[slot(currentSecond())]++;
+    }
+
+    public synchronized boolean tryAcquireRetry() {
+        long second = currentSecond();
+        long requestsInWindow = 0;
+        long retriesInWindow = 0;
+        for (int i = 0; i < slotSeconds.length; i++) {
+            if (second - slotSeconds[i] < slotSeconds.length) {
+                requestsInWindow += requests[i];
+                retriesInWindow += retries[i];
+            }
+        }
+
+        double allowed = (double) minRetriesPerSecond * slotSeconds.length + retryRatio * requestsInWindow;
+        if (retriesInWindow + 1 > allowed) {
+            retriesRejected.increment();
+            return false;
+        }
+
+        retries[slot(second)]++;
+        retriesGranted.increment();
+        return true;
+    }
+
+    private int slot(long second) {
+        int index = (int) (second % slotSeconds.length);
+        if (slotSeconds[index] != second) {
+            slotSeconds[index] = second;
+            requests[index] = 0;
+            retries[index] = 0;
+        }
+        return index;
+    }
+
+    private long currentSecond() {
+        return TimeUnit.NANOSECONDS.toSeconds(nanoClock.getAsLong());
+    }
+
+}
@@ -12,7 +12,6 @@ import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import org.springframework.stereotype.Service;
 import org.springframework.validation.annotation.Validated;
 import reactor.core.publisher.Mono;
@@ -24,7 +23,6 @@ import reactor.core.publisher.Mono;
 public class TokenService {
 
     private final KeycloakClient keycloakClient;
-    private final ReactiveJwtDecoder jwtDecoder;
 
     @Observed(name = "tokenService.login")
     public Mono<TokenResponse> login(@NotNull @Email String email, @NotNull String password) {
@@ -38,16 +36,10 @@ public class TokenService {
         return keycloakClient.refreshToken(refreshToken);
     }
 
-    @Counted
+    @Counted(value = "individuals.api.users.info", description = "User info requests")
     @Observed(name = "tokenService.getUserInfo")
-    public Mono<UserInfoResponse> getUserInfo(@NotNull String token) {
-        String cleanToken = token.startsWith("Bearer ")
-                ? token.substring(7)
-                : token;
-
-        return jwtDecoder.decode(cleanToken)
-                .map(this::mapToUserInfo)
-                .doOnError(e -> log.error("Failed to decode JWT token", e));
+    public Mono<UserInfoResponse> getUserInfo(@NotNull Jwt jwt) {
+        return Mono.fromSupplier(() -> mapToUserInfo(jwt));
     }
 
     private UserInfoResponse mapToUserInfo(Jwt jwt) {
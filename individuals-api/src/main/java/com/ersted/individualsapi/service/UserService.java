@@ -11,6 +11,7 @@ import com.ersted.personservice.sdk.model.IndividualInfoResponse;
 import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
 
@@ -29,19 +30,19 @@ public class UserService {
 
     private final IndividualMapper individualMapper;
 
-    @Counted
+    @Counted(value = "individuals.api.users.login", description = "User login requests")
     @Observed(name = "userService.login")
     public Mono<TokenResponse> login(UserLoginRequest userLoginRequest) {
         return tokenService.login(userLoginRequest.getEmail(), userLoginRequest.getPassword());
     }
 
-    @Counted
+    @Counted(value = "individuals.api.users.refresh.token", description = "User token refresh requests")
     @Observed(name = "userService.refreshToken")
     public Mono<TokenResponse> refreshToken(TokenRefreshRequest tokenRefreshRequest) {
         return tokenService.refreshToken(tokenRefreshRequest.getRefreshToken());
     }
 
-    @Counted
+    @Counted(value = "individuals.api.users.register", description = "User registration requests")
     @Observed(name = "userService.register")
     public Mono<TokenResponse> register(UserRegistrationRequest request) {
 
@@ -62,8 +63,8 @@ public class UserService {
     }
 
     @Observed(name = "userService.fetchUserInfo")
-    public Mono<UserInfoResponse> fetchUserInfo(String token) {
-        return tokenService.getUserInfo(token);
+    public Mono<UserInfoResponse> fetchUserInfo(Jwt jwt) {
+        return tokenService.getUserInfo(jwt);
     }
 
     private Mono<Void> createKeycloakUserWithRollback(UserRegistrationRequest request, IndividualInfoResponse individualInfo) {
@@ -0,0 +1,236 @@
+package com.ersted.individualsapi.tracing;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.ReadWriteSpan;
+import io.opentelemetry.sdk.trace.ReadableSpan;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.BatchSpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+@Slf4j
+public class TailSamplingSpanProcessor implements SpanProcessor {
+
+    private static final String METRIC_PREFIX = "tracing.tail";
+
+    /**
+     * Kept traces are exported in batches off the request thread; when its queue is full, spans are dropped.
+     */
+    private final BatchSpanProcessor exportProcessor;
+    private final long slowThresholdNanos;
+    private final int maxTraces;
+    private final int maxSpansPerTrace;
+    private final long traceTtlNanos;
+    private final LongSupplier nanoClock;
+
+    /**
+     * Buffered traces in the order they were started, so eviction only looks at the oldest ones. Guarded by itself.
+     */
+    private final Map<String, BufferedTrace> traces = new LinkedHashMap<>();
+
+    private final Counter exportedError;
+    private final Counter exportedSlow;
+    private final Counter dropped;
+    private final Counter overflow;
+
+    public TailSamplingSpanProcessor(SpanExporter exporter,
+                                     Duration slowThreshold,
+                                     int maxTraces,
+                                     int maxSpansPerTrace,
+                                     Duration traceTtl,
+                                     MeterRegistry meterRegistry) {
+        this(exporter, slowThreshold, maxTraces, maxSpansPerTrace, traceTtl, meterRegistry, System::nanoTime);
+    }
+
+    public TailSamplingSpanProcessor(SpanExporter exporter,
+                                     Duration slowThreshold,
+                                     int maxTraces,
+                                     int maxSpansPerTrace,
+                                     Duration traceTtl,
+                                     MeterRegistry meterRegistry,
+                                     LongSupplier nanoClock) {
+        this.exportProcessor = BatchSpanProcessor.builder(new SharedSpanExporter(exporter))
+                .setExportUnsampledSpans(true)
+                .build();
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.maxTraces = maxTraces;
+        this.maxSpansPerTrace = maxSpansPerTrace;
+        this.traceTtlNanos = traceTtl.toNanos();
+        this.nanoClock = nanoClock;
+
+        this.exportedError = decisionCounter(meterRegistry, "exported", "error");
+        this.exportedSlow = decisionCounter(meterRegistry, "exported", "slow");
+        this.dropped = decisionCounter(meterRegistry, "dropped", "fast");
+        this.overflow = decisionCounter(meterRegistry, "dropped", "overflow");
+        Gauge.builder(METRIC_PREFIX + ".buffered", this, TailSamplingSpanProcessor::bufferedTraces)
+                .description("Unsampled traces waiting for their local root span to end")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onStart(Context parentContext, ReadWriteSpan span) {
+    }
+
+    @Override
+    public boolean isStartRequired() {
+        return false;
+    }
+
+    @Override
+    public void onEnd(ReadableSpan span) {
+        SpanContext spanContext = span.getSpanContext();
+        if (spanContext.isSampled()) {
+            return;
+        }
+
+        SpanContext parent = span.getParentSpanContext();
+        if (!parent.isValid() || parent.isRemote()) {
+            completeTrace(spanContext.getTraceId(), span);
+        } else {
+            buffer(spanContext.getTraceId(), span);
+        }
+    }
+
+    @Override
+    public boolean isEndRequired() {
+        return true;
+    }
+
+    @Override
+    public CompletableResultCode shutdown() {
+        synchronized (traces) {
+            traces.clear();
+        }
+        return exportProcessor.shutdown();
+    }
+
+    @Override
+    public CompletableResultCode forceFlush() {
+        return exportProcessor.forceFlush();
+    }
+
+    private void buffer(String traceId, ReadableSpan span) {
+        BufferedTrace trace;
+        synchronized (traces) {
+            trace = traces.get(traceId);
+            if (trace == null) {
+                long now = nanoClock.getAsLong();
+                if (traces.size() >= maxTraces && !evictExpired(now)) {
+                    overflow.increment();
+                    return;
+                }
+                trace = new BufferedTrace(now);
+                traces.put(traceId, trace);
+            }
+        }
+        trace.add(span, maxSpansPerTrace);
+    }
+
+    private void completeTrace(String traceId, ReadableSpan root) {
+        BufferedTrace buffered;
+        synchronized (traces) {
+            buffered = traces.remove(traceId);
+        }
+        List<ReadableSpan> spans = buffered == null ? new ArrayList<>(1) : buffered.snapshot();
+        spans.add(root);
+
+        Counter decision = spans.stream().anyMatch(span -> span.toSpanData().getStatus().getStatusCode() == StatusCode.ERROR)
+                ? exportedError
+                : root.getLatencyNanos() >= slowThresholdNanos ? exportedSlow : null;
+
+        if (decision == null) {
+            dropped.increment();
+            return;
+        }
+
+        decision.increment();
+        log.trace("Tail-sampled trace {} queued for export", traceId);
+        spans.forEach(exportProcessor::onEnd);
+    }
+
+    /**
+     * Evicts expired traces from the oldest on, stopping at the first one still alive. Called under the lock.
+     */
+    private boolean evictExpired(long now) {
+        Iterator<BufferedTrace> oldest = traces.values().iterator();
+        while (oldest.hasNext() && now - oldest.next().createdAt() > traceTtlNanos) {
+            oldest.remove();
+        }
+        return traces.size() < maxTraces;
+    }
+
+    private int bufferedTraces() {
+        synchronized (traces) {
+            return traces.size();
+        }
+    }
+
+    private static Counter decisionCounter(MeterRegistry meterRegistry, String decision, String reason) {
+        return Counter.builder(METRIC_PREFIX + ".traces")
+                .description("Unsampled traces inspected by the tail sampler")
+                .tag("decision", decision)
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private record BufferedTrace(long createdAt, List<ReadableSpan> spans) {
+
+        private BufferedTrace(long createdAt) {
+            this(createdAt, new ArrayList<>());
+        }
+
+        void add(ReadableSpan span, int maxSpans) {
+            synchronized (spans) {
+                if (spans.size() < maxSpans) {
+                    spans.add(span);
+                }
+            }
+        }
+
+        List<ReadableSpan> snapshot() {
+            synchronized (spans) {
+                return new ArrayList<>(spans);
+            }
+        }
+
+    }
+
+    /**
+     * The exporter also backs the sampled path's processor, which owns its shutdown.
+     */
+    private record SharedSpanExporter(SpanExporter delegate) implements SpanExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            return delegate.export(spans);
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return delegate.flush();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return delegate.flush();
+        }
+
+    }
+
+}
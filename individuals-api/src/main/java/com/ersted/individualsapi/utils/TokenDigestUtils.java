@@ -0,0 +1,24 @@
+package com.ersted.individualsapi.utils;
+
+import lombok.experimental.UtilityClass;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+@UtilityClass
+public class TokenDigestUtils {
+
+    private static final String ALGORITHM = "SHA-256";
+
+    public static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance(ALGORITHM).digest(token.getBytes(StandardCharsets.US_ASCII));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not supported", e);
+        }
+    }
+
+}
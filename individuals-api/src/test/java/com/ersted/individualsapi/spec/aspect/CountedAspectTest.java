@@ -0,0 +1,133 @@
+package com.ersted.individualsapi.spec.aspect;
+
+import com.ersted.individualsapi.annotation.Counted;
+import com.ersted.individualsapi.aspect.CountedAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.DateTimeException;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountedAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private DefaultListableBeanFactory beanFactory;
+    private CountedAspect aspect;
+    private CountedTarget target;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        beanFactory = new DefaultListableBeanFactory();
+        aspect = new CountedAspect(meterRegistry, beanFactory);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new CountedTarget());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        target = proxyFactory.getProxy();
+    }
+
+    @Test
+    void shouldPreRegisterMetersForAnnotatedBeans() {
+        // Given
+        beanFactory.registerBeanDefinition("countedTarget", new RootBeanDefinition(CountedTarget.class));
+
+        // When
+        aspect.afterSingletonsInstantiated();
+
+        // Then
+        assertEquals(0, meterRegistry.get("test.mono").tag("status", "success").counter().count());
+        assertEquals(0, meterRegistry.get("test.mono.duration").tag("status", "success").timer().count());
+        assertEquals(0, meterRegistry.get("test.flux").tag("status", "error").tag("exception", "other").counter().count());
+    }
+
+    @Test
+    void shouldCountAndTimeMonoOnSubscription() {
+        // Given
+        Mono<String> result = target.mono(false);
+
+        // When
+        StepVerifier.create(result).expectNext("ok").verifyComplete();
+        StepVerifier.create(result).expectNext("ok").verifyComplete();
+
+        // Then
+        assertEquals(2, meterRegistry.get("test.mono").tag("status", "success").tag("layer", "test").counter().count());
+        assertEquals(2, meterRegistry.get("test.mono.duration").tag("status", "success").timer().count());
+    }
+
+    @Test
+    void shouldTagErrorsByExceptionType() {
+        // When
+        StepVerifier.create(target.mono(true)).verifyError(IllegalStateException.class);
+        StepVerifier.create(target.flux(new IllegalArgumentException())).verifyError(IllegalArgumentException.class);
+
+        // Then
+        assertEquals(1, meterRegistry.get("test.mono").tag("status", "error").tag("exception", "IllegalStateException").counter().count());
+        assertEquals(1, meterRegistry.get("test.mono.duration").tag("status", "error").timer().count());
+        assertEquals(1, meterRegistry.get("test.flux").tag("status", "error").tag("exception", "IllegalArgumentException").counter().count());
+    }
+
+    @Test
+    void shouldCollapseExceptionTagsAboveLimit() {
+        // Given
+        List<RuntimeException> errors = List.of(
+                new IllegalStateException(), new IllegalArgumentException(), new UnsupportedOperationException(),
+                new ArithmeticException(), new ArrayStoreException(), new ClassCastException(),
+                new NullPointerException(), new IndexOutOfBoundsException(), new NegativeArraySizeException(),
+                new SecurityException(), new ConcurrentModificationException(), new NoSuchElementException(),
+                new DateTimeException("test"));
+
+        // When
+        for (RuntimeException error : errors) {
+            StepVerifier.create(target.flux(error)).verifyError();
+        }
+
+        // Then
+        long exceptionTags = meterRegistry.find("test.flux").tag("status", "error").counters().stream()
+                .filter(counter -> !CountedAspect.OTHER_EXCEPTION.equals(counter.getId().getTag("exception")))
+                .count();
+        assertEquals(CountedAspect.MAX_EXCEPTION_TAGS, exceptionTags);
+        assertEquals(3, meterRegistry.get("test.flux").tag("exception", CountedAspect.OTHER_EXCEPTION).counter().count());
+    }
+
+    @Test
+    void shouldNotRecordErrorsWhenDisabled() {
+        // When
+        assertThrows(IllegalStateException.class, target::plain);
+
+        // Then
+        assertNull(meterRegistry.find("test.plain").tag("status", "error").counter());
+        assertEquals(0, meterRegistry.get("test.plain").tag("status", "success").counter().count());
+    }
+
+    public static class CountedTarget {
+
+        @Counted(value = "test.mono", tags = {"layer", "test"})
+        public Mono<String> mono(boolean fail) {
+            return fail ? Mono.error(new IllegalStateException()) : Mono.just("ok");
+        }
+
+        @Counted("test.flux")
+        public Flux<String> flux(RuntimeException error) {
+            return Flux.error(error);
+        }
+
+        @Counted(value = "test.plain", recordErrors = false)
+        public String plain() {
+            throw new IllegalStateException();
+        }
+
+    }
+
+}
@@ -2,11 +2,21 @@ package com.ersted.individualsapi.spec.client;
 
 import com.ersted.individualsapi.client.KeycloakClient;
 import com.ersted.individualsapi.client.KeycloakClientSettings;
+import com.ersted.individualsapi.config.Resilience4jConfig;
 import com.ersted.individualsapi.exception.InvalidCredentialsException;
 import com.ersted.individualsapi.exception.KeycloakClientConflictException;
+import com.ersted.individualsapi.exception.KeycloakClientServiceUnavailableException;
 import com.ersted.individualsapi.exception.handler.KeycloakErrorHandler;
 import com.ersted.individualsapi.provider.KeycloakAdminTokenProvider;
+import com.ersted.individualsapi.provider.RefreshTokenCoalescer;
+import com.ersted.individualsapi.resilience.RetryBudget;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import okhttp3.mockwebserver.MockResponse;
 import okhttp3.mockwebserver.MockWebServer;
 import okhttp3.mockwebserver.RecordedRequest;
@@ -23,6 +33,7 @@ import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.time.Duration;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -33,6 +44,9 @@ class KeycloakClientTest {
     private static final String CLIENT_SECRET = "test-client-secret";
 
     private MockWebServer mockWebServer;
+    private SimpleMeterRegistry meterRegistry;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BulkheadRegistry bulkheadRegistry;
     private KeycloakClient keycloakClient;
 
     @BeforeEach
@@ -40,20 +54,21 @@ class KeycloakClientTest {
         mockWebServer = new MockWebServer();
         mockWebServer.start();
 
-        String baseUrl = mockWebServer.url("").toString().replaceAll("/$", "");
-
-        var settings = new KeycloakClientSettings(
-                new KeycloakClientSettings.ClientCredentials(CLIENT_ID, CLIENT_SECRET),
-                baseUrl + "/realms/test-realm/protocol/openid-connect/token",
-                baseUrl + "/admin/realms/test-realm/users",
-                new KeycloakClientSettings.RetrySettings(0, Duration.ZERO, Duration.ofSeconds(5))
+        meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry = CircuitBreakerRegistry.ofDefaults();
+        circuitBreakerRegistry.addConfiguration(Resilience4jConfig.KEYCLOAK_CONFIG, CircuitBreakerConfig.custom()
+                .slidingWindowSize(2)
+                .minimumNumberOfCalls(2)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofMinutes(1))
+                .recordExceptions(KeycloakClientServiceUnavailableException.class)
+                .build());
+        bulkheadRegistry = BulkheadRegistry.ofDefaults();
+        bulkheadRegistry.addConfiguration(Resilience4jConfig.KEYCLOAK_CONFIG, BulkheadConfig.ofDefaults());
+        keycloakClient = createClient(
+                new KeycloakClientSettings.RetrySettings(0, Duration.ZERO, Duration.ZERO, 0.0, Duration.ofSeconds(5), Duration.ofSeconds(10)),
+                new RetryBudget("keycloak", 0.1, 3, Duration.ofSeconds(10), meterRegistry)
         );
-
-        var webClient = WebClient.create();
-        var errorHandler = new KeycloakErrorHandler();
-        var tokenProvider = new KeycloakAdminTokenProvider(60, 300);
-
-        keycloakClient = new KeycloakClient(webClient, settings, errorHandler, tokenProvider);
     }
 
     @AfterEach
@@ -227,4 +242,158 @@ class KeycloakClientTest {
                 .expectError(KeycloakClientConflictException.class)
                 .verify();
     }
+
+    @Test
+    void shouldRetryServiceUnavailableWithinBudget() {
+        // Given
+        keycloakClient = createClient(
+                new KeycloakClientSettings.RetrySettings(2, Duration.ofMillis(10), Duration.ofMillis(50), 0.5, Duration.ofSeconds(5), Duration.ofSeconds(10)),
+                new RetryBudget("keycloak", 0.1, 3, Duration.ofSeconds(10), meterRegistry)
+        );
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody("""
+                        {
+                          "access_token": "access-token",
+                          "expires_in": 300
+                        }
+                        """));
+
+        // When
+        StepVerifier.create(keycloakClient.requestToken("user@test.com", "password"))
+                // Then
+                .assertNext(response -> assertEquals("access-token", response.getAccessToken()))
+                .verifyComplete();
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(1, meterRegistry.get("retry.budget.retries").tag("name", "keycloak").counter().count());
+    }
+
+    @Test
+    void shouldStopRetryingWhenBudgetIsExhausted() {
+        // Given
+        keycloakClient = createClient(
+                new KeycloakClientSettings.RetrySettings(3, Duration.ofMillis(10), Duration.ofMillis(50), 0.5, Duration.ofSeconds(5), Duration.ofSeconds(10)),
+                new RetryBudget("keycloak", 0.0, 0, Duration.ofSeconds(10), meterRegistry)
+        );
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+        mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+
+        // When
+        StepVerifier.create(keycloakClient.requestToken("user@test.com", "password"))
+                // Then
+                .expectError(KeycloakClientServiceUnavailableException.class)
+                .verify();
+        assertEquals(1, mockWebServer.getRequestCount());
+        assertEquals(1, meterRegistry.get("retry.budget.exhausted").tag("name", "keycloak").counter().count());
+    }
+
+    @Test
+    void shouldFailWhenDeadlineIsExceeded() {
+        // Given
+        keycloakClient = createClient(
+                new KeycloakClientSettings.RetrySettings(3, Duration.ofMillis(10), Duration.ofMillis(50), 0.5, Duration.ofMillis(400), Duration.ofMillis(600)),
+                new RetryBudget("keycloak", 1.0, 10, Duration.ofSeconds(10), meterRegistry)
+        );
+        for (int i = 0; i < 4; i++) {
+            mockWebServer.enqueue(new MockResponse()
+                    .setResponseCode(200)
+                    .setHeadersDelay(1, TimeUnit.SECONDS));
+        }
+
+        // When
+        StepVerifier.create(keycloakClient.requestToken("user@test.com", "password"))
+                // Then
+                .expectErrorMatches(throwable ->
+                        throwable instanceof KeycloakClientServiceUnavailableException &&
+                                throwable.getMessage().equals("Keycloak request deadline exceeded"))
+                .verify(Duration.ofSeconds(5));
+        assertEquals(2, mockWebServer.getRequestCount());
+        assertEquals(1, meterRegistry.get("keycloak.client.deadline.exceeded").counter().count());
+    }
+
+    @Test
+    void shouldOpenTokenGrantBreakerWithoutAffectingRefresh() {
+        // Given
+        for (int i = 0; i < 2; i++) {
+            mockWebServer.enqueue(new MockResponse().setResponseCode(503));
+            StepVerifier.create(keycloakClient.requestToken("user@test.com", "password"))
+                    .expectError(KeycloakClientServiceUnavailableException.class)
+                    .verify();
+        }
+        mockWebServer.enqueue(new MockResponse()
+                .setResponseCode(200)
+                .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                .setBody("""
+                        {
+                          "access_token": "new-access-token",
+                          "expires_in": 300
+                        }
+                        """));
+
+        // When
+        StepVerifier.create(keycloakClient.requestToken("user@test.com", "password"))
+                // Then
+                .expectError(CallNotPermittedException.class)
+                .verify();
+        StepVerifier.create(keycloakClient.refreshToken("refresh-token"))
+                .assertNext(response -> assertEquals("new-access-token", response.getAccessToken()))
+                .verifyComplete();
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    @Test
+    void shouldNotOpenBreakerOnInvalidCredentials() {
+        // Given
+        for (int i = 0; i < 3; i++) {
+            mockWebServer.enqueue(new MockResponse()
+                    .setResponseCode(400)
+                    .setHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .setBody("""
+                            {
+                              "error": "invalid_grant",
+                              "error_description": "Invalid user credentials"
+                            }
+                            """));
+        }
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(keycloakClient.requestToken("user@test.com", "wrong"))
+                    // Then
+                    .expectError(InvalidCredentialsException.class)
+                    .verify();
+        }
+        assertEquals(3, mockWebServer.getRequestCount());
+    }
+
+    private KeycloakClient createClient(KeycloakClientSettings.RetrySettings retrySettings, RetryBudget retryBudget) {
+        String baseUrl = mockWebServer.url("").toString().replaceAll("/$", "");
+
+        var settings = new KeycloakClientSettings(
+                new KeycloakClientSettings.ClientCredentials(CLIENT_ID, CLIENT_SECRET),
+                baseUrl + "/realms/test-realm/protocol/openid-connect/token",
+                baseUrl + "/admin/realms/test-realm/users",
+                retrySettings
+        );
+
+        var webClient = WebClient.create();
+        var errorHandler = new KeycloakErrorHandler();
+        var tokenProvider = new KeycloakAdminTokenProvider(60, 300, 30, meterRegistry);
+        var refreshTokenCoalescer = new RefreshTokenCoalescer(Duration.ofSeconds(2), 100, meterRegistry);
+
+        return new KeycloakClient(
+                webClient,
+                settings,
+                errorHandler,
+                tokenProvider,
+                refreshTokenCoalescer,
+                retryBudget,
+                meterRegistry,
+                circuitBreakerRegistry,
+                bulkheadRegistry
+        );
+    }
+
 }
@@ -0,0 +1,250 @@
+package com.ersted.individualsapi.spec.client;
+
+import com.ersted.individualsapi.client.PersonServiceClient;
+import com.ersted.individualsapi.config.PersonServiceClientProperties;
+import com.ersted.individualsapi.exception.ConcurrencyLimitExceededException;
+import com.ersted.individualsapi.exception.PersonServiceUnavailableException;
+import com.ersted.individualsapi.exception.handler.PersonServiceErrorHandler;
+import com.ersted.individualsapi.resilience.AdaptiveConcurrencyLimiter;
+import com.ersted.personservice.sdk.api.IndividualsApi;
+import com.github.tomakehurst.wiremock.WireMockServer;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.support.WebClientAdapter;
+import org.springframework.web.service.invoker.HttpServiceProxyFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.*;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.wireMockConfig;
+import static com.github.tomakehurst.wiremock.stubbing.Scenario.STARTED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class PersonServiceClientTest {
+
+    private static final int INITIAL_LIMIT = 4;
+
+    private WireMockServer wireMock;
+    private SimpleMeterRegistry meterRegistry;
+    private AdaptiveConcurrencyLimiter concurrencyLimiter;
+    private PersonServiceClientProperties properties;
+    private PersonServiceClient personServiceClient;
+
+    @BeforeEach
+    void setUp() {
+        wireMock = new WireMockServer(wireMockConfig().dynamicPort());
+        wireMock.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        concurrencyLimiter = new AdaptiveConcurrencyLimiter(
+                "person-service",
+                new AdaptiveConcurrencyLimiter.Settings(INITIAL_LIMIT, 1, 50, 1.0, 1.5, 0.5, 10, 600),
+                PersonServiceUnavailableException.class::isInstance,
+                meterRegistry
+        );
+
+        properties = new PersonServiceClientProperties();
+        properties.getRetry().setAttempts(0);
+        personServiceClient = createClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        wireMock.stop();
+    }
+
+    @Test
+    void shouldRejectCallsAboveLimitWhilePersonServiceIsSlow() {
+        // Given
+        wireMock.stubFor(post(urlMatching("/individuals/.+/active"))
+                .willReturn(aResponse().withStatus(204).withFixedDelay(300)));
+
+        // When
+        List<String> outcomes = Flux.range(0, 12)
+                .flatMap(_ -> personServiceClient.activateProfile(UUID.randomUUID())
+                        .thenReturn("ok")
+                        .onErrorResume(ConcurrencyLimitExceededException.class, _ -> Mono.just("rejected")))
+                .collectList()
+                .block();
+
+        // Then
+        assertEquals(INITIAL_LIMIT, outcomes.stream().filter("ok"::equals).count());
+        assertEquals(12 - INITIAL_LIMIT, outcomes.stream().filter("rejected"::equals).count());
+        assertEquals(0, concurrencyLimiter.getInflight());
+        assertEquals(12 - INITIAL_LIMIT, meterRegistry.get("adaptive.concurrency.rejected").tag("name", "person-service").counter().count());
+        wireMock.verify(INITIAL_LIMIT, postRequestedFor(urlMatching("/individuals/.+/active")));
+    }
+
+    @Test
+    void shouldLowerLimitWhenPersonServiceIsOverloaded() {
+        // Given
+        wireMock.stubFor(post(urlMatching("/individuals/.+/active"))
+                .willReturn(aResponse().withStatus(503).withFixedDelay(50)));
+
+        // When
+        Flux.range(0, 3)
+                .concatMap(_ -> personServiceClient.activateProfile(UUID.randomUUID())
+                        .onErrorResume(PersonServiceUnavailableException.class, _ -> Mono.empty()))
+                .blockLast();
+
+        // Then
+        assertTrue(concurrencyLimiter.getLimit() < INITIAL_LIMIT);
+        assertEquals(concurrencyLimiter.getLimit(),
+                meterRegistry.get("adaptive.concurrency.limit").tag("name", "person-service").gauge().value());
+    }
+
+    @Test
+    void shouldRetryIdempotentOperationOnServiceUnavailable() {
+        // Given
+        properties.getRetry().setAttempts(2);
+        properties.getRetry().setDelayMs(10);
+        personServiceClient = createClient();
+        wireMock.stubFor(post(urlMatching("/individuals/.+/active"))
+                .inScenario("retry")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(503))
+                .willSetStateTo("recovered"));
+        wireMock.stubFor(post(urlMatching("/individuals/.+/active"))
+                .inScenario("retry")
+                .whenScenarioStateIs("recovered")
+                .willReturn(aResponse().withStatus(204)));
+
+        // When
+        StepVerifier.create(personServiceClient.activateProfile(UUID.randomUUID()))
+                // Then
+                .verifyComplete();
+        wireMock.verify(2, postRequestedFor(urlMatching("/individuals/.+/active")));
+    }
+
+    @Test
+    void shouldFailWhenDeadlineIsExceeded() {
+        // Given
+        properties.getDeadline().setPurgeMs(200);
+        personServiceClient = createClient();
+        wireMock.stubFor(post(urlMatching("/individuals/.+/purge"))
+                .willReturn(aResponse().withStatus(204).withFixedDelay(1000)));
+
+        // When
+        StepVerifier.create(personServiceClient.purgeProfile(UUID.randomUUID()))
+                // Then
+                .expectErrorMatches(throwable ->
+                        throwable instanceof PersonServiceUnavailableException &&
+                                throwable.getMessage().equals("Person service deadline exceeded"))
+                .verify(Duration.ofSeconds(5));
+    }
+
+    @Test
+    void shouldHedgeSlowRequest() {
+        // Given
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setMaxDelayMs(100);
+        personServiceClient = createClient();
+        wireMock.stubFor(post(urlMatching("/individuals/.+/active"))
+                .inScenario("hedge")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(204).withFixedDelay(1500))
+                .willSetStateTo("fast"));
+        wireMock.stubFor(post(urlMatching("/individuals/.+/active"))
+                .inScenario("hedge")
+                .whenScenarioStateIs("fast")
+                .willReturn(aResponse().withStatus(204)));
+
+        // When
+        StepVerifier.create(personServiceClient.activateProfile(UUID.randomUUID()))
+                // Then
+                .expectComplete()
+                .verify(Duration.ofMillis(1000));
+        wireMock.verify(2, postRequestedFor(urlMatching("/individuals/.+/active")));
+        assertEquals(1, meterRegistry.get("person.service.client.hedge.sent").tag("operation", "activate").counter().count());
+        assertEquals(1, meterRegistry.get("person.service.client.hedge.won").tag("operation", "activate").counter().count());
+    }
+
+    @Test
+    void shouldUseHedgeWhenOriginalRequestFailsAfterHedgeWasSent() {
+        // Given
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setMaxDelayMs(100);
+        personServiceClient = createClient();
+        wireMock.stubFor(post(urlMatching("/individuals/.+/active"))
+                .inScenario("hedge")
+                .whenScenarioStateIs(STARTED)
+                .willReturn(aResponse().withStatus(503).withFixedDelay(300))
+                .willSetStateTo("hedged"));
+        wireMock.stubFor(post(urlMatching("/individuals/.+/active"))
+                .inScenario("hedge")
+                .whenScenarioStateIs("hedged")
+                .willReturn(aResponse().withStatus(204).withFixedDelay(500)));
+
+        // When
+        StepVerifier.create(personServiceClient.activateProfile(UUID.randomUUID()))
+                // Then
+                .expectComplete()
+                .verify(Duration.ofSeconds(2));
+        wireMock.verify(2, postRequestedFor(urlMatching("/individuals/.+/active")));
+        assertEquals(1, meterRegistry.get("person.service.client.hedge.won").tag("operation", "activate").counter().count());
+    }
+
+    @Test
+    void shouldFailWithOriginalErrorWhenRequestFailsBeforeHedge() {
+        // Given
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setMinDelayMs(500);
+        properties.getHedging().setMaxDelayMs(500);
+        personServiceClient = createClient();
+        wireMock.stubFor(post(urlMatching("/individuals/.+/purge"))
+                .willReturn(aResponse().withStatus(503)));
+
+        // When
+        StepVerifier.create(personServiceClient.purgeProfile(UUID.randomUUID()))
+                // Then
+                .expectError(PersonServiceUnavailableException.class)
+                .verify(Duration.ofMillis(400));
+        wireMock.verify(1, postRequestedFor(urlMatching("/individuals/.+/purge")));
+        assertEquals(0, meterRegistry.get("person.service.client.hedge.sent").tag("operation", "purge").counter().count());
+    }
+
+    @Test
+    void shouldNotHedgeFastRequest() {
+        // Given
+        properties.getHedging().setEnabled(true);
+        properties.getHedging().setMaxDelayMs(300);
+        personServiceClient = createClient();
+        wireMock.stubFor(post(urlMatching("/individuals/.+/purge"))
+                .willReturn(aResponse().withStatus(204)));
+
+        // When
+        StepVerifier.create(personServiceClient.purgeProfile(UUID.randomUUID()))
+                // Then
+                .verifyComplete();
+        wireMock.verify(1, postRequestedFor(urlMatching("/individuals/.+/purge")));
+        assertEquals(1, meterRegistry.get("person.service.client.hedge.eligible").tag("operation", "purge").counter().count());
+        assertEquals(0, meterRegistry.get("person.service.client.hedge.sent").tag("operation", "purge").counter().count());
+    }
+
+    private PersonServiceClient createClient() {
+        WebClient webClient = WebClient.builder().baseUrl(wireMock.baseUrl()).build();
+        IndividualsApi individualsApi = HttpServiceProxyFactory.builderFor(WebClientAdapter.create(webClient))
+                .build()
+                .createClient(IndividualsApi.class);
+
+        return new PersonServiceClient(
+                individualsApi,
+                new PersonServiceErrorHandler(),
+                CircuitBreakerRegistry.ofDefaults(),
+                concurrencyLimiter,
+                properties,
+                meterRegistry
+        );
+    }
+
+}
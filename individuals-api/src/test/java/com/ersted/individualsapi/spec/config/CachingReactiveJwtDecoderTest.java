@@ -0,0 +1,119 @@
+package com.ersted.individualsapi.spec.config;
+
+import com.ersted.individualsapi.config.CachingReactiveJwtDecoder;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtException;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachingReactiveJwtDecoderTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    @Mock
+    private ReactiveJwtDecoder delegate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CachingReactiveJwtDecoder decoder;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        decoder = new CachingReactiveJwtDecoder(delegate, 100, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldVerifyTokenOnlyOnce() {
+        // Given
+        Jwt jwt = createJwt("token", NOW.plusSeconds(300));
+        when(delegate.decode("token")).thenReturn(Mono.just(jwt));
+
+        // When
+        StepVerifier.create(decoder.decode("token"))
+                .expectNext(jwt)
+                .verifyComplete();
+        StepVerifier.create(decoder.decode("token"))
+                // Then
+                .expectNext(jwt)
+                .verifyComplete();
+
+        // Verify
+        verify(delegate, times(1)).decode("token");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", CachingReactiveJwtDecoder.CACHE_NAME).tag("result", "hit").functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", CachingReactiveJwtDecoder.CACHE_NAME).tag("result", "miss").functionCounter().count());
+    }
+
+    @Test
+    void shouldNotCacheExpiredToken() {
+        // Given
+        Jwt jwt = createJwt("token", NOW.minusSeconds(1));
+        when(delegate.decode("token")).thenReturn(Mono.just(jwt));
+
+        // When
+        decoder.decode("token").block();
+        decoder.decode("token").block();
+
+        // Then
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void shouldNotCacheRejectedToken() {
+        // Given
+        when(delegate.decode("token")).thenReturn(Mono.error(new JwtException("Invalid signature")));
+
+        // When
+        StepVerifier.create(decoder.decode("token"))
+                .expectError(JwtException.class)
+                .verify();
+        StepVerifier.create(decoder.decode("token"))
+                // Then
+                .expectError(JwtException.class)
+                .verify();
+
+        // Verify
+        verify(delegate, times(2)).decode("token");
+    }
+
+    @Test
+    void shouldKeepTokensApart() {
+        // Given
+        Jwt first = createJwt("first", NOW.plusSeconds(300));
+        Jwt second = createJwt("second", NOW.plusSeconds(300));
+        when(delegate.decode("first")).thenReturn(Mono.just(first));
+        when(delegate.decode("second")).thenReturn(Mono.just(second));
+
+        // When
+        decoder.decode("first").block();
+
+        // Then
+        StepVerifier.create(decoder.decode("second"))
+                .expectNext(second)
+                .verifyComplete();
+    }
+
+    private Jwt createJwt(String tokenValue, Instant expiresAt) {
+        return Jwt.withTokenValue(tokenValue)
+                .header("alg", "RS256")
+                .subject("user-123")
+                .issuedAt(expiresAt.minusSeconds(600))
+                .expiresAt(expiresAt)
+                .build();
+    }
+
+}
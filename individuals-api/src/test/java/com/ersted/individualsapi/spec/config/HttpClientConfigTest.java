@@ -0,0 +1,101 @@
+package com.ersted.individualsapi.spec.config;
+
+import com.ersted.individualsapi.config.HttpClientConfig;
+import com.ersted.individualsapi.config.HttpClientProperties;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.mockwebserver.MockResponse;
+import okhttp3.mockwebserver.MockWebServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+class HttpClientConfigTest {
+
+    private MockWebServer mockWebServer;
+    private SimpleMeterRegistry meterRegistry;
+    private ConnectionProvider connectionProvider;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        mockWebServer = new MockWebServer();
+        mockWebServer.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        connectionProvider.dispose();
+        Metrics.removeRegistry(meterRegistry);
+        mockWebServer.shutdown();
+    }
+
+    @Test
+    void shouldFallBackToHttp11OverPlainText() {
+        // Given
+        HttpClientProperties properties = new HttpClientProperties();
+        properties.getKeycloak().setProtocols(List.of(HttpProtocol.HTTP11, HttpProtocol.H2));
+        connectionProvider = new HttpClientConfig(properties).keycloakConnectionProvider();
+
+        WebClient webClient = WebClient.builder()
+                .clientConnector(HttpClientConfig.clientHttpConnector(connectionProvider, properties.getKeycloak()))
+                .build();
+
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
+
+        // When
+        StepVerifier.create(webClient.get()
+                        .uri(mockWebServer.url("/health").uri())
+                        .retrieve()
+                        .bodyToMono(String.class))
+                // Then
+                .expectNext("ok")
+                .verifyComplete();
+    }
+
+    @Test
+    void shouldExportConnectionPoolMetrics() {
+        // Given
+        HttpClientProperties properties = new HttpClientProperties();
+        connectionProvider = new HttpClientConfig(properties).personServiceConnectionProvider();
+
+        WebClient webClient = WebClient.builder()
+                .clientConnector(HttpClientConfig.clientHttpConnector(connectionProvider, properties.getPersonService()))
+                .build();
+
+        mockWebServer.enqueue(new MockResponse().setResponseCode(200).setBody("ok"));
+
+        // When
+        webClient.get()
+                .uri(mockWebServer.url("/v1/individuals").uri())
+                .retrieve()
+                .bodyToMono(String.class)
+                .block();
+
+        // Then
+        assertNotNull(meterRegistry.find("reactor.netty.connection.provider.active.connections")
+                .tag("name", "person-service")
+                .gauge());
+        assertNotNull(meterRegistry.find("reactor.netty.connection.provider.idle.connections")
+                .tag("name", "person-service")
+                .gauge());
+        assertNotNull(meterRegistry.find("reactor.netty.connection.provider.pending.connections")
+                .tag("name", "person-service")
+                .gauge());
+        assertNotNull(meterRegistry.find("reactor.netty.connection.provider.pending.connections.time")
+                .tag("name", "person-service")
+                .timer());
+    }
+
+}
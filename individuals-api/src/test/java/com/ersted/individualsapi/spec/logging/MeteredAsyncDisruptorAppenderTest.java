@@ -0,0 +1,101 @@
+package com.ersted.individualsapi.spec.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.AppenderBase;
+import com.ersted.individualsapi.logging.MeteredAsyncDisruptorAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MeteredAsyncDisruptorAppenderTest {
+
+    private final LoggerContext context = new LoggerContext();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<ILoggingEvent> delivered = new CopyOnWriteArrayList<>();
+    private MeteredAsyncDisruptorAppender appender;
+
+    @BeforeEach
+    void setUp() {
+        BlockingAppender delegate = new BlockingAppender();
+        delegate.setContext(context);
+        delegate.start();
+
+        appender = new MeteredAsyncDisruptorAppender();
+        appender.setContext(context);
+        appender.setName("ASYNC");
+        appender.setRingBufferSize(8);
+        appender.setDiscardingThreshold(4);
+        appender.setAddDefaultStatusListener(false);
+        appender.addAppender(delegate);
+        appender.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        appender.stop();
+    }
+
+    @Test
+    void shouldDiscardInfoBelowThresholdAndDropWhenFull() {
+        // When
+        for (int i = 0; i < 8; i++) {
+            appender.doAppend(event(Level.INFO));
+        }
+        for (int i = 0; i < 8; i++) {
+            appender.doAppend(event(Level.ERROR));
+        }
+
+        // Then
+        assertTrue(appender.getDroppedThreshold() > 0);
+        assertTrue(appender.getDroppedFull() > 0);
+        assertTrue(appender.getQueueDepth() >= 7);
+    }
+
+    @Test
+    void shouldDeliverQueuedEvents() throws InterruptedException {
+        // Given
+        appender.doAppend(event(Level.INFO));
+        appender.doAppend(event(Level.WARN));
+
+        // When
+        release.countDown();
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (delivered.size() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, delivered.size());
+        assertEquals(0, appender.getDroppedFull() + appender.getDroppedThreshold());
+    }
+
+    private LoggingEvent event(Level level) {
+        return new LoggingEvent(getClass().getName(), context.getLogger("test"), level, "message", null, null);
+    }
+
+    private class BlockingAppender extends AppenderBase<ILoggingEvent> {
+
+        @Override
+        protected void append(ILoggingEvent event) {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            delivered.add(event);
+        }
+
+    }
+
+}
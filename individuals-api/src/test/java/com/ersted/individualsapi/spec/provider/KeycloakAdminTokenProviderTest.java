@@ -0,0 +1,139 @@
+package com.ersted.individualsapi.spec.provider;
+
+import com.ersted.individualsapi.dto.TokenResponse;
+import com.ersted.individualsapi.provider.KeycloakAdminTokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class KeycloakAdminTokenProviderTest {
+
+    private VirtualTimeScheduler scheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private KeycloakAdminTokenProvider tokenProvider;
+
+    private final AtomicInteger requests = new AtomicInteger();
+    private final Supplier<Mono<TokenResponse>> tokenSupplier = () ->
+            Mono.fromSupplier(() -> token("admin-token-" + requests.incrementAndGet()));
+
+    @BeforeEach
+    void setUp() {
+        scheduler = VirtualTimeScheduler.create();
+        meterRegistry = new SimpleMeterRegistry();
+        tokenProvider = new KeycloakAdminTokenProvider(60, 300, 30, meterRegistry, scheduler);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tokenProvider.close();
+        scheduler.dispose();
+    }
+
+    @Test
+    void shouldReuseCachedToken() {
+        // Given
+        tokenProvider.getToken(tokenSupplier).block();
+
+        // When
+        StepVerifier.create(tokenProvider.getToken(tokenSupplier))
+                // Then
+                .assertNext(token -> assertEquals("admin-token-1", token.getAccessToken()))
+                .verifyComplete();
+
+        // Verify
+        assertEquals(1, requests.get());
+    }
+
+    @Test
+    void shouldRefreshTokenInBackgroundBeforeExpiry() {
+        // Given
+        tokenProvider.getToken(tokenSupplier).block();
+
+        // When
+        scheduler.advanceTimeBy(Duration.ofSeconds(210));
+
+        // Then
+        assertEquals(2, requests.get());
+        StepVerifier.create(tokenProvider.getToken(tokenSupplier))
+                .assertNext(token -> assertEquals("admin-token-2", token.getAccessToken()))
+                .verifyComplete();
+        assertEquals(2, requests.get());
+        assertEquals(1, meterRegistry.get("keycloak.admin.token.refresh").tag("trigger", "background").timer().count());
+    }
+
+    @Test
+    void shouldServeStaleTokenWhileBackgroundRefreshFails() {
+        // Given
+        AtomicInteger attempts = new AtomicInteger();
+        Supplier<Mono<TokenResponse>> flakySupplier = () -> attempts.incrementAndGet() == 1
+                ? Mono.just(token("admin-token-1"))
+                : Mono.error(new IllegalStateException("Keycloak unavailable"));
+        tokenProvider.getToken(flakySupplier).block();
+
+        // When
+        scheduler.advanceTimeBy(Duration.ofSeconds(210));
+
+        // Then
+        StepVerifier.create(tokenProvider.getToken(flakySupplier))
+                .assertNext(token -> assertEquals("admin-token-1", token.getAccessToken()))
+                .verifyComplete();
+        assertTrue(meterRegistry.get("keycloak.admin.token.refresh.failures").tag("trigger", "background").counter().count() >= 1);
+        assertTrue(meterRegistry.get("keycloak.admin.token.stale.served").counter().count() >= 1);
+    }
+
+    @Test
+    void shouldInvalidateOnlyTokenThatWasRejected() {
+        // Given
+        TokenResponse first = tokenProvider.getToken(tokenSupplier).block();
+        assertTrue(tokenProvider.invalidate(first));
+        TokenResponse second = tokenProvider.getToken(tokenSupplier).block();
+
+        // When
+        boolean invalidated = tokenProvider.invalidate(first);
+
+        // Then
+        assertFalse(invalidated);
+        assertTrue(tokenProvider.isTokenValid());
+        StepVerifier.create(tokenProvider.getToken(tokenSupplier))
+                .expectNext(second)
+                .verifyComplete();
+        assertEquals(2, requests.get());
+        assertEquals(1, meterRegistry.get("keycloak.admin.token.invalidations").tag("result", "ignored").counter().count());
+    }
+
+    @Test
+    void shouldShareSingleRequestBetweenConcurrentCallers() {
+        // Given
+        Supplier<Mono<TokenResponse>> slowSupplier = () -> Mono.delay(Duration.ofSeconds(1), scheduler)
+                .map(_ -> token("admin-token-" + requests.incrementAndGet()));
+
+        // When
+        Mono<TokenResponse> first = tokenProvider.getToken(slowSupplier);
+        Mono<TokenResponse> second = tokenProvider.getToken(slowSupplier);
+
+        // Then
+        StepVerifier.withVirtualTime(() -> Mono.zip(first, second), () -> scheduler, Long.MAX_VALUE)
+                .thenAwait(Duration.ofSeconds(1))
+                .assertNext(tokens -> assertSame(tokens.getT1(), tokens.getT2()))
+                .verifyComplete();
+        assertEquals(1, requests.get());
+    }
+
+    private static TokenResponse token(String accessToken) {
+        return new TokenResponse()
+                .accessToken(accessToken)
+                .expiresIn(300)
+                .tokenType("Bearer");
+    }
+
+}
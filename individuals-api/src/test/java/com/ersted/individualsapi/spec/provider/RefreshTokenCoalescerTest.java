@@ -0,0 +1,147 @@
+package com.ersted.individualsapi.spec.provider;
+
+import com.ersted.individualsapi.dto.TokenResponse;
+import com.ersted.individualsapi.exception.InvalidCredentialsException;
+import com.ersted.individualsapi.provider.RefreshTokenCoalescer;
+import com.nimbusds.jose.PlainHeader;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.PlainJWT;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+import reactor.test.StepVerifier;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Date;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class RefreshTokenCoalescerTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+    private SimpleMeterRegistry meterRegistry;
+    private RefreshTokenCoalescer coalescer;
+
+    private final AtomicInteger upstreamCalls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        coalescer = new RefreshTokenCoalescer(Duration.ofSeconds(2), 100, meterRegistry, Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    @Test
+    void shouldShareSingleUpstreamCallForSameToken() {
+        // Given
+        String refreshToken = refreshToken(NOW.plusSeconds(600));
+        Sinks.One<TokenResponse> upstream = Sinks.one();
+        Supplier<Mono<TokenResponse>> call = () -> {
+            upstreamCalls.incrementAndGet();
+            return upstream.asMono();
+        };
+
+        // When
+        Mono<TokenResponse> first = coalescer.refresh(refreshToken, call);
+        Mono<TokenResponse> second = coalescer.refresh(refreshToken, call);
+
+        // Then
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> upstream.tryEmitValue(token("new-access-token")))
+                .assertNext(tokens -> assertSame(tokens.getT1(), tokens.getT2()))
+                .verifyComplete();
+        assertEquals(1, upstreamCalls.get());
+        assertEquals(1, meterRegistry.get("keycloak.refresh.token.coalesced").counter().count());
+    }
+
+    @Test
+    void shouldNotShareCallsForDifferentTokens() {
+        // Given
+        Supplier<Mono<TokenResponse>> call = () -> Mono.fromSupplier(() -> token("access-" + upstreamCalls.incrementAndGet()));
+
+        // When
+        coalescer.refresh(refreshToken(NOW.plusSeconds(600)), call).block();
+        coalescer.refresh(refreshToken(NOW.plusSeconds(900)), call).block();
+
+        // Then
+        assertEquals(2, upstreamCalls.get());
+        assertEquals(0, meterRegistry.get("keycloak.refresh.token.coalesced").counter().count());
+    }
+
+    @Test
+    void shouldRejectExpiredTokenWithoutUpstreamCall() {
+        // Given
+        String refreshToken = refreshToken(NOW.minusSeconds(1));
+
+        // When
+        StepVerifier.create(coalescer.refresh(refreshToken, () -> {
+                    upstreamCalls.incrementAndGet();
+                    return Mono.just(token("access"));
+                }))
+                // Then
+                .expectErrorMatches(throwable ->
+                        throwable instanceof InvalidCredentialsException &&
+                                throwable.getMessage().equals("Token is not active"))
+                .verify();
+        assertEquals(0, upstreamCalls.get());
+        assertEquals(1, meterRegistry.get("keycloak.refresh.token.rejected").counter().count());
+    }
+
+    @Test
+    void shouldNotKeepFailedRefresh() {
+        // Given
+        String refreshToken = refreshToken(NOW.plusSeconds(600));
+        Supplier<Mono<TokenResponse>> call = () -> upstreamCalls.incrementAndGet() == 1
+                ? Mono.error(new IllegalStateException("Keycloak unavailable"))
+                : Mono.just(token("access"));
+
+        // When
+        StepVerifier.create(coalescer.refresh(refreshToken, call))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        // Then
+        StepVerifier.create(coalescer.refresh(refreshToken, call))
+                .assertNext(response -> assertEquals("access", response.getAccessToken()))
+                .verifyComplete();
+        assertEquals(2, upstreamCalls.get());
+    }
+
+    @Test
+    void shouldPassOpaqueTokenToUpstream() {
+        // When
+        StepVerifier.create(coalescer.refresh("opaque-refresh-token", () -> {
+                    upstreamCalls.incrementAndGet();
+                    return Mono.just(token("access"));
+                }))
+                // Then
+                .assertNext(response -> assertEquals("access", response.getAccessToken()))
+                .verifyComplete();
+        assertEquals(1, upstreamCalls.get());
+    }
+
+    private static String refreshToken(Instant expiresAt) {
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject("user-123")
+                .expirationTime(Date.from(expiresAt))
+                .build();
+        return new PlainJWT(new PlainHeader(), claims).serialize();
+    }
+
+    private static TokenResponse token(String accessToken) {
+        return new TokenResponse()
+                .accessToken(accessToken)
+                .refreshToken("new-refresh-token")
+                .expiresIn(300)
+                .tokenType("Bearer");
+    }
+
+}
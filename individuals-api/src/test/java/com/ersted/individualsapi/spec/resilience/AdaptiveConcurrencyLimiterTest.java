@@ -0,0 +1,111 @@
+package com.ersted.individualsapi.spec.resilience;
+
+import com.ersted.individualsapi.resilience.AdaptiveConcurrencyLimiter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    private final AtomicLong nanoTime = new AtomicLong();
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(
+                "test",
+                new AdaptiveConcurrencyLimiter.Settings(10, 2, 100, 0.2, 1.5, 0.9, 10, 600),
+                IllegalStateException.class::isInstance,
+                new SimpleMeterRegistry(),
+                nanoTime::get
+        );
+    }
+
+    @Test
+    void shouldGrowLimitWhileLatencyIsStable() {
+        // When
+        for (int i = 0; i < 50; i++) {
+            runSaturatedRound(10);
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() > 10);
+    }
+
+    @Test
+    void shouldShrinkLimitWhenLatencyGrows() {
+        // Given
+        for (int i = 0; i < 50; i++) {
+            runSaturatedRound(10);
+        }
+        int stableLimit = limiter.getLimit();
+
+        // When
+        for (int i = 0; i < 3; i++) {
+            runSaturatedRound(100);
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() < stableLimit);
+    }
+
+    @Test
+    void shouldBackOffOnDroppedCalls() {
+        // When
+        for (int i = 0; i < 5; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            permit.release(true);
+        }
+
+        // Then
+        assertTrue(limiter.getLimit() < 10);
+    }
+
+    @Test
+    void shouldNotGrowLimitWhenUnderused() {
+        // When
+        for (int i = 0; i < 100; i++) {
+            AdaptiveConcurrencyLimiter.Permit permit = limiter.tryAcquire();
+            nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(10));
+            permit.release(false);
+        }
+
+        // Then
+        assertEquals(10, limiter.getLimit());
+    }
+
+    @Test
+    void shouldRejectWhenLimitReached() {
+        // Given
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            permits.add(limiter.tryAcquire());
+        }
+
+        // When
+        AdaptiveConcurrencyLimiter.Permit rejected = limiter.tryAcquire();
+
+        // Then
+        assertNull(rejected);
+        permits.getFirst().ignore();
+        assertNotNull(limiter.tryAcquire());
+    }
+
+    private void runSaturatedRound(long rttMillis) {
+        List<AdaptiveConcurrencyLimiter.Permit> permits = new ArrayList<>();
+        AdaptiveConcurrencyLimiter.Permit permit;
+        while ((permit = limiter.tryAcquire()) != null) {
+            permits.add(permit);
+        }
+        nanoTime.addAndGet(TimeUnit.MILLISECONDS.toNanos(rttMillis));
+        permits.forEach(p -> p.release(false));
+    }
+
+}
@@ -0,0 +1,73 @@
+package com.ersted.individualsapi.spec.resilience;
+
+import com.ersted.individualsapi.resilience.RetryBudget;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetryBudgetTest {
+
+    private final AtomicLong nanoTime = new AtomicLong(TimeUnit.SECONDS.toNanos(1_000));
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void shouldAllowRetriesUpToRatioOfRequests() {
+        // Given
+        RetryBudget budget = new RetryBudget("test", 0.1, 0, Duration.ofSeconds(10), meterRegistry, nanoTime::get);
+        for (int i = 0; i < 100; i++) {
+            budget.recordRequest();
+        }
+
+        // When
+        int granted = 0;
+        while (budget.tryAcquireRetry()) {
+            granted++;
+        }
+
+        // Then
+        assertEquals(10, granted);
+        assertEquals(1, meterRegistry.get("retry.budget.exhausted").tag("name", "test").counter().count());
+    }
+
+    @Test
+    void shouldAllowMinimumRetriesWithoutTraffic() {
+        // Given
+        RetryBudget budget = new RetryBudget("test", 0.1, 1, Duration.ofSeconds(5), meterRegistry, nanoTime::get);
+
+        // When
+        int granted = 0;
+        while (budget.tryAcquireRetry()) {
+            granted++;
+        }
+
+        // Then
+        assertEquals(5, granted);
+    }
+
+    @Test
+    void shouldRestoreBudgetAfterWindowPasses() {
+        // Given
+        RetryBudget budget = new RetryBudget("test", 0.0, 1, Duration.ofSeconds(2), meterRegistry, nanoTime::get);
+        assertTrue(budget.tryAcquireRetry());
+        assertTrue(budget.tryAcquireRetry());
+        assertFalse(budget.tryAcquireRetry());
+
+        // When
+        nanoTime.addAndGet(TimeUnit.SECONDS.toNanos(2));
+
+        // Then
+        assertTrue(budget.tryAcquireRetry());
+    }
+
+}
@@ -10,8 +10,6 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.oauth2.jwt.Jwt;
-import org.springframework.security.oauth2.jwt.JwtException;
-import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -29,9 +27,6 @@ class TokenServiceTest {
     @Mock
     private KeycloakClient keycloakClient;
 
-    @Mock
-    private ReactiveJwtDecoder jwtDecoder;
-
     @InjectMocks
     private TokenService tokenService;
 
@@ -138,7 +133,6 @@ class TokenServiceTest {
     @Test
     void shouldGetUserInfoSuccessfully() {
         // Given
-        String token = "valid-jwt-token";
         String userId = "user-123";
         String email = "user@example.com";
         List<String> roles = List.of("USER", "ADMIN");
@@ -146,11 +140,8 @@ class TokenServiceTest {
 
         Jwt jwt = createMockJwt(userId, email, roles, createdAtTimestamp);
 
-        when(jwtDecoder.decode(token))
-                .thenReturn(Mono.just(jwt));
-
         // When
-        StepVerifier.create(tokenService.getUserInfo(token))
+        StepVerifier.create(tokenService.getUserInfo(jwt))
                 // Then
                 .assertNext(userInfo -> {
                     assertEquals(userId, userInfo.getId());
@@ -165,53 +156,20 @@ class TokenServiceTest {
                 .verifyComplete();
 
         // Verify
-        verify(jwtDecoder).decode(token);
-    }
-
-    @Test
-    void shouldGetUserInfoWithBearerPrefix() {
-        // Given
-        String token = "Bearer valid-jwt-token";
-        String userId = "user-456";
-        String email = "test@example.com";
-        List<String> roles = List.of("USER");
-        Long createdAtTimestamp = 1650000000000L;
-
-        Jwt jwt = createMockJwt(userId, email, roles, createdAtTimestamp);
-
-        when(jwtDecoder.decode("valid-jwt-token"))
-                .thenReturn(Mono.just(jwt));
-
-        // When
-        StepVerifier.create(tokenService.getUserInfo(token))
-                // Then
-                .assertNext(userInfo -> {
-                    assertEquals(userId, userInfo.getId());
-                    assertEquals(email, userInfo.getEmail());
-                    assertEquals(roles, userInfo.getRoles());
-                    assertNotNull(userInfo.getCreatedAt());
-                })
-                .verifyComplete();
-
-        // Verify
-        verify(jwtDecoder).decode("valid-jwt-token");
+        verifyNoInteractions(keycloakClient);
     }
 
     @Test
     void shouldGetUserInfoWithNullCreatedAt() {
         // Given
-        String token = "valid-jwt-token";
         String userId = "user-789";
         String email = "nodate@example.com";
         List<String> roles = List.of("USER");
 
         Jwt jwt = createMockJwt(userId, email, roles, null);
 
-        when(jwtDecoder.decode(token))
-                .thenReturn(Mono.just(jwt));
-
         // When
-        StepVerifier.create(tokenService.getUserInfo(token))
+        StepVerifier.create(tokenService.getUserInfo(jwt))
                 // Then
                 .assertNext(userInfo -> {
                     assertEquals(userId, userInfo.getId());
@@ -220,48 +178,25 @@ class TokenServiceTest {
                     assertNull(userInfo.getCreatedAt());
                 })
                 .verifyComplete();
-
-        // Verify
-        verify(jwtDecoder).decode(token);
-    }
-
-    @Test
-    void shouldHandleInvalidJwtToken() {
-        // Given
-        String token = "invalid-jwt-token";
-
-        when(jwtDecoder.decode(token))
-                .thenReturn(Mono.error(new JwtException("Invalid JWT token")));
-
-        // When
-        StepVerifier.create(tokenService.getUserInfo(token))
-                // Then
-                .expectErrorMatches(throwable ->
-                        throwable instanceof JwtException &&
-                                throwable.getMessage().equals("Invalid JWT token")
-                )
-                .verify();
-
-        // Verify
-        verify(jwtDecoder).decode(token);
     }
 
     @Test
-    void shouldHandleJwtDecodingError() {
+    void shouldGetUserInfoWithoutRoles() {
         // Given
-        String token = "Bearer malformed-token";
+        String userId = "user-456";
+        String email = "test@example.com";
 
-        when(jwtDecoder.decode("malformed-token"))
-                .thenReturn(Mono.error(new JwtException("JWT decoding failed")));
+        Jwt jwt = createMockJwt(userId, email, null, 1650000000000L);
 
         // When
-        StepVerifier.create(tokenService.getUserInfo(token))
+        StepVerifier.create(tokenService.getUserInfo(jwt))
                 // Then
-                .expectError(JwtException.class)
-                .verify();
-
-        // Verify
-        verify(jwtDecoder).decode("malformed-token");
+                .assertNext(userInfo -> {
+                    assertEquals(userId, userInfo.getId());
+                    assertEquals(email, userInfo.getEmail());
+                    assertNotNull(userInfo.getCreatedAt());
+                })
+                .verifyComplete();
     }
 
     private Jwt createMockJwt(String subject, String email, List<String> roles, Long createdAt) {
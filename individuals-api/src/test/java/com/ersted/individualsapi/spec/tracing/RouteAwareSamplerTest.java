@@ -0,0 +1,80 @@
+package com.ersted.individualsapi.spec.tracing;
+
+import com.ersted.individualsapi.tracing.RouteAwareSampler;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.api.trace.TraceFlags;
+import io.opentelemetry.api.trace.TraceState;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.IdGenerator;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RouteAwareSamplerTest {
+
+    private final IdGenerator ids = IdGenerator.random();
+
+    @Test
+    void shouldApplyRouteProbabilityToRootSpans() {
+        // Given
+        RouteAwareSampler sampler = new RouteAwareSampler(1.0, Map.of("/v1/auth/me", 0.0), false);
+
+        // When
+        SamplingDecision me = decide(sampler, Context.root(), "/v1/auth/me");
+        SamplingDecision login = decide(sampler, Context.root(), "/v1/auth/login");
+        SamplingDecision noPath = decide(sampler, Context.root(), null);
+
+        // Then
+        assertEquals(SamplingDecision.RECORD_ONLY, me);
+        assertEquals(SamplingDecision.RECORD_AND_SAMPLE, login);
+        assertEquals(SamplingDecision.RECORD_AND_SAMPLE, noPath);
+    }
+
+    @Test
+    void shouldFollowParentDecision() {
+        // Given
+        RouteAwareSampler sampler = new RouteAwareSampler(0.0, Map.of(), false);
+
+        // When
+        SamplingDecision sampledParent = decide(sampler, parent(TraceFlags.getSampled()), "/v1/auth/me");
+        SamplingDecision unsampledParent = decide(sampler, parent(TraceFlags.getDefault()), "/v1/auth/me");
+
+        // Then
+        assertEquals(SamplingDecision.RECORD_AND_SAMPLE, sampledParent);
+        assertEquals(SamplingDecision.RECORD_ONLY, unsampledParent);
+    }
+
+    @Test
+    void shouldDropUnsampledSpansInLowOverheadMode() {
+        // Given
+        RouteAwareSampler sampler = new RouteAwareSampler(0.0, Map.of(), true);
+
+        // When
+        SamplingDecision root = decide(sampler, Context.root(), "/v1/auth/login");
+        SamplingDecision child = decide(sampler, parent(TraceFlags.getDefault()), null);
+
+        // Then
+        assertEquals(SamplingDecision.DROP, root);
+        assertEquals(SamplingDecision.DROP, child);
+    }
+
+    private SamplingDecision decide(RouteAwareSampler sampler, Context parent, String path) {
+        Attributes attributes = path == null ? Attributes.empty() : Attributes.of(RouteAwareSampler.URL_PATH, path);
+        return sampler.shouldSample(parent, ids.generateTraceId(), "http get", SpanKind.SERVER, attributes, List.of())
+                .getDecision();
+    }
+
+    private Context parent(TraceFlags flags) {
+        SpanContext parent = SpanContext.createFromRemoteParent(
+                ids.generateTraceId(), ids.generateSpanId(), flags, TraceState.getDefault());
+        return Context.root().with(Span.wrap(parent));
+    }
+
+}
@@ -2,6 +2,8 @@ plugins {
     id("org.openapi.generator") version "7.20.0" apply false
     id("org.springframework.boot") version "4.0.3" apply false
     id("io.spring.dependency-management") version "1.1.7" apply false
+    id("org.hibernate.orm") version "7.2.4.Final" apply false
+    id("me.champeau.jmh") version "0.7.3" apply false
 }
 
 allprojects {
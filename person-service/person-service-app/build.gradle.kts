@@ -7,6 +7,7 @@ val versions = mapOf(
 	"lombok-mapstruct-binding" to "0.2.0",
 	"mapstruct-processor" to "1.6.3",
 	"testcontainers" to "1.21.4",
+	"jmh" to "1.37",
 )
 
 plugins {
@@ -15,6 +16,8 @@ plugins {
 	id("org.springframework.boot")
 	id("io.spring.dependency-management")
 	id("org.openapi.generator")
+	id("org.hibernate.orm")
+	id("me.champeau.jmh")
 }
 
 
@@ -44,10 +47,13 @@ dependencies {
 	// Audit
 	implementation("org.hibernate.orm:hibernate-envers")
 
+	// Cache
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
 	// Migration
 	implementation("org.springframework.boot:spring-boot-starter-flyway")
 	runtimeOnly("org.flywaydb:flyway-database-postgresql")
-	runtimeOnly("org.postgresql:postgresql")
+	implementation("org.postgresql:postgresql")
 
 	//Helpers
 	implementation("org.mapstruct:mapstruct:${versions["mapstruct"]}")
@@ -69,6 +75,9 @@ dependencies {
 	testImplementation("org.testcontainers:postgresql:${versions["testcontainers"]}")
 	testRuntimeOnly("org.junit.platform:junit-platform-launcher")
 
+	// Benchmarks
+	jmh("com.h2database:h2")
+
 	//	Annotation processor
 	annotationProcessor("org.projectlombok:lombok")
 	annotationProcessor("org.projectlombok:lombok-mapstruct-binding:${versions["lombok-mapstruct-binding"]}")
@@ -79,6 +88,29 @@ tasks.withType<Test> {
 	useJUnitPlatform()
 }
 
+val hibernateEnhancement = providers.gradleProperty("hibernate.enhancement").map { it.toBoolean() }.getOrElse(true)
+
+if (hibernateEnhancement) {
+	hibernate {
+		enhancement {
+			enableDirtyTracking.set(true)
+			enableLazyInitialization.set(true)
+			enableAssociationManagement.set(false)
+		}
+	}
+}
+
+jmh {
+	jmhVersion.set(versions["jmh"])
+	includes.set(listOf(project.findProperty("jmhIncludes")?.toString() ?: ".*"))
+	profilers.set(project.findProperty("jmhProfilers")?.toString()?.split(",")?.filter { it.isNotBlank() } ?: listOf("gc"))
+	resultFormat.set("JSON")
+}
+
+tasks.named<Jar>("jmhJar") {
+	isZip64 = true
+}
+
 openApiGenerate {
 	generatorName.set("spring")
 
@@ -122,4 +154,13 @@ sourceSets {
 
 tasks.compileJava {
 	dependsOn(tasks.openApiGenerate)
+	inputs.property("hibernateEnhancement", hibernateEnhancement)
 }
+
+val loadTest: SourceSet by sourceSets.creating {
+	compileClasspath += sourceSets.main.get().output
+	runtimeClasspath += sourceSets.main.get().output
+}
+
+configurations[loadTest.implementationConfigurationName].extendsFrom(configurations.implementation.get())
+configurations[loadTest.runtimeOnlyConfigurationName].extendsFrom(configurations.runtimeOnly.get())
@@ -0,0 +1,155 @@
+package com.ersted.personservice.benchmark;
+
+import com.ersted.personservice.entity.Address;
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+import com.ersted.personservice.entity.status.CountryStatus;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.cfg.Configuration;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the {@code IndividualService.update} write path for a PATCH that changes one phone number. Runs against
+ * in-memory H2 so the numbers reflect Hibernate rather than the network; compare a run built with
+ * {@code -Phibernate.enhancement=false} with a default one.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 6, time = 5)
+@Measurement(iterations = 5, time = 3)
+@Fork(1)
+public class IndividualUpdateBenchmark {
+
+    private static final String PROFILE_GRAPH = """
+            from Individual i
+            join fetch i.user u
+            join fetch u.address a
+            join fetch a.country
+            """;
+
+    @Param({"1", "100", "1000"})
+    public int managedProfiles;
+
+    private SessionFactory sessionFactory;
+    private final List<UUID> ids = new ArrayList<>();
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        sessionFactory = new Configuration()
+                .addAnnotatedClass(Country.class)
+                .addAnnotatedClass(Address.class)
+                .addAnnotatedClass(User.class)
+                .addAnnotatedClass(Individual.class)
+                .setProperty(AvailableSettings.JAKARTA_JDBC_URL, "jdbc:h2:mem:update-" + managedProfiles + ";DB_CLOSE_DELAY=-1")
+                .setProperty(AvailableSettings.HBM2DDL_AUTO, "create-drop")
+                .setProperty(AvailableSettings.HBM2DDL_CREATE_NAMESPACES, "true")
+                .setProperty("org.hibernate.envers.default_schema", "person")
+                .buildSessionFactory();
+
+        sessionFactory.inTransaction(setup -> {
+            Country country = new Country();
+            country.setName("Russia");
+            country.setAlpha2("RU");
+            country.setAlpha3("RUS");
+            country.setStatus(CountryStatus.ACTIVE);
+            setup.persist(country);
+            for (int i = 0; i < managedProfiles; i++) {
+                Individual individual = individual(country, i);
+                setup.persist(individual);
+                ids.add(individual.getId());
+            }
+        });
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        sessionFactory.close();
+    }
+
+    /**
+     * One changed profile among {@link #managedProfiles} profiles held by a long session, committed with its Envers
+     * audit after every change. Without enhancement the flush compares every attribute of every managed entity with
+     * its loaded snapshot.
+     */
+    @Benchmark
+    public void flushOneChange(ManagedSession managed) {
+        Individual individual = managed.loaded.get(next++ % managed.loaded.size());
+        individual.setPhoneNumber(phoneNumber());
+        managed.session.getTransaction().commit();
+        managed.session.beginTransaction();
+    }
+
+    /**
+     * The whole PATCH transaction: load the profile graph, change the phone number, commit with the Envers audit.
+     */
+    @Benchmark
+    public void updateTransaction() {
+        UUID id = ids.get(next++ % ids.size());
+        sessionFactory.inTransaction(update -> update
+                .createSelectionQuery(PROFILE_GRAPH + "where i.id = :id", Individual.class)
+                .setParameter("id", id)
+                .getSingleResult()
+                .setPhoneNumber(phoneNumber()));
+    }
+
+    private String phoneNumber() {
+        return "+7900" + (next % 2);
+    }
+
+    @State(Scope.Benchmark)
+    public static class ManagedSession {
+
+        private Session session;
+        private List<Individual> loaded;
+
+        @Setup(Level.Iteration)
+        public void open(IndividualUpdateBenchmark benchmark) {
+            session = benchmark.sessionFactory.openSession();
+            session.beginTransaction();
+            loaded = session.createSelectionQuery(PROFILE_GRAPH, Individual.class).getResultList();
+        }
+
+        @TearDown(Level.Iteration)
+        public void close() {
+            session.getTransaction().rollback();
+            session.close();
+        }
+
+    }
+
+    private static Individual individual(Country country, int index) {
+        Address address = new Address();
+        address.setCountry(country);
+        address.setAddress("ул. Ленина, " + index);
+        address.setZipCode("101000");
+        address.setCity("Москва");
+        address.setState("Московская область");
+
+        User user = new User();
+        user.setAddress(address);
+        user.setEmail("flush-" + index + "@test.com");
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setSecretKey("secret");
+        user.setFilled(true);
+
+        Individual individual = new Individual();
+        individual.setUser(user);
+        individual.setPassportNumber("AB" + index);
+        individual.setPhoneNumber("+79000");
+        individual.setStatus(IndividualStatus.PENDING);
+        return individual;
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.ersted.personservice.audit;
+
+import org.hibernate.envers.RevisionType;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Audited changes of one transaction, folded per entity the way Envers folds them into one revision: an entity
+ * inserted and then updated is recorded as inserted with its last state, an entity inserted and deleted is not
+ * recorded at all.
+ */
+public class AuditChanges {
+
+    private final long timestamp;
+    private final Map<Key, Change> changes = new LinkedHashMap<>();
+
+    public AuditChanges(long timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public long timestamp() {
+        return timestamp;
+    }
+
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    public void add(Object entity, Object id, RevisionType type) {
+        AuditTable table = AuditTable.of(entity);
+        if (table == null) {
+            return;
+        }
+        Key key = new Key(table, id.toString());
+        Map<String, Object> values = type == RevisionType.DEL ? Map.of() : table.values(entity);
+        Change previous = changes.get(key);
+        if (previous == null) {
+            changes.put(key, new Change(type, values));
+        } else if (previous.type() == RevisionType.ADD && type == RevisionType.DEL) {
+            changes.remove(key);
+        } else if (previous.type() == RevisionType.ADD) {
+            changes.put(key, new Change(RevisionType.ADD, values));
+        } else if (previous.type() == RevisionType.DEL && type == RevisionType.ADD) {
+            changes.put(key, new Change(RevisionType.MOD, values));
+        } else {
+            changes.put(key, new Change(type, values));
+        }
+    }
+
+    /**
+     * Outbox payload: the history rows of the transaction grouped by table.
+     */
+    public Map<String, List<Map<String, Object>>> payload() {
+        Map<String, List<Map<String, Object>>> payload = new LinkedHashMap<>();
+        changes.forEach((key, change) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", key.id());
+            row.put("revtype", change.type().getRepresentation());
+            row.putAll(change.values());
+            payload.computeIfAbsent(key.table().table(), _ -> new ArrayList<>()).add(row);
+        });
+        return payload;
+    }
+
+    private record Key(AuditTable table, String id) {
+    }
+
+    private record Change(RevisionType type, Map<String, Object> values) {
+    }
+
+}
@@ -0,0 +1,90 @@
+package com.ersted.personservice.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.Transaction;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.engine.spi.TransactionCompletionCallbacks;
+import org.hibernate.envers.RevisionType;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Replaces the Envers listeners in {@code outbox} audit mode. Changes are collected per transaction and appended
+ * as one outbox row right before commit, on the transaction's own connection, so the history is as durable as the
+ * change itself while the business transaction pays for a single insert.
+ */
+public class AuditOutboxCollector implements PostInsertEventListener, PostUpdateEventListener, PostDeleteEventListener {
+
+    private final AuditOutboxRepository repository;
+    private final AuditOutboxWriter writer;
+    private final JsonMapper jsonMapper;
+    private final Counter synchronous;
+    private final Map<Transaction, AuditChanges> transactions = new ConcurrentHashMap<>();
+
+    public AuditOutboxCollector(AuditOutboxRepository repository,
+                                AuditOutboxWriter writer,
+                                JsonMapper jsonMapper,
+                                MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.writer = writer;
+        this.jsonMapper = jsonMapper;
+        this.synchronous = Counter.builder("audit.outbox.synchronous")
+                .description("Transactions that drained the outbox before commit because the outbox backlog was full")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        changes(event.getSession()).add(event.getEntity(), event.getId(), RevisionType.ADD);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        changes(event.getSession()).add(event.getEntity(), event.getId(), RevisionType.MOD);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        changes(event.getSession()).add(event.getEntity(), event.getId(), RevisionType.DEL);
+    }
+
+    private AuditChanges changes(SharedSessionContractImplementor session) {
+        Transaction transaction = session.accessTransaction();
+        AuditChanges changes = transactions.get(transaction);
+        if (changes != null) {
+            return changes;
+        }
+
+        AuditChanges created = new AuditChanges(System.currentTimeMillis());
+        transactions.put(transaction, created);
+        TransactionCompletionCallbacks callbacks = session.getTransactionCompletionCallbacks();
+        callbacks.registerCallback((TransactionCompletionCallbacks.BeforeCompletionCallback) completing -> append(completing, created));
+        callbacks.registerCallback((TransactionCompletionCallbacks.AfterCompletionCallback) (_, _) -> transactions.remove(transaction));
+        return created;
+    }
+
+    private void append(SharedSessionContractImplementor session, AuditChanges changes) {
+        if (changes.isEmpty()) {
+            return;
+        }
+        String payload = jsonMapper.writeValueAsString(changes.payload());
+        boolean backlogExceeded = writer.backlogExceeded();
+        session.doWork(connection -> {
+            repository.append(connection, changes.timestamp(), payload);
+            if (backlogExceeded) {
+                writer.drainBeforeCommit(connection);
+                synchronous.increment();
+            }
+        });
+    }
+
+}
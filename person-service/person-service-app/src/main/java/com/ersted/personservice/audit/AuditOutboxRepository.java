@@ -0,0 +1,187 @@
+package com.ersted.personservice.audit;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * JDBC access to {@code person.audit_outbox} and the Envers history tables. Every method runs on the connection
+ * of the caller's transaction, so claiming outbox rows, writing their history and deleting them commit together.
+ * Revision numbers come from {@code person.revinfo_seq} with Hibernate's pooled optimizer semantics, like the
+ * revisions Envers allocates: every {@code nextval} reserves the 50 numbers ending at the returned value.
+ */
+public class AuditOutboxRepository {
+
+    static final int REVISION_SEQUENCE_INCREMENT = 50;
+
+    /**
+     * Transaction-level advisory lock key held by every transaction that writes history from the outbox.
+     */
+    private static final long DRAIN_LOCK_KEY = 0x6175_6469_745f_6fL;
+
+    private static final String APPEND = """
+            INSERT INTO person.audit_outbox (revtstmp, payload) VALUES (?, ?::jsonb) RETURNING id
+            """;
+
+    private static final String CLAIM = """
+            SELECT id, revtstmp FROM person.audit_outbox ORDER BY id LIMIT ? FOR UPDATE SKIP LOCKED
+            """;
+
+    private static final String INSERT_REVISIONS = """
+            INSERT INTO person.revinfo (rev, revtstmp) SELECT * FROM unnest(?::integer[], ?::bigint[])
+            """;
+
+    private static final String DELETE = """
+            DELETE FROM person.audit_outbox WHERE id = ANY(?)
+            """;
+
+    private static final String BACKLOG = """
+            SELECT count(*), min(revtstmp) FROM (SELECT revtstmp FROM person.audit_outbox ORDER BY id LIMIT ?) b
+            """;
+
+    private static final String NEXT_REVISION_BLOCK = "SELECT nextval('person.revinfo_seq')";
+
+    private static final String LOCK_DRAINS = "SELECT pg_advisory_xact_lock(?)";
+
+    private final ReentrantLock revisionLock = new ReentrantLock();
+    private long nextRevision = 1;
+    private long lastRevision = 0;
+
+    public Entry append(Connection connection, long timestamp, String payload) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(APPEND)) {
+            statement.setLong(1, timestamp);
+            statement.setString(2, payload);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return new Entry(resultSet.getLong(1), timestamp);
+            }
+        }
+    }
+
+    /**
+     * Waits until no other transaction writes history from the outbox and keeps them out until this one ends.
+     * Together with draining oldest first this allocates revisions in outbox order, so the latest revision of an
+     * entity is always its latest change.
+     */
+    public void lockDrains(Connection connection) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(LOCK_DRAINS)) {
+            statement.setLong(1, DRAIN_LOCK_KEY);
+            statement.execute();
+        }
+    }
+
+    /**
+     * Locks up to {@code limit} of the oldest outbox rows not locked by another writer and writes their history.
+     *
+     * @return the number of outbox rows written
+     */
+    public int drain(Connection connection, int limit) throws SQLException {
+        List<Entry> entries = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(CLAIM)) {
+            statement.setInt(1, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    entries.add(new Entry(resultSet.getLong(1), resultSet.getLong(2)));
+                }
+            }
+        }
+        write(connection, entries);
+        return entries.size();
+    }
+
+    /**
+     * Writes one revision per outbox entry with its history rows, a few multi-row statements for the whole list,
+     * and deletes the entries.
+     */
+    private void write(Connection connection, List<Entry> entries) throws SQLException {
+        if (entries.isEmpty()) {
+            return;
+        }
+        Long[] ids = new Long[entries.size()];
+        Integer[] revisions = new Integer[entries.size()];
+        Long[] timestamps = new Long[entries.size()];
+        for (int i = 0; i < entries.size(); i++) {
+            ids[i] = entries.get(i).id();
+            revisions[i] = allocateRevision(connection);
+            timestamps[i] = entries.get(i).timestamp();
+        }
+
+        Array idArray = connection.createArrayOf("bigint", ids);
+        Array revisionArray = connection.createArrayOf("integer", revisions);
+        try (PreparedStatement statement = connection.prepareStatement(INSERT_REVISIONS)) {
+            statement.setArray(1, revisionArray);
+            statement.setArray(2, connection.createArrayOf("bigint", timestamps));
+            statement.executeUpdate();
+        }
+        for (AuditTable table : AuditTable.values()) {
+            try (PreparedStatement statement = connection.prepareStatement(table.insert())) {
+                statement.setArray(1, idArray);
+                statement.setArray(2, revisionArray);
+                statement.executeUpdate();
+            }
+        }
+        try (PreparedStatement statement = connection.prepareStatement(DELETE)) {
+            statement.setArray(1, idArray);
+            statement.executeUpdate();
+        }
+    }
+
+    /**
+     * Counts outbox rows up to {@code limit}, so a long backlog costs no more than {@code limit} index entries.
+     */
+    public Backlog backlog(Connection connection, long limit) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(BACKLOG)) {
+            statement.setLong(1, limit);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                long pending = resultSet.getLong(1);
+                return new Backlog(pending, pending == 0 ? 0 : resultSet.getLong(2));
+            }
+        }
+    }
+
+    private int allocateRevision(Connection connection) throws SQLException {
+        revisionLock.lock();
+        try {
+            if (nextRevision <= lastRevision) {
+                return (int) nextRevision++;
+            }
+        } finally {
+            revisionLock.unlock();
+        }
+
+        long high;
+        try (PreparedStatement statement = connection.prepareStatement(NEXT_REVISION_BLOCK);
+             ResultSet resultSet = statement.executeQuery()) {
+            resultSet.next();
+            high = resultSet.getLong(1);
+        }
+        long low = Math.max(1, high - REVISION_SEQUENCE_INCREMENT + 1);
+        revisionLock.lock();
+        try {
+            if (nextRevision > lastRevision) {
+                nextRevision = low + 1;
+                lastRevision = high;
+                return (int) low;
+            }
+            return (int) nextRevision++;
+        } finally {
+            revisionLock.unlock();
+        }
+    }
+
+    public record Entry(long id, long timestamp) {
+    }
+
+    public record Backlog(long pending, long oldestTimestamp) {
+
+        public static final Backlog EMPTY = new Backlog(0, 0);
+
+    }
+
+}
@@ -0,0 +1,137 @@
+package com.ersted.personservice.audit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+/**
+ * Background writer of the {@code outbox} audit mode. Each batch claims the oldest outbox rows with
+ * {@code FOR UPDATE SKIP LOCKED}, writes their revisions and history rows and deletes them in one transaction, so
+ * a crash leaves the rows for the next run. Batches hold {@link AuditOutboxRepository#lockDrains}, so instances take
+ * turns and revisions follow the outbox order.
+ * <p>
+ * When the backlog reaches {@code maxPending} rows, {@link #backlogExceeded()} makes new transactions
+ * {@link #drainBeforeCommit drain} the outbox themselves until the writer catches up.
+ */
+@Slf4j
+public class AuditOutboxWriter {
+
+    private final AuditOutboxRepository repository;
+    private final TransactionOperations transaction;
+    private final JdbcOperations jdbcOperations;
+    private final int batchSize;
+    private final long maxPending;
+    private final LongSupplier clock;
+    private final Counter written;
+
+    private volatile AuditOutboxRepository.Backlog backlog = AuditOutboxRepository.Backlog.EMPTY;
+
+    public AuditOutboxWriter(AuditOutboxRepository repository,
+                             TransactionOperations transaction,
+                             JdbcOperations jdbcOperations,
+                             int batchSize,
+                             long maxPending,
+                             MeterRegistry meterRegistry) {
+        this(repository, transaction, jdbcOperations, batchSize, maxPending, meterRegistry, System::currentTimeMillis);
+    }
+
+    public AuditOutboxWriter(AuditOutboxRepository repository,
+                             TransactionOperations transaction,
+                             JdbcOperations jdbcOperations,
+                             int batchSize,
+                             long maxPending,
+                             MeterRegistry meterRegistry,
+                             LongSupplier clock) {
+        this.repository = repository;
+        this.transaction = transaction;
+        this.jdbcOperations = jdbcOperations;
+        this.batchSize = batchSize;
+        this.maxPending = maxPending;
+        this.clock = clock;
+        this.written = Counter.builder("audit.outbox.written")
+                .description("Revisions written from the audit outbox")
+                .register(meterRegistry);
+        Gauge.builder("audit.outbox.pending", this, writer -> writer.backlog.pending())
+                .description("Audit outbox rows waiting for the writer, counted up to the back-pressure limit")
+                .register(meterRegistry);
+        Gauge.builder("audit.outbox.lag", this, AuditOutboxWriter::lagSeconds)
+                .description("Age of the oldest audit outbox row")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${audit.poll-interval-ms}")
+    public void drain() {
+        try {
+            int drained;
+            do {
+                drained = Objects.requireNonNull(transaction.execute(_ -> jdbcOperations.execute(
+                        (ConnectionCallback<Integer>) connection -> {
+                            repository.lockDrains(connection);
+                            return repository.drain(connection, batchSize);
+                        })));
+                written.increment(drained);
+                refreshBacklog();
+            } while (drained == batchSize);
+        } catch (RuntimeException e) {
+            refreshBacklogAfterFailure();
+            log.warn("Audit outbox drain failed, pending: [{}]", backlog.pending(), e);
+        }
+    }
+
+    public boolean backlogExceeded() {
+        return backlog.pending() >= maxPending;
+    }
+
+    /**
+     * Writes the history of every committed outbox row and of the caller's own row, oldest first, on the caller's
+     * connection right before it commits. Older rows of the same entities get lower revisions than the caller's,
+     * at the price of the caller waiting for the other drains and writing the whole backlog.
+     *
+     * @return the number of outbox rows written
+     */
+    public int drainBeforeCommit(Connection connection) throws SQLException {
+        repository.lockDrains(connection);
+        int total = 0;
+        int drained;
+        do {
+            drained = repository.drain(connection, batchSize);
+            total += drained;
+        } while (drained == batchSize);
+        written.increment(total);
+        return total;
+    }
+
+    private void refreshBacklog() {
+        backlog = Objects.requireNonNull(jdbcOperations.execute(
+                (ConnectionCallback<AuditOutboxRepository.Backlog>) connection -> repository.backlog(connection, maxPending)));
+    }
+
+    /**
+     * Keeps the backlog gauges and back-pressure current while batches keep failing, which is exactly when they
+     * are needed.
+     */
+    private void refreshBacklogAfterFailure() {
+        try {
+            refreshBacklog();
+        } catch (RuntimeException e) {
+            log.warn("Couldn't count the audit outbox backlog", e);
+        }
+    }
+
+    private double lagSeconds() {
+        AuditOutboxRepository.Backlog current = backlog;
+        return current.pending() == 0 ? 0 : Math.max(0, clock.getAsLong() - current.oldestTimestamp()) / 1000.0;
+    }
+
+}
@@ -0,0 +1,295 @@
+package com.ersted.personservice.audit;
+
+import com.ersted.personservice.config.AuditPartitionProperties;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.temporal.TemporalAdjusters;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Keeps the revision partitions of the audit tables, see {@link AuditPartitionRepository}:
+ * <ul>
+ *     <li>at the start of every {@code period} moves {@code person.revinfo_seq} to the next empty partition, so
+ *     each partition holds the revisions of one period, or of several partitions of one period under heavy
+ *     traffic. Writers keep the revision blocks they have reserved, so a few revisions of the new period may
+ *     still land in the previous partition;</li>
+ *     <li>creates partitions of {@code partitionSize} revisions ahead of the sequence, at least twice the
+ *     revisions used since the previous run;</li>
+ *     <li>detaches the partitions whose latest revision is older than {@code retention} and drops or archives
+ *     them, instead of deleting history rows.</li>
+ * </ul>
+ * Only one replica maintains the partitions at a time, under the session-level advisory lock {@link #LOCK_KEY}.
+ * <p>
+ * Every period takes at least one partition of the {@code integer} revision numbers, so on startup the maintainer
+ * refuses a {@code period} and {@code partitionSize} that would use them all up within {@code minRunway}. The
+ * migrations create a single partition ahead of the sequence, so audited writes depend on the maintainer: when
+ * fewer than {@code partitionSize} revisions are left in the attached partitions, every scheduled run logs an error.
+ */
+@Slf4j
+public class AuditPartitionMaintainer implements SmartInitializingSingleton {
+
+    /**
+     * Advisory lock key of the maintainer, shared by all replicas.
+     */
+    public static final long LOCK_KEY = 0x6175_6469_745f_70L;
+
+    private final DataSource dataSource;
+    private final AuditPartitionRepository repository;
+    private final AuditPartitionProperties.Period period;
+    private final int partitionSize;
+    private final Duration minRunway;
+    private final Duration retention;
+    private final AuditPartitionProperties.RetentionMode retentionMode;
+    private final Duration lockTimeout;
+    private final Clock clock;
+    private final Counter retired;
+    private final Map<String, Long> lastRevisionTimes = new HashMap<>();
+
+    private long previousNext = -1;
+    private volatile int partitionCount;
+    private volatile long headroom;
+
+    public AuditPartitionMaintainer(DataSource dataSource,
+                                    AuditPartitionRepository repository,
+                                    AuditPartitionProperties.Period period,
+                                    int partitionSize,
+                                    Duration minRunway,
+                                    Duration retention,
+                                    AuditPartitionProperties.RetentionMode retentionMode,
+                                    Duration lockTimeout,
+                                    MeterRegistry meterRegistry) {
+        this(dataSource, repository, period, partitionSize, minRunway, retention, retentionMode, lockTimeout,
+                meterRegistry, Clock.systemUTC());
+    }
+
+    public AuditPartitionMaintainer(DataSource dataSource,
+                                    AuditPartitionRepository repository,
+                                    AuditPartitionProperties.Period period,
+                                    int partitionSize,
+                                    Duration minRunway,
+                                    Duration retention,
+                                    AuditPartitionProperties.RetentionMode retentionMode,
+                                    Duration lockTimeout,
+                                    MeterRegistry meterRegistry,
+                                    Clock clock) {
+        this.dataSource = dataSource;
+        this.repository = repository;
+        this.period = period;
+        this.partitionSize = partitionSize;
+        this.minRunway = minRunway;
+        this.retention = retention;
+        this.retentionMode = retentionMode;
+        this.lockTimeout = lockTimeout;
+        this.clock = clock;
+        this.retired = Counter.builder("audit.partitions.retired")
+                .tag("mode", retentionMode.name().toLowerCase(Locale.ROOT))
+                .description("Expired audit revision partitions detached and dropped or archived")
+                .register(meterRegistry);
+        Gauge.builder("audit.partitions", this, maintainer -> maintainer.partitionCount)
+                .description("Revision partitions attached to the audit tables, as of the last run")
+                .register(meterRegistry);
+        Gauge.builder("audit.partitions.headroom", this, maintainer -> maintainer.headroom)
+                .description("Revisions the sequence can hand out before it leaves the attached partitions, as of the last run")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        checkRunway();
+        refreshHeadroom();
+    }
+
+    /**
+     * Fails if the revision numbers left after the sequence last less than {@code minRunway}: a rollover skips to
+     * the next partition boundary, so they cover at most {@code (Integer.MAX_VALUE - next) / partitionSize} periods.
+     */
+    public void checkRunway() {
+        long next;
+        try (Connection connection = dataSource.getConnection()) {
+            next = repository.nextRevision(connection);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Couldn't read the audit revision sequence", e);
+        }
+        long periods = Math.max(0, Integer.MAX_VALUE - next) / partitionSize;
+        LocalDate today = LocalDate.ofInstant(clock.instant(), ZoneOffset.UTC);
+        LocalDate exhausted = switch (period) {
+            case DAY -> today.plusDays(periods);
+            case WEEK -> today.plusWeeks(periods);
+            case MONTH -> today.plusMonths(periods);
+        };
+        if (exhausted.isBefore(today.plusDays(minRunway.toDays()))) {
+            throw new IllegalStateException(("Audit revision numbers run out by %s at the latest: %d periods of %s "
+                    + "left at %d revisions each, audit-partitions.min-runway is %d days. Lower "
+                    + "audit-partitions.partition-size or use a longer audit-partitions.period")
+                    .formatted(exhausted, periods, period, partitionSize, minRunway.toDays()));
+        }
+        log.info("Audit revision numbers last until {} at the latest, period: [{}], partition size: [{}]",
+                exhausted, period, partitionSize);
+    }
+
+    @Scheduled(initialDelayString = "${audit-partitions.interval-ms}", fixedDelayString = "${audit-partitions.interval-ms}")
+    public void scheduledMaintain() {
+        boolean maintained = false;
+        try {
+            maintained = maintain();
+        } catch (RuntimeException e) {
+            log.warn("Audit partition maintenance failed", e);
+        }
+        if (!maintained) {
+            refreshHeadroom();
+        }
+        if (headroom < partitionSize) {
+            log.error("Audit revisions are about to run past the attached partitions, headroom: [{}] revisions. "
+                    + "Audited writes fail once it reaches zero", headroom);
+        }
+    }
+
+    /**
+     * Runs one maintenance pass if no other replica is running one.
+     *
+     * @return {@code false} if another replica holds the lock
+     */
+    public boolean maintain() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!repository.tryLock(connection, LOCK_KEY)) {
+                log.debug("Audit partition maintenance skipped, another replica holds the lock");
+                return false;
+            }
+            try {
+                repository.lockTimeout(connection, lockTimeout);
+                maintain(connection);
+                return true;
+            } finally {
+                repository.lockTimeout(connection, null);
+                repository.unlock(connection, LOCK_KEY);
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Couldn't maintain the audit partitions", e);
+        }
+    }
+
+    private void maintain(Connection connection) throws SQLException {
+        repository.finalizeDetaches(connection);
+        for (String suffix : repository.detached(connection)) {
+            retire(connection, suffix);
+        }
+
+        long now = clock.millis();
+        List<AuditPartitionRepository.Partition> partitions = repository.partitions(connection);
+        long sequence = repository.nextRevision(connection);
+        AuditPartitionRepository.Partition current = partitions.stream()
+                .filter(partition -> partition.contains(sequence))
+                .findFirst()
+                .orElse(null);
+        long next = sequence;
+        if (current != null && current.to() < Integer.MAX_VALUE) {
+            Long firstRevisionTime = repository.firstRevisionTime(connection, current);
+            if (firstRevisionTime != null && firstRevisionTime < periodStart(now)) {
+                next = rollOver(connection, partitions, current);
+            }
+        }
+
+        long advance = previousNext < 0 ? 0 : Math.max(0, next - previousNext);
+        previousNext = next;
+        long target = next + Math.max(2L * partitionSize, 2 * advance);
+        long upper = partitions.isEmpty() ? next : partitions.getLast().to();
+        while (upper < target && upper < Integer.MAX_VALUE) {
+            long to = Math.min(Integer.MAX_VALUE, Math.max(upper, next) + partitionSize);
+            repository.create(connection, upper, to);
+            log.info("Audit revision partition created, revisions: [{}, {})", upper, to);
+            upper = to;
+        }
+        headroom = upper - next;
+
+        long cutoff = now - retention.toMillis();
+        for (AuditPartitionRepository.Partition partition : repository.partitions(connection)) {
+            if (partition.to() > next) {
+                break;
+            }
+            Long cached = lastRevisionTimes.get(partition.suffix());
+            if (cached != null && cached >= cutoff) {
+                continue;
+            }
+            Long last = repository.lastRevisionTime(connection, partition);
+            if (last != null && last >= cutoff) {
+                lastRevisionTimes.put(partition.suffix(), last);
+                continue;
+            }
+            retire(connection, partition.suffix());
+        }
+        partitionCount = repository.partitions(connection).size();
+    }
+
+    /**
+     * Moves the sequence to the partition after {@code current}, creating it if needed.
+     *
+     * @return the next revision the sequence hands out
+     */
+    private long rollOver(Connection connection,
+                          List<AuditPartitionRepository.Partition> partitions,
+                          AuditPartitionRepository.Partition current) throws SQLException {
+        AuditPartitionRepository.Partition following = null;
+        for (AuditPartitionRepository.Partition partition : partitions) {
+            if (partition.from() == current.to()) {
+                following = partition;
+            }
+        }
+        if (following == null) {
+            following = repository.create(connection, current.to(), Math.min(Integer.MAX_VALUE, current.to() + partitionSize));
+            partitions.add(following);
+        }
+        if (repository.moveRevisions(connection, following.from())) {
+            log.info("Audit revisions moved to the next partition, period: [{}], revisions: [{}, {})",
+                    period, following.from(), following.to());
+        }
+        return repository.nextRevision(connection);
+    }
+
+    /**
+     * Reads the headroom without the lock, for runs where this replica did not maintain the partitions.
+     */
+    private void refreshHeadroom() {
+        try (Connection connection = dataSource.getConnection()) {
+            List<AuditPartitionRepository.Partition> partitions = repository.partitions(connection);
+            long next = repository.nextRevision(connection);
+            headroom = partitions.isEmpty() ? 0 : partitions.getLast().to() - next;
+        } catch (SQLException | RuntimeException e) {
+            log.warn("Couldn't read the audit partition headroom", e);
+        }
+    }
+
+    private void retire(Connection connection, String suffix) throws SQLException {
+        repository.retire(connection, suffix, retentionMode);
+        lastRevisionTimes.remove(suffix);
+        retired.increment();
+        log.info("Expired audit revision partitions retired, suffix: [{}], mode: [{}]", suffix, retentionMode);
+    }
+
+    private long periodStart(long now) {
+        LocalDate today = LocalDate.ofInstant(Instant.ofEpochMilli(now), ZoneOffset.UTC);
+        LocalDate start = switch (period) {
+            case DAY -> today;
+            case WEEK -> today.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            case MONTH -> today.withDayOfMonth(1);
+        };
+        return start.atStartOfDay(ZoneOffset.UTC).toInstant().toEpochMilli();
+    }
+
+}
@@ -0,0 +1,323 @@
+package com.ersted.personservice.audit;
+
+import com.ersted.personservice.config.AuditPartitionProperties;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Catalog queries and DDL on the revision partitions of {@code person.revinfo} and the Envers history tables. The
+ * tables are range partitioned by {@code rev} with the same bounds, and the partitions of one range share a name
+ * suffix: {@code revinfo_p2000000}, {@code users_aud_p2000000} and so on, {@code _legacy} for the history before
+ * partitioning. Every history partition references the {@code revinfo} partition of its range.
+ * <p>
+ * Methods run on an autocommit connection: {@code DETACH PARTITION CONCURRENTLY} cannot run inside a transaction,
+ * the statements that must be atomic open their own.
+ */
+public class AuditPartitionRepository {
+
+    public static final String REVISIONS = "revinfo";
+
+    public static final String ARCHIVE_SCHEMA = "person_audit_archive";
+
+    private static final List<String> HISTORY = List.of("addresses_aud", "users_aud", "individuals_aud");
+
+    private static final Pattern BOUNDS = Pattern.compile("FROM \\((\\w+)\\) TO \\((\\w+)\\)");
+
+    private static final String PARTITIONS = """
+            SELECT c.relname, pg_get_expr(c.relpartbound, c.oid)
+            FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid
+            WHERE i.inhparent = 'person.revinfo'::regclass AND NOT i.inhdetachpending
+            """;
+
+    private static final String DETACH_PENDING = """
+            SELECT p.relname, c.relname
+            FROM pg_inherits i JOIN pg_class c ON c.oid = i.inhrelid JOIN pg_class p ON p.oid = i.inhparent
+            WHERE p.relnamespace = 'person'::regnamespace AND i.inhdetachpending
+            """;
+
+    private static final String DETACHED = """
+            SELECT substring(relname FROM length('revinfo_') + 1) FROM pg_class
+            WHERE relnamespace = 'person'::regnamespace AND relkind = 'r' AND NOT relispartition
+              AND relname ~ '^revinfo_(legacy|p[0-9]+)$'
+            """;
+
+    private static final String ATTACHED = "SELECT relispartition FROM pg_class WHERE oid = to_regclass(?)";
+
+    private static final String SEQUENCE = "SELECT last_value, is_called FROM person.revinfo_seq";
+
+    private static final String LOCK_SEQUENCE = "ALTER SEQUENCE person.revinfo_seq INCREMENT BY "
+            + AuditOutboxRepository.REVISION_SEQUENCE_INCREMENT;
+
+    private static final String FIRST_REVISION = """
+            SELECT revtstmp FROM person.revinfo WHERE rev >= ? AND rev < ? ORDER BY rev LIMIT 1
+            """;
+
+    private static final String LAST_REVISION = """
+            SELECT revtstmp FROM person.revinfo WHERE rev >= ? AND rev < ? ORDER BY rev DESC LIMIT 1
+            """;
+
+    /**
+     * Takes the session-level advisory lock {@code key} without waiting.
+     */
+    public boolean tryLock(Connection connection, long key) throws SQLException {
+        return advisoryLock(connection, "SELECT pg_try_advisory_lock(?)", key);
+    }
+
+    public void unlock(Connection connection, long key) throws SQLException {
+        advisoryLock(connection, "SELECT pg_advisory_unlock(?)", key);
+    }
+
+    /**
+     * Bounds how long DDL waits for a table lock, so a long transaction makes a run fail instead of queueing the
+     * audit writes behind the DDL. {@code null} restores the server default.
+     */
+    public void lockTimeout(Connection connection, Duration timeout) throws SQLException {
+        execute(connection, timeout == null ? "RESET lock_timeout" : "SET lock_timeout = " + timeout.toMillis());
+    }
+
+    /**
+     * @return the attached {@code revinfo} partitions ordered by their lower bound
+     */
+    public List<Partition> partitions(Connection connection) throws SQLException {
+        List<Partition> partitions = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(PARTITIONS)) {
+            while (resultSet.next()) {
+                Matcher bounds = BOUNDS.matcher(resultSet.getString(2));
+                if (bounds.find()) {
+                    partitions.add(new Partition(resultSet.getString(1).substring(REVISIONS.length() + 1),
+                            bound(bounds.group(1)), bound(bounds.group(2))));
+                }
+            }
+        }
+        partitions.sort(Comparator.comparingLong(Partition::from));
+        return partitions;
+    }
+
+    /**
+     * Completes {@code DETACH PARTITION CONCURRENTLY} statements interrupted by a failure.
+     *
+     * @return the number of partitions detached
+     */
+    public int finalizeDetaches(Connection connection) throws SQLException {
+        List<String[]> pending = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(DETACH_PENDING)) {
+            while (resultSet.next()) {
+                pending.add(new String[]{resultSet.getString(1), resultSet.getString(2)});
+            }
+        }
+        for (String[] partition : pending) {
+            execute(connection, "ALTER TABLE %s DETACH PARTITION %s FINALIZE"
+                    .formatted(table(partition[0]), table(partition[1])));
+        }
+        return pending.size();
+    }
+
+    /**
+     * @return suffixes of {@code revinfo} partitions that were detached but not yet dropped or archived
+     */
+    public List<String> detached(Connection connection) throws SQLException {
+        List<String> suffixes = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(DETACHED)) {
+            while (resultSet.next()) {
+                suffixes.add(resultSet.getString(1));
+            }
+        }
+        return suffixes;
+    }
+
+    /**
+     * @return the lowest revision {@code person.revinfo_seq} can still hand out: revisions below it may already
+     * be reserved by a writer, revisions from it on are not
+     */
+    public long nextRevision(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(SEQUENCE)) {
+            resultSet.next();
+            long last = resultSet.getLong(1);
+            return resultSet.getBoolean(2) ? last + 1 : last - AuditOutboxRepository.REVISION_SEQUENCE_INCREMENT + 1;
+        }
+    }
+
+    /**
+     * @return the time of the lowest revision in the partition, {@code null} for an empty partition
+     */
+    public Long firstRevisionTime(Connection connection, Partition partition) throws SQLException {
+        return revisionTime(connection, FIRST_REVISION, partition);
+    }
+
+    /**
+     * Reads the highest revision through the primary key instead of scanning the partition for
+     * {@code max(revtstmp)}: revisions grow with time.
+     *
+     * @return the time of the latest revision in the partition, {@code null} for an empty partition
+     */
+    public Long lastRevisionTime(Connection connection, Partition partition) throws SQLException {
+        return revisionTime(connection, LAST_REVISION, partition);
+    }
+
+    /**
+     * Makes the sequence hand out revisions from {@code from} on. {@code ALTER SEQUENCE} blocks {@code nextval}
+     * until commit, so no revision can be reserved between reading the sequence and restarting it.
+     *
+     * @return {@code false} if the sequence has already reached {@code from}
+     */
+    public boolean moveRevisions(Connection connection, long from) throws SQLException {
+        return inTransaction(connection, () -> {
+            execute(connection, LOCK_SEQUENCE);
+            if (nextRevision(connection) >= from) {
+                return false;
+            }
+            execute(connection, "ALTER SEQUENCE person.revinfo_seq RESTART WITH "
+                    + (from + AuditOutboxRepository.REVISION_SEQUENCE_INCREMENT - 1));
+            return true;
+        });
+    }
+
+    /**
+     * Creates the partitions of {@code [from, to)} as plain tables and attaches them in one transaction.
+     * {@code ATTACH PARTITION} takes a lock on the parent that does not conflict with inserts, unlike
+     * {@code CREATE TABLE ... PARTITION OF}.
+     */
+    public Partition create(Connection connection, long from, long to) throws SQLException {
+        Partition partition = new Partition("p" + from, from, to);
+        inTransaction(connection, () -> {
+            execute(connection, "CREATE TABLE %s (LIKE %s INCLUDING ALL)"
+                    .formatted(table(partition.table(REVISIONS)), table(REVISIONS)));
+            for (String history : HISTORY) {
+                execute(connection, "CREATE TABLE %s (LIKE %s INCLUDING ALL)"
+                        .formatted(table(partition.table(history)), table(history)));
+                execute(connection, "ALTER TABLE %s ADD FOREIGN KEY (rev) REFERENCES %s"
+                        .formatted(table(partition.table(history)), table(partition.table(REVISIONS))));
+            }
+            for (String parent : tables()) {
+                execute(connection, "ALTER TABLE %s ATTACH PARTITION %s FOR VALUES FROM (%d) TO (%d)"
+                        .formatted(table(parent), table(partition.table(parent)), from, to));
+            }
+            return null;
+        });
+        return partition;
+    }
+
+    /**
+     * Detaches the partitions with {@code suffix} concurrently, history tables first, then drops them or moves
+     * them to {@link #ARCHIVE_SCHEMA}. Safe to repeat after a failure at any step.
+     */
+    public void retire(Connection connection, String suffix, AuditPartitionProperties.RetentionMode mode) throws SQLException {
+        for (String parent : tables()) {
+            String partition = parent + '_' + suffix;
+            if (attached(connection, partition)) {
+                execute(connection, "ALTER TABLE %s DETACH PARTITION %s CONCURRENTLY"
+                        .formatted(table(parent), table(partition)));
+            }
+        }
+        for (String parent : tables()) {
+            String partition = parent + '_' + suffix;
+            execute(connection, mode == AuditPartitionProperties.RetentionMode.DROP
+                    ? "DROP TABLE IF EXISTS " + table(partition)
+                    : "ALTER TABLE IF EXISTS %s SET SCHEMA %s".formatted(table(partition), ARCHIVE_SCHEMA));
+        }
+    }
+
+    private static Long revisionTime(Connection connection, String sql, Partition partition) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, Math.max(partition.from(), Integer.MIN_VALUE));
+            statement.setLong(2, partition.to());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? resultSet.getLong(1) : null;
+            }
+        }
+    }
+
+    private boolean attached(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(ATTACHED)) {
+            statement.setString(1, table(name));
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private static <T> T inTransaction(Connection connection, SqlWork<T> work) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            T result = work.run();
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql, long key) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, key);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    /**
+     * History tables before {@code revinfo}: they reference it, so they are detached and dropped first.
+     */
+    private static List<String> tables() {
+        List<String> tables = new ArrayList<>(HISTORY);
+        tables.add(REVISIONS);
+        return tables;
+    }
+
+    private static String table(String name) {
+        return "person.\"" + name.replace("\"", "\"\"") + '"';
+    }
+
+    private static long bound(String value) {
+        return switch (value) {
+            case "MINVALUE" -> Long.MIN_VALUE;
+            case "MAXVALUE" -> Long.MAX_VALUE;
+            default -> Long.parseLong(value);
+        };
+    }
+
+    /**
+     * Revision range {@code [from, to)} shared by the partitions named {@code <table>_<suffix>}.
+     */
+    public record Partition(String suffix, long from, long to) {
+
+        public boolean contains(long revision) {
+            return revision >= from && revision < to;
+        }
+
+        String table(String parent) {
+            return parent + '_' + suffix;
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface SqlWork<T> {
+        T run() throws SQLException;
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.ersted.personservice.audit;
+
+import com.ersted.personservice.entity.Address;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * History tables written in {@code outbox} audit mode, with the same layout Envers uses. The outbox payload keeps
+ * the rows of a transaction under the table name, keyed by column, so the writer can insert them with
+ * {@code jsonb_to_recordset}.
+ */
+public enum AuditTable {
+
+    INDIVIDUALS("individuals_aud", Individual.class, List.of(
+            "archived_at timestamptz", "passport_number varchar", "phone_number varchar", "status varchar",
+            "verified_at timestamptz", "user_id uuid")) {
+        @Override
+        Map<String, Object> values(Object entity) {
+            Individual individual = (Individual) entity;
+            Map<String, Object> values = new LinkedHashMap<>();
+            put(values, "archived_at", individual.getArchivedAt());
+            put(values, "passport_number", individual.getPassportNumber());
+            put(values, "phone_number", individual.getPhoneNumber());
+            put(values, "status", individual.getStatus() == null ? null : individual.getStatus().name());
+            put(values, "verified_at", individual.getVerifiedAt());
+            put(values, "user_id", individual.getUser() == null ? null : individual.getUser().getId());
+            return values;
+        }
+    },
+
+    USERS("users_aud", User.class, List.of(
+            "created timestamptz", "email varchar", "filled boolean", "first_name varchar", "last_name varchar",
+            "secret_key varchar", "updated timestamptz", "address_id uuid")) {
+        @Override
+        Map<String, Object> values(Object entity) {
+            User user = (User) entity;
+            Map<String, Object> values = new LinkedHashMap<>();
+            put(values, "created", user.getCreated());
+            put(values, "email", user.getEmail());
+            put(values, "filled", user.getFilled());
+            put(values, "first_name", user.getFirstName());
+            put(values, "last_name", user.getLastName());
+            put(values, "secret_key", user.getSecretKey());
+            put(values, "updated", user.getUpdated());
+            put(values, "address_id", user.getAddress() == null ? null : user.getAddress().getId());
+            return values;
+        }
+    },
+
+    ADDRESSES("addresses_aud", Address.class, List.of(
+            "address varchar", "archived timestamptz", "city varchar", "created timestamptz", "state varchar",
+            "updated timestamptz", "zip_code varchar", "country_id integer")) {
+        @Override
+        Map<String, Object> values(Object entity) {
+            Address address = (Address) entity;
+            Map<String, Object> values = new LinkedHashMap<>();
+            put(values, "address", address.getAddress());
+            put(values, "archived", address.getArchived());
+            put(values, "city", address.getCity());
+            put(values, "created", address.getCreated());
+            put(values, "state", address.getState());
+            put(values, "updated", address.getUpdated());
+            put(values, "zip_code", address.getZipCode());
+            put(values, "country_id", address.getCountry() == null ? null : address.getCountry().getId());
+            return values;
+        }
+    };
+
+    private final String table;
+    private final Class<?> entityType;
+    private final String insert;
+
+    AuditTable(String table, Class<?> entityType, List<String> columns) {
+        this.table = table;
+        this.entityType = entityType;
+        String names = columns.stream()
+                .map(column -> column.substring(0, column.indexOf(' ')))
+                .collect(Collectors.joining(", "));
+        this.insert = """
+                INSERT INTO person.%1$s (id, rev, revtype, %2$s)
+                SELECT c.id, b.rev, c.revtype, %3$s
+                FROM unnest(?::bigint[], ?::integer[]) AS b(outbox_id, rev)
+                JOIN person.audit_outbox o ON o.id = b.outbox_id
+                CROSS JOIN LATERAL jsonb_to_recordset(o.payload -> '%1$s') AS c(id uuid, revtype smallint, %4$s)
+                """.formatted(table, names, "c." + names.replace(", ", ", c."), String.join(", ", columns));
+    }
+
+    public static AuditTable of(Object entity) {
+        for (AuditTable auditTable : values()) {
+            if (auditTable.entityType.isInstance(entity)) {
+                return auditTable;
+            }
+        }
+        return null;
+    }
+
+    public String table() {
+        return table;
+    }
+
+    /**
+     * Multi-row insert of this table's rows from a batch of outbox entries; takes the outbox ids and their revisions
+     * as two arrays.
+     */
+    public String insert() {
+        return insert;
+    }
+
+    /**
+     * Column values of the entity as JSON scalars; {@code null} columns are left out of the payload.
+     */
+    abstract Map<String, Object> values(Object entity);
+
+    private static void put(Map<String, Object> values, String column, Object value) {
+        if (value == null) {
+            return;
+        }
+        values.put(column, value instanceof Boolean || value instanceof Number ? value : value.toString());
+    }
+
+}
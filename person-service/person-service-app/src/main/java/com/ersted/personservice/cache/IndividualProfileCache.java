@@ -0,0 +1,169 @@
+package com.ersted.personservice.cache;
+
+import com.ersted.personservice.exception.NotFoundException;
+import com.ersted.personservice.model.IndividualInfoResponse;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Read-through cache of {@link IndividualInfoResponse} by individual id.
+ * <p>
+ * Loads run inside {@link Cache#get}, so an invalidation of a key that is being loaded waits for the load and
+ * removes its result: a reader that fetched the row before a writer committed cannot leave the old profile behind.
+ * Reads inside a read-write transaction bypass the cache because they may see changes that are never committed.
+ */
+@Slf4j
+public class IndividualProfileCache {
+
+    public static final String CACHE_NAME = "individual.profile";
+
+    private static final String METRIC_PREFIX = "individual.profile.cache";
+
+    private final Mode mode;
+    private final TransactionOperations readOnlyTransaction;
+    private final Cache<UUID, IndividualInfoResponse> cache;
+
+    private final Timer loads;
+    private final Counter invalidations;
+    private final Counter shadowMatches;
+    private final Counter shadowMismatches;
+
+    public IndividualProfileCache(Mode mode,
+                                  long maximumSize,
+                                  Duration ttl,
+                                  TransactionOperations readOnlyTransaction,
+                                  MeterRegistry meterRegistry) {
+        this(mode, maximumSize, ttl, readOnlyTransaction, meterRegistry, System::nanoTime);
+    }
+
+    public IndividualProfileCache(Mode mode,
+                                  long maximumSize,
+                                  Duration ttl,
+                                  TransactionOperations readOnlyTransaction,
+                                  MeterRegistry meterRegistry,
+                                  LongSupplier nanoClock) {
+        this.mode = mode;
+        this.readOnlyTransaction = readOnlyTransaction;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .ticker(nanoClock::getAsLong)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(METRIC_PREFIX + ".hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of profile reads served from the cache since startup")
+                .register(meterRegistry);
+        this.loads = Timer.builder(METRIC_PREFIX + ".load")
+                .description("Time to load a profile from the database on a cache miss")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.invalidations = Counter.builder(METRIC_PREFIX + ".invalidations")
+                .description("Profiles evicted after a committed write")
+                .register(meterRegistry);
+        this.shadowMatches = shadowCounter(meterRegistry, "match");
+        this.shadowMismatches = shadowCounter(meterRegistry, "mismatch");
+    }
+
+    public IndividualInfoResponse get(UUID id, Function<UUID, IndividualInfoResponse> loader) {
+        if (mode == Mode.OFF || inReadWriteTransaction()) {
+            return loader.apply(id);
+        }
+
+        boolean[] loaded = new boolean[1];
+        IndividualInfoResponse cached = cache.get(id, key -> {
+            loaded[0] = true;
+            return load(key, loader);
+        });
+        if (mode == Mode.CACHE || loaded[0]) {
+            return cached;
+        }
+
+        IndividualInfoResponse actual;
+        try {
+            actual = readOnlyTransaction.execute(_ -> loader.apply(id));
+        } catch (NotFoundException e) {
+            shadowMismatches.increment();
+            log.warn("Cached profile no longer exists in the database, id: [{}]", id);
+            cache.invalidate(id);
+            throw e;
+        }
+        if (Objects.equals(cached, actual)) {
+            shadowMatches.increment();
+        } else {
+            shadowMismatches.increment();
+            log.warn("Cached profile differs from the database, id: [{}]", id);
+            cache.invalidate(id);
+        }
+        return actual;
+    }
+
+    /**
+     * Evicts the profile once the current transaction commits, or right away outside of one. Nothing is evicted
+     * on rollback, and other readers keep the committed profile until the writer's changes become visible.
+     */
+    public void evictAfterCommit(UUID id) {
+        if (mode == Mode.OFF) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(id);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(id);
+            }
+        });
+    }
+
+    private IndividualInfoResponse load(UUID id, Function<UUID, IndividualInfoResponse> loader) {
+        long startedAt = System.nanoTime();
+        try {
+            return readOnlyTransaction.execute(_ -> loader.apply(id));
+        } finally {
+            loads.record(Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+    }
+
+    private void evict(UUID id) {
+        cache.invalidate(id);
+        invalidations.increment();
+    }
+
+    private static boolean inReadWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+
+    private static Counter shadowCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder(METRIC_PREFIX + ".shadow")
+                .description("Cached profiles compared with the database in shadow mode")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    public enum Mode {
+        CACHE,
+        SHADOW,
+        OFF
+    }
+
+}
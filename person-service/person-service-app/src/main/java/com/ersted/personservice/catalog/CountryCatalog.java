@@ -0,0 +1,130 @@
+package com.ersted.personservice.catalog;
+
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.mapper.CountryMapper;
+import com.ersted.personservice.model.CountryListResponse;
+import com.ersted.personservice.repository.CountryRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Countries table held in memory. The table is reference data seeded by migrations, so lookups by code skip the
+ * database and the whole catalog is reloaded on a schedule or through the {@code countries} actuator endpoint.
+ * <p>
+ * The returned {@link Country} instances are detached and shared between requests: they may be referenced from
+ * new addresses but must not be modified.
+ */
+@Slf4j
+@Component
+public class CountryCatalog implements SmartInitializingSingleton {
+
+    private final CountryRepository countryRepository;
+    private final CountryMapper countryMapper;
+
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+
+    public CountryCatalog(CountryRepository countryRepository, CountryMapper countryMapper, MeterRegistry meterRegistry) {
+        this.countryRepository = countryRepository;
+        this.countryMapper = countryMapper;
+        Gauge.builder("country.catalog.size", this, catalog -> catalog.snapshot.byAlpha3().size())
+                .description("Countries held in the in-memory catalog")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        refresh();
+    }
+
+    @Scheduled(initialDelayString = "${country-catalog.refresh-interval-ms}",
+            fixedDelayString = "${country-catalog.refresh-interval-ms}")
+    public void scheduledRefresh() {
+        try {
+            refresh();
+        } catch (RuntimeException e) {
+            log.warn("Country catalog refresh failed, keeping version [{}]", snapshot.etag(), e);
+        }
+    }
+
+    public Snapshot refresh() {
+        List<Country> countries = countryRepository.findAll().stream()
+                .sorted(Comparator.comparing(Country::getId))
+                .toList();
+        Snapshot loaded = Snapshot.of(countries, countryMapper);
+        if (!loaded.etag().equals(snapshot.etag())) {
+            log.info("Country catalog loaded, countries: [{}], version: [{}]", countries.size(), loaded.etag());
+            snapshot = loaded;
+        }
+        return snapshot;
+    }
+
+    public Optional<Country> findByAlpha2(String alpha2) {
+        return Optional.ofNullable(snapshot.byAlpha2().get(alpha2));
+    }
+
+    public Optional<Country> findByAlpha3(String alpha3) {
+        return Optional.ofNullable(snapshot.byAlpha3().get(alpha3));
+    }
+
+    public Snapshot snapshot() {
+        return snapshot;
+    }
+
+    public record Snapshot(Map<String, Country> byAlpha2,
+                           Map<String, Country> byAlpha3,
+                           CountryListResponse response,
+                           String etag,
+                           Instant loadedAt) {
+
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of(), new CountryListResponse(List.of()), "", Instant.EPOCH);
+
+        static Snapshot of(List<Country> countries, CountryMapper mapper) {
+            return new Snapshot(
+                    index(countries, Country::getAlpha2),
+                    index(countries, Country::getAlpha3),
+                    new CountryListResponse(List.copyOf(mapper.map(countries))),
+                    etag(countries),
+                    Instant.now()
+            );
+        }
+
+        private static Map<String, Country> index(List<Country> countries, Function<Country, String> code) {
+            return countries.stream()
+                    .filter(country -> code.apply(country) != null)
+                    .collect(Collectors.toUnmodifiableMap(code, Function.identity(), (first, _) -> first));
+        }
+
+        private static String etag(List<Country> countries) {
+            MessageDigest digest;
+            try {
+                digest = MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+            for (Country country : countries) {
+                String line = String.join("|", String.valueOf(country.getId()), country.getName(),
+                        country.getAlpha2(), country.getAlpha3(), String.valueOf(country.getStatus())) + "\n";
+                digest.update(line.getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest(), 0, 16);
+        }
+
+    }
+
+}
@@ -0,0 +1,36 @@
+package com.ersted.personservice.catalog;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+
+@Component
+@Endpoint(id = "countries")
+@RequiredArgsConstructor
+public class CountryCatalogEndpoint {
+
+    private final CountryCatalog countryCatalog;
+
+    @ReadOperation
+    public CatalogVersion version() {
+        return CatalogVersion.of(countryCatalog.snapshot());
+    }
+
+    @WriteOperation
+    public CatalogVersion refresh() {
+        return CatalogVersion.of(countryCatalog.refresh());
+    }
+
+    public record CatalogVersion(int countries, String etag, Instant loadedAt) {
+
+        static CatalogVersion of(CountryCatalog.Snapshot snapshot) {
+            return new CatalogVersion(snapshot.byAlpha3().size(), snapshot.etag(), snapshot.loadedAt());
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+package com.ersted.personservice.config;
+
+import com.ersted.personservice.audit.AuditOutboxCollector;
+import com.ersted.personservice.audit.AuditOutboxRepository;
+import com.ersted.personservice.audit.AuditOutboxWriter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.envers.boot.internal.EnversIntegrator;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+@Configuration
+@ConditionalOnProperty(prefix = "audit", name = "mode", havingValue = "outbox")
+@EnableConfigurationProperties(AuditProperties.class)
+public class AuditOutboxConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer enversListenersDisabled() {
+        return properties -> properties.put(EnversIntegrator.AUTO_REGISTER, false);
+    }
+
+    @Bean
+    public AuditOutboxRepository auditOutboxRepository() {
+        return new AuditOutboxRepository();
+    }
+
+    @Bean
+    public AuditOutboxWriter auditOutboxWriter(AuditOutboxRepository repository,
+                                               AuditProperties properties,
+                                               PlatformTransactionManager transactionManager,
+                                               JdbcTemplate jdbcTemplate,
+                                               MeterRegistry meterRegistry) {
+        return new AuditOutboxWriter(
+                repository,
+                new TransactionTemplate(transactionManager),
+                jdbcTemplate,
+                properties.getBatchSize(),
+                properties.getMaxPending(),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    public AuditOutboxCollector auditOutboxCollector(AuditOutboxRepository repository,
+                                                     AuditOutboxWriter writer,
+                                                     JsonMapper jsonMapper,
+                                                     MeterRegistry meterRegistry,
+                                                     EntityManagerFactory entityManagerFactory) {
+        AuditOutboxCollector collector = new AuditOutboxCollector(repository, writer, jsonMapper, meterRegistry);
+        EventListenerRegistry listeners = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getEventListenerRegistry();
+        listeners.appendListeners(EventType.POST_INSERT, collector);
+        listeners.appendListeners(EventType.POST_UPDATE, collector);
+        listeners.appendListeners(EventType.POST_DELETE, collector);
+        return collector;
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.ersted.personservice.config;
+
+import com.ersted.personservice.audit.AuditPartitionMaintainer;
+import com.ersted.personservice.audit.AuditPartitionRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+@Configuration
+@EnableConfigurationProperties(AuditPartitionProperties.class)
+public class AuditPartitionConfig {
+
+    @Bean
+    public AuditPartitionMaintainer auditPartitionMaintainer(DataSource dataSource,
+                                                             AuditPartitionProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        return new AuditPartitionMaintainer(
+                dataSource,
+                new AuditPartitionRepository(),
+                properties.getPeriod(),
+                properties.getPartitionSize(),
+                properties.getMinRunway(),
+                properties.getRetention(),
+                properties.getRetentionMode(),
+                properties.getLockTimeout(),
+                meterRegistry
+        );
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.ersted.personservice.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "audit-partitions")
+public class AuditPartitionProperties {
+
+    @NotNull
+    private Period period = Period.MONTH;
+
+    @Min(value = 1000)
+    private int partitionSize = 1_000_000;
+
+    @NotNull
+    private Duration minRunway = Duration.ofDays(3650);
+
+    @NotNull
+    private Duration retention = Duration.ofDays(365);
+
+    @NotNull
+    private RetentionMode retentionMode = RetentionMode.ARCHIVE;
+
+    @NotNull
+    private Duration lockTimeout = Duration.ofSeconds(5);
+
+    @Min(value = 1)
+    private long intervalMs = 600_000;
+
+    public enum Period {
+        DAY, WEEK, MONTH
+    }
+
+    public enum RetentionMode {
+        /** Expired partitions are detached and moved to the {@code person_audit_archive} schema. */
+        ARCHIVE,
+        /** Expired partitions are detached and dropped. */
+        DROP
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.ersted.personservice.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "audit")
+public class AuditProperties {
+
+    private Mode mode = Mode.ENVERS;
+
+    @Min(value = 1)
+    private int batchSize = 500;
+
+    @Min(value = 1)
+    private long pollIntervalMs = 200;
+
+    @Min(value = 1)
+    private long maxPending = 10_000;
+
+    public enum Mode {
+        /** Envers writes the history rows inside the business transaction. */
+        ENVERS,
+        /** The business transaction appends one outbox row, a background writer bulk-writes the history. */
+        OUTBOX
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.ersted.personservice.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "country-catalog")
+public class CountryCatalogProperties {
+
+    @Min(value = 1)
+    private long refreshIntervalMs = 3_600_000;
+
+    @Min(value = 0)
+    private long maxAgeSeconds = 86_400;
+
+}
@@ -0,0 +1,18 @@
+package com.ersted.personservice.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "individual-batch")
+public class IndividualBatchProperties {
+
+    @Min(value = 1)
+    private int maxSize = 500;
+
+}
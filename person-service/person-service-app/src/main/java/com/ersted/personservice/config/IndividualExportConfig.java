@@ -0,0 +1,9 @@
+package com.ersted.personservice.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(IndividualExportProperties.class)
+public class IndividualExportConfig {
+}
@@ -0,0 +1,38 @@
+package com.ersted.personservice.config;
+
+import com.ersted.personservice.importer.IndividualImportJob;
+import com.ersted.personservice.importer.IndividualImportRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Configuration
+@EnableConfigurationProperties(IndividualImportProperties.class)
+public class IndividualImportConfig {
+
+    @Bean
+    public IndividualImportRepository individualImportRepository() {
+        return new IndividualImportRepository();
+    }
+
+    @Bean(destroyMethod = "shutdown")
+    public IndividualImportJob individualImportJob(IndividualImportRepository repository,
+                                                   IndividualImportProperties properties,
+                                                   PlatformTransactionManager transactionManager,
+                                                   JdbcTemplate jdbcTemplate,
+                                                   MeterRegistry meterRegistry) {
+        return new IndividualImportJob(
+                repository,
+                new TransactionTemplate(transactionManager),
+                jdbcTemplate,
+                properties.getDirectory(),
+                properties.getChunkSize(),
+                meterRegistry
+        );
+    }
+
+}
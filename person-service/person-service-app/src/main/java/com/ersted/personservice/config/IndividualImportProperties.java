@@ -0,0 +1,24 @@
+package com.ersted.personservice.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.nio.file.Path;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "individual-import")
+public class IndividualImportProperties {
+
+    @NotNull
+    private Path directory = Path.of("import");
+
+    @Min(value = 1)
+    private int chunkSize = 50_000;
+
+}
@@ -0,0 +1,40 @@
+package com.ersted.personservice.config;
+
+import com.ersted.personservice.cache.IndividualProfileCache;
+import com.ersted.personservice.repository.IndividualRepository;
+import com.ersted.personservice.sweeper.PendingIndividualSweeper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+
+@Configuration
+@ConditionalOnProperty(prefix = "individual-sweeper", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(IndividualSweeperProperties.class)
+public class IndividualSweeperConfig {
+
+    @Bean
+    public PendingIndividualSweeper pendingIndividualSweeper(DataSource dataSource,
+                                                             IndividualRepository individualRepository,
+                                                             IndividualProfileCache profileCache,
+                                                             PlatformTransactionManager transactionManager,
+                                                             IndividualSweeperProperties properties,
+                                                             MeterRegistry meterRegistry) {
+        return new PendingIndividualSweeper(
+                dataSource,
+                individualRepository,
+                profileCache,
+                new TransactionTemplate(transactionManager),
+                properties.getMode(),
+                properties.getMaxAge(),
+                properties.getChunkSize(),
+                meterRegistry
+        );
+    }
+
+}
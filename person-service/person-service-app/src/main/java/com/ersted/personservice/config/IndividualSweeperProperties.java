@@ -0,0 +1,38 @@
+package com.ersted.personservice.config;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "individual-sweeper")
+public class IndividualSweeperProperties {
+
+    private boolean enabled = false;
+
+    private Mode mode = Mode.ARCHIVE;
+
+    @NotNull
+    private Duration maxAge = Duration.ofHours(1);
+
+    @Min(value = 1)
+    private int chunkSize = 100;
+
+    @Min(value = 1)
+    private long intervalMs = 60_000;
+
+    public enum Mode {
+        /** Orphans are moved to {@code ARCHIVED} and keep their data. */
+        ARCHIVE,
+        /** Orphans are deleted with their user and address, like {@code POST /v1/individuals/{id}/purge}. */
+        PURGE
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.ersted.personservice.config;
 
+import com.ersted.personservice.logging.LoggingMetrics;
+import io.micrometer.core.instrument.binder.MeterBinder;
 import io.micrometer.observation.ObservationRegistry;
 import io.micrometer.observation.aop.ObservedAspect;
 import org.springframework.context.annotation.Bean;
@@ -13,4 +15,9 @@ public class ObservabilityConfig {
         return new ObservedAspect(registry);
     }
 
+    @Bean
+    public MeterBinder loggingMetrics() {
+        return new LoggingMetrics();
+    }
+
 }
@@ -0,0 +1,33 @@
+package com.ersted.personservice.config;
+
+import com.ersted.personservice.cache.IndividualProfileCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(ProfileCacheProperties.class)
+public class ProfileCacheConfig {
+
+    @Bean
+    public IndividualProfileCache individualProfileCache(ProfileCacheProperties properties,
+                                                         PlatformTransactionManager transactionManager,
+                                                         MeterRegistry meterRegistry) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        return new IndividualProfileCache(
+                properties.getMode(),
+                properties.getMaximumSize(),
+                Duration.ofMillis(properties.getTtlMs()),
+                readOnlyTransaction,
+                meterRegistry
+        );
+    }
+
+}
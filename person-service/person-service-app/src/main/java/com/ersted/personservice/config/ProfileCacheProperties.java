@@ -0,0 +1,24 @@
+package com.ersted.personservice.config;
+
+import com.ersted.personservice.cache.IndividualProfileCache;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "profile-cache")
+public class ProfileCacheProperties {
+
+    private IndividualProfileCache.Mode mode = IndividualProfileCache.Mode.CACHE;
+
+    @Min(value = 1)
+    private long maximumSize = 10_000;
+
+    @Min(value = 1)
+    private long ttlMs = 60_000;
+
+}
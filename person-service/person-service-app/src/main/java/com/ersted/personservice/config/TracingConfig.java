@@ -0,0 +1,73 @@
+package com.ersted.personservice.config;
+
+import com.ersted.personservice.tracing.PathTaggingReceiverTracingObservationHandler;
+import com.ersted.personservice.tracing.RouteAwareSampler;
+import com.ersted.personservice.tracing.SampledObservedTracingObservationHandler;
+import com.ersted.personservice.tracing.TailSamplingSpanProcessor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.propagation.Propagator;
+import io.opentelemetry.sdk.trace.SpanProcessor;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.micrometer.tracing.autoconfigure.MicrometerTracingAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
+
+import java.time.Duration;
+
+@Configuration
+@EnableConfigurationProperties(TracingSamplingProperties.class)
+public class TracingConfig {
+
+    @Bean
+    public Sampler routeAwareSampler(
+            @Value("${management.tracing.sampling.probability:0.1}") double probability,
+            TracingSamplingProperties properties
+    ) {
+        return new RouteAwareSampler(
+                probability,
+                properties.getRoutes(),
+                properties.getMode() == TracingSamplingProperties.Mode.LOW_OVERHEAD
+        );
+    }
+
+    @Bean
+    @Order(MicrometerTracingAutoConfiguration.RECEIVER_TRACING_OBSERVATION_HANDLER_ORDER)
+    public PropagatingReceiverTracingObservationHandler<?> pathTaggingReceiverTracingObservationHandler(
+            Tracer tracer,
+            Propagator propagator
+    ) {
+        return new PathTaggingReceiverTracingObservationHandler(tracer, propagator);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing-sampling.mode", havingValue = "tail", matchIfMissing = true)
+    public SpanProcessor tailSamplingSpanProcessor(ObjectProvider<SpanExporter> spanExporters,
+                                                   TracingSamplingProperties properties,
+                                                   MeterRegistry meterRegistry) {
+        return new TailSamplingSpanProcessor(
+                SpanExporter.composite(spanExporters.orderedStream().toList()),
+                Duration.ofMillis(properties.getSlowThresholdMs()),
+                properties.getMaxBufferedTraces(),
+                properties.getMaxSpansPerTrace(),
+                Duration.ofMillis(properties.getTraceTtlMs()),
+                meterRegistry
+        );
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "tracing-sampling.mode", havingValue = "low-overhead")
+    @Order(MicrometerTracingAutoConfiguration.DEFAULT_TRACING_OBSERVATION_HANDLER_ORDER)
+    public DefaultTracingObservationHandler sampledObservedTracingObservationHandler(Tracer tracer) {
+        return new SampledObservedTracingObservationHandler(tracer);
+    }
+
+}
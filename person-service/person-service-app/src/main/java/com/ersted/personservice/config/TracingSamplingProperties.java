@@ -0,0 +1,41 @@
+package com.ersted.personservice.config;
+
+import jakarta.validation.constraints.DecimalMax;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "tracing-sampling")
+public class TracingSamplingProperties {
+
+    private Mode mode = Mode.TAIL;
+
+    private Map<String, @DecimalMin("0.0") @DecimalMax("1.0") Double> routes = new LinkedHashMap<>();
+
+    @Min(value = 1)
+    private long slowThresholdMs = 1000;
+
+    @Min(value = 1)
+    private int maxBufferedTraces = 10_000;
+
+    @Min(value = 1)
+    private int maxSpansPerTrace = 256;
+
+    @Min(value = 1)
+    private long traceTtlMs = 60_000;
+
+    public enum Mode {
+        TAIL,
+        LOW_OVERHEAD
+    }
+
+}
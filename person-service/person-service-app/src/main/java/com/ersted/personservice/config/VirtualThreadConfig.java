@@ -0,0 +1,23 @@
+package com.ersted.personservice.config;
+
+import com.ersted.personservice.threads.VirtualThreadPinningMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public VirtualThreadPinningMetrics virtualThreadPinningMetrics(
+            @Value("${virtual-threads.pinning.threshold-ms:20}") long thresholdMs
+    ) {
+        return new VirtualThreadPinningMetrics(Duration.ofMillis(thresholdMs));
+    }
+
+}
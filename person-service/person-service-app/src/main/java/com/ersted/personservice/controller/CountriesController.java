@@ -0,0 +1,37 @@
+package com.ersted.personservice.controller;
+
+import com.ersted.personservice.api.CountriesApi;
+import com.ersted.personservice.catalog.CountryCatalog;
+import com.ersted.personservice.config.CountryCatalogProperties;
+import com.ersted.personservice.model.CountryListResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Duration;
+
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+public class CountriesController implements CountriesApi {
+
+    private final CountryCatalog countryCatalog;
+
+    private final CountryCatalogProperties properties;
+
+    /**
+     * A matching {@code If-None-Match} is answered with 304 by Spring MVC itself, which compares it with the ETag
+     * of the returned entity before writing the body.
+     */
+    @Override
+    public ResponseEntity<CountryListResponse> getCountries() {
+        CountryCatalog.Snapshot snapshot = countryCatalog.snapshot();
+        return ResponseEntity.ok()
+                .eTag(snapshot.etag())
+                .cacheControl(CacheControl.maxAge(Duration.ofSeconds(properties.getMaxAgeSeconds())))
+                .body(snapshot.response());
+    }
+
+}
@@ -1,25 +1,47 @@
 package com.ersted.personservice.controller;
 
 import com.ersted.personservice.api.IndividualsApi;
+import com.ersted.personservice.api.IndividualsBatchApi;
+import com.ersted.personservice.api.IndividualsSearchApi;
+import com.ersted.personservice.model.IndividualBatchCreateRequest;
+import com.ersted.personservice.model.IndividualBatchCreateResponse;
 import com.ersted.personservice.model.IndividualCreateProfileRequest;
 import com.ersted.personservice.model.IndividualInfoResponse;
 import com.ersted.personservice.model.IndividualInfoUpdateRequest;
+import com.ersted.personservice.model.IndividualSearchResponse;
+import com.ersted.personservice.service.IndividualBatchService;
+import com.ersted.personservice.service.IndividualExportService;
+import com.ersted.personservice.service.IndividualSearchService;
 import com.ersted.personservice.service.IndividualService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.WebDataBinder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.InitBinder;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
 import java.net.URI;
 import java.util.UUID;
 
 @RestController
 @RequestMapping("/v1")
 @RequiredArgsConstructor
-public class IndividualsController implements IndividualsApi {
+public class IndividualsController implements IndividualsApi, IndividualsBatchApi, IndividualsSearchApi {
 
     private final IndividualService individualService;
 
+    private final IndividualBatchService individualBatchService;
+
+    private final IndividualSearchService individualSearchService;
+
+    private final IndividualExportService individualExportService;
+
     @Override
     public ResponseEntity<IndividualInfoResponse> createIndividual(
             IndividualCreateProfileRequest individualCreateProfileRequest
@@ -30,6 +52,50 @@ public class IndividualsController implements IndividualsApi {
                 .body(dto);
     }
 
+    @InitBinder("individualBatchCreateRequest")
+    public void skipBatchValidation(WebDataBinder binder) {
+        binder.setExcludedValidators(_ -> true);
+    }
+
+    /**
+     * Profiles of a batch are validated one by one in {@link IndividualBatchService}, so an invalid profile is
+     * reported in its own result instead of rejecting the whole request. The binder skips validation of the body,
+     * and method validation of the generated {@code @Validated} API runs in a group no constraint belongs to.
+     */
+    @Override
+    @Validated(DeferredValidation.class)
+    public ResponseEntity<IndividualBatchCreateResponse> createIndividualsBatch(
+            IndividualBatchCreateRequest individualBatchCreateRequest
+    ) {
+        return ResponseEntity.ok(individualBatchService.create(individualBatchCreateRequest.getProfiles()));
+    }
+
+    @Override
+    public ResponseEntity<IndividualSearchResponse> searchIndividuals(String email,
+                                                                      String phoneNumber,
+                                                                      String passportNumber,
+                                                                      String status,
+                                                                      Integer limit,
+                                                                      String cursor) {
+        return ResponseEntity.ok(individualSearchService.search(email, phoneNumber, passportNumber, status, limit, cursor));
+    }
+
+    /**
+     * Mapped by hand instead of implementing the generated {@code IndividualsExportApi}: that interface returns the
+     * whole body as a {@code Resource}, while the export writes rows straight into the servlet response as they are
+     * read from the cursor.
+     */
+    @GetMapping("/individuals:export")
+    public void exportIndividuals(@RequestParam(defaultValue = "ndjson") String format,
+                                  HttpServletResponse response) throws IOException {
+        IndividualExportService.Format exportFormat = IndividualExportService.Format.of(format);
+        response.setContentType(exportFormat.contentType());
+        response.setCharacterEncoding("UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                "attachment; filename=\"individuals.%s\"".formatted(exportFormat.extension()));
+        individualExportService.export(exportFormat, response.getOutputStream());
+    }
+
     @Override
     public ResponseEntity<Void> activateIndividual(UUID userUuid) {
         individualService.active(userUuid);
@@ -58,4 +124,7 @@ public class IndividualsController implements IndividualsApi {
         return ResponseEntity.noContent().build();
     }
 
+    interface DeferredValidation {
+    }
+
 }
@@ -4,7 +4,10 @@ import com.ersted.personservice.entity.status.IndividualStatus;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.envers.Audited;
+import org.hibernate.envers.NotAudited;
 
 import java.time.OffsetDateTime;
 import java.util.UUID;
@@ -13,6 +16,7 @@ import java.util.UUID;
 @Setter
 @Audited
 @Entity
+@DynamicUpdate
 @Table(schema = "person", name = "individuals")
 public class Individual {
 
@@ -41,4 +45,9 @@ public class Individual {
     @Column(name = "status")
     private IndividualStatus status;
 
+    @NotAudited
+    @CreationTimestamp
+    @Column(name = "created", nullable = false, updatable = false)
+    private OffsetDateTime created;
+
 }
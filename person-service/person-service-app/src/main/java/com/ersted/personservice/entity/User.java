@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.envers.Audited;
 
@@ -14,6 +15,7 @@ import java.util.UUID;
 @Setter
 @Audited
 @Entity
+@DynamicUpdate
 @Table(schema = "person", name = "users")
 public class User {
 
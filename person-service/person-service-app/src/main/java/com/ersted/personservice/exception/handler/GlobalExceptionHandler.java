@@ -5,6 +5,7 @@ import com.ersted.personservice.exception.ValidateException;
 import com.ersted.personservice.model.ErrorResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
@@ -36,6 +37,18 @@ public class GlobalExceptionHandler {
                 .body(errorBody);
     }
 
+    @ExceptionHandler(CannotCreateTransactionException.class)
+    public ResponseEntity<ErrorResponse> handleUnavailable(CannotCreateTransactionException ex) {
+
+        ErrorResponse errorBody = new ErrorResponse();
+        errorBody.error("Database connection is not available");
+        errorBody.status("SERVICE_UNAVAILABLE");
+
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .body(errorBody);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ErrorResponse> handleValidation(Exception ex) {
 
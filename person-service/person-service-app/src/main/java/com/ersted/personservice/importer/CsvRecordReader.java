@@ -0,0 +1,131 @@
+package com.ersted.personservice.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streaming RFC 4180 reader: comma separated, fields optionally enclosed in double quotes with {@code ""} as an
+ * escaped quote, records ended by LF or CRLF; quoted fields may span lines. An unquoted empty field is read as
+ * {@code null}, a quoted one as an empty string. A malformed record is returned with an error instead of
+ * failing the whole file, and reading resumes at the next line.
+ */
+public class CsvRecordReader implements Closeable {
+
+    private static final int EOF = -1;
+    private static final int NONE = -2;
+    private static final int UNTERMINATED = -3;
+
+    private final Reader reader;
+    private long line = 1;
+    private int pending = NONE;
+
+    public CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * @return the next record, or {@code null} at the end of the input
+     */
+    public Record next() throws IOException {
+        int c = read();
+        if (c == EOF) {
+            return null;
+        }
+        long start = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        while (true) {
+            boolean quoted = c == '"';
+            if (quoted) {
+                c = readQuoted(field);
+                if (c == UNTERMINATED) {
+                    fields.add(field.toString());
+                    return new Record(start, fields, "Unterminated quoted field");
+                }
+                if (c != ',' && c != '\n' && c != EOF) {
+                    skipLine(c);
+                    fields.add(field.toString());
+                    return new Record(start, fields, "Unexpected character after quoted field");
+                }
+            } else {
+                while (c != ',' && c != '\n' && c != EOF) {
+                    field.append((char) c);
+                    c = read();
+                }
+            }
+            fields.add(quoted || !field.isEmpty() ? field.toString() : null);
+            field.setLength(0);
+            if (c != ',') {
+                return new Record(start, fields, null);
+            }
+            c = read();
+        }
+    }
+
+    /**
+     * Reads a quoted field after its opening quote.
+     *
+     * @return the character after the closing quote, or {@code UNTERMINATED} when the input ends inside the field
+     */
+    private int readQuoted(StringBuilder field) throws IOException {
+        while (true) {
+            int c = read();
+            if (c == EOF) {
+                return UNTERMINATED;
+            }
+            if (c == '"') {
+                c = read();
+                if (c != '"') {
+                    return c;
+                }
+            }
+            field.append((char) c);
+        }
+    }
+
+    private void skipLine(int c) throws IOException {
+        while (c != '\n' && c != EOF) {
+            c = read();
+        }
+    }
+
+    /**
+     * Next character with CRLF folded into LF.
+     */
+    private int read() throws IOException {
+        int c;
+        if (pending != NONE) {
+            c = pending;
+            pending = NONE;
+        } else {
+            c = reader.read();
+        }
+        if (c == '\r') {
+            int next = reader.read();
+            if (next != '\n') {
+                pending = next;
+            }
+            c = '\n';
+        }
+        if (c == '\n') {
+            line++;
+        }
+        return c;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * @param line  line of the file the record starts on
+     * @param error why the record could not be read, {@code null} for a well-formed record
+     */
+    public record Record(long line, List<String> fields, String error) {
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.ersted.personservice.importer;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+@Component
+@Endpoint(id = "individualimport")
+@RequiredArgsConstructor
+public class IndividualImportEndpoint {
+
+    private final IndividualImportJob individualImportJob;
+
+    @ReadOperation
+    public IndividualImportJob.Status status() {
+        return individualImportJob.status();
+    }
+
+    @WriteOperation
+    public IndividualImportJob.Status start(String file) {
+        return individualImportJob.start(file);
+    }
+
+}
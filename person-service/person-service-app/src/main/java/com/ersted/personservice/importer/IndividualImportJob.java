@@ -0,0 +1,366 @@
+package com.ersted.personservice.importer;
+
+import com.ersted.personservice.exception.ValidateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Loads profiles from a CSV file in {@code directory}, bypassing JPA: every {@code chunkSize} records are streamed
+ * into a staging table with {@code COPY} and inserted with set-based SQL by {@link IndividualImportRepository}, one
+ * transaction per chunk. Records that cannot be read or fail validation are written to
+ * {@code <name>.rejects.csv} next to the file with their line and reason, in the input columns, so they can be
+ * fixed and imported again.
+ * <p>
+ * One import runs at a time on a dedicated thread. If a chunk fails, the chunks before it stay committed and the
+ * status reports the last committed line.
+ */
+@Slf4j
+public class IndividualImportJob {
+
+    private final IndividualImportRepository repository;
+    private final TransactionOperations transaction;
+    private final JdbcOperations jdbcOperations;
+    private final Path directory;
+    private final int chunkSize;
+    private final Counter imported;
+    private final Counter rejected;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("individual-import").factory());
+
+    private volatile Status status = Status.IDLE;
+
+    public IndividualImportJob(IndividualImportRepository repository,
+                               TransactionOperations transaction,
+                               JdbcOperations jdbcOperations,
+                               Path directory,
+                               int chunkSize,
+                               MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.transaction = transaction;
+        this.jdbcOperations = jdbcOperations;
+        this.directory = directory.toAbsolutePath().normalize();
+        this.chunkSize = chunkSize;
+        this.imported = Counter.builder("individual.import.rows")
+                .tag("result", "imported")
+                .description("Profiles inserted by imports")
+                .register(meterRegistry);
+        this.rejected = Counter.builder("individual.import.rows")
+                .tag("result", "rejected")
+                .description("Records written to the reject file by imports")
+                .register(meterRegistry);
+        Gauge.builder("individual.import.progress", this, job -> job.status.progress())
+                .description("Share of the file read by the current or last import")
+                .register(meterRegistry);
+        Gauge.builder("individual.import.rate", this, job -> job.status.rowsPerSecond())
+                .description("Records per second of the current or last import")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Starts importing {@code file}, a path relative to the import directory. Does nothing while another import
+     * is running.
+     *
+     * @return the status of the started or the running import
+     * @throws ValidateException if the file is outside the import directory or not readable
+     */
+    public synchronized Status start(String file) {
+        if (status.state() == State.RUNNING) {
+            return status;
+        }
+        Path source = directory.resolve(file).normalize();
+        if (!source.startsWith(directory) || !Files.isRegularFile(source) || !Files.isReadable(source)) {
+            throw new ValidateException("Import file %s not found in %s".formatted(file, directory));
+        }
+        Path rejects = source.resolveSibling(source.getFileName().toString().replaceFirst("(\\.csv)?$", ".rejects.csv"));
+        status = Status.started(display(source), display(rejects));
+        executor.execute(() -> run(source, rejects));
+        return status;
+    }
+
+    public Status status() {
+        return status;
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Imports {@code source} on the calling thread.
+     */
+    public Status run(Path source, Path rejects) {
+        if (status.state() != State.RUNNING) {
+            status = Status.started(display(source), display(rejects));
+        }
+        long started = System.nanoTime();
+        Progress progress = new Progress();
+        log.info("Individual import started, file: [{}]", source);
+        try (CountingInputStream input = new CountingInputStream(Files.newInputStream(source));
+             CsvRecordReader reader = new CsvRecordReader(new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8)));
+             BufferedWriter rejectWriter = Files.newBufferedWriter(rejects, StandardCharsets.UTF_8)) {
+            long size = Math.max(1, Files.size(source));
+            int[] positions = positions(reader.next());
+            writeRecord(rejectWriter, header());
+
+            Chunk chunk;
+            do {
+                chunk = Objects.requireNonNull(transaction.execute(_ -> jdbcOperations.execute(
+                        (ConnectionCallback<Chunk>) connection -> chunk(connection, reader, positions, rejectWriter))));
+                rejectWriter.flush();
+                imported.increment(chunk.imported());
+                rejected.increment(chunk.rejected());
+                progress.add(chunk);
+                status = status.progress(progress, (double) input.count() / size, rate(progress, started));
+            } while (chunk.more());
+
+            status = status.completed(progress, rate(progress, started));
+            log.info("Individual import completed, imported: [{}], rejected: [{}], rows/s: [{}]",
+                    progress.imported, progress.rejected, Math.round(status.rowsPerSecond()));
+        } catch (IOException | RuntimeException e) {
+            status = status.failed(progress, rate(progress, started), e.getMessage());
+            log.error("Individual import failed after line [{}]", progress.committedLine, e);
+        }
+        return status;
+    }
+
+    private String display(Path path) {
+        return path.startsWith(directory) ? directory.relativize(path).toString() : path.toString();
+    }
+
+    private Chunk chunk(Connection connection, CsvRecordReader reader, int[] positions, Writer rejectWriter) throws SQLException {
+        repository.createStaging(connection);
+        int staged = 0;
+        int rejectedRecords = 0;
+        long lastLine = 0;
+        CsvRecordReader.Record record = null;
+        try (Writer copy = repository.copy(connection)) {
+            while (staged < chunkSize && (record = reader.next()) != null) {
+                lastLine = record.line();
+                if (record.error() == null && record.fields().size() == 1 && record.fields().getFirst() == null) {
+                    continue;
+                }
+                String error = error(record, positions);
+                if (error != null) {
+                    writeReject(rejectWriter, record.line(), error, record.fields());
+                    rejectedRecords++;
+                    continue;
+                }
+                List<String> values = new ArrayList<>(positions.length);
+                for (int position : positions) {
+                    values.add(record.fields().get(position));
+                }
+                IndividualImportRepository.writeRow(copy, record.line(), values);
+                staged++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        int inserted = 0;
+        if (staged > 0) {
+            inserted = repository.load(connection, System.currentTimeMillis());
+            for (IndividualImportRepository.Reject reject : repository.rejects(connection)) {
+                writeReject(rejectWriter, reject.line(), reject.reason(), reject.values());
+                rejectedRecords++;
+            }
+        }
+        return new Chunk(inserted, rejectedRecords, lastLine, record != null);
+    }
+
+    private String error(CsvRecordReader.Record record, int[] positions) {
+        if (record.error() != null) {
+            return record.error();
+        }
+        if (record.fields().size() != positions.length) {
+            return "Expected %d fields, found %d".formatted(positions.length, record.fields().size());
+        }
+        for (String field : record.fields()) {
+            if (field != null && field.indexOf('\0') >= 0) {
+                return "Field contains a NUL character";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Maps the header to the position of every import column, so the file may list them in any order.
+     */
+    private static int[] positions(CsvRecordReader.Record header) {
+        if (header == null || header.error() != null) {
+            throw new IllegalArgumentException("Import file has no valid header");
+        }
+        Map<String, Integer> byName = new HashMap<>();
+        for (int i = 0; i < header.fields().size(); i++) {
+            byName.put(Objects.requireNonNullElse(header.fields().get(i), "").replace("\uFEFF", "").strip(), i);
+        }
+        if (byName.size() != IndividualImportRepository.COLUMNS.size()) {
+            throw new IllegalArgumentException("Import file header must contain exactly the columns " + header());
+        }
+        int[] positions = new int[IndividualImportRepository.COLUMNS.size()];
+        for (int i = 0; i < positions.length; i++) {
+            Integer position = byName.get(IndividualImportRepository.COLUMNS.get(i).name());
+            if (position == null) {
+                throw new IllegalArgumentException("Import file header must contain exactly the columns " + header());
+            }
+            positions[i] = position;
+        }
+        return positions;
+    }
+
+    private static List<String> header() {
+        List<String> header = new ArrayList<>(List.of("line", "reason"));
+        IndividualImportRepository.COLUMNS.forEach(column -> header.add(column.name()));
+        return header;
+    }
+
+    private static void writeReject(Writer writer, long line, String reason, List<String> values) {
+        List<String> record = new ArrayList<>(values.size() + 2);
+        record.add(Long.toString(line));
+        record.add(reason);
+        record.addAll(values);
+        try {
+            writeRecord(writer, record);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void writeRecord(Writer writer, List<String> values) throws IOException {
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            String value = values.get(i);
+            if (value != null) {
+                boolean quote = value.isEmpty() || value.chars().anyMatch(c -> c == ',' || c == '"' || c == '\n' || c == '\r');
+                writer.write(quote ? '"' + value.replace("\"", "\"\"") + '"' : value);
+            }
+        }
+        writer.write("\r\n");
+    }
+
+    private static double rate(Progress progress, long started) {
+        double seconds = (System.nanoTime() - started) / 1e9;
+        return seconds > 0 ? (progress.imported + progress.rejected) / seconds : 0;
+    }
+
+    public enum State {
+        IDLE, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * @param committedLine last line of the file covered by a committed chunk
+     * @param progress      share of the file read, from 0 to 1
+     */
+    public record Status(State state,
+                         String file,
+                         String rejectFile,
+                         long imported,
+                         long rejected,
+                         long committedLine,
+                         double progress,
+                         double rowsPerSecond,
+                         Instant startedAt,
+                         Instant finishedAt,
+                         String error) {
+
+        static final Status IDLE = new Status(State.IDLE, null, null, 0, 0, 0, 0, 0, null, null, null);
+
+        static Status started(String file, String rejectFile) {
+            return new Status(State.RUNNING, file, rejectFile, 0, 0, 0, 0, 0, Instant.now(), null, null);
+        }
+
+        Status progress(Progress progress, double read, double rowsPerSecond) {
+            return new Status(state, file, rejectFile, progress.imported, progress.rejected, progress.committedLine,
+                    Math.min(read, 1), rowsPerSecond, startedAt, null, null);
+        }
+
+        Status completed(Progress progress, double rowsPerSecond) {
+            return new Status(State.COMPLETED, file, rejectFile, progress.imported, progress.rejected,
+                    progress.committedLine, 1, rowsPerSecond, startedAt, Instant.now(), null);
+        }
+
+        Status failed(Progress progress, double rowsPerSecond, String error) {
+            return new Status(State.FAILED, file, rejectFile, progress.imported, progress.rejected,
+                    progress.committedLine, this.progress, rowsPerSecond, startedAt, Instant.now(), error);
+        }
+
+    }
+
+    private record Chunk(int imported, int rejected, long lastLine, boolean more) {
+    }
+
+    private static final class Progress {
+
+        private long imported;
+        private long rejected;
+        private long committedLine;
+
+        void add(Chunk chunk) {
+            imported += chunk.imported();
+            rejected += chunk.rejected();
+            committedLine = Math.max(committedLine, chunk.lastLine());
+        }
+
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        CountingInputStream(InputStream input) {
+            super(input);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] buffer, int offset, int length) throws IOException {
+            int read = super.read(buffer, offset, length);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+
+        long count() {
+            return count;
+        }
+
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.ersted.personservice.importer;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.PGCopyOutputStream;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JDBC side of the profile import. A chunk of the file is copied into a temporary staging table, validated and
+ * resolved against {@code person.countries} there, and the accepted rows are moved into addresses, users and
+ * individuals by one {@code INSERT ... SELECT} per table. The chunk gets one Envers revision whose history rows are
+ * written the same way. Every method runs on the connection of the caller's transaction; the staging table is
+ * dropped on commit.
+ */
+public class IndividualImportRepository {
+
+    public static final List<Column> COLUMNS = List.of(
+            new Column("passport_number", 32),
+            new Column("phone_number", 32),
+            new Column("email", 1024),
+            new Column("first_name", 32),
+            new Column("last_name", 32),
+            new Column("secret_key", 32),
+            new Column("address", 128),
+            new Column("zip_code", 32),
+            new Column("city", 32),
+            new Column("state", 32),
+            new Column("country", 3));
+
+    private static final String COLUMN_LIST = COLUMNS.stream().map(Column::name).collect(Collectors.joining(", "));
+
+    private static final String CREATE_STAGING = """
+            CREATE TEMP TABLE individual_import (
+                line bigint NOT NULL,
+                %s,
+                country_id integer,
+                reason text,
+                address_id uuid NOT NULL DEFAULT gen_random_uuid(),
+                user_id uuid NOT NULL DEFAULT gen_random_uuid(),
+                individual_id uuid NOT NULL DEFAULT gen_random_uuid()
+            ) ON COMMIT DROP
+            """.formatted(COLUMNS.stream().map(column -> column.name() + " text").collect(Collectors.joining(", ")));
+
+    private static final String COPY = "COPY individual_import (line, %s) FROM STDIN (FORMAT csv)".formatted(COLUMN_LIST);
+
+    private static final String RESOLVE_COUNTRIES = """
+            UPDATE individual_import s SET country_id = c.id FROM person.countries c WHERE c.alpha3 = s.country
+            """;
+
+    private static final String REASON = "CASE %s WHEN email !~ '^[^@[:space:]]+@[^@[:space:]]+$' THEN 'email is not a valid address' WHEN country_id IS NULL THEN 'Couldn''t find the country by alpha3' END"
+            .formatted(COLUMNS.stream()
+                    .map(column -> "WHEN coalesce(%1$s, '') = '' THEN '%1$s is required' WHEN length(%1$s) > %2$d THEN '%1$s size must be between 0 and %2$d'"
+                            .formatted(column.name(), column.maxLength()))
+                    .collect(Collectors.joining(" ")));
+
+    private static final String VALIDATE = "UPDATE individual_import SET reason = %1$s WHERE %1$s IS NOT NULL".formatted(REASON);
+
+    private static final String INSERT_ADDRESSES = """
+            INSERT INTO person.addresses (id, created, updated, country_id, address, zip_code, city, state)
+            SELECT address_id, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, country_id, address, zip_code, city, state
+            FROM individual_import WHERE reason IS NULL
+            """;
+
+    private static final String INSERT_USERS = """
+            INSERT INTO person.users (id, secret_key, email, created, updated, first_name, last_name, filled, address_id)
+            SELECT user_id, secret_key, email, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP, first_name, last_name, true, address_id
+            FROM individual_import WHERE reason IS NULL
+            """;
+
+    private static final String INSERT_INDIVIDUALS = """
+            INSERT INTO person.individuals (id, user_id, passport_number, phone_number, status, created)
+            SELECT individual_id, user_id, passport_number, phone_number, 'PENDING', CURRENT_TIMESTAMP
+            FROM individual_import WHERE reason IS NULL
+            """;
+
+    private static final String NEXT_REVISION = "SELECT nextval('person.revinfo_seq')";
+
+    private static final String INSERT_REVISION = "INSERT INTO person.revinfo (rev, revtstmp) VALUES (?, ?)";
+
+    private static final String INSERT_ADDRESSES_AUDIT = """
+            INSERT INTO person.addresses_aud (id, rev, revtype, address, city, created, state, updated, zip_code, country_id)
+            SELECT address_id, ?, 0, address, city, CURRENT_TIMESTAMP, state, CURRENT_TIMESTAMP, zip_code, country_id
+            FROM individual_import WHERE reason IS NULL
+            """;
+
+    private static final String INSERT_USERS_AUDIT = """
+            INSERT INTO person.users_aud (id, rev, revtype, created, email, filled, first_name, last_name, secret_key, updated, address_id)
+            SELECT user_id, ?, 0, CURRENT_TIMESTAMP, email, true, first_name, last_name, secret_key, CURRENT_TIMESTAMP, address_id
+            FROM individual_import WHERE reason IS NULL
+            """;
+
+    private static final String INSERT_INDIVIDUALS_AUDIT = """
+            INSERT INTO person.individuals_aud (id, rev, revtype, passport_number, phone_number, status, user_id)
+            SELECT individual_id, ?, 0, passport_number, phone_number, 'PENDING', user_id
+            FROM individual_import WHERE reason IS NULL
+            """;
+
+    private static final String REJECTS = "SELECT line, reason, %s FROM individual_import WHERE reason IS NOT NULL ORDER BY line"
+            .formatted(COLUMN_LIST);
+
+    public void createStaging(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(CREATE_STAGING);
+        }
+    }
+
+    /**
+     * Opens {@code COPY FROM STDIN} into the staging table. Rows are written with {@link #writeRow} and the copy
+     * ends when the writer is closed.
+     */
+    public Writer copy(Connection connection) throws SQLException {
+        PGCopyOutputStream output = new PGCopyOutputStream(connection.unwrap(PGConnection.class), COPY, 1 << 16);
+        return new OutputStreamWriter(output, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Writes one staging row in the COPY CSV format: {@code null} as an unquoted empty field, any other value
+     * quoted.
+     */
+    public static void writeRow(Writer writer, long line, List<String> values) throws IOException {
+        writer.write(Long.toString(line));
+        for (String value : values) {
+            writer.write(',');
+            if (value != null) {
+                writer.write('"');
+                writer.write(value.replace("\"", "\"\""));
+                writer.write('"');
+            }
+        }
+        writer.write('\n');
+    }
+
+    /**
+     * Validates the staged rows and inserts the accepted ones with their history under a new revision.
+     *
+     * @return the number of profiles inserted
+     */
+    public int load(Connection connection, long timestamp) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate(RESOLVE_COUNTRIES);
+            statement.executeUpdate(VALIDATE);
+            statement.executeUpdate(INSERT_ADDRESSES);
+            statement.executeUpdate(INSERT_USERS);
+            int inserted = statement.executeUpdate(INSERT_INDIVIDUALS);
+            if (inserted == 0) {
+                return 0;
+            }
+
+            int revision;
+            try (ResultSet resultSet = statement.executeQuery(NEXT_REVISION)) {
+                resultSet.next();
+                revision = resultSet.getInt(1);
+            }
+            try (PreparedStatement insert = connection.prepareStatement(INSERT_REVISION)) {
+                insert.setInt(1, revision);
+                insert.setLong(2, timestamp);
+                insert.executeUpdate();
+            }
+            for (String audit : List.of(INSERT_ADDRESSES_AUDIT, INSERT_USERS_AUDIT, INSERT_INDIVIDUALS_AUDIT)) {
+                try (PreparedStatement insert = connection.prepareStatement(audit)) {
+                    insert.setInt(1, revision);
+                    insert.executeUpdate();
+                }
+            }
+            return inserted;
+        }
+    }
+
+    public List<Reject> rejects(Connection connection) throws SQLException {
+        List<Reject> rejects = new ArrayList<>();
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(REJECTS)) {
+            while (resultSet.next()) {
+                List<String> values = new ArrayList<>(COLUMNS.size());
+                for (int i = 0; i < COLUMNS.size(); i++) {
+                    values.add(resultSet.getString(i + 3));
+                }
+                rejects.add(new Reject(resultSet.getLong(1), resultSet.getString(2), values));
+            }
+        }
+        return rejects;
+    }
+
+    public record Column(String name, int maxLength) {
+    }
+
+    public record Reject(long line, String reason, List<String> values) {
+    }
+
+}
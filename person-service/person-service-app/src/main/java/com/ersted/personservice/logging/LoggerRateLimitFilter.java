@@ -0,0 +1,123 @@
+package com.ersted.personservice.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.turbo.TurboFilter;
+import ch.qos.logback.core.spi.FilterReply;
+import org.slf4j.Marker;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+public class LoggerRateLimitFilter extends TurboFilter {
+
+    private static final Limit UNLIMITED = new Limit("", Integer.MAX_VALUE);
+
+    private final LongSupplier millisClock;
+    private final List<Limit> limits = new CopyOnWriteArrayList<>();
+    private final Map<String, Limit> resolved = new ConcurrentHashMap<>();
+
+    public LoggerRateLimitFilter() {
+        this(System::currentTimeMillis);
+    }
+
+    public LoggerRateLimitFilter(LongSupplier millisClock) {
+        this.millisClock = millisClock;
+    }
+
+    public void addLimit(String limit) {
+        int separator = limit.lastIndexOf('=');
+        if (separator <= 0) {
+            addError("Invalid limit [" + limit + "], expected <logger>=<events per second>");
+            return;
+        }
+        String loggerName = limit.substring(0, separator).trim();
+        try {
+            limits.add(new Limit(loggerName, Integer.parseInt(limit.substring(separator + 1).trim())));
+            resolved.clear();
+        } catch (NumberFormatException e) {
+            addError("Invalid events per second in limit [" + limit + "]", e);
+        }
+    }
+
+    public Collection<Limit> getLimits() {
+        return limits;
+    }
+
+    @Override
+    public FilterReply decide(Marker marker, Logger logger, Level level, String format, Object[] params, Throwable t) {
+        if (!isStarted() || format == null || level.isGreaterOrEqual(Level.WARN)) {
+            return FilterReply.NEUTRAL;
+        }
+        if (!level.isGreaterOrEqual(logger.getEffectiveLevel())) {
+            return FilterReply.NEUTRAL;
+        }
+
+        Limit limit = resolved.get(logger.getName());
+        if (limit == null) {
+            limit = resolved.computeIfAbsent(logger.getName(), this::resolve);
+        }
+
+        return limit == UNLIMITED || limit.tryAcquire(millisClock.getAsLong() / 1000)
+                ? FilterReply.NEUTRAL
+                : FilterReply.DENY;
+    }
+
+    private Limit resolve(String loggerName) {
+        Limit match = UNLIMITED;
+        for (Limit limit : limits) {
+            if (limit.matches(loggerName) && limit.getLogger().length() >= match.getLogger().length()) {
+                match = limit;
+            }
+        }
+        return match;
+    }
+
+    public static final class Limit {
+
+        private final String logger;
+        private final int eventsPerSecond;
+        private final AtomicLong currentSecond = new AtomicLong();
+        private final AtomicInteger eventsInSecond = new AtomicInteger();
+        private final LongAdder suppressed = new LongAdder();
+
+        private Limit(String logger, int eventsPerSecond) {
+            this.logger = logger;
+            this.eventsPerSecond = eventsPerSecond;
+        }
+
+        public String getLogger() {
+            return logger;
+        }
+
+        public long getSuppressed() {
+            return suppressed.sum();
+        }
+
+        private boolean matches(String loggerName) {
+            return loggerName.equals(logger)
+                    || loggerName.startsWith(logger) && loggerName.charAt(logger.length()) == '.';
+        }
+
+        private boolean tryAcquire(long second) {
+            long current = currentSecond.get();
+            if (current != second && currentSecond.compareAndSet(current, second)) {
+                eventsInSecond.set(0);
+            }
+            if (eventsInSecond.incrementAndGet() <= eventsPerSecond) {
+                return true;
+            }
+            suppressed.increment();
+            return false;
+        }
+
+    }
+
+}
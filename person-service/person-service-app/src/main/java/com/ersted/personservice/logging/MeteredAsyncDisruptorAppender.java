@@ -0,0 +1,58 @@
+package com.ersted.personservice.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import lombok.Getter;
+import lombok.Setter;
+import net.logstash.logback.appender.LoggingEventAsyncDisruptorAppender;
+import net.logstash.logback.appender.listener.AppenderListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class MeteredAsyncDisruptorAppender extends LoggingEventAsyncDisruptorAppender {
+
+    @Getter
+    @Setter
+    private int discardingThreshold;
+
+    private final LongAdder droppedFull = new LongAdder();
+    private final LongAdder droppedThreshold = new LongAdder();
+
+    public MeteredAsyncDisruptorAppender() {
+        addListener(new AppenderListener<>() {
+            @Override
+            public void eventAppendFailed(Appender<ILoggingEvent> appender, ILoggingEvent event, Throwable reason) {
+                droppedFull.increment();
+            }
+        });
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        if (discardingThreshold > 0
+                && !event.getLevel().isGreaterOrEqual(Level.WARN)
+                && remainingCapacity() < discardingThreshold) {
+            droppedThreshold.increment();
+            return;
+        }
+        super.append(event);
+    }
+
+    public long getQueueDepth() {
+        return isStarted() ? getRingBufferSize() - remainingCapacity() : 0;
+    }
+
+    public long getDroppedFull() {
+        return droppedFull.sum();
+    }
+
+    public long getDroppedThreshold() {
+        return droppedThreshold.sum();
+    }
+
+    private long remainingCapacity() {
+        return getDisruptor().getRingBuffer().remainingCapacity();
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.ersted.personservice.mapper;
+
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.model.CountryInfo;
+import org.mapstruct.Mapper;
+
+import java.util.List;
+
+@Mapper(componentModel = "spring")
+public interface CountryMapper {
+
+    CountryInfo map(Country country);
+
+    List<CountryInfo> map(List<Country> countries);
+
+}
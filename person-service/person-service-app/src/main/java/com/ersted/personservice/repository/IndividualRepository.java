@@ -1,14 +1,23 @@
 package com.ersted.personservice.repository;
 
 import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.status.IndividualStatus;
 import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
+import java.time.OffsetDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface IndividualRepository extends JpaRepository<Individual, UUID> {
+public interface IndividualRepository extends JpaRepository<Individual, UUID>, IndividualSearchRepository {
 
     @Observed(name = "individual.repository.findWithDetailById", contextualName = "repository.findWithDetailById")
     @EntityGraph(attributePaths = {
@@ -18,5 +27,23 @@ public interface IndividualRepository extends JpaRepository<Individual, UUID> {
     })
     Optional<Individual> findWithDetailById(UUID id);
 
+    /**
+     * Locks up to {@code limit} individuals in {@code status} created before {@code before}, oldest first, that come
+     * after the {@code (created, id)} position of the previous chunk. Rows locked by another transaction are skipped.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("""
+            select i from Individual i
+            where i.status = :status
+              and i.created < :before
+              and (i.created, i.id) > (:created, :id)
+            order by i.created, i.id
+            """)
+    List<Individual> lockCreatedBefore(IndividualStatus status, OffsetDateTime before, OffsetDateTime created, UUID id,
+                                       Limit limit);
+
+    Optional<Individual> findFirstByStatusOrderByCreatedAscIdAsc(IndividualStatus status);
+
 
 }
@@ -0,0 +1,13 @@
+package com.ersted.personservice.repository;
+
+import com.ersted.personservice.entity.status.IndividualStatus;
+
+/**
+ * Optional conditions of an individuals search; a {@code null} field does not restrict the result. The email is
+ * compared case-insensitively.
+ */
+public record IndividualSearchFilter(String email,
+                                     String phoneNumber,
+                                     String passportNumber,
+                                     IndividualStatus status) {
+}
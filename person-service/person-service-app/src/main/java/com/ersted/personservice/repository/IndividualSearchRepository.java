@@ -0,0 +1,21 @@
+package com.ersted.personservice.repository;
+
+import com.ersted.personservice.entity.Individual;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface IndividualSearchRepository {
+
+    /**
+     * Returns up to {@code limit} individuals matching the filter, newest first, that come after the
+     * {@code (created, id)} position of the previous page; {@code after} is {@code null} for the first page.
+     * Users, addresses and countries are fetched in the same query.
+     */
+    List<Individual> search(IndividualSearchFilter filter, Position after, int limit);
+
+    record Position(OffsetDateTime created, UUID id) {
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.ersted.personservice.repository;
+
+import com.ersted.personservice.entity.Individual;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Builds the query from the conditions that are present, so every combination gets its own plan over the matching
+ * index instead of one generic plan with {@code :param is null} branches. The page continues with a row comparison
+ * on {@code (created, id)}, which PostgreSQL resolves as a range scan of the {@code (created, id)} or
+ * {@code (status, created, id)} index regardless of how deep the page is.
+ */
+@RequiredArgsConstructor
+public class IndividualSearchRepositoryImpl implements IndividualSearchRepository {
+
+    private static final String SELECT = """
+            select i from Individual i
+            join fetch i.user u
+            join fetch u.address a
+            left join fetch a.country
+            """;
+
+    private final EntityManager entityManager;
+
+    @Override
+    public List<Individual> search(IndividualSearchFilter filter, Position after, int limit) {
+        List<String> conditions = new ArrayList<>();
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        if (filter.email() != null) {
+            conditions.add("lower(u.email) = :email");
+            parameters.put("email", filter.email().toLowerCase(Locale.ROOT));
+        }
+        if (filter.phoneNumber() != null) {
+            conditions.add("i.phoneNumber = :phoneNumber");
+            parameters.put("phoneNumber", filter.phoneNumber());
+        }
+        if (filter.passportNumber() != null) {
+            conditions.add("i.passportNumber = :passportNumber");
+            parameters.put("passportNumber", filter.passportNumber());
+        }
+        if (filter.status() != null) {
+            conditions.add("i.status = :status");
+            parameters.put("status", filter.status());
+        }
+        if (after != null) {
+            conditions.add("(i.created, i.id) < (:created, :id)");
+            parameters.put("created", after.created());
+            parameters.put("id", after.id());
+        }
+
+        String where = conditions.isEmpty() ? "" : "where " + String.join(" and ", conditions) + "\n";
+        TypedQuery<Individual> query = entityManager.createQuery(
+                SELECT + where + "order by i.created desc, i.id desc", Individual.class);
+        parameters.forEach(query::setParameter);
+        return query.setMaxResults(limit).getResultList();
+    }
+
+}
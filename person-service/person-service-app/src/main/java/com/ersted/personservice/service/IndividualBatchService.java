@@ -0,0 +1,110 @@
+package com.ersted.personservice.service;
+
+import com.ersted.personservice.annotation.Counted;
+import com.ersted.personservice.catalog.CountryCatalog;
+import com.ersted.personservice.config.IndividualBatchProperties;
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import com.ersted.personservice.exception.ValidateException;
+import com.ersted.personservice.mapper.IndividualMapper;
+import com.ersted.personservice.model.IndividualBatchCreateResponse;
+import com.ersted.personservice.model.IndividualBatchItemResult;
+import com.ersted.personservice.model.IndividualCreateProfileRequest;
+import com.ersted.personservice.repository.IndividualRepository;
+import io.micrometer.observation.annotation.Observed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IndividualBatchService {
+
+    private final IndividualRepository individualRepository;
+
+    private final CountryCatalog countryCatalog;
+
+    private final IndividualMapper individualMapper;
+
+    private final IndividualBatchProperties properties;
+
+    private final Validator validator;
+
+    /**
+     * Creates the accepted profiles of the batch in one transaction. Every profile is validated against the API
+     * constraints before anything is persisted, so a rejected one is only reported in its result; the accepted ones
+     * are flushed on commit as a few JDBC batches per table.
+     */
+    @Counted("person.service.api.individual.batch.create")
+    @Observed(name = "individual.batch.create", contextualName = "create-individual-profiles-batch")
+    @Transactional
+    public IndividualBatchCreateResponse create(List<IndividualCreateProfileRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new ValidateException("Batch must contain at least one profile");
+        }
+        if (requests.size() > properties.getMaxSize()) {
+            throw new ValidateException("Batch must contain at most %d profiles".formatted(properties.getMaxSize()));
+        }
+        log.info("Creating individuals batch, size: [{}]", requests.size());
+
+        List<IndividualBatchItemResult> results = new ArrayList<>(requests.size());
+        List<Accepted> accepted = new ArrayList<>(requests.size());
+        for (int index = 0; index < requests.size(); index++) {
+            IndividualBatchItemResult result = new IndividualBatchItemResult(index, IndividualBatchItemResult.StatusEnum.CREATED);
+            results.add(result);
+            try {
+                accepted.add(new Accepted(result, toIndividual(requests.get(index))));
+            } catch (ValidateException e) {
+                log.warn("Individual rejected from batch, index: [{}], reason: [{}]", index, e.getMessage());
+                result.status(IndividualBatchItemResult.StatusEnum.REJECTED).error(e.getMessage());
+            }
+        }
+
+        individualRepository.saveAll(accepted.stream().map(Accepted::individual).toList());
+        accepted.forEach(item -> item.result().individual(individualMapper.map(item.individual())));
+
+        int rejected = requests.size() - accepted.size();
+        log.info("Individuals batch created, created: [{}], rejected: [{}]", accepted.size(), rejected);
+        return new IndividualBatchCreateResponse(accepted.size(), rejected, results);
+    }
+
+    private Individual toIndividual(IndividualCreateProfileRequest request) {
+        Country country = validate(request);
+
+        Individual individual = individualMapper.map(request);
+        individual.setStatus(IndividualStatus.PENDING);
+        individual.getUser().setFilled(true);
+        individual.getUser().getAddress().setCountry(country);
+        return individual;
+    }
+
+    private Country validate(IndividualCreateProfileRequest request) {
+        if (request == null) {
+            throw new ValidateException("Profile is required");
+        }
+        Set<ConstraintViolation<IndividualCreateProfileRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new ValidateException(violations.stream()
+                    .map(violation -> "%s %s".formatted(violation.getPropertyPath(), violation.getMessage()))
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        return countryCatalog.findByAlpha3(request.getAddress().getCountry().getAlpha3())
+                .orElseThrow(() -> new ValidateException("Couldn't find the country by alpha3"));
+    }
+
+    private record Accepted(IndividualBatchItemResult result, Individual individual) {
+    }
+
+}
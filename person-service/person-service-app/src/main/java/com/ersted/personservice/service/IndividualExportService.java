@@ -0,0 +1,236 @@
+package com.ersted.personservice.service;
+
+import com.ersted.personservice.annotation.Counted;
+import com.ersted.personservice.config.IndividualExportProperties;
+import com.ersted.personservice.exception.ValidateException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.observation.annotation.Observed;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JsonGenerator;
+import tools.jackson.core.exc.JacksonIOException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Full dump of the profiles as NDJSON or CSV. Rows are read through a server-side cursor, {@code fetch-size} rows
+ * per round trip, and each row is written to the output as soon as it is read, so memory does not depend on the
+ * number of profiles. A failed write means the client is gone: the cursor is closed before the next fetch, which
+ * ends the query on the server, and the export stops.
+ */
+@Slf4j
+@Service
+public class IndividualExportService {
+
+    private static final String SELECT = """
+            SELECT i.id, i.user_id, i.passport_number, i.phone_number, i.status, i.verified_at, i.archived_at, i.created,
+                   u.email, u.first_name, u.last_name, u.filled,
+                   a.address, a.zip_code, a.city, a.state, c.alpha3
+            FROM person.individuals i
+            LEFT JOIN person.users u ON u.id = i.user_id
+            LEFT JOIN person.addresses a ON a.id = u.address_id
+            LEFT JOIN person.countries c ON c.id = a.country_id
+            """;
+
+    private static final List<String> COLUMNS = List.of(
+            "id", "user_id", "passport_number", "phone_number", "status", "verified_at", "archived_at", "created",
+            "email", "first_name", "last_name", "filled",
+            "address", "zip_code", "city", "state", "country");
+
+    private final JdbcOperations jdbcOperations;
+    private final JsonMapper jsonMapper;
+    private final IndividualExportProperties properties;
+    private final Counter exportedRows;
+    private final Counter abortedExports;
+
+    public IndividualExportService(JdbcOperations jdbcOperations,
+                                   JsonMapper jsonMapper,
+                                   IndividualExportProperties properties,
+                                   MeterRegistry meterRegistry) {
+        this.jdbcOperations = jdbcOperations;
+        this.jsonMapper = jsonMapper;
+        this.properties = properties;
+        this.exportedRows = Counter.builder("individual.export.rows")
+                .description("Profiles written by exports")
+                .register(meterRegistry);
+        this.abortedExports = Counter.builder("individual.export.aborted")
+                .description("Exports stopped because the client disconnected")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Writes every profile to {@code output} and returns the number of rows written.
+     */
+    @Counted("person.service.api.individual.export")
+    @Observed(name = "individual.export", contextualName = "export-individual-profiles")
+    @Transactional(readOnly = true)
+    public long export(Format format, OutputStream output) {
+        return jdbcOperations.execute((ConnectionCallback<Long>) connection -> stream(connection, format, output));
+    }
+
+    private long stream(Connection connection, Format format, OutputStream output) throws SQLException {
+        long rows = 0;
+        try (PreparedStatement statement = connection.prepareStatement(SELECT, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            statement.setFetchSize(properties.getFetchSize());
+            try (ResultSet resultSet = statement.executeQuery()) {
+                RowWriter writer = format == Format.CSV ? new CsvWriter(output) : new NdjsonWriter(output, jsonMapper);
+                Object[] row = new Object[COLUMNS.size()];
+                while (resultSet.next()) {
+                    read(resultSet, row);
+                    writer.write(row);
+                    rows++;
+                }
+                writer.flush();
+                log.info("Individuals exported, format: [{}], rows: [{}]", format, rows);
+            } catch (IOException | JacksonIOException e) {
+                abortedExports.increment();
+                log.warn("Individuals export aborted by client after [{}] rows: [{}]", rows, e.getMessage());
+            }
+        } finally {
+            exportedRows.increment(rows);
+        }
+        return rows;
+    }
+
+    private static void read(ResultSet resultSet, Object[] row) throws SQLException {
+        for (int i = 0; i < row.length; i++) {
+            Object value = resultSet.getObject(i + 1);
+            row[i] = switch (value) {
+                case null -> null;
+                case Timestamp timestamp -> timestamp.toInstant().toString();
+                case Boolean flag -> flag;
+                default -> value.toString();
+            };
+        }
+    }
+
+    public enum Format {
+
+        NDJSON("application/x-ndjson", "ndjson"),
+        CSV("text/csv", "csv");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public static Format of(String value) {
+            try {
+                return valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ValidateException("Unknown export format: %s".formatted(value));
+            }
+        }
+
+        public String contentType() {
+            return contentType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+    }
+
+    private interface RowWriter {
+
+        void write(Object[] row) throws IOException;
+
+        void flush() throws IOException;
+
+    }
+
+    private static final class NdjsonWriter implements RowWriter {
+
+        private final JsonGenerator generator;
+        private boolean empty = true;
+
+        NdjsonWriter(OutputStream output, JsonMapper jsonMapper) {
+            this.generator = jsonMapper.writer().withRootValueSeparator("\n").createGenerator(output);
+        }
+
+        @Override
+        public void write(Object[] row) {
+            generator.writeStartObject();
+            for (int i = 0; i < row.length; i++) {
+                switch (row[i]) {
+                    case null -> generator.writeNullProperty(COLUMNS.get(i));
+                    case Boolean flag -> generator.writeBooleanProperty(COLUMNS.get(i), flag);
+                    default -> generator.writeStringProperty(COLUMNS.get(i), (String) row[i]);
+                }
+            }
+            generator.writeEndObject();
+            empty = false;
+        }
+
+        @Override
+        public void flush() {
+            if (!empty) {
+                generator.writeRaw('\n');
+            }
+            generator.flush();
+        }
+
+    }
+
+    private static final class CsvWriter implements RowWriter {
+
+        private final Writer writer;
+
+        CsvWriter(OutputStream output) throws IOException {
+            this.writer = new BufferedWriter(new OutputStreamWriter(output, StandardCharsets.UTF_8));
+            writer.write(String.join(",", COLUMNS));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(Object[] row) throws IOException {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                if (row[i] != null) {
+                    writer.write(escape(row[i].toString()));
+                }
+            }
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void flush() throws IOException {
+            writer.flush();
+        }
+
+        private static String escape(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == ',' || c == '"' || c == '\n' || c == '\r') {
+                    return '"' + value.replace("\"", "\"\"") + '"';
+                }
+            }
+            return value;
+        }
+
+    }
+
+}
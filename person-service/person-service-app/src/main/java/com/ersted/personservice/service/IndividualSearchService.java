@@ -0,0 +1,101 @@
+package com.ersted.personservice.service;
+
+import com.ersted.personservice.annotation.Counted;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import com.ersted.personservice.exception.ValidateException;
+import com.ersted.personservice.mapper.IndividualMapper;
+import com.ersted.personservice.model.IndividualSearchResponse;
+import com.ersted.personservice.repository.IndividualRepository;
+import com.ersted.personservice.repository.IndividualSearchFilter;
+import com.ersted.personservice.repository.IndividualSearchRepository;
+import io.micrometer.observation.annotation.Observed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+public class IndividualSearchService {
+
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+
+    private final IndividualRepository individualRepository;
+
+    private final IndividualMapper individualMapper;
+
+    /**
+     * One page of matching profiles, newest first. The cursor encodes the {@code (created, id)} of the last profile
+     * on the page, so the next page is a seek past it rather than an offset the database has to count through.
+     */
+    @Counted("person.service.api.individual.search")
+    @Observed(name = "individual.search", contextualName = "search-individual-profiles")
+    @Transactional(readOnly = true)
+    public IndividualSearchResponse search(String email,
+                                           String phoneNumber,
+                                           String passportNumber,
+                                           String status,
+                                           Integer limit,
+                                           String cursor) {
+        int pageSize = limit == null ? DEFAULT_LIMIT : limit;
+        if (pageSize < 1 || pageSize > MAX_LIMIT) {
+            throw new ValidateException("Limit must be between 1 and %d".formatted(MAX_LIMIT));
+        }
+        IndividualSearchFilter filter = new IndividualSearchFilter(
+                emptyToNull(email), emptyToNull(phoneNumber), emptyToNull(passportNumber), status(status));
+
+        List<Individual> found = individualRepository.search(filter, decode(cursor), pageSize + 1);
+        List<Individual> page = found.size() > pageSize ? found.subList(0, pageSize) : found;
+
+        IndividualSearchResponse response = new IndividualSearchResponse(page.stream().map(individualMapper::map).toList());
+        if (found.size() > pageSize) {
+            response.nextCursor(encode(page.getLast()));
+        }
+        return response;
+    }
+
+    private static IndividualStatus status(String status) {
+        if (status == null || status.isEmpty()) {
+            return null;
+        }
+        try {
+            return IndividualStatus.valueOf(status);
+        } catch (IllegalArgumentException e) {
+            throw new ValidateException("Unknown status: %s".formatted(status));
+        }
+    }
+
+    private static String encode(Individual last) {
+        String position = last.getCreated().toInstant() + "|" + last.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(position.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static IndividualSearchRepository.Position decode(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            String position = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = position.indexOf('|');
+            return new IndividualSearchRepository.Position(
+                    Instant.parse(position.substring(0, separator)).atOffset(ZoneOffset.UTC),
+                    UUID.fromString(position.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new ValidateException("Invalid cursor");
+        }
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.isEmpty() ? null : value;
+    }
+
+}
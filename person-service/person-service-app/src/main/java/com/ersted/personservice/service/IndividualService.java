@@ -1,6 +1,8 @@
 package com.ersted.personservice.service;
 
 import com.ersted.personservice.annotation.Counted;
+import com.ersted.personservice.cache.IndividualProfileCache;
+import com.ersted.personservice.catalog.CountryCatalog;
 import com.ersted.personservice.entity.Country;
 import com.ersted.personservice.entity.Individual;
 import com.ersted.personservice.entity.status.IndividualStatus;
@@ -10,7 +12,6 @@ import com.ersted.personservice.mapper.IndividualMapper;
 import com.ersted.personservice.model.IndividualCreateProfileRequest;
 import com.ersted.personservice.model.IndividualInfoResponse;
 import com.ersted.personservice.model.IndividualInfoUpdateRequest;
-import com.ersted.personservice.repository.CountryRepository;
 import com.ersted.personservice.repository.IndividualRepository;
 import io.micrometer.observation.annotation.Observed;
 import lombok.RequiredArgsConstructor;
@@ -28,17 +29,19 @@ public class IndividualService {
 
     private final IndividualRepository individualRepository;
 
-    private final CountryRepository countryRepository;
+    private final CountryCatalog countryCatalog;
 
     private final IndividualMapper individualMapper;
 
+    private final IndividualProfileCache profileCache;
+
     @Counted("person.service.api.individual.create")
     @Observed(name = "individual.create", contextualName = "create-individual-profile")
     @Transactional
     public IndividualInfoResponse create(IndividualCreateProfileRequest request) {
         log.info("Creating individual email: [{}]", request.getEmail());
 
-        Country country = countryRepository.findCountryByAlpha3(request.getAddress().getCountry().getAlpha3())
+        Country country = countryCatalog.findByAlpha3(request.getAddress().getCountry().getAlpha3())
                 .orElseThrow(() -> {
                     log.warn("Country not found by alpha3: [{}]", request.getAddress().getCountry().getAlpha3());
                     return new ValidateException("Couldn't find the country by alpha3");
@@ -57,14 +60,8 @@ public class IndividualService {
 
     @Counted("person.service.api.individual.profileinfo")
     @Observed(name = "individual.info", contextualName = "find-individual-profile-info")
-    @Transactional(readOnly = true)
     public IndividualInfoResponse profileInfo(UUID userUuid) {
-        return individualRepository.findWithDetailById(userUuid)
-                .map(individualMapper::map)
-                .orElseThrow(() -> {
-                    log.warn("Couldn't find user with id: [{}]", userUuid);
-                    return new NotFoundException("Couldn't find user with id: %s".formatted(userUuid));
-                });
+        return profileCache.get(userUuid, this::loadProfileInfo);
     }
 
     @Counted("person.service.api.individual.update")
@@ -81,13 +78,14 @@ public class IndividualService {
                 && request.getAddress().getCountry() != null
                 && request.getAddress().getCountry().getAlpha3() != null) {
 
-            Country country = countryRepository
-                    .findCountryByAlpha3(request.getAddress().getCountry().getAlpha3())
+            Country country = countryCatalog
+                    .findByAlpha3(request.getAddress().getCountry().getAlpha3())
                     .orElseThrow(() -> new ValidateException("Couldn't find the country by alpha3"));
 
             individual.getUser().getAddress().setCountry(country);
         }
 
+        profileCache.evictAfterCommit(userUuid);
         return individualMapper.map(individual);
     }
 
@@ -100,6 +98,7 @@ public class IndividualService {
 
         individual.setStatus(IndividualStatus.ACTIVE);
         individual.setVerifiedAt(OffsetDateTime.now());
+        profileCache.evictAfterCommit(userUuid);
 
         log.info("Individual activated, id: [{}]", userUuid);
     }
@@ -110,6 +109,7 @@ public class IndividualService {
     public void purge(UUID userUuid) {
         log.warn("Purging individual, id: [{}]", userUuid);
         individualRepository.deleteById(userUuid);
+        profileCache.evictAfterCommit(userUuid);
     }
 
     @Counted("person.service.api.individual.archive")
@@ -121,8 +121,18 @@ public class IndividualService {
 
         individual.setStatus(IndividualStatus.ARCHIVED);
         individual.setArchivedAt(OffsetDateTime.now());
+        profileCache.evictAfterCommit(userUuid);
 
         log.info("Individual archived, id: [{}]", userUuid);
     }
 
+    private IndividualInfoResponse loadProfileInfo(UUID userUuid) {
+        return individualRepository.findWithDetailById(userUuid)
+                .map(individualMapper::map)
+                .orElseThrow(() -> {
+                    log.warn("Couldn't find user with id: [{}]", userUuid);
+                    return new NotFoundException("Couldn't find user with id: %s".formatted(userUuid));
+                });
+    }
+
 }
@@ -0,0 +1,204 @@
+package com.ersted.personservice.sweeper;
+
+import com.ersted.personservice.cache.IndividualProfileCache;
+import com.ersted.personservice.config.IndividualSweeperProperties;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import com.ersted.personservice.repository.IndividualRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Archives or purges {@code PENDING} individuals older than {@code maxAge}: profiles whose registration saga never
+ * reached activation or compensation. Each run walks the orphans oldest first in keyset-ordered chunks of
+ * {@code chunkSize}, one transaction per chunk, through JPA so cascades, Envers and the profile cache stay
+ * consistent with the API.
+ * <p>
+ * Only one replica sweeps at a time: a run starts only if it gets the session-level advisory lock
+ * {@link #LOCK_KEY} on a dedicated connection, and holds it until the run ends or its session dies.
+ */
+@Slf4j
+public class PendingIndividualSweeper {
+
+    /**
+     * Advisory lock key of the sweeper, shared by all replicas.
+     */
+    public static final long LOCK_KEY = 0x7065_6e64_696e_67L;
+
+    private static final IndividualRepository.Position START =
+            new IndividualRepository.Position(OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), new UUID(0, 0));
+
+    private final DataSource dataSource;
+    private final IndividualRepository individualRepository;
+    private final IndividualProfileCache profileCache;
+    private final TransactionOperations transaction;
+    private final IndividualSweeperProperties.Mode mode;
+    private final Duration maxAge;
+    private final int chunkSize;
+    private final Clock clock;
+    private final Counter swept;
+    private final Timer chunkTimer;
+
+    private volatile boolean leader;
+    private volatile OffsetDateTime oldestPending;
+
+    public PendingIndividualSweeper(DataSource dataSource,
+                                    IndividualRepository individualRepository,
+                                    IndividualProfileCache profileCache,
+                                    TransactionOperations transaction,
+                                    IndividualSweeperProperties.Mode mode,
+                                    Duration maxAge,
+                                    int chunkSize,
+                                    MeterRegistry meterRegistry) {
+        this(dataSource, individualRepository, profileCache, transaction, mode, maxAge, chunkSize, meterRegistry,
+                Clock.systemUTC());
+    }
+
+    public PendingIndividualSweeper(DataSource dataSource,
+                                    IndividualRepository individualRepository,
+                                    IndividualProfileCache profileCache,
+                                    TransactionOperations transaction,
+                                    IndividualSweeperProperties.Mode mode,
+                                    Duration maxAge,
+                                    int chunkSize,
+                                    MeterRegistry meterRegistry,
+                                    Clock clock) {
+        this.dataSource = dataSource;
+        this.individualRepository = individualRepository;
+        this.profileCache = profileCache;
+        this.transaction = transaction;
+        this.mode = mode;
+        this.maxAge = maxAge;
+        this.chunkSize = chunkSize;
+        this.clock = clock;
+        this.swept = Counter.builder("individual.sweeper.swept")
+                .tag("mode", mode.name().toLowerCase(Locale.ROOT))
+                .description("Orphaned PENDING individuals archived or purged")
+                .register(meterRegistry);
+        this.chunkTimer = Timer.builder("individual.sweeper.chunk")
+                .description("Time to lock and sweep one chunk of orphaned individuals")
+                .register(meterRegistry);
+        Gauge.builder("individual.sweeper.lag", this, PendingIndividualSweeper::lagSeconds)
+                .description("Time the oldest orphaned PENDING individual has been past the maximum age, as of the last run")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+        Gauge.builder("individual.sweeper.leader", this, sweeper -> sweeper.leader ? 1 : 0)
+                .description("1 while this replica holds the sweeper lock")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${individual-sweeper.interval-ms}", fixedDelayString = "${individual-sweeper.interval-ms}")
+    public void scheduledSweep() {
+        try {
+            sweep();
+        } catch (RuntimeException e) {
+            log.warn("Pending individuals sweep failed", e);
+        }
+    }
+
+    /**
+     * Runs one sweep if no other replica is sweeping.
+     *
+     * @return the number of individuals swept, or {@code -1} if another replica holds the lock
+     */
+    public long sweep() {
+        try (Connection connection = dataSource.getConnection()) {
+            if (!advisoryLock(connection, "SELECT pg_try_advisory_lock(?)")) {
+                log.debug("Pending individuals sweep skipped, another replica holds the lock");
+                oldestPending = null;
+                return -1;
+            }
+            leader = true;
+            try {
+                return sweepOrphans();
+            } finally {
+                leader = false;
+                advisoryLock(connection, "SELECT pg_advisory_unlock(?)");
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Couldn't take the sweeper lock", e);
+        }
+    }
+
+    private long sweepOrphans() {
+        OffsetDateTime before = OffsetDateTime.now(clock).minus(maxAge);
+        IndividualRepository.Position position = START;
+        long total = 0;
+        int size;
+        do {
+            IndividualRepository.Position after = position;
+            List<Individual> chunk = Objects.requireNonNull(chunkTimer.record(
+                    () -> transaction.execute(_ -> sweepChunk(before, after))));
+            size = chunk.size();
+            if (size > 0) {
+                Individual last = chunk.getLast();
+                position = new IndividualRepository.Position(last.getCreated(), last.getId());
+                swept.increment(size);
+                total += size;
+            }
+        } while (size == chunkSize);
+
+        oldestPending = individualRepository.findFirstByStatusOrderByCreatedAscIdAsc(IndividualStatus.PENDING)
+                .map(Individual::getCreated)
+                .orElse(null);
+        if (total > 0) {
+            log.info("Orphaned PENDING individuals swept, mode: [{}], count: [{}], created before: [{}]", mode, total, before);
+        }
+        return total;
+    }
+
+    private List<Individual> sweepChunk(OffsetDateTime before, IndividualRepository.Position after) {
+        List<Individual> chunk = individualRepository.lockCreatedBefore(
+                IndividualStatus.PENDING, before, after.created(), after.id(), Limit.of(chunkSize));
+        if (mode == IndividualSweeperProperties.Mode.PURGE) {
+            individualRepository.deleteAll(chunk);
+        } else {
+            OffsetDateTime now = OffsetDateTime.now(clock);
+            chunk.forEach(individual -> {
+                individual.setStatus(IndividualStatus.ARCHIVED);
+                individual.setArchivedAt(now);
+            });
+        }
+        chunk.forEach(individual -> profileCache.evictAfterCommit(individual.getId()));
+        return chunk;
+    }
+
+    private double lagSeconds() {
+        OffsetDateTime oldest = oldestPending;
+        if (oldest == null) {
+            return 0;
+        }
+        Duration lag = Duration.between(oldest.plus(maxAge), OffsetDateTime.now(clock));
+        return lag.isNegative() ? 0 : lag.toMillis() / 1000.0;
+    }
+
+    private static boolean advisoryLock(Connection connection, String sql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            statement.setLong(1, LOCK_KEY);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+
+}
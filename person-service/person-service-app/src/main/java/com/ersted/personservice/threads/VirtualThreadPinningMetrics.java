@@ -0,0 +1,95 @@
+package com.ersted.personservice.threads;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Streams JFR {@code jdk.VirtualThreadPinned} events into a timer tagged with the first application
+ * frame on the pinned stack, so pinning inside {@code IndividualService} transactions shows up per method.
+ */
+public class VirtualThreadPinningMetrics implements MeterBinder, AutoCloseable {
+
+    public static final String METRIC_NAME = "jvm.threads.virtual.pinned";
+
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final String APPLICATION_PACKAGE = "com.ersted.personservice.";
+    private static final String UNKNOWN_SOURCE = "unknown";
+    private static final String OTHER_SOURCE = "other";
+    private static final int MAX_SOURCES = 32;
+
+    private final Duration threshold;
+    private final Set<String> sources = ConcurrentHashMap.newKeySet();
+
+    private RecordingStream stream;
+    private MeterRegistry registry;
+
+    public VirtualThreadPinningMetrics(Duration threshold) {
+        this.threshold = threshold;
+    }
+
+    @Override
+    public synchronized void bindTo(MeterRegistry registry) {
+        if (stream != null) {
+            return;
+        }
+        this.registry = registry;
+        stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::record);
+        stream.startAsync();
+    }
+
+    @Override
+    public synchronized void close() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    private void record(RecordedEvent event) {
+        Timer.builder(METRIC_NAME)
+                .description("Time virtual threads spent pinned to their carrier thread")
+                .tag("source", boundedSource(source(event.getStackTrace())))
+                .register(registry)
+                .record(event.getDuration());
+    }
+
+    private String boundedSource(String source) {
+        if (sources.contains(source)) {
+            return source;
+        }
+        if (sources.size() >= MAX_SOURCES) {
+            return OTHER_SOURCE;
+        }
+        sources.add(source);
+        return source;
+    }
+
+    static String source(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return UNKNOWN_SOURCE;
+        }
+        for (RecordedFrame frame : stackTrace.getFrames()) {
+            if (!frame.isJavaFrame()) {
+                continue;
+            }
+            String className = frame.getMethod().getType().getName();
+            if (className.startsWith(APPLICATION_PACKAGE) && !className.contains("$$")) {
+                return className.substring(className.lastIndexOf('.') + 1) + "." + frame.getMethod().getName();
+            }
+        }
+        return UNKNOWN_SOURCE;
+    }
+
+}
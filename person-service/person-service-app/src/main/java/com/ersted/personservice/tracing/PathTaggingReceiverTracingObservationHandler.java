@@ -0,0 +1,24 @@
+package com.ersted.personservice.tracing;
+
+import io.micrometer.observation.transport.ReceiverContext;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.PropagatingReceiverTracingObservationHandler;
+import io.micrometer.tracing.propagation.Propagator;
+import org.springframework.http.server.observation.ServerRequestObservationContext;
+
+public class PathTaggingReceiverTracingObservationHandler extends PropagatingReceiverTracingObservationHandler<ReceiverContext<?>> {
+
+    public PathTaggingReceiverTracingObservationHandler(Tracer tracer, Propagator propagator) {
+        super(tracer, propagator);
+    }
+
+    @Override
+    public Span.Builder customizeExtractedSpan(ReceiverContext<?> context, Span.Builder builder) {
+        if (context instanceof ServerRequestObservationContext serverContext) {
+            return builder.tag(RouteAwareSampler.URL_PATH.getKey(), serverContext.getCarrier().getRequestURI());
+        }
+        return builder;
+    }
+
+}
@@ -0,0 +1,81 @@
+package com.ersted.personservice.tracing;
+
+import io.opentelemetry.api.common.AttributeKey;
+import io.opentelemetry.api.common.Attributes;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.SpanContext;
+import io.opentelemetry.api.trace.SpanKind;
+import io.opentelemetry.context.Context;
+import io.opentelemetry.sdk.trace.data.LinkData;
+import io.opentelemetry.sdk.trace.samplers.Sampler;
+import io.opentelemetry.sdk.trace.samplers.SamplingDecision;
+import io.opentelemetry.sdk.trace.samplers.SamplingResult;
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.List;
+import java.util.Map;
+
+public class RouteAwareSampler implements Sampler {
+
+    public static final AttributeKey<String> URL_PATH = AttributeKey.stringKey("url.path");
+
+    private final Sampler defaultSampler;
+    private final List<Route> routes;
+    private final SamplingResult unsampled;
+    private final String description;
+
+    public RouteAwareSampler(double defaultProbability, Map<String, Double> routeProbabilities, boolean dropUnsampled) {
+        this.defaultSampler = Sampler.traceIdRatioBased(defaultProbability);
+        this.routes = routeProbabilities.entrySet().stream()
+                .map(route -> new Route(
+                        PathPatternParser.defaultInstance.parse(route.getKey()),
+                        Sampler.traceIdRatioBased(route.getValue())))
+                .toList();
+        this.unsampled = dropUnsampled ? SamplingResult.drop() : SamplingResult.recordOnly();
+        this.description = "RouteAwareSampler{default=" + defaultProbability
+                + ", routes=" + routeProbabilities
+                + ", unsampled=" + unsampled.getDecision() + "}";
+    }
+
+    @Override
+    public SamplingResult shouldSample(Context parentContext,
+                                       String traceId,
+                                       String name,
+                                       SpanKind spanKind,
+                                       Attributes attributes,
+                                       List<LinkData> parentLinks) {
+        SpanContext parent = Span.fromContext(parentContext).getSpanContext();
+        if (parent.isValid()) {
+            return parent.isSampled() ? SamplingResult.recordAndSample() : unsampled;
+        }
+
+        SamplingDecision decision = samplerFor(attributes.get(URL_PATH))
+                .shouldSample(parentContext, traceId, name, spanKind, attributes, parentLinks)
+                .getDecision();
+        return decision == SamplingDecision.RECORD_AND_SAMPLE ? SamplingResult.recordAndSample() : unsampled;
+    }
+
+    @Override
+    public String getDescription() {
+        return description;
+    }
+
+    private Sampler samplerFor(String path) {
+        if (path == null || routes.isEmpty()) {
+            return defaultSampler;
+        }
+        PathContainer pathContainer = PathContainer.parsePath(path);
+        for (Route route : routes) {
+            if (route.pattern().matches(pathContainer)) {
+                return route.sampler();
+            }
+        }
+        return defaultSampler;
+    }
+
+    private record Route(PathPattern pattern, Sampler sampler) {
+    }
+
+}
@@ -0,0 +1,32 @@
+package com.ersted.personservice.tracing;
+
+import io.micrometer.observation.Observation;
+import io.micrometer.observation.aop.ObservedAspect;
+import io.micrometer.tracing.Span;
+import io.micrometer.tracing.Tracer;
+import io.micrometer.tracing.handler.DefaultTracingObservationHandler;
+
+public class SampledObservedTracingObservationHandler extends DefaultTracingObservationHandler {
+
+    private static final String TRACED_KEY = SampledObservedTracingObservationHandler.class.getName() + ".traced";
+
+    public SampledObservedTracingObservationHandler(Tracer tracer) {
+        super(tracer);
+    }
+
+    @Override
+    public boolean supportsContext(Observation.Context context) {
+        if (!(context instanceof ObservedAspect.ObservedAspectContext)) {
+            return super.supportsContext(context);
+        }
+
+        Boolean traced = context.get(TRACED_KEY);
+        if (traced == null) {
+            Span current = getTracer().currentSpan();
+            traced = current == null || !Boolean.FALSE.equals(current.context().sampled());
+            context.put(TRACED_KEY, traced);
+        }
+        return traced;
+    }
+
+}
@@ -0,0 +1,4 @@
+ALTER TABLE person.revinfo VALIDATE CONSTRAINT revinfo_rev_bound;
+ALTER TABLE person.addresses_aud VALIDATE CONSTRAINT addresses_aud_rev_bound;
+ALTER TABLE person.users_aud VALIDATE CONSTRAINT users_aud_rev_bound;
+ALTER TABLE person.individuals_aud VALIDATE CONSTRAINT individuals_aud_rev_bound;
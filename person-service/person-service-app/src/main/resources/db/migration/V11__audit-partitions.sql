@@ -0,0 +1,96 @@
+SET LOCAL lock_timeout = '10s';
+
+ALTER SEQUENCE person.revinfo_seq INCREMENT BY 50;
+
+ALTER TABLE person.revinfo RENAME TO revinfo_legacy;
+ALTER INDEX person.revinfo_pkey RENAME TO revinfo_legacy_pkey;
+ALTER TABLE person.addresses_aud RENAME TO addresses_aud_legacy;
+ALTER INDEX person.addresses_aud_pkey RENAME TO addresses_aud_legacy_pkey;
+ALTER TABLE person.users_aud RENAME TO users_aud_legacy;
+ALTER INDEX person.users_aud_pkey RENAME TO users_aud_legacy_pkey;
+ALTER TABLE person.individuals_aud RENAME TO individuals_aud_legacy;
+ALTER INDEX person.individuals_aud_pkey RENAME TO individuals_aud_legacy_pkey;
+
+CREATE TABLE person.revinfo
+(
+    rev      integer not null,
+    revtstmp bigint,
+    primary key (rev)
+) PARTITION BY RANGE (rev);
+
+CREATE TABLE person.addresses_aud
+(
+    id         uuid    not null,
+    rev        integer not null,
+    revtype    smallint,
+    address    varchar(128),
+    archived   timestamp(6) with time zone,
+    city       varchar(32),
+    created    timestamp(6) with time zone,
+    state      varchar(32),
+    updated    timestamp(6) with time zone,
+    zip_code   varchar(32),
+    country_id integer,
+    primary key (rev, id)
+) PARTITION BY RANGE (rev);
+
+CREATE TABLE person.individuals_aud
+(
+    id              uuid    not null,
+    rev             integer not null,
+    revtype         smallint,
+    archived_at     timestamp(6) with time zone,
+    passport_number varchar(32),
+    phone_number    varchar(32),
+    status          varchar(255) constraint individuals_aud_status_check check ((status in ('PENDING', 'ACTIVE', 'ARCHIVED'))),
+    verified_at     timestamp(6) with time zone,
+    user_id         uuid,
+    primary key (rev, id)
+) PARTITION BY RANGE (rev);
+
+CREATE TABLE person.users_aud
+(
+    id         uuid    not null,
+    rev        integer not null,
+    revtype    smallint,
+    created    timestamp(6) with time zone,
+    email      varchar(1024),
+    filled     boolean,
+    first_name varchar(32),
+    last_name  varchar(32),
+    secret_key varchar(32),
+    updated    timestamp(6) with time zone,
+    address_id uuid,
+    primary key (rev, id)
+) PARTITION BY RANGE (rev);
+
+CREATE SCHEMA IF NOT EXISTS person_audit_archive;
+
+DO $$
+DECLARE
+    bound       integer := substring(pg_get_constraintdef(
+            (SELECT oid FROM pg_constraint WHERE conname = 'revinfo_rev_bound' AND conrelid = 'person.revinfo_legacy'::regclass))
+        FROM '\d+')::integer;
+    audit_table text;
+BEGIN
+    IF (SELECT last_value FROM person.revinfo_seq) >= bound THEN
+        RAISE EXCEPTION 'person.revinfo_seq passed the legacy audit partition bound %', bound;
+    END IF;
+
+    FOREACH audit_table IN ARRAY ARRAY ['revinfo', 'addresses_aud', 'users_aud', 'individuals_aud'] LOOP
+        EXECUTE format('ALTER TABLE person.%I ATTACH PARTITION person.%I FOR VALUES FROM (MINVALUE) TO (%s)',
+                       audit_table, audit_table || '_legacy', bound);
+        EXECUTE format('ALTER TABLE person.%I DROP CONSTRAINT %I',
+                       audit_table || '_legacy', audit_table || '_rev_bound');
+        EXECUTE format('CREATE TABLE person.%I PARTITION OF person.%I FOR VALUES FROM (%s) TO (%s)',
+                       audit_table || '_p' || bound, audit_table, bound, bound + 1000000);
+    END LOOP;
+
+    FOREACH audit_table IN ARRAY ARRAY ['addresses_aud', 'users_aud', 'individuals_aud'] LOOP
+        EXECUTE format('ALTER TABLE person.%I ADD FOREIGN KEY (rev) REFERENCES person.%I',
+                       audit_table || '_p' || bound, 'revinfo_p' || bound);
+    END LOOP;
+
+    EXECUTE format('ALTER SEQUENCE person.revinfo_seq RESTART WITH %s', bound + 49);
+END
+$$;
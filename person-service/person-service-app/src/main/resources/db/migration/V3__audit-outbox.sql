@@ -0,0 +1,7 @@
+create table person.audit_outbox
+(
+    id       bigint generated always as identity,
+    revtstmp bigint not null,
+    payload  jsonb  not null,
+    primary key (id)
+);
@@ -0,0 +1,3 @@
+ALTER TABLE person.individuals ADD COLUMN created TIMESTAMP;
+
+ALTER TABLE person.individuals ALTER COLUMN created SET DEFAULT CURRENT_TIMESTAMP;
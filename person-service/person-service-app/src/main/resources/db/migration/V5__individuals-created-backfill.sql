@@ -0,0 +1,27 @@
+DO $$
+DECLARE
+    batch_from uuid := '00000000-0000-0000-0000-000000000000';
+    batch_to   uuid;
+BEGIN
+    LOOP
+        SELECT id
+        INTO batch_to
+        FROM (SELECT id FROM person.individuals WHERE id > batch_from ORDER BY id LIMIT 10000) batch
+        ORDER BY id DESC
+        LIMIT 1;
+
+        EXIT WHEN batch_to IS NULL;
+
+        UPDATE person.individuals i
+        SET created = COALESCE((SELECT u.created FROM person.users u WHERE u.id = i.user_id), CURRENT_TIMESTAMP)
+        WHERE i.id > batch_from
+          AND i.id <= batch_to
+          AND i.created IS NULL;
+
+        COMMIT;
+        batch_from := batch_to;
+    END LOOP;
+END
+$$;
+
+ALTER TABLE person.individuals ADD CONSTRAINT individuals_created_not_null CHECK (created IS NOT NULL) NOT VALID;
@@ -0,0 +1,5 @@
+ALTER TABLE person.individuals VALIDATE CONSTRAINT individuals_created_not_null;
+
+ALTER TABLE person.individuals ALTER COLUMN created SET NOT NULL;
+
+ALTER TABLE person.individuals DROP CONSTRAINT individuals_created_not_null;
@@ -0,0 +1,14 @@
+DROP INDEX CONCURRENTLY IF EXISTS person.individuals_created_id_idx;
+CREATE INDEX CONCURRENTLY individuals_created_id_idx ON person.individuals (created, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS person.individuals_status_created_id_idx;
+CREATE INDEX CONCURRENTLY individuals_status_created_id_idx ON person.individuals (status, created, id);
+
+DROP INDEX CONCURRENTLY IF EXISTS person.individuals_phone_number_idx;
+CREATE INDEX CONCURRENTLY individuals_phone_number_idx ON person.individuals (phone_number);
+
+DROP INDEX CONCURRENTLY IF EXISTS person.individuals_passport_number_idx;
+CREATE INDEX CONCURRENTLY individuals_passport_number_idx ON person.individuals (passport_number);
+
+DROP INDEX CONCURRENTLY IF EXISTS person.users_lower_email_idx;
+CREATE INDEX CONCURRENTLY users_lower_email_idx ON person.users (lower(email));
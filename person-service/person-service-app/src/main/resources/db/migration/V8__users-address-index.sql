@@ -0,0 +1,2 @@
+DROP INDEX CONCURRENTLY IF EXISTS person.users_address_id_idx;
+CREATE INDEX CONCURRENTLY users_address_id_idx ON person.users (address_id);
@@ -0,0 +1,13 @@
+SET LOCAL lock_timeout = '10s';
+
+DO $$
+DECLARE
+    bound       integer := (SELECT (last_value / 1000000 + 2) * 1000000 FROM person.revinfo_seq);
+    audit_table text;
+BEGIN
+    FOREACH audit_table IN ARRAY ARRAY ['revinfo', 'addresses_aud', 'users_aud', 'individuals_aud'] LOOP
+        EXECUTE format('ALTER TABLE person.%I ADD CONSTRAINT %I CHECK (rev < %s) NOT VALID',
+                       audit_table, audit_table || '_rev_bound', bound);
+    END LOOP;
+END
+$$;
@@ -0,0 +1,100 @@
+package com.ersted.personservice.spec.aspect;
+
+import com.ersted.personservice.annotation.Counted;
+import com.ersted.personservice.aspect.CountedAspect;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import java.time.DateTimeException;
+import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CountedAspectTest {
+
+    private SimpleMeterRegistry registry;
+    private DefaultListableBeanFactory beanFactory;
+    private CountedAspect aspect;
+    private CountedTarget target;
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        beanFactory = new DefaultListableBeanFactory();
+        aspect = new CountedAspect(registry, beanFactory);
+
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new CountedTarget());
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(aspect);
+        target = proxyFactory.getProxy();
+    }
+
+    @Test
+    void shouldPreRegisterMetersForAnnotatedBeans() {
+        // Given
+        beanFactory.registerBeanDefinition("countedTarget", new RootBeanDefinition(CountedTarget.class));
+
+        // When
+        aspect.afterSingletonsInstantiated();
+
+        // Then
+        assertEquals(0, registry.get("test.call").tag("status", "success").counter().count());
+        assertEquals(0, registry.get("test.call.duration").tag("status", "error").timer().count());
+    }
+
+    @Test
+    void shouldCountAndTimeCalls() {
+        // When
+        target.call(null);
+        target.call(null);
+        assertThrows(IllegalStateException.class, () -> target.call(new IllegalStateException()));
+
+        // Then
+        assertEquals(2, registry.get("test.call").tag("status", "success").counter().count());
+        assertEquals(2, registry.get("test.call.duration").tag("status", "success").timer().count());
+        assertEquals(1, registry.get("test.call").tag("exception", "IllegalStateException").counter().count());
+        assertEquals(1, registry.get("test.call.duration").tag("status", "error").timer().count());
+    }
+
+    @Test
+    void shouldCollapseExceptionTagsAboveLimit() {
+        // Given
+        List<RuntimeException> errors = List.of(
+                new IllegalStateException(), new IllegalArgumentException(), new UnsupportedOperationException(),
+                new ArithmeticException(), new ArrayStoreException(), new ClassCastException(),
+                new NullPointerException(), new IndexOutOfBoundsException(), new NegativeArraySizeException(),
+                new SecurityException(), new ConcurrentModificationException(), new NoSuchElementException(),
+                new DateTimeException("test"));
+
+        // When
+        for (RuntimeException error : errors) {
+            assertThrows(RuntimeException.class, () -> target.call(error));
+        }
+
+        // Then
+        long exceptionTags = registry.find("test.call").tag("status", "error").counters().stream()
+                .filter(counter -> !CountedAspect.OTHER_EXCEPTION.equals(counter.getId().getTag("exception")))
+                .count();
+        assertEquals(CountedAspect.MAX_EXCEPTION_TAGS, exceptionTags);
+        assertEquals(3, registry.get("test.call").tag("exception", CountedAspect.OTHER_EXCEPTION).counter().count());
+    }
+
+    public static class CountedTarget {
+
+        @Counted("test.call")
+        public String call(RuntimeException error) {
+            if (error != null) {
+                throw error;
+            }
+            return "ok";
+        }
+
+    }
+
+}
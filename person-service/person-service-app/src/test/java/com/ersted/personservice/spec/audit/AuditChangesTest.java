@@ -0,0 +1,95 @@
+package com.ersted.personservice.spec.audit;
+
+import com.ersted.personservice.audit.AuditChanges;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import org.hibernate.envers.RevisionType;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AuditChangesTest {
+
+    @Test
+    void shouldRecordInsertedEntityWithItsLastState() {
+        // Given
+        AuditChanges changes = new AuditChanges(1_000);
+        Individual individual = buildIndividual();
+
+        // When
+        changes.add(individual, individual.getId(), RevisionType.ADD);
+        individual.setPhoneNumber("+79007654321");
+        changes.add(individual, individual.getId(), RevisionType.MOD);
+
+        // Then
+        List<Map<String, Object>> rows = changes.payload().get("individuals_aud");
+        assertEquals(1, rows.size());
+        assertEquals(individual.getId().toString(), rows.getFirst().get("id"));
+        assertEquals(RevisionType.ADD.getRepresentation(), rows.getFirst().get("revtype"));
+        assertEquals("+79007654321", rows.getFirst().get("phone_number"));
+        assertEquals("PENDING", rows.getFirst().get("status"));
+        assertEquals("2026-01-01T10:00Z", rows.getFirst().get("verified_at"));
+        assertEquals(individual.getUser().getId().toString(), rows.getFirst().get("user_id"));
+        assertFalse(rows.getFirst().containsKey("archived_at"));
+    }
+
+    @Test
+    void shouldDropEntityInsertedAndDeletedInSameTransaction() {
+        // Given
+        AuditChanges changes = new AuditChanges(1_000);
+        Individual individual = buildIndividual();
+
+        // When
+        changes.add(individual, individual.getId(), RevisionType.ADD);
+        changes.add(individual, individual.getId(), RevisionType.DEL);
+
+        // Then
+        assertTrue(changes.isEmpty());
+        assertEquals(Map.of(), changes.payload());
+    }
+
+    @Test
+    void shouldRecordDeletionWithoutColumnValues() {
+        // Given
+        AuditChanges changes = new AuditChanges(1_000);
+        Individual individual = buildIndividual();
+
+        // When
+        changes.add(individual, individual.getId(), RevisionType.MOD);
+        changes.add(individual.getUser(), individual.getUser().getId(), RevisionType.MOD);
+        changes.add(individual, individual.getId(), RevisionType.DEL);
+        changes.add("not audited", UUID.randomUUID(), RevisionType.ADD);
+
+        // Then
+        Map<String, List<Map<String, Object>>> payload = changes.payload();
+        assertEquals(List.of("individuals_aud", "users_aud"), List.copyOf(payload.keySet()));
+        assertEquals(Map.of("id", individual.getId().toString(), "revtype", RevisionType.DEL.getRepresentation()),
+                payload.get("individuals_aud").getFirst());
+        assertEquals(true, payload.get("users_aud").getFirst().get("filled"));
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private Individual buildIndividual() {
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setEmail("test@test.com");
+        user.setFilled(true);
+
+        Individual individual = new Individual();
+        individual.setId(UUID.randomUUID());
+        individual.setUser(user);
+        individual.setPassportNumber("AB123456");
+        individual.setPhoneNumber("+79001234567");
+        individual.setStatus(IndividualStatus.PENDING);
+        individual.setVerifiedAt(OffsetDateTime.parse("2026-01-01T10:00:00Z"));
+        return individual;
+    }
+
+}
@@ -0,0 +1,118 @@
+package com.ersted.personservice.spec.audit;
+
+import com.ersted.personservice.audit.AuditOutboxRepository;
+import com.ersted.personservice.audit.AuditOutboxWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditOutboxWriterTest {
+
+    @Mock
+    private AuditOutboxRepository repository;
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditOutboxWriter writer;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        lenient().when(dataSource.getConnection()).thenReturn(connection);
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new AuditOutboxWriter(repository, TransactionOperations.withoutTransaction(), new JdbcTemplate(dataSource),
+                2, 3, meterRegistry, () -> 10_000);
+    }
+
+    @Test
+    void shouldDrainUntilBatchIsNotFull() throws SQLException {
+        // Given
+        when(repository.drain(any(), anyInt())).thenReturn(2, 2, 1);
+        when(repository.backlog(any(), anyLong())).thenReturn(
+                new AuditOutboxRepository.Backlog(3, 7_500),
+                new AuditOutboxRepository.Backlog(1, 8_000),
+                AuditOutboxRepository.Backlog.EMPTY);
+
+        // When
+        writer.drain();
+
+        // Then
+        assertEquals(5, meterRegistry.get("audit.outbox.written").counter().count());
+        assertEquals(0, meterRegistry.get("audit.outbox.pending").gauge().value());
+        assertEquals(0, meterRegistry.get("audit.outbox.lag").gauge().value());
+        assertFalse(writer.backlogExceeded());
+        verify(repository, times(3)).lockDrains(any());
+        verify(repository, times(3)).drain(any(), eq(2));
+    }
+
+    @Test
+    void shouldDrainWholeBacklogBeforeCommit() throws SQLException {
+        // Given
+        when(repository.drain(any(), anyInt())).thenReturn(2, 2, 1);
+
+        // When
+        int drained = writer.drainBeforeCommit(connection);
+
+        // Then
+        assertEquals(5, drained);
+        assertEquals(5, meterRegistry.get("audit.outbox.written").counter().count());
+        InOrder order = inOrder(repository);
+        order.verify(repository).lockDrains(connection);
+        order.verify(repository, times(3)).drain(connection, 2);
+    }
+
+    @Test
+    void shouldReportBacklogAndLagWhenWriterFails() throws SQLException {
+        // Given
+        when(repository.drain(any(), anyInt())).thenReturn(2).thenThrow(new SQLException("connection reset"));
+        when(repository.backlog(any(), anyLong())).thenReturn(new AuditOutboxRepository.Backlog(3, 7_500));
+
+        // When
+        writer.drain();
+
+        // Then
+        assertTrue(writer.backlogExceeded());
+        assertEquals(3, meterRegistry.get("audit.outbox.pending").gauge().value());
+        assertEquals(2.5, meterRegistry.get("audit.outbox.lag").gauge().value());
+        assertEquals(2, meterRegistry.get("audit.outbox.written").counter().count());
+    }
+
+    @Test
+    void shouldRefreshBacklogWhenEveryBatchFails() throws SQLException {
+        // Given
+        when(repository.drain(any(), anyInt())).thenThrow(new SQLException("lock timeout"));
+        when(repository.backlog(any(), anyLong())).thenReturn(new AuditOutboxRepository.Backlog(3, 4_000));
+
+        // When
+        writer.drain();
+
+        // Then
+        assertTrue(writer.backlogExceeded());
+        assertEquals(3, meterRegistry.get("audit.outbox.pending").gauge().value());
+        assertEquals(6, meterRegistry.get("audit.outbox.lag").gauge().value());
+        assertEquals(0, meterRegistry.get("audit.outbox.written").counter().count());
+    }
+
+}
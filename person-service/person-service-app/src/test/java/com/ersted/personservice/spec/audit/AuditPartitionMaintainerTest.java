@@ -0,0 +1,185 @@
+package com.ersted.personservice.spec.audit;
+
+import com.ersted.personservice.audit.AuditPartitionMaintainer;
+import com.ersted.personservice.audit.AuditPartitionRepository;
+import com.ersted.personservice.config.AuditPartitionProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditPartitionMaintainerTest {
+
+    private static final AuditPartitionRepository.Partition LEGACY =
+            new AuditPartitionRepository.Partition("legacy", Long.MIN_VALUE, 2_000_000);
+    private static final AuditPartitionRepository.Partition OCTOBER =
+            new AuditPartitionRepository.Partition("p2000000", 2_000_000, 3_000_000);
+    private static final AuditPartitionRepository.Partition SPARE =
+            new AuditPartitionRepository.Partition("p3000000", 3_000_000, 4_000_000);
+    private static final AuditPartitionRepository.Partition SECOND_SPARE =
+            new AuditPartitionRepository.Partition("p4000000", 4_000_000, 5_000_000);
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private AuditPartitionRepository repository;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        when(dataSource.getConnection()).thenReturn(connection);
+    }
+
+    @Test
+    void shouldMoveRevisionsToNextPartitionWhenPeriodStarts() throws SQLException {
+        // Given
+        AuditPartitionMaintainer maintainer = maintainer("2026-11-01T00:10:00Z");
+        givenLeader(LEGACY, OCTOBER, SPARE);
+        when(repository.nextRevision(connection)).thenReturn(2_500_000L, 3_000_000L);
+        when(repository.firstRevisionTime(connection, OCTOBER)).thenReturn(millis("2026-10-01T00:00:05Z"));
+        when(repository.moveRevisions(connection, 3_000_000)).thenReturn(true);
+        when(repository.lastRevisionTime(connection, LEGACY)).thenReturn(millis("2025-09-30T23:59:00Z"));
+        when(repository.lastRevisionTime(connection, OCTOBER)).thenReturn(millis("2026-11-01T00:00:03Z"));
+
+        // When
+        boolean maintained = maintainer.maintain();
+
+        // Then
+        assertTrue(maintained);
+        verify(repository).create(connection, 4_000_000, 5_000_000);
+        verify(repository).retire(connection, "legacy", AuditPartitionProperties.RetentionMode.ARCHIVE);
+        verify(repository, never()).retire(eq(connection), eq("p2000000"), any());
+        verify(repository).lockTimeout(connection, Duration.ofSeconds(5));
+        verify(repository).unlock(connection, AuditPartitionMaintainer.LOCK_KEY);
+        assertEquals(1, meterRegistry.get("audit.partitions.retired").tag("mode", "archive").counter().count());
+        assertEquals(2_000_000, meterRegistry.get("audit.partitions.headroom").gauge().value());
+    }
+
+    @Test
+    void shouldKeepFillingCurrentPartitionWithinPeriod() throws SQLException {
+        // Given
+        AuditPartitionMaintainer maintainer = maintainer("2026-10-17T12:00:00Z");
+        givenLeader(LEGACY, OCTOBER, SPARE, SECOND_SPARE);
+        when(repository.nextRevision(connection)).thenReturn(2_100_000L);
+        when(repository.firstRevisionTime(connection, OCTOBER)).thenReturn(millis("2026-10-01T00:00:05Z"));
+        when(repository.lastRevisionTime(connection, LEGACY)).thenReturn(millis("2026-10-01T00:00:01Z"));
+
+        // When
+        maintainer.maintain();
+        maintainer.maintain();
+
+        // Then
+        verify(repository, never()).moveRevisions(any(), anyLong());
+        verify(repository, never()).create(any(), anyLong(), anyLong());
+        verify(repository, never()).retire(any(), any(), any());
+        verify(repository, times(1)).lastRevisionTime(connection, LEGACY);
+        assertEquals(2_900_000, meterRegistry.get("audit.partitions.headroom").gauge().value());
+        assertEquals(4, meterRegistry.get("audit.partitions").gauge().value());
+    }
+
+    @Test
+    void shouldSkipWhenAnotherReplicaHoldsLock() throws SQLException {
+        // Given
+        AuditPartitionMaintainer maintainer = maintainer("2026-10-17T12:00:00Z");
+        when(repository.tryLock(connection, AuditPartitionMaintainer.LOCK_KEY)).thenReturn(false);
+
+        // When
+        boolean maintained = maintainer.maintain();
+
+        // Then
+        assertFalse(maintained);
+        verify(repository, never()).partitions(any());
+        verify(repository, never()).unlock(any(), anyLong());
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldRefreshHeadroomWhenMaintenanceFails() throws SQLException {
+        // Given
+        AuditPartitionMaintainer maintainer = maintainer("2026-10-17T12:00:00Z");
+        givenLeader(LEGACY, OCTOBER);
+        when(repository.finalizeDetaches(connection)).thenThrow(new SQLException("lock timeout"));
+        when(repository.nextRevision(connection)).thenReturn(2_400_000L);
+
+        // When
+        maintainer.scheduledMaintain();
+
+        // Then
+        verify(repository).unlock(connection, AuditPartitionMaintainer.LOCK_KEY);
+        verify(repository, never()).create(any(), anyLong(), anyLong());
+        assertEquals(600_000, meterRegistry.get("audit.partitions.headroom").gauge().value());
+    }
+
+    @Test
+    void shouldRejectDailyPeriodThatUsesUpRevisionsWithinRunway() throws SQLException {
+        // Given
+        AuditPartitionMaintainer maintainer = maintainer(AuditPartitionProperties.Period.DAY, 1_000_000);
+        when(repository.nextRevision(connection)).thenReturn(3_000_000L);
+
+        // When
+        IllegalStateException exception = assertThrows(IllegalStateException.class, maintainer::checkRunway);
+
+        // Then
+        assertTrue(exception.getMessage().startsWith("Audit revision numbers run out by 2032-08-"));
+        verify(connection).close();
+    }
+
+    @Test
+    void shouldAcceptDailyPeriodWithSmallerPartitions() throws SQLException {
+        // Given
+        AuditPartitionMaintainer maintainer = maintainer(AuditPartitionProperties.Period.DAY, 500_000);
+        when(repository.nextRevision(connection)).thenReturn(3_000_000L);
+
+        // When / Then
+        assertDoesNotThrow(maintainer::checkRunway);
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private AuditPartitionMaintainer maintainer(String now) {
+        return maintainer(AuditPartitionProperties.Period.MONTH, 1_000_000, now);
+    }
+
+    private AuditPartitionMaintainer maintainer(AuditPartitionProperties.Period period, int partitionSize) {
+        return maintainer(period, partitionSize, "2026-10-17T12:00:00Z");
+    }
+
+    private AuditPartitionMaintainer maintainer(AuditPartitionProperties.Period period, int partitionSize, String now) {
+        return new AuditPartitionMaintainer(dataSource, repository, period, partitionSize, Duration.ofDays(3650),
+                Duration.ofDays(365), AuditPartitionProperties.RetentionMode.ARCHIVE, Duration.ofSeconds(5),
+                meterRegistry, Clock.fixed(Instant.parse(now), ZoneOffset.UTC));
+    }
+
+    private void givenLeader(AuditPartitionRepository.Partition... partitions) throws SQLException {
+        when(repository.tryLock(connection, AuditPartitionMaintainer.LOCK_KEY)).thenReturn(true);
+        when(repository.partitions(connection)).thenAnswer(_ -> new ArrayList<>(List.of(partitions)));
+    }
+
+    private static long millis(String instant) {
+        return Instant.parse(instant).toEpochMilli();
+    }
+
+}
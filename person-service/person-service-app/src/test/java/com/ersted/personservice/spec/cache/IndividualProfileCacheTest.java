@@ -0,0 +1,163 @@
+package com.ersted.personservice.spec.cache;
+
+import com.ersted.personservice.cache.IndividualProfileCache;
+import com.ersted.personservice.model.IndividualInfoResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IndividualProfileCacheTest {
+
+    private final UUID id = UUID.randomUUID();
+    private final AtomicInteger loads = new AtomicInteger();
+    private final AtomicLong clock = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    @Test
+    void shouldServeRepeatedReadsFromCache() {
+        // Given
+        IndividualProfileCache cache = cache(IndividualProfileCache.Mode.CACHE);
+
+        // When
+        IndividualInfoResponse first = cache.get(id, loader("PENDING"));
+        IndividualInfoResponse second = cache.get(id, loader("PENDING"));
+
+        // Then
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count());
+        assertEquals(1, meterRegistry.get("cache.gets").tag("result", "miss").functionCounter().count());
+        assertEquals(0.5, meterRegistry.get("individual.profile.cache.hit.ratio").gauge().value());
+        assertEquals(1, meterRegistry.get("individual.profile.cache.load").timer().count());
+    }
+
+    @Test
+    void shouldEvictOnlyAfterCommit() {
+        // Given
+        IndividualProfileCache cache = cache(IndividualProfileCache.Mode.CACHE);
+        cache.get(id, loader("PENDING"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        cache.evictAfterCommit(id);
+        IndividualInfoResponse beforeCommit = cache.get(id, loader("ACTIVE"));
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        IndividualInfoResponse afterCommit = cache.get(id, loader("ACTIVE"));
+
+        // Then
+        assertEquals("PENDING", beforeCommit.getStatus());
+        assertEquals("ACTIVE", afterCommit.getStatus());
+        assertEquals(1, meterRegistry.get("individual.profile.cache.invalidations").counter().count());
+    }
+
+    @Test
+    void shouldKeepEntryWhenTransactionRollsBack() {
+        // Given
+        IndividualProfileCache cache = cache(IndividualProfileCache.Mode.CACHE);
+        cache.get(id, loader("PENDING"));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // When
+        cache.evictAfterCommit(id);
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertEquals("PENDING", cache.get(id, loader("ACTIVE")).getStatus());
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    void shouldBypassCacheInsideReadWriteTransaction() {
+        // Given
+        IndividualProfileCache cache = cache(IndividualProfileCache.Mode.CACHE);
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+
+        // When
+        cache.get(id, loader("PENDING"));
+        cache.get(id, loader("PENDING"));
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        cache.get(id, loader("PENDING"));
+
+        // Then
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void shouldReloadAfterTtl() {
+        // Given
+        IndividualProfileCache cache = cache(IndividualProfileCache.Mode.CACHE);
+        cache.get(id, loader("PENDING"));
+
+        // When
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+        IndividualInfoResponse result = cache.get(id, loader("ACTIVE"));
+
+        // Then
+        assertEquals("ACTIVE", result.getStatus());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shouldCompareWithDatabaseInShadowMode() {
+        // Given
+        IndividualProfileCache cache = cache(IndividualProfileCache.Mode.SHADOW);
+        cache.get(id, loader("PENDING"));
+
+        // When
+        IndividualInfoResponse unchanged = cache.get(id, loader("PENDING"));
+        IndividualInfoResponse changed = cache.get(id, loader("ACTIVE"));
+
+        // Then
+        assertEquals("PENDING", unchanged.getStatus());
+        assertEquals("ACTIVE", changed.getStatus());
+        assertEquals(1, meterRegistry.get("individual.profile.cache.shadow").tag("result", "match").counter().count());
+        assertEquals(1, meterRegistry.get("individual.profile.cache.shadow").tag("result", "mismatch").counter().count());
+        assertEquals(3, loads.get());
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private IndividualProfileCache cache(IndividualProfileCache.Mode mode) {
+        return new IndividualProfileCache(mode, 100, Duration.ofMinutes(1), TransactionOperations.withoutTransaction(),
+                meterRegistry, clock::get);
+    }
+
+    private Function<UUID, IndividualInfoResponse> loader(String status) {
+        return key -> {
+            loads.incrementAndGet();
+            IndividualInfoResponse response = new IndividualInfoResponse();
+            response.setId(key);
+            response.setStatus(status);
+            return response;
+        };
+    }
+
+}
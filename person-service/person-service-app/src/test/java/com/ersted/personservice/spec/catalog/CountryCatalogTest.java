@@ -0,0 +1,101 @@
+package com.ersted.personservice.spec.catalog;
+
+import com.ersted.personservice.catalog.CountryCatalog;
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.entity.status.CountryStatus;
+import com.ersted.personservice.mapper.CountryMapper;
+import com.ersted.personservice.repository.CountryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CountryCatalogTest {
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    private CountryCatalog countryCatalog;
+
+    @BeforeEach
+    void setUp() {
+        countryCatalog = new CountryCatalog(countryRepository, Mappers.getMapper(CountryMapper.class), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void shouldIndexCountriesByAlpha2AndAlpha3() {
+        // Given
+        when(countryRepository.findAll()).thenReturn(List.of(
+                buildCountry(2, "Kazakhstan", "KZ", "KAZ"),
+                buildCountry(1, "Russia", "RU", "RUS")
+        ));
+
+        // When
+        countryCatalog.afterSingletonsInstantiated();
+
+        // Then
+        assertEquals("Russia", countryCatalog.findByAlpha3("RUS").orElseThrow().getName());
+        assertEquals("Kazakhstan", countryCatalog.findByAlpha2("KZ").orElseThrow().getName());
+        assertTrue(countryCatalog.findByAlpha3("XXX").isEmpty());
+        assertEquals(List.of("RUS", "KAZ"), countryCatalog.snapshot().response().getCountries().stream()
+                .map(country -> country.getAlpha3())
+                .toList());
+    }
+
+    @Test
+    void shouldKeepEtagWhileCatalogIsUnchanged() {
+        // Given
+        when(countryRepository.findAll())
+                .thenReturn(List.of(buildCountry(1, "Russia", "RU", "RUS")))
+                .thenReturn(List.of(buildCountry(1, "Russia", "RU", "RUS")))
+                .thenReturn(List.of(buildCountry(1, "Russian Federation", "RU", "RUS")));
+
+        // When
+        String first = countryCatalog.refresh().etag();
+        String unchanged = countryCatalog.refresh().etag();
+        String renamed = countryCatalog.refresh().etag();
+
+        // Then
+        assertEquals(first, unchanged);
+        assertNotEquals(first, renamed);
+        assertEquals("Russian Federation", countryCatalog.findByAlpha3("RUS").orElseThrow().getName());
+    }
+
+    @Test
+    void shouldKeepLoadedCatalogWhenScheduledRefreshFails() {
+        // Given
+        when(countryRepository.findAll())
+                .thenReturn(List.of(buildCountry(1, "Russia", "RU", "RUS")))
+                .thenThrow(new DataAccessResourceFailureException("database is down"));
+        countryCatalog.refresh();
+
+        // When
+        countryCatalog.scheduledRefresh();
+
+        // Then
+        assertTrue(countryCatalog.findByAlpha3("RUS").isPresent());
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private Country buildCountry(int id, String name, String alpha2, String alpha3) {
+        Country country = new Country();
+        country.setId(id);
+        country.setName(name);
+        country.setAlpha2(alpha2);
+        country.setAlpha3(alpha3);
+        country.setStatus(CountryStatus.ACTIVE);
+        return country;
+    }
+
+}
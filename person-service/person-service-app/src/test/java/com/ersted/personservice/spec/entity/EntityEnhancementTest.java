@@ -0,0 +1,44 @@
+package com.ersted.personservice.spec.entity;
+
+import com.ersted.personservice.entity.Address;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+import org.hibernate.engine.spi.SelfDirtinessTracker;
+import org.junit.jupiter.api.Test;
+
+import java.time.OffsetDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EntityEnhancementTest {
+
+    @Test
+    void shouldTrackOnlyChangedAttributes() {
+        // Given
+        Individual individual = new Individual();
+        SelfDirtinessTracker tracker = assertInstanceOf(SelfDirtinessTracker.class, individual);
+        tracker.$$_hibernate_clearDirtyAttributes();
+
+        // When
+        individual.setPhoneNumber("+79001234567");
+
+        // Then
+        assertArrayEquals(new String[]{"phoneNumber"}, tracker.$$_hibernate_getDirtyAttributes());
+    }
+
+    @Test
+    void shouldEnhanceAllAuditedEntities() {
+        // Given
+        User user = new User();
+        Address address = new Address();
+
+        // When
+        user.setFirstName("John");
+        address.setArchived(OffsetDateTime.now());
+
+        // Then
+        assertArrayEquals(new String[]{"firstName"}, assertInstanceOf(SelfDirtinessTracker.class, user).$$_hibernate_getDirtyAttributes());
+        assertArrayEquals(new String[]{"archived"}, assertInstanceOf(SelfDirtinessTracker.class, address).$$_hibernate_getDirtyAttributes());
+    }
+
+}
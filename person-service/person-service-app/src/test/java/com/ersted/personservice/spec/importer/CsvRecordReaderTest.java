@@ -0,0 +1,60 @@
+package com.ersted.personservice.spec.importer;
+
+import com.ersted.personservice.importer.CsvRecordReader;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CsvRecordReaderTest {
+
+    @Test
+    void shouldReadQuotedFieldsAcrossLines() throws IOException {
+        // Given
+        CsvRecordReader reader = reader("a,\"b, \"\"c\"\"\",d\r\n\"multi\nline\",,\"\"\r\nlast");
+
+        // When
+        CsvRecordReader.Record first = reader.next();
+        CsvRecordReader.Record second = reader.next();
+        CsvRecordReader.Record third = reader.next();
+
+        // Then
+        assertEquals(List.of("a", "b, \"c\"", "d"), first.fields());
+        assertEquals(1, first.line());
+        assertEquals(Arrays.asList("multi\nline", null, ""), second.fields());
+        assertEquals(2, second.line());
+        assertEquals(List.of("last"), third.fields());
+        assertEquals(4, third.line());
+        assertNull(reader.next());
+    }
+
+    @Test
+    void shouldReportMalformedRecordAndContinue() throws IOException {
+        // Given
+        CsvRecordReader reader = reader("\"a\"b,c\nd,e\n\"open");
+
+        // When
+        CsvRecordReader.Record malformed = reader.next();
+        CsvRecordReader.Record valid = reader.next();
+        CsvRecordReader.Record unterminated = reader.next();
+
+        // Then
+        assertEquals("Unexpected character after quoted field", malformed.error());
+        assertEquals(List.of("d", "e"), valid.fields());
+        assertNull(valid.error());
+        assertEquals(2, valid.line());
+        assertEquals("Unterminated quoted field", unterminated.error());
+        assertNull(reader.next());
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private CsvRecordReader reader(String content) {
+        return new CsvRecordReader(new StringReader(content));
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.ersted.personservice.spec.importer;
+
+import com.ersted.personservice.exception.ValidateException;
+import com.ersted.personservice.importer.IndividualImportJob;
+import com.ersted.personservice.importer.IndividualImportRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IndividualImportJobTest {
+
+    private static final String HEADER =
+            "country,passport_number,phone_number,email,first_name,last_name,secret_key,address,zip_code,city,state";
+
+    @TempDir
+    private Path directory;
+
+    @Mock
+    private IndividualImportRepository repository;
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    @Mock
+    private Connection connection;
+
+    private final List<StringWriter> copies = new ArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private IndividualImportJob job;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new IndividualImportJob(repository, TransactionOperations.withoutTransaction(), jdbcOperations, directory, 2,
+                meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        job.shutdown();
+    }
+
+    @Test
+    void shouldCopyChunksAndWriteRejects() throws Exception {
+        // Given
+        Path source = file(HEADER,
+                "RUS,AB1,+7901,one@test.com,John,Doe,secret,\"Street, 1\",101000,Moscow,Moscow",
+                "RUS,AB2,+7902",
+                "",
+                "XYZ,AB3,+7903,three@test.com,John,Doe,secret,Street 3,101000,Moscow,Moscow",
+                "RUS,AB4,+7904,four@test.com,John,Doe,secret,Street 4,101000,Moscow,Moscow");
+        givenConnection();
+        when(repository.load(eq(connection), anyLong())).thenReturn(1, 1);
+        when(repository.rejects(connection)).thenReturn(
+                List.of(new IndividualImportRepository.Reject(5, "Couldn't find the country by alpha3",
+                        List.of("AB3", "+7903", "three@test.com", "John", "Doe", "secret", "Street 3", "101000", "Moscow", "Moscow", "XYZ"))),
+                List.of());
+
+        // When
+        IndividualImportJob.Status status = job.run(source, directory.resolve("customers.rejects.csv"));
+
+        // Then
+        assertEquals(IndividualImportJob.State.COMPLETED, status.state());
+        assertEquals(2, status.imported());
+        assertEquals(2, status.rejected());
+        assertEquals(6, status.committedLine());
+        assertEquals(2, copies.size());
+        assertEquals("""
+                2,"AB1","+7901","one@test.com","John","Doe","secret","Street, 1","101000","Moscow","Moscow","RUS"
+                5,"AB3","+7903","three@test.com","John","Doe","secret","Street 3","101000","Moscow","Moscow","XYZ"
+                """, copies.get(0).toString());
+        assertTrue(copies.get(1).toString().startsWith("6,\"AB4\""));
+        assertEquals(List.of(
+                "line,reason,passport_number,phone_number,email,first_name,last_name,secret_key,address,zip_code,city,state,country",
+                "3,\"Expected 11 fields, found 3\",RUS,AB2,+7902",
+                "5,Couldn't find the country by alpha3,AB3,+7903,three@test.com,John,Doe,secret,Street 3,101000,Moscow,Moscow,XYZ"
+        ), Files.readAllLines(directory.resolve("customers.rejects.csv")));
+        assertEquals(2, meterRegistry.get("individual.import.rows").tag("result", "imported").counter().count());
+        assertEquals(2, meterRegistry.get("individual.import.rows").tag("result", "rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("individual.import.progress").gauge().value());
+        verify(repository, times(2)).createStaging(connection);
+    }
+
+    @Test
+    void shouldFailWhenHeaderMissesColumn() throws IOException {
+        // Given
+        Path source = file("passport_number,phone_number", "AB1,+7901");
+
+        // When
+        IndividualImportJob.Status status = job.run(source, directory.resolve("customers.rejects.csv"));
+
+        // Then
+        assertEquals(IndividualImportJob.State.FAILED, status.state());
+        assertTrue(status.error().startsWith("Import file header must contain exactly the columns"));
+        verifyNoInteractions(repository, jdbcOperations);
+    }
+
+    @Test
+    void shouldRejectFileOutsideDirectory() {
+        // When / Then
+        ValidateException exception = assertThrows(
+                ValidateException.class,
+                () -> job.start("../customers.csv")
+        );
+
+        assertTrue(exception.getMessage().startsWith("Import file ../customers.csv not found"));
+        assertEquals(IndividualImportJob.State.IDLE, job.status().state());
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private Path file(String... lines) throws IOException {
+        return Files.writeString(directory.resolve("customers.csv"), String.join("\r\n", lines) + "\r\n");
+    }
+
+    private void givenConnection() throws SQLException {
+        when(jdbcOperations.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(repository.copy(connection)).thenAnswer(_ -> {
+            StringWriter copy = new StringWriter();
+            copies.add(copy);
+            return copy;
+        });
+    }
+
+}
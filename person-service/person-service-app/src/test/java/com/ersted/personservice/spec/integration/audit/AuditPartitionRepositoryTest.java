@@ -0,0 +1,287 @@
+package com.ersted.personservice.spec.integration.audit;
+
+import com.ersted.personservice.audit.AuditPartitionMaintainer;
+import com.ersted.personservice.audit.AuditPartitionRepository;
+import com.ersted.personservice.config.AuditPartitionProperties;
+import com.ersted.personservice.spec.integration.LifecycleSpecification;
+import com.jayway.jsonpath.JsonPath;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Runs the partition DDL against PostgreSQL with Envers writing through the application, outside of a test
+ * transaction: {@code DETACH PARTITION CONCURRENTLY} waits for every open transaction on the parent.
+ */
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class AuditPartitionRepositoryTest extends LifecycleSpecification {
+
+    private final AuditPartitionRepository repository = new AuditPartitionRepository();
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Value("${spring.datasource.url}")
+    private String url;
+
+    @Value("${spring.datasource.username}")
+    private String username;
+
+    @Value("${spring.datasource.password}")
+    private String password;
+
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        connection = dataSource.getConnection();
+        // keeps a scheduled maintenance run from changing the partitions under the test
+        assertTrue(repository.tryLock(connection, AuditPartitionMaintainer.LOCK_KEY));
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        // profiles created here are committed, unlike in the other specs
+        execute(connection, """
+                DELETE FROM person.individuals WHERE user_id IN (SELECT id FROM person.users WHERE email LIKE 'partition-%')
+                """);
+        execute(connection, """
+                WITH users AS (DELETE FROM person.users WHERE email LIKE 'partition-%' RETURNING address_id)
+                DELETE FROM person.addresses WHERE id IN (SELECT address_id FROM users)
+                """);
+        repository.unlock(connection, AuditPartitionMaintainer.LOCK_KEY);
+        connection.close();
+    }
+
+    @ParameterizedTest
+    @EnumSource(AuditPartitionProperties.RetentionMode.class)
+    void shouldKeepAuditWritesLandingWhilePartitionsRollOverAndRetire(AuditPartitionProperties.RetentionMode mode) throws Exception {
+        // Given
+        Revision first = createIndividual();
+        AuditPartitionRepository.Partition current = partitionOf(first.rev());
+        AuditPartitionRepository.Partition last = repository.partitions(connection).getLast();
+
+        // When
+        AuditPartitionRepository.Partition next = repository.create(connection, last.to(), last.to() + 1_000);
+
+        // Then
+        assertEquals(next, partitionOf(next.from()));
+        assertNotNull(createIndividual().partition());
+
+        // When
+        boolean moved = repository.moveRevisions(connection, next.from());
+
+        // Then
+        assertTrue(moved);
+        assertTrue(repository.nextRevision(connection) >= next.from());
+        Revision afterMove = createIndividual();
+        // Hibernate's pooled optimizer hands out the block it has already reserved before asking the sequence
+        for (int i = 0; afterMove.rev() < next.from() && i < 60; i++) {
+            afterMove = createIndividual();
+        }
+        assertEquals("individuals_aud_" + next.suffix(), afterMove.partition());
+
+        // When
+        repository.retire(connection, current.suffix(), mode);
+
+        // Then
+        assertTrue(repository.partitions(connection).stream().noneMatch(partition -> partition.equals(current)));
+        assertNull(history(first.id()));
+        assertEquals(mode == AuditPartitionProperties.RetentionMode.ARCHIVE,
+                exists(AuditPartitionRepository.ARCHIVE_SCHEMA + ".individuals_aud_" + current.suffix()));
+        assertFalse(exists("person.individuals_aud_" + current.suffix()));
+        assertEquals("individuals_aud_" + next.suffix(), createIndividual().partition());
+    }
+
+    @Test
+    void shouldFinalizeInterruptedDetach() throws Exception {
+        // Given
+        AuditPartitionRepository.Partition last = repository.partitions(connection).getLast();
+        AuditPartitionRepository.Partition spare = repository.create(connection, last.to(), last.to() + 1_000);
+        try (Connection reader = dataSource.getConnection()) {
+            reader.setAutoCommit(false);
+            query(reader, "SELECT count(*) FROM person.users_aud");
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET statement_timeout = 1000");
+                assertThrows(SQLException.class, () -> statement.execute(
+                        "ALTER TABLE person.users_aud DETACH PARTITION person.users_aud_%s CONCURRENTLY"
+                                .formatted(spare.suffix())));
+                statement.execute("RESET statement_timeout");
+            }
+            reader.rollback();
+        }
+
+        // When
+        int finalized = repository.finalizeDetaches(connection);
+        repository.retire(connection, spare.suffix(), AuditPartitionProperties.RetentionMode.DROP);
+
+        // Then
+        assertEquals(1, finalized);
+        assertFalse(repository.partitions(connection).contains(spare));
+        assertFalse(exists("person.users_aud_" + spare.suffix()));
+        assertFalse(exists("person.revinfo_" + spare.suffix()));
+        assertNotNull(createIndividual().partition());
+    }
+
+    @Test
+    void shouldAttachLegacyAuditHistoryAsPartition() throws Exception {
+        // Given
+        String database = "audit_legacy_" + UUID.randomUUID().toString().replace("-", "");
+        String legacyUrl = url.substring(0, url.lastIndexOf('/') + 1) + database;
+        execute(connection, "CREATE DATABASE " + database);
+        try {
+            flyway(legacyUrl, "10").migrate();
+            try (Connection legacy = DriverManager.getConnection(legacyUrl, username, password)) {
+                execute(legacy, "INSERT INTO person.revinfo (rev, revtstmp) VALUES (nextval('person.revinfo_seq'), 1700000000000)");
+                execute(legacy, """
+                        INSERT INTO person.individuals_aud (id, rev, revtype, status)
+                        SELECT gen_random_uuid(), rev, 0, 'PENDING' FROM person.revinfo
+                        """);
+            }
+
+            // When
+            flyway(legacyUrl, "latest").migrate();
+
+            // Then
+            try (Connection legacy = DriverManager.getConnection(legacyUrl, username, password)) {
+                List<AuditPartitionRepository.Partition> partitions = repository.partitions(legacy);
+                assertEquals(2, partitions.size());
+                assertEquals(new AuditPartitionRepository.Partition("legacy", Long.MIN_VALUE, 2_000_000), partitions.getFirst());
+                assertEquals(new AuditPartitionRepository.Partition("p2000000", 2_000_000, 3_000_000), partitions.getLast());
+                assertEquals("1", query(legacy, "SELECT count(*) FROM person.individuals_aud"));
+                assertEquals("revinfo_legacy", query(legacy, """
+                        SELECT confrelid::regclass::text FROM pg_constraint
+                        WHERE conrelid = 'person.individuals_aud_legacy'::regclass AND contype = 'f'
+                        """).replace("person.", ""));
+                assertEquals(1_700_000_000_000L, repository.lastRevisionTime(legacy, partitions.getFirst()));
+                assertEquals(2_000_000, repository.nextRevision(legacy));
+                assertEquals("revinfo_p2000000", query(legacy, """
+                        INSERT INTO person.revinfo (rev, revtstmp) VALUES (nextval('person.revinfo_seq'), 0)
+                        RETURNING tableoid::regclass::text
+                        """).replace("person.", ""));
+            }
+        } finally {
+            execute(connection, "DROP DATABASE " + database + " WITH (FORCE)");
+        }
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private Revision createIndividual() throws Exception {
+        String response = mockMvc.perform(post("/v1/individuals")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(buildCreateRequest("partition-" + UUID.randomUUID() + "@test.com")))
+                .andExpect(status().isCreated())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+        UUID id = UUID.fromString(JsonPath.read(response, "$.id"));
+        return history(id);
+    }
+
+    private Revision history(UUID id) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("""
+                SELECT a.rev, c.relname FROM person.individuals_aud a JOIN pg_class c ON c.oid = a.tableoid
+                WHERE a.id = ? ORDER BY a.rev DESC LIMIT 1
+                """)) {
+            statement.setObject(1, id);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                return resultSet.next() ? new Revision(id, resultSet.getLong(1), resultSet.getString(2)) : null;
+            }
+        }
+    }
+
+    private AuditPartitionRepository.Partition partitionOf(long revision) throws SQLException {
+        return repository.partitions(connection).stream()
+                .filter(partition -> partition.contains(revision))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private boolean exists(String table) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT to_regclass(?) IS NOT NULL")) {
+            statement.setString(1, table);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                return resultSet.getBoolean(1);
+            }
+        }
+    }
+
+    private Flyway flyway(String url, String target) {
+        return Flyway.configure()
+                .configuration(Map.of("flyway.postgresql.transactional.lock", "false"))
+                .dataSource(url, username, password)
+                .locations("classpath:db/migration")
+                .defaultSchema("person")
+                .target(target)
+                .load();
+    }
+
+    private static String query(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(sql)) {
+            resultSet.next();
+            return resultSet.getString(1);
+        }
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private String buildCreateRequest(String email) {
+        return """
+                {
+                  "passport_number": "AB123456",
+                  "phone_number": "+79001234567",
+                  "email": "%s",
+                  "first_name": "John",
+                  "last_name": "Doe",
+                  "secret_key": "secret123",
+                  "address": {
+                    "address": "ул. Ленина, 1",
+                    "zip_code": "101000",
+                    "city": "Москва",
+                    "state": "Московская область",
+                    "country": {
+                      "name": "Russia",
+                      "alpha2": "RU",
+                      "alpha3": "RUS"
+                    }
+                  }
+                }
+                """.formatted(email);
+    }
+
+    private record Revision(UUID id, long rev, String partition) {
+    }
+
+}
@@ -0,0 +1,39 @@
+package com.ersted.personservice.spec.integration.controller;
+
+import com.ersted.personservice.spec.integration.LifecycleSpecification;
+import org.junit.jupiter.api.Test;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class CountriesControllerTest extends LifecycleSpecification {
+
+    @Test
+    void shouldGetCountriesWithEtag() throws Exception {
+        mockMvc.perform(get("/v1/countries")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(header().string("Cache-Control", "max-age=86400"))
+                .andExpect(jsonPath("$.countries[?(@.alpha3 == 'RUS')].alpha2").value("RU"));
+    }
+
+    @Test
+    void shouldReturnNotModifiedForCurrentEtag() throws Exception {
+        String etag = mockMvc.perform(get("/v1/countries")
+                        .with(jwt()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(get("/v1/countries")
+                        .with(jwt())
+                        .header("If-None-Match", etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", etag))
+                .andExpect(content().string(""));
+    }
+
+}
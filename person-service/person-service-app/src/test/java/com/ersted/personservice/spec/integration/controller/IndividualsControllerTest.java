@@ -1,17 +1,24 @@
 package com.ersted.personservice.spec.integration.controller;
 
 import com.ersted.personservice.spec.integration.LifecycleSpecification;
+import com.jayway.jsonpath.JsonPath;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
 
 import java.util.UUID;
 
+import static org.hamcrest.Matchers.*;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 class IndividualsControllerTest extends LifecycleSpecification {
 
+    @Autowired
+    private EntityManager entityManager;
+
     @Test
     void shouldCreateIndividualSuccessfully() throws Exception {
         mockMvc.perform(post("/v1/individuals")
@@ -36,6 +43,123 @@ class IndividualsControllerTest extends LifecycleSpecification {
                 .andExpect(jsonPath("$.status").value("BAD_REQUEST"));
     }
 
+    @Test
+    void shouldCreateIndividualsBatchWithPerItemResults() throws Exception {
+        mockMvc.perform(post("/v1/individuals:batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"profiles\": [%s, %s, %s]}".formatted(
+                                buildCreateRequest("batch-1@test.com", "RUS"),
+                                buildCreateRequest("batch-2@test.com", "XXX"),
+                                buildCreateRequest("batch-3@test.com", "RUS"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created").value(2))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.results[0].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[0].individual.id").isNotEmpty())
+                .andExpect(jsonPath("$.results[1].status").value("REJECTED"))
+                .andExpect(jsonPath("$.results[1].error").value("Couldn't find the country by alpha3"))
+                .andExpect(jsonPath("$.results[2].status").value("CREATED"))
+                .andExpect(jsonPath("$.results[2].individual.status").value("PENDING"));
+    }
+
+    @Test
+    void shouldCreateIndividualsBatchFailedWhenEmpty() throws Exception {
+        mockMvc.perform(post("/v1/individuals:batch")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"profiles\": []}"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.status").value("BAD_REQUEST"));
+    }
+
+    @Test
+    void shouldSearchIndividualsByEmailIgnoringCase() throws Exception {
+        mockMvc.perform(post("/v1/individuals")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(buildCreateRequest("search@test.com", "RUS")))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(get("/v1/individuals")
+                        .with(jwt())
+                        .param("email", "Search@Test.com"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.items[0].passport_number").value("AB123456"))
+                .andExpect(jsonPath("$.next_cursor").doesNotExist());
+    }
+
+    @Test
+    void shouldSearchIndividualsPageByPage() throws Exception {
+        for (String email : new String[]{"page-1@test.com", "page-2@test.com", "page-3@test.com"}) {
+            mockMvc.perform(post("/v1/individuals")
+                            .with(jwt())
+                            .contentType(MediaType.APPLICATION_JSON)
+                            .content(buildCreateRequest(email, "RUS")))
+                    .andExpect(status().isCreated());
+        }
+
+        String cursor = JsonPath.read(mockMvc.perform(get("/v1/individuals")
+                        .with(jwt())
+                        .param("passport_number", "AB123456")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.next_cursor").isNotEmpty())
+                .andReturn()
+                .getResponse()
+                .getContentAsString(), "$.next_cursor");
+
+        mockMvc.perform(get("/v1/individuals")
+                        .with(jwt())
+                        .param("passport_number", "AB123456")
+                        .param("limit", "2")
+                        .param("cursor", cursor))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(1))
+                .andExpect(jsonPath("$.next_cursor").doesNotExist());
+    }
+
+    @Test
+    void shouldSearchIndividualsFailedWhenCursorIsInvalid() throws Exception {
+        mockMvc.perform(get("/v1/individuals")
+                        .with(jwt())
+                        .param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Invalid cursor"));
+    }
+
+    @Test
+    void shouldExportIndividualsAsCsv() throws Exception {
+        mockMvc.perform(post("/v1/individuals")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(buildCreateRequest("export@test.com", "RUS")))
+                .andExpect(status().isCreated());
+        // the export reads through JDBC in the test transaction, which does not flush the persistence context
+        entityManager.flush();
+
+        mockMvc.perform(get("/v1/individuals:export")
+                        .with(jwt())
+                        .param("format", "csv"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition", "attachment; filename=\"individuals.csv\""))
+                .andExpect(content().string(startsWith("id,user_id,passport_number,phone_number,status,")))
+                .andExpect(content().string(containsString(",export@test.com,")))
+                .andExpect(content().string(not(containsString("secret"))));
+    }
+
+    @Test
+    void shouldExportIndividualsFailedWhenFormatIsUnknown() throws Exception {
+        mockMvc.perform(get("/v1/individuals:export")
+                        .with(jwt())
+                        .param("format", "xml"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.error").value("Unknown export format: xml"));
+    }
+
     @Test
     void shouldGetIndividualSuccessfully() throws Exception {
         String location = mockMvc.perform(post("/v1/individuals")
@@ -0,0 +1,115 @@
+package com.ersted.personservice.spec.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.core.spi.FilterReply;
+import com.ersted.personservice.logging.LoggerRateLimitFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LoggerRateLimitFilterTest {
+
+    private final AtomicLong millis = new AtomicLong(1_000_000);
+    private final LoggerContext context = new LoggerContext();
+    private LoggerRateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LoggerRateLimitFilter(millis::get);
+        filter.setContext(context);
+        filter.addLimit("com.example.service=2");
+        filter.addLimit("com.example.service.hot=1");
+        filter.start();
+    }
+
+    @Test
+    void shouldSuppressInfoAboveLimitWithinSecond() {
+        // Given
+        Logger logger = context.getLogger("com.example.service.UserService");
+
+        // When
+        FilterReply first = decide(logger, Level.INFO);
+        FilterReply second = decide(logger, Level.INFO);
+        FilterReply third = decide(logger, Level.INFO);
+
+        // Then
+        assertEquals(FilterReply.NEUTRAL, first);
+        assertEquals(FilterReply.NEUTRAL, second);
+        assertEquals(FilterReply.DENY, third);
+        assertEquals(1, limit("com.example.service").getSuppressed());
+    }
+
+    @Test
+    void shouldRestorePermitsInNextSecond() {
+        // Given
+        Logger logger = context.getLogger("com.example.service.hot.Client");
+        decide(logger, Level.INFO);
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO));
+
+        // When
+        millis.addAndGet(1_000);
+
+        // Then
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+    }
+
+    @Test
+    void shouldNotLimitWarningsEnabledChecksOrOtherLoggers() {
+        // Given
+        Logger limited = context.getLogger("com.example.service.hot.Client");
+        Logger other = context.getLogger("com.example.services.Other");
+        decide(limited, Level.INFO);
+
+        // When / Then
+        assertEquals(FilterReply.NEUTRAL, decide(limited, Level.WARN));
+        assertEquals(FilterReply.NEUTRAL, filter.decide(null, limited, Level.INFO, null, null, null));
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(other, Level.INFO));
+        }
+    }
+
+    @Test
+    void shouldNotSpendPermitsOnDisabledLevels() {
+        // Given
+        Logger logger = context.getLogger("com.example.service.hot.Client");
+        logger.setLevel(Level.INFO);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            assertEquals(FilterReply.NEUTRAL, decide(logger, Level.DEBUG));
+            assertEquals(FilterReply.NEUTRAL, decide(logger, Level.TRACE));
+        }
+
+        // Then
+        assertEquals(FilterReply.NEUTRAL, decide(logger, Level.INFO));
+        assertEquals(FilterReply.DENY, decide(logger, Level.INFO));
+        assertEquals(1, limit("com.example.service.hot").getSuppressed());
+    }
+
+    @Test
+    void shouldIgnoreMalformedLimits() {
+        // When
+        filter.addLimit("no-separator");
+        filter.addLimit("com.example=many");
+
+        // Then
+        assertEquals(2, filter.getLimits().size());
+    }
+
+    private FilterReply decide(Logger logger, Level level) {
+        return filter.decide(null, logger, level, "message {}", new Object[]{"arg"}, null);
+    }
+
+    private LoggerRateLimitFilter.Limit limit(String logger) {
+        return filter.getLimits().stream()
+                .filter(limit -> limit.getLogger().equals(logger))
+                .findFirst()
+                .orElseThrow();
+    }
+
+}
@@ -0,0 +1,157 @@
+package com.ersted.personservice.spec.service;
+
+import com.ersted.personservice.catalog.CountryCatalog;
+import com.ersted.personservice.config.IndividualBatchProperties;
+import com.ersted.personservice.entity.Address;
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import com.ersted.personservice.exception.ValidateException;
+import com.ersted.personservice.mapper.IndividualMapper;
+import com.ersted.personservice.model.IndividualBatchCreateResponse;
+import com.ersted.personservice.model.IndividualBatchItemResult;
+import com.ersted.personservice.model.IndividualCreateProfileRequest;
+import com.ersted.personservice.model.IndividualCreateProfileRequestAddress;
+import com.ersted.personservice.model.IndividualCreateProfileRequestAddressCountry;
+import com.ersted.personservice.model.IndividualInfoResponse;
+import com.ersted.personservice.repository.IndividualRepository;
+import com.ersted.personservice.service.IndividualBatchService;
+import jakarta.validation.Validation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IndividualBatchServiceTest {
+
+    @Mock
+    private IndividualRepository individualRepository;
+
+    @Mock
+    private CountryCatalog countryCatalog;
+
+    @Mock
+    private IndividualMapper individualMapper;
+
+    private IndividualBatchService individualBatchService;
+
+    @BeforeEach
+    void setUp() {
+        IndividualBatchProperties properties = new IndividualBatchProperties();
+        properties.setMaxSize(3);
+        individualBatchService = new IndividualBatchService(individualRepository, countryCatalog, individualMapper, properties,
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateValidProfilesAndRejectInvalidOnes() {
+        // Given
+        IndividualCreateProfileRequest valid = buildCreateRequest("RUS");
+        IndividualCreateProfileRequest unknownCountry = buildCreateRequest("XYZ");
+        IndividualCreateProfileRequest tooLongName = buildCreateRequest("RUS");
+        tooLongName.setFirstName("J".repeat(33));
+        Country country = buildCountry();
+        Individual individual = buildIndividual();
+        IndividualInfoResponse response = new IndividualInfoResponse();
+        response.setId(individual.getId());
+
+        when(countryCatalog.findByAlpha3("RUS")).thenReturn(Optional.of(country));
+        when(countryCatalog.findByAlpha3("XYZ")).thenReturn(Optional.empty());
+        when(individualMapper.map(valid)).thenReturn(individual);
+        when(individualMapper.map(individual)).thenReturn(response);
+
+        // When
+        IndividualBatchCreateResponse result = individualBatchService.create(List.of(valid, unknownCountry, tooLongName));
+
+        // Then
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getRejected());
+        assertEquals(IndividualBatchItemResult.StatusEnum.CREATED, result.getResults().get(0).getStatus());
+        assertEquals(individual.getId(), result.getResults().get(0).getIndividual().getId());
+        assertEquals(IndividualBatchItemResult.StatusEnum.REJECTED, result.getResults().get(1).getStatus());
+        assertEquals("Couldn't find the country by alpha3", result.getResults().get(1).getError());
+        assertEquals(2, result.getResults().get(2).getIndex());
+        assertEquals("firstName size must be between 0 and 32", result.getResults().get(2).getError());
+        assertEquals(IndividualStatus.PENDING, individual.getStatus());
+        assertEquals(country, individual.getUser().getAddress().getCountry());
+
+        // Verify
+        ArgumentCaptor<List<Individual>> saved = ArgumentCaptor.forClass(List.class);
+        verify(individualRepository).saveAll(saved.capture());
+        assertEquals(List.of(individual), saved.getValue());
+    }
+
+    @Test
+    void shouldRejectProfileWithoutAddress() {
+        // Given
+        IndividualCreateProfileRequest request = buildCreateRequest("RUS");
+        request.setAddress(null);
+
+        // When
+        IndividualBatchCreateResponse result = individualBatchService.create(List.of(request));
+
+        // Then
+        assertEquals(0, result.getCreated());
+        assertEquals("address must not be null", result.getResults().getFirst().getError());
+        verify(individualRepository).saveAll(List.of());
+        verify(individualMapper, never()).map(any(IndividualCreateProfileRequest.class));
+    }
+
+    @Test
+    void shouldFailWhenBatchExceedsMaxSize() {
+        // Given
+        List<IndividualCreateProfileRequest> requests = Collections.nCopies(4, buildCreateRequest("RUS"));
+
+        // When / Then
+        ValidateException exception = assertThrows(
+                ValidateException.class,
+                () -> individualBatchService.create(requests)
+        );
+
+        assertEquals("Batch must contain at most 3 profiles", exception.getMessage());
+        verifyNoInteractions(individualRepository, countryCatalog, individualMapper);
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private IndividualCreateProfileRequest buildCreateRequest(String alpha3) {
+        IndividualCreateProfileRequestAddressCountry country =
+                new IndividualCreateProfileRequestAddressCountry("Russia", "RU", alpha3);
+        IndividualCreateProfileRequestAddress address =
+                new IndividualCreateProfileRequestAddress("Test Street 1", "123456", "Moscow", "Moscow", country);
+        return new IndividualCreateProfileRequest("AB123456", "+79001234567", "test@test.com", "John", "Doe", "secret123", address);
+    }
+
+    private Country buildCountry() {
+        Country country = new Country();
+        country.setName("Russia");
+        country.setAlpha2("RU");
+        country.setAlpha3("RUS");
+        return country;
+    }
+
+    private Individual buildIndividual() {
+        User user = new User();
+        user.setAddress(new Address());
+
+        Individual individual = new Individual();
+        individual.setId(UUID.randomUUID());
+        individual.setUser(user);
+        return individual;
+    }
+
+}
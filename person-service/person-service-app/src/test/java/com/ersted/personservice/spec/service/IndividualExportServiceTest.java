@@ -0,0 +1,171 @@
+package com.ersted.personservice.spec.service;
+
+import com.ersted.personservice.config.IndividualExportProperties;
+import com.ersted.personservice.exception.ValidateException;
+import com.ersted.personservice.service.IndividualExportService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IndividualExportServiceTest {
+
+    private static final UUID ID = UUID.fromString("5f0c3d4e-8f43-4c36-9b7a-1b2f6c4d8e01");
+    private static final Instant CREATED = Instant.parse("2026-01-15T10:00:00Z");
+
+    @Mock
+    private JdbcOperations jdbcOperations;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private SimpleMeterRegistry meterRegistry;
+    private IndividualExportService individualExportService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        IndividualExportProperties properties = new IndividualExportProperties();
+        properties.setFetchSize(50);
+        individualExportService = new IndividualExportService(jdbcOperations, JsonMapper.builder().build(), properties,
+                meterRegistry);
+    }
+
+    @Test
+    void shouldStreamRowsAsNdjson() throws SQLException {
+        // Given
+        givenRows(row("John"), row("Jane"));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        long rows = individualExportService.export(IndividualExportService.Format.NDJSON, output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(2, rows);
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":\"" + ID + "\""));
+        assertTrue(lines[0].contains("\"created\":\"2026-01-15T10:00:00Z\""));
+        assertTrue(lines[0].contains("\"archived_at\":null"));
+        assertTrue(lines[0].contains("\"filled\":true"));
+        assertTrue(lines[1].contains("\"first_name\":\"Jane\""));
+        assertEquals(2, meterRegistry.get("individual.export.rows").counter().count());
+        verify(statement).setFetchSize(50);
+        verify(resultSet).close();
+    }
+
+    @Test
+    void shouldQuoteCsvValues() throws SQLException {
+        // Given
+        givenRows(row("Doe, \"Jr\""));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // When
+        individualExportService.export(IndividualExportService.Format.CSV, output);
+
+        // Then
+        String[] lines = output.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("id,user_id,passport_number,"));
+        assertTrue(lines[1].startsWith(ID + ","));
+        assertTrue(lines[1].contains(",2026-01-15T10:00:00Z,john@test.com,\"Doe, \"\"Jr\"\"\",Doe,true,"));
+        assertTrue(lines[1].contains(",,2026-01-15T10:00:00Z,"));
+    }
+
+    @Test
+    void shouldStopWhenClientDisconnects() throws SQLException {
+        // Given
+        givenQuery();
+        when(resultSet.next()).thenReturn(true);
+        when(resultSet.getObject(anyInt())).thenReturn("value");
+        OutputStream output = new OutputStream() {
+            @Override
+            public void write(int b) throws IOException {
+                throw new IOException("Broken pipe");
+            }
+        };
+
+        // When
+        long rows = individualExportService.export(IndividualExportService.Format.CSV, output);
+
+        // Then
+        assertTrue(rows > 0);
+        assertEquals(rows, meterRegistry.get("individual.export.rows").counter().count());
+        assertEquals(1, meterRegistry.get("individual.export.aborted").counter().count());
+        verify(resultSet).close();
+        verify(statement).close();
+    }
+
+    @Test
+    void shouldRejectUnknownFormat() {
+        // When / Then
+        ValidateException exception = assertThrows(
+                ValidateException.class,
+                () -> IndividualExportService.Format.of("xml")
+        );
+
+        assertEquals("Unknown export format: xml", exception.getMessage());
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private void givenQuery() throws SQLException {
+        when(jdbcOperations.execute(any(ConnectionCallback.class)))
+                .thenAnswer(invocation -> invocation.<ConnectionCallback<?>>getArgument(0).doInConnection(connection));
+        when(connection.prepareStatement(anyString(), eq(ResultSet.TYPE_FORWARD_ONLY), eq(ResultSet.CONCUR_READ_ONLY)))
+                .thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+    }
+
+    private void givenRows(Object[]... rows) throws SQLException {
+        givenQuery();
+        int[] cursor = {-1};
+        when(resultSet.next()).thenAnswer(_ -> ++cursor[0] < rows.length);
+        when(resultSet.getObject(anyInt())).thenAnswer(invocation -> rows[cursor[0]][invocation.<Integer>getArgument(0) - 1]);
+    }
+
+    private Object[] row(String firstName) {
+        Object[] row = new Object[17];
+        row[0] = ID;
+        row[1] = UUID.randomUUID();
+        row[2] = "AB123456";
+        row[3] = "+79001234567";
+        row[4] = "PENDING";
+        row[7] = Timestamp.from(CREATED);
+        row[8] = "john@test.com";
+        row[9] = firstName;
+        row[10] = "Doe";
+        row[11] = true;
+        row[16] = "RUS";
+        return row;
+    }
+
+}
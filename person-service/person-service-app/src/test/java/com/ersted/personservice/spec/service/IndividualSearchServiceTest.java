@@ -0,0 +1,111 @@
+package com.ersted.personservice.spec.service;
+
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import com.ersted.personservice.exception.ValidateException;
+import com.ersted.personservice.mapper.IndividualMapper;
+import com.ersted.personservice.model.IndividualInfoResponse;
+import com.ersted.personservice.model.IndividualSearchResponse;
+import com.ersted.personservice.repository.IndividualRepository;
+import com.ersted.personservice.repository.IndividualSearchFilter;
+import com.ersted.personservice.repository.IndividualSearchRepository;
+import com.ersted.personservice.service.IndividualSearchService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IndividualSearchServiceTest {
+
+    @Mock
+    private IndividualRepository individualRepository;
+
+    @Mock
+    private IndividualMapper individualMapper;
+
+    @InjectMocks
+    private IndividualSearchService individualSearchService;
+
+    @Test
+    void shouldReturnPageWithCursorOfLastProfile() {
+        // Given
+        Individual newest = buildIndividual("2026-01-03T10:00:00.123456Z");
+        Individual middle = buildIndividual("2026-01-02T10:00:00Z");
+        Individual oldest = buildIndividual("2026-01-01T10:00:00Z");
+        when(individualRepository.search(any(), isNull(), eq(3))).thenReturn(List.of(newest, middle, oldest));
+        when(individualMapper.map(any(Individual.class))).thenAnswer(invocation -> buildResponse(invocation.getArgument(0)));
+        when(individualRepository.search(any(), any(IndividualSearchRepository.Position.class), eq(3))).thenReturn(List.of(oldest));
+
+        // When
+        IndividualSearchResponse first = individualSearchService.search("John@Test.com", null, "", "ACTIVE", 2, null);
+        IndividualSearchResponse second = individualSearchService.search("John@Test.com", null, "", "ACTIVE", 2, first.getNextCursor());
+
+        // Then
+        assertEquals(List.of(newest.getId(), middle.getId()), first.getItems().stream().map(IndividualInfoResponse::getId).toList());
+        assertNotNull(first.getNextCursor());
+        assertEquals(List.of(oldest.getId()), second.getItems().stream().map(IndividualInfoResponse::getId).toList());
+        assertNull(second.getNextCursor());
+
+        // Verify
+        ArgumentCaptor<IndividualSearchFilter> filter = ArgumentCaptor.forClass(IndividualSearchFilter.class);
+        ArgumentCaptor<IndividualSearchRepository.Position> position = ArgumentCaptor.forClass(IndividualSearchRepository.Position.class);
+        verify(individualRepository, times(2)).search(filter.capture(), position.capture(), eq(3));
+        assertEquals(new IndividualSearchFilter("John@Test.com", null, null, IndividualStatus.ACTIVE), filter.getValue());
+        assertNull(position.getAllValues().getFirst());
+        assertEquals(middle.getId(), position.getValue().id());
+        assertEquals(middle.getCreated().toInstant(), position.getValue().created().toInstant());
+    }
+
+    @Test
+    void shouldFailWhenLimitIsOutOfRange() {
+        // When / Then
+        ValidateException exception = assertThrows(
+                ValidateException.class,
+                () -> individualSearchService.search(null, null, null, null, 101, null)
+        );
+
+        assertEquals("Limit must be between 1 and 100", exception.getMessage());
+        verifyNoInteractions(individualRepository);
+    }
+
+    @Test
+    void shouldFailWhenCursorIsInvalid() {
+        // When / Then
+        ValidateException exception = assertThrows(
+                ValidateException.class,
+                () -> individualSearchService.search(null, null, null, null, null, "bm90IGEgY3Vyc29y")
+        );
+
+        assertEquals("Invalid cursor", exception.getMessage());
+        verifyNoInteractions(individualRepository);
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private Individual buildIndividual(String created) {
+        Individual individual = new Individual();
+        individual.setId(UUID.randomUUID());
+        individual.setCreated(OffsetDateTime.parse(created));
+        return individual;
+    }
+
+    private IndividualInfoResponse buildResponse(Individual individual) {
+        IndividualInfoResponse response = new IndividualInfoResponse();
+        response.setId(individual.getId());
+        return response;
+    }
+
+}
@@ -1,5 +1,7 @@
 package com.ersted.personservice.spec.service;
 
+import com.ersted.personservice.cache.IndividualProfileCache;
+import com.ersted.personservice.catalog.CountryCatalog;
 import com.ersted.personservice.entity.Address;
 import com.ersted.personservice.entity.Country;
 import com.ersted.personservice.entity.Individual;
@@ -13,7 +15,6 @@ import com.ersted.personservice.model.IndividualCreateProfileRequestAddress;
 import com.ersted.personservice.model.IndividualCreateProfileRequestAddressCountry;
 import com.ersted.personservice.model.IndividualInfoResponse;
 import com.ersted.personservice.model.IndividualInfoUpdateRequest;
-import com.ersted.personservice.repository.CountryRepository;
 import com.ersted.personservice.repository.IndividualRepository;
 import com.ersted.personservice.service.IndividualService;
 import org.junit.jupiter.api.Test;
@@ -21,9 +22,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Function;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -35,11 +38,14 @@ class IndividualServiceTest {
     private IndividualRepository individualRepository;
 
     @Mock
-    private CountryRepository countryRepository;
+    private CountryCatalog countryCatalog;
 
     @Mock
     private IndividualMapper individualMapper;
 
+    @Mock
+    private IndividualProfileCache profileCache;
+
     @InjectMocks
     private IndividualService individualService;
 
@@ -52,7 +58,7 @@ class IndividualServiceTest {
         IndividualInfoResponse expectedResponse = new IndividualInfoResponse();
         expectedResponse.setId(individual.getId());
 
-        when(countryRepository.findCountryByAlpha3("RUS")).thenReturn(Optional.of(country));
+        when(countryCatalog.findByAlpha3("RUS")).thenReturn(Optional.of(country));
         when(individualMapper.map(request)).thenReturn(individual);
         when(individualRepository.save(individual)).thenReturn(individual);
         when(individualMapper.map(individual)).thenReturn(expectedResponse);
@@ -68,7 +74,7 @@ class IndividualServiceTest {
         assertEquals(country, individual.getUser().getAddress().getCountry());
 
         // Verify
-        verify(countryRepository).findCountryByAlpha3("RUS");
+        verify(countryCatalog).findByAlpha3("RUS");
         verify(individualRepository).save(individual);
     }
 
@@ -77,7 +83,7 @@ class IndividualServiceTest {
         // Given
         IndividualCreateProfileRequest request = buildCreateRequest("XYZ");
 
-        when(countryRepository.findCountryByAlpha3("XYZ")).thenReturn(Optional.empty());
+        when(countryCatalog.findByAlpha3("XYZ")).thenReturn(Optional.empty());
 
         // When / Then
         ValidateException exception = assertThrows(
@@ -97,6 +103,7 @@ class IndividualServiceTest {
         IndividualInfoResponse expectedResponse = new IndividualInfoResponse();
         expectedResponse.setId(userUuid);
 
+        when(profileCache.get(eq(userUuid), any())).thenAnswer(loadThroughCache());
         when(individualRepository.findWithDetailById(userUuid)).thenReturn(Optional.of(individual));
         when(individualMapper.map(individual)).thenReturn(expectedResponse);
 
@@ -116,6 +123,7 @@ class IndividualServiceTest {
         // Given
         UUID userUuid = UUID.randomUUID();
 
+        when(profileCache.get(eq(userUuid), any())).thenAnswer(loadThroughCache());
         when(individualRepository.findWithDetailById(userUuid)).thenReturn(Optional.empty());
 
         // When / Then
@@ -147,6 +155,7 @@ class IndividualServiceTest {
         assertNotNull(result);
         verify(individualMapper).updateFromRequest(updateRequest, individual);
         verify(individualMapper).map(individual);
+        verify(profileCache).evictAfterCommit(userUuid);
     }
 
     @Test
@@ -180,6 +189,7 @@ class IndividualServiceTest {
         // Then
         assertEquals(IndividualStatus.ACTIVE, individual.getStatus());
         assertNotNull(individual.getVerifiedAt());
+        verify(profileCache).evictAfterCommit(userUuid);
     }
 
     @Test
@@ -212,6 +222,7 @@ class IndividualServiceTest {
         // Then
         assertEquals(IndividualStatus.ARCHIVED, individual.getStatus());
         assertNotNull(individual.getArchivedAt());
+        verify(profileCache).evictAfterCommit(userUuid);
     }
 
     @Test
@@ -241,10 +252,18 @@ class IndividualServiceTest {
 
         // Verify
         verify(individualRepository).deleteById(userUuid);
+        verify(profileCache).evictAfterCommit(userUuid);
     }
 
     // ─── Helpers ────────────────────────────────────────────────────────────────
 
+    private static Answer<IndividualInfoResponse> loadThroughCache() {
+        return invocation -> {
+            Function<UUID, IndividualInfoResponse> loader = invocation.getArgument(1);
+            return loader.apply(invocation.getArgument(0));
+        };
+    }
+
     private IndividualCreateProfileRequest buildCreateRequest(String alpha3) {
         IndividualCreateProfileRequestAddressCountry country =
                 new IndividualCreateProfileRequestAddressCountry("Russia", "RU", alpha3);
@@ -0,0 +1,157 @@
+package com.ersted.personservice.spec.sweeper;
+
+import com.ersted.personservice.cache.IndividualProfileCache;
+import com.ersted.personservice.config.IndividualSweeperProperties;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import com.ersted.personservice.repository.IndividualRepository;
+import com.ersted.personservice.sweeper.PendingIndividualSweeper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.support.TransactionOperations;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PendingIndividualSweeperTest {
+
+    private static final Instant NOW = Instant.parse("2026-01-15T12:00:00Z");
+    private static final OffsetDateTime BEFORE = OffsetDateTime.parse("2026-01-15T11:00:00Z");
+
+    @Mock
+    private DataSource dataSource;
+
+    @Mock
+    private Connection connection;
+
+    @Mock
+    private PreparedStatement statement;
+
+    @Mock
+    private ResultSet resultSet;
+
+    @Mock
+    private IndividualRepository individualRepository;
+
+    @Mock
+    private IndividualProfileCache profileCache;
+
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        meterRegistry = new SimpleMeterRegistry();
+        when(dataSource.getConnection()).thenReturn(connection);
+        when(connection.prepareStatement(anyString())).thenReturn(statement);
+        when(statement.executeQuery()).thenReturn(resultSet);
+        when(resultSet.next()).thenReturn(true);
+    }
+
+    @Test
+    void shouldPurgeOrphansInKeysetChunks() throws SQLException {
+        // Given
+        PendingIndividualSweeper sweeper = sweeper(IndividualSweeperProperties.Mode.PURGE);
+        Individual first = buildIndividual("2026-01-01T00:00:00Z");
+        Individual second = buildIndividual("2026-01-02T00:00:00Z");
+        Individual third = buildIndividual("2026-01-03T00:00:00Z");
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        when(individualRepository.lockCreatedBefore(eq(IndividualStatus.PENDING), eq(BEFORE), any(), any(), eq(Limit.of(2))))
+                .thenReturn(List.of(first, second), List.of(third));
+        when(individualRepository.findFirstByStatusOrderByCreatedAscIdAsc(IndividualStatus.PENDING))
+                .thenReturn(Optional.of(buildIndividual("2026-01-15T11:30:00Z")));
+
+        // When
+        long swept = sweeper.sweep();
+
+        // Then
+        assertEquals(3, swept);
+        verify(individualRepository).lockCreatedBefore(IndividualStatus.PENDING, BEFORE,
+                OffsetDateTime.of(1970, 1, 1, 0, 0, 0, 0, ZoneOffset.UTC), new UUID(0, 0), Limit.of(2));
+        verify(individualRepository).lockCreatedBefore(IndividualStatus.PENDING, BEFORE,
+                second.getCreated(), second.getId(), Limit.of(2));
+        verify(individualRepository).deleteAll(List.of(first, second));
+        verify(individualRepository).deleteAll(List.of(third));
+        verify(profileCache).evictAfterCommit(third.getId());
+        verify(connection).prepareStatement("SELECT pg_advisory_unlock(?)");
+        assertEquals(3, meterRegistry.get("individual.sweeper.swept").tag("mode", "purge").counter().count());
+        assertEquals(2, meterRegistry.get("individual.sweeper.chunk").timer().count());
+        assertEquals(0, meterRegistry.get("individual.sweeper.lag").gauge().value());
+        assertEquals(0, meterRegistry.get("individual.sweeper.leader").gauge().value());
+    }
+
+    @Test
+    void shouldArchiveOrphansAndReportLag() throws SQLException {
+        // Given
+        PendingIndividualSweeper sweeper = sweeper(IndividualSweeperProperties.Mode.ARCHIVE);
+        Individual orphan = buildIndividual("2026-01-01T00:00:00Z");
+        when(resultSet.getBoolean(1)).thenReturn(true);
+        when(individualRepository.lockCreatedBefore(any(), any(), any(), any(), any())).thenReturn(List.of(orphan));
+        when(individualRepository.findFirstByStatusOrderByCreatedAscIdAsc(IndividualStatus.PENDING))
+                .thenReturn(Optional.of(buildIndividual("2026-01-15T10:30:00Z")));
+
+        // When
+        sweeper.sweep();
+
+        // Then
+        assertEquals(IndividualStatus.ARCHIVED, orphan.getStatus());
+        assertEquals(OffsetDateTime.ofInstant(NOW, ZoneOffset.UTC), orphan.getArchivedAt());
+        assertEquals(1800, meterRegistry.get("individual.sweeper.lag").gauge().value());
+        verify(individualRepository, never()).deleteAll(any());
+        verify(profileCache).evictAfterCommit(orphan.getId());
+    }
+
+    @Test
+    void shouldSkipWhenAnotherReplicaHoldsLock() throws SQLException {
+        // Given
+        PendingIndividualSweeper sweeper = sweeper(IndividualSweeperProperties.Mode.PURGE);
+        when(resultSet.getBoolean(1)).thenReturn(false);
+
+        // When
+        long swept = sweeper.sweep();
+
+        // Then
+        assertEquals(-1, swept);
+        verify(connection, never()).prepareStatement("SELECT pg_advisory_unlock(?)");
+        verify(statement).setLong(1, PendingIndividualSweeper.LOCK_KEY);
+        verify(connection).close();
+        verifyNoInteractions(individualRepository, profileCache);
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private PendingIndividualSweeper sweeper(IndividualSweeperProperties.Mode mode) {
+        return new PendingIndividualSweeper(dataSource, individualRepository, profileCache,
+                TransactionOperations.withoutTransaction(), mode, Duration.ofHours(1), 2, meterRegistry,
+                Clock.fixed(NOW, ZoneOffset.UTC));
+    }
+
+    private Individual buildIndividual(String created) {
+        Individual individual = new Individual();
+        individual.setId(UUID.randomUUID());
+        individual.setStatus(IndividualStatus.PENDING);
+        individual.setCreated(OffsetDateTime.parse(created));
+        return individual;
+    }
+
+}
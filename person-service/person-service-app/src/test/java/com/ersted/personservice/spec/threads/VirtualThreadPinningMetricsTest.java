@@ -0,0 +1,117 @@
+package com.ersted.personservice.spec.threads;
+
+import com.ersted.personservice.threads.VirtualThreadPinningMetrics;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VirtualThreadPinningMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private VirtualThreadPinningMetrics metrics;
+
+    @BeforeEach
+    void setUp() {
+        metrics = new VirtualThreadPinningMetrics(Duration.ofMillis(50));
+        metrics.bindTo(registry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        metrics.close();
+    }
+
+    @Test
+    void shouldRecordPinningWithApplicationFrameAsSource() throws Exception {
+        // Given
+        String source = "VirtualThreadPinningMetricsTest$LongPinnedInitializer.<clinit>";
+
+        // When
+        Thread.ofVirtual().start(LongPinnedInitializer::touch).join();
+
+        // Then
+        Timer timer = awaitTimer(source);
+        assertEquals(1, timer.count());
+        assertTrue(timer.totalTime(TimeUnit.MILLISECONDS) >= 50);
+    }
+
+    @Test
+    void shouldIgnorePinningBelowThreshold() throws Exception {
+        // Given
+        Thread.ofVirtual().start(ShortPinnedInitializer::touch).join();
+
+        // When
+        Thread.ofVirtual().start(OtherLongPinnedInitializer::touch).join();
+
+        // Then
+        awaitTimer("VirtualThreadPinningMetricsTest$OtherLongPinnedInitializer.<clinit>");
+        assertNull(registry.find(VirtualThreadPinningMetrics.METRIC_NAME)
+                .tag("source", "VirtualThreadPinningMetricsTest$ShortPinnedInitializer.<clinit>")
+                .timer());
+    }
+
+    private Timer awaitTimer(String source) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (System.nanoTime() < deadline) {
+            Timer timer = registry.find(VirtualThreadPinningMetrics.METRIC_NAME).tag("source", source).timer();
+            if (timer != null) {
+                return timer;
+            }
+            Thread.sleep(50);
+        }
+        return fail("No pinning recorded for " + source);
+    }
+
+    static class LongPinnedInitializer {
+
+        static {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        static void touch() {
+        }
+
+    }
+
+    static class OtherLongPinnedInitializer {
+
+        static {
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        static void touch() {
+        }
+
+    }
+
+    static class ShortPinnedInitializer {
+
+        static {
+            try {
+                Thread.sleep(5);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        static void touch() {
+        }
+
+    }
+
+}
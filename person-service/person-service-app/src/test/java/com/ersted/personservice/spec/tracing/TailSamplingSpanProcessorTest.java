@@ -0,0 +1,198 @@
+package com.ersted.personservice.spec.tracing;
+
+import com.ersted.personservice.tracing.RouteAwareSampler;
+import com.ersted.personservice.tracing.TailSamplingSpanProcessor;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+import io.opentelemetry.api.trace.Tracer;
+import io.opentelemetry.context.Scope;
+import io.opentelemetry.sdk.common.CompletableResultCode;
+import io.opentelemetry.sdk.trace.SdkTracerProvider;
+import io.opentelemetry.sdk.trace.data.SpanData;
+import io.opentelemetry.sdk.trace.export.SpanExporter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TailSamplingSpanProcessorTest {
+
+    private final List<SpanData> exported = new CopyOnWriteArrayList<>();
+    private final AtomicReference<Thread> exportThread = new AtomicReference<>();
+    private final AtomicLong nanos = new AtomicLong();
+    private SimpleMeterRegistry meterRegistry;
+    private SdkTracerProvider tracerProvider;
+    private Tracer tracer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        TailSamplingSpanProcessor processor = new TailSamplingSpanProcessor(
+                new CollectingExporter(), Duration.ofMillis(500), 2, 10, Duration.ofMinutes(1), meterRegistry, nanos::get);
+        tracerProvider = SdkTracerProvider.builder()
+                .setSampler(new RouteAwareSampler(0.0, Map.of(), false))
+                .addSpanProcessor(processor)
+                .build();
+        tracer = tracerProvider.get("test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        tracerProvider.close();
+    }
+
+    @Test
+    void shouldExportWholeTraceWhenChildFails() {
+        // Given
+        Span root = tracer.spanBuilder("root").startSpan();
+
+        // When
+        try (Scope _ = root.makeCurrent()) {
+            tracer.spanBuilder("ok-child").startSpan().end();
+            tracer.spanBuilder("failed-child").startSpan().setStatus(StatusCode.ERROR).end();
+        }
+        root.end();
+        flush();
+
+        // Then
+        assertEquals(List.of("ok-child", "failed-child", "root"), exported.stream().map(SpanData::getName).toList());
+        assertEquals(1, decisions("exported", "error"));
+    }
+
+    @Test
+    void shouldExportSlowTrace() {
+        // Given
+        Instant start = Instant.now();
+        Span root = tracer.spanBuilder("root").setStartTimestamp(start).startSpan();
+
+        // When
+        root.end(start.plusSeconds(1));
+        flush();
+
+        // Then
+        assertEquals(1, exported.size());
+        assertEquals(1, decisions("exported", "slow"));
+    }
+
+    @Test
+    void shouldDropFastSuccessfulTrace() {
+        // Given
+        Span root = tracer.spanBuilder("root").startSpan();
+        try (Scope _ = root.makeCurrent()) {
+            tracer.spanBuilder("child").startSpan().end();
+        }
+
+        // When
+        root.end();
+        flush();
+
+        // Then
+        assertTrue(exported.isEmpty());
+        assertEquals(1, decisions("dropped", "fast"));
+        assertEquals(0, meterRegistry.get("tracing.tail.buffered").gauge().value());
+    }
+
+    @Test
+    void shouldStopBufferingWhenTraceLimitReached() {
+        // Given
+        List<Span> roots = List.of(
+                tracer.spanBuilder("first").startSpan(),
+                tracer.spanBuilder("second").startSpan(),
+                tracer.spanBuilder("third").startSpan());
+
+        // When
+        for (Span root : roots) {
+            try (Scope _ = root.makeCurrent()) {
+                tracer.spanBuilder("child").startSpan().end();
+            }
+        }
+
+        // Then
+        assertEquals(2, meterRegistry.get("tracing.tail.buffered").gauge().value());
+        assertEquals(1, decisions("dropped", "overflow"));
+    }
+
+    @Test
+    void shouldEvictOnlyExpiredTracesWhenBufferIsFull() {
+        // Given
+        withBufferedChild(tracer.spanBuilder("expired").startSpan());
+        nanos.addAndGet(Duration.ofSeconds(30).toNanos());
+        Span alive = withBufferedChild(tracer.spanBuilder("alive").startSpan());
+        nanos.addAndGet(Duration.ofSeconds(40).toNanos());
+
+        // When
+        withBufferedChild(tracer.spanBuilder("new").startSpan());
+        alive.setStatus(StatusCode.ERROR).end();
+        flush();
+
+        // Then
+        assertEquals(0, decisions("dropped", "overflow"));
+        assertEquals(List.of("child", "alive"), exported.stream().map(SpanData::getName).toList());
+        assertEquals(1, meterRegistry.get("tracing.tail.buffered").gauge().value());
+    }
+
+    @Test
+    void shouldExportKeptTraceOffRequestThread() {
+        // Given
+        Span root = tracer.spanBuilder("root").startSpan().setStatus(StatusCode.ERROR);
+
+        // When
+        root.end();
+        flush();
+
+        // Then
+        assertEquals(1, exported.size());
+        assertNotEquals(Thread.currentThread(), exportThread.get());
+    }
+
+    // ─── Helpers ───────────────────────────────────────────────────────────────
+
+    private void flush() {
+        assertTrue(tracerProvider.forceFlush().join(10, TimeUnit.SECONDS).isSuccess());
+    }
+
+    private Span withBufferedChild(Span root) {
+        try (Scope _ = root.makeCurrent()) {
+            tracer.spanBuilder("child").startSpan().end();
+        }
+        return root;
+    }
+
+    private double decisions(String decision, String reason) {
+        return meterRegistry.get("tracing.tail.traces").tag("decision", decision).tag("reason", reason).counter().count();
+    }
+
+    private class CollectingExporter implements SpanExporter {
+
+        @Override
+        public CompletableResultCode export(Collection<SpanData> spans) {
+            exportThread.set(Thread.currentThread());
+            exported.addAll(spans);
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode flush() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+        @Override
+        public CompletableResultCode shutdown() {
+            return CompletableResultCode.ofSuccess();
+        }
+
+    }
+
+}
@@ -0,0 +1,53 @@
+val versions = mapOf(
+	"spring-boot-dependencies" to "4.0.3",
+	"testcontainers" to "1.21.4",
+	"hdrhistogram" to "2.2.2",
+)
+
+plugins {
+	java
+}
+
+java {
+	toolchain {
+		languageVersion = JavaLanguageVersion.of(25)
+	}
+}
+
+dependencies {
+	implementation(platform("org.springframework.boot:spring-boot-dependencies:${versions["spring-boot-dependencies"]}"))
+
+	implementation("org.hdrhistogram:HdrHistogram:${versions["hdrhistogram"]}")
+	implementation("com.fasterxml.jackson.core:jackson-databind")
+	implementation("ch.qos.logback:logback-classic")
+	implementation("org.testcontainers:testcontainers")
+	implementation("org.testcontainers:postgresql:${versions["testcontainers"]}")
+	runtimeOnly("org.postgresql:postgresql")
+}
+
+val runtimes = mapOf(
+	"jpa" to ":person-service-app",
+	"reactive" to ":person-service-reactive",
+)
+runtimes.values.forEach { evaluationDependsOn(it) }
+
+tasks.register<JavaExec>("loadTest") {
+	group = "verification"
+	description = "Compares createIndividual and getIndividual on the JPA (platform and virtual threads) and R2DBC runtimes"
+	classpath = sourceSets.main.get().runtimeClasspath
+	mainClass.set("com.ersted.personservice.loadtest.LoadTestRunner")
+	javaLauncher.set(javaToolchains.launcherFor(java.toolchain))
+
+	val launcher = javaToolchains.launcherFor(java.toolchain)
+	runtimes.forEach { (name, path) ->
+		val runtimeClasspath = project(path).the<SourceSetContainer>()["loadTest"].runtimeClasspath
+		inputs.files(runtimeClasspath)
+		dependsOn(runtimeClasspath)
+		doFirst { systemProperty("loadtest.classpath.$name", runtimeClasspath.asPath) }
+	}
+	doFirst { systemProperty("loadtest.java", launcher.get().executablePath.asFile.absolutePath) }
+	systemProperty("loadtest.report-dir", layout.buildDirectory.dir("reports/loadtest").get().asFile.absolutePath)
+	project.properties
+		.filterKeys { it.startsWith("loadtest.") }
+		.forEach { (key, value) -> systemProperty(key, value.toString()) }
+}
@@ -0,0 +1,228 @@
+package com.ersted.personservice.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * Closed-model load: a fixed number of clients send the next request as soon as the previous one
+ * completes, so throughput shows how much concurrency the service can actually absorb.
+ */
+public class ClosedModelLoadGenerator implements AutoCloseable {
+
+    private static final long MAX_LATENCY_NANOS = TimeUnit.MINUTES.toNanos(2);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final int READ_POOL = 1 << 16;
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final LoadTestSettings settings;
+    private final String baseUrl;
+    private final String runId;
+    private final ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient httpClient;
+
+    private final Scenario[] schedule;
+    private final Map<Scenario, ScenarioStats> stats = new EnumMap<>(Scenario.class);
+    // ring of the last READ_POOL created ids: appends stay O(1) however long the run is
+    private final AtomicReferenceArray<String> individuals = new AtomicReferenceArray<>(READ_POOL);
+    private final AtomicLong created = new AtomicLong();
+    private final AtomicLong registrations = new AtomicLong();
+
+    public ClosedModelLoadGenerator(LoadTestSettings settings, String baseUrl, String runId) {
+        this.settings = settings;
+        this.baseUrl = baseUrl;
+        this.runId = runId;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .executor(clients)
+                .connectTimeout(REQUEST_TIMEOUT)
+                .build();
+
+        this.schedule = settings.mix().entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Scenario[]::new);
+        settings.mix().keySet().forEach(scenario -> stats.put(scenario, new ScenarioStats()));
+    }
+
+    public void seed(int count) throws InterruptedException {
+        List<Thread> seeders = new ArrayList<>();
+        AtomicLong remaining = new AtomicLong(count);
+        AtomicInteger rejectedWith = new AtomicInteger();
+        for (int i = 0; i < Math.min(count, settings.clients()); i++) {
+            seeders.add(Thread.ofVirtual().start(() -> {
+                while (remaining.getAndDecrement() > 0) {
+                    try {
+                        int status = create();
+                        if (status != 201) {
+                            rejectedWith.set(status);
+                        }
+                    } catch (IOException _) {
+                        // counted by the emptiness check below
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                }
+            }));
+        }
+        for (Thread seeder : seeders) {
+            seeder.join();
+        }
+        if (created.get() == 0 && settings.mix().containsKey(Scenario.GET)) {
+            throw new IllegalStateException("Seeding created no individuals to read, last rejected with status "
+                    + rejectedWith.get());
+        }
+    }
+
+    public Map<Scenario, ScenarioResult> run(Duration duration) throws InterruptedException {
+        long startedAt = System.nanoTime();
+        long stopAt = startedAt + duration.toNanos();
+
+        List<Thread> threads = new ArrayList<>(settings.clients());
+        for (int i = 0; i < settings.clients(); i++) {
+            threads.add(Thread.ofVirtual().start(() -> {
+                while (System.nanoTime() < stopAt && !Thread.currentThread().isInterrupted()) {
+                    Scenario scenario = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                    fire(scenario);
+                }
+            }));
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        double seconds = (System.nanoTime() - startedAt) / 1e9;
+        Map<Scenario, ScenarioResult> results = new EnumMap<>(Scenario.class);
+        stats.forEach((scenario, scenarioStats) -> results.put(scenario, scenarioStats.snapshot(seconds)));
+        return results;
+    }
+
+    @Override
+    public void close() {
+        httpClient.close();
+        clients.close();
+    }
+
+    private void fire(Scenario scenario) {
+        ScenarioStats scenarioStats = stats.get(scenario);
+        long startedAt = System.nanoTime();
+        try {
+            int status = switch (scenario) {
+                case CREATE -> create();
+                case GET -> get(randomIndividual());
+            };
+            scenarioStats.record(status, startedAt);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            scenarioStats.failed.increment();
+            scenarioStats.latency(startedAt);
+        }
+    }
+
+    private int create() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(request("/v1/individuals")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(individual(registrations.incrementAndGet())))
+                .build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() == 201) {
+            String id = MAPPER.readTree(response.body()).get("id").asText();
+            individuals.set((int) (created.getAndIncrement() % READ_POOL), id);
+        }
+        return response.statusCode();
+    }
+
+    private String randomIndividual() {
+        int known = (int) Math.min(created.get(), READ_POOL);
+        String id;
+        do {
+            // a slot claimed by a concurrent create may not be filled yet
+            id = individuals.get(ThreadLocalRandom.current().nextInt(known));
+        } while (id == null);
+        return id;
+    }
+
+    private int get(String id) throws IOException, InterruptedException {
+        return httpClient.send(request("/v1/individuals/" + id).GET().build(), HttpResponse.BodyHandlers.discarding())
+                .statusCode();
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer load-test");
+    }
+
+    private String individual(long sequence) {
+        return """
+                {"passport_number":"AB123456","phone_number":"+79001234567","email":"load-%1$s-%2$d@loadtest.local",
+                  "first_name":"Load","last_name":"Test","secret_key":"load-test",
+                  "address":{"address":"Test Street 1","zip_code":"101000","city":"Moscow","state":"Moscow",
+                    "country":{"name":"Russia","alpha2":"RU","alpha3":"RUS"}}}
+                """.formatted(runId, sequence);
+    }
+
+    public record ScenarioResult(Histogram latency, long ok, long clientErrors, long serverErrors,
+                                 long failed, double seconds) {
+
+        public long requests() {
+            return ok + clientErrors + serverErrors + failed;
+        }
+
+        public double throughput() {
+            return ok / seconds;
+        }
+
+    }
+
+    private static final class ScenarioStats {
+
+        private final Recorder recorder = new Recorder(MAX_LATENCY_NANOS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder clientErrors = new LongAdder();
+        private final LongAdder serverErrors = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        void record(int status, long startedAt) {
+            if (status >= 500) {
+                serverErrors.increment();
+            } else if (status >= 400) {
+                clientErrors.increment();
+            } else {
+                ok.increment();
+            }
+            latency(startedAt);
+        }
+
+        void latency(long startedAt) {
+            recorder.recordValue(Math.min(System.nanoTime() - startedAt, MAX_LATENCY_NANOS));
+        }
+
+        ScenarioResult snapshot(double seconds) {
+            return new ScenarioResult(recorder.getIntervalHistogram(), ok.sumThenReset(), clientErrors.sumThenReset(),
+                    serverErrors.sumThenReset(), failed.sumThenReset(), seconds);
+        }
+
+    }
+
+}
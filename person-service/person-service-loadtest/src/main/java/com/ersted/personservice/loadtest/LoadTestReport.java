@@ -0,0 +1,98 @@
+package com.ersted.personservice.loadtest;
+
+import com.ersted.personservice.loadtest.ClosedModelLoadGenerator.ScenarioResult;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+public final class LoadTestReport {
+
+    private static final double NANOS_PER_MILLI = 1_000_000.0;
+
+    private LoadTestReport() {
+    }
+
+    public record TargetResult(Map<Scenario, ScenarioResult> scenarios, Duration cpu,
+                               Map<String, Long> pinned, boolean pinningTracked) {
+    }
+
+    public static String render(LoadTestSettings settings, Map<Target, TargetResult> results) {
+        StringBuilder report = new StringBuilder();
+        report.append("person-service runtime benchmark: %d clients, %d database connections, %ds after %ds warmup, mix %s%n%n".formatted(
+                settings.clients(), settings.connections(), settings.duration().toSeconds(), settings.warmup().toSeconds(),
+                settings.mix().entrySet().stream()
+                        .map(entry -> entry.getKey().label() + ":" + entry.getValue())
+                        .collect(Collectors.joining(","))));
+
+        report.append("%-13s %-17s %9s %9s %7s %7s %7s %9s %9s %9s %9s%n".formatted(
+                "target", "scenario", "requests", "ok/s", "4xx", "5xx", "failed", "p50 ms", "p99 ms", "p99.9 ms", "max ms"));
+        results.forEach((target, result) -> {
+            Histogram total = new Histogram(3);
+            long ok = 0, clientErrors = 0, serverErrors = 0, failed = 0, requests = 0;
+            double seconds = 0;
+            for (Map.Entry<Scenario, ScenarioResult> entry : result.scenarios().entrySet()) {
+                ScenarioResult scenario = entry.getValue();
+                report.append(row(target.label(), entry.getKey().label(), scenario.requests(), scenario.throughput(),
+                        scenario.clientErrors(), scenario.serverErrors(), scenario.failed(), scenario.latency()));
+                total.add(scenario.latency());
+                requests += scenario.requests();
+                ok += scenario.ok();
+                clientErrors += scenario.clientErrors();
+                serverErrors += scenario.serverErrors();
+                failed += scenario.failed();
+                seconds = scenario.seconds();
+            }
+            report.append(row(target.label(), "total", requests, seconds > 0 ? ok / seconds : 0,
+                    clientErrors, serverErrors, failed, total));
+        });
+
+        report.append("%n%-13s %9s %9s%n".formatted("target", "cpu s", "cpu %"));
+        results.forEach((target, result) -> {
+            double cpuSeconds = result.cpu().toMillis() / 1000.0;
+            report.append("%-13s %9.1f %9.1f%n".formatted(
+                    target.label(), cpuSeconds, cpuSeconds / settings.duration().toSeconds() * 100));
+        });
+
+        results.forEach((target, result) -> {
+            if (!result.pinningTracked()) {
+                return;
+            }
+            report.append("%n%s: pinned virtual threads by source%n".formatted(target.label()));
+            if (result.pinned().isEmpty()) {
+                report.append("  none%n".formatted());
+            }
+            result.pinned().forEach((source, count) -> report.append("  %-48s %7d%n".formatted(source, count)));
+        });
+        return report.toString();
+    }
+
+    public static void write(LoadTestSettings settings, String report, Map<Target, TargetResult> results) throws IOException {
+        Files.createDirectories(settings.reportDir());
+        Files.writeString(settings.reportDir().resolve("report.txt"), report);
+        for (Map.Entry<Target, TargetResult> target : results.entrySet()) {
+            for (Map.Entry<Scenario, ScenarioResult> entry : target.getValue().scenarios().entrySet()) {
+                String name = target.getKey().label() + "-" + entry.getKey().label() + ".hgrm";
+                try (PrintStream out = new PrintStream(Files.newOutputStream(settings.reportDir().resolve(name)))) {
+                    entry.getValue().latency().outputPercentileDistribution(out, NANOS_PER_MILLI);
+                }
+            }
+        }
+    }
+
+    private static String row(String target, String scenario, long requests, double throughput, long clientErrors,
+                              long serverErrors, long failed, Histogram latency) {
+        return "%-13s %-17s %9d %9.1f %7d %7d %7d %9.2f %9.2f %9.2f %9.2f%n".formatted(
+                target, scenario, requests, throughput, clientErrors, serverErrors, failed,
+                millis(latency, 50), millis(latency, 99), millis(latency, 99.9), latency.getMaxValue() / NANOS_PER_MILLI);
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / NANOS_PER_MILLI;
+    }
+
+}
@@ -0,0 +1,130 @@
+package com.ersted.personservice.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.ersted.personservice.loadtest.ClosedModelLoadGenerator.ScenarioResult;
+import com.ersted.personservice.loadtest.LoadTestReport.TargetResult;
+import org.slf4j.LoggerFactory;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class LoadTestRunner {
+
+    private static final String CLEANUP = """
+            TRUNCATE person.individuals, person.users, person.addresses,
+                     person.individuals_aud, person.users_aud, person.addresses_aud, person.revinfo
+            """;
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = LoadTestSettings.from(System.getProperties());
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        PostgreSQLContainer<?> postgres = null;
+        LoadTestSettings.Datasource datasource = settings.datasource();
+        if (datasource == null) {
+            postgres = new PostgreSQLContainer<>("postgres:16")
+                    .withCommand("postgres", "-c", "max_connections=" + Math.max(100, settings.connections() * 2))
+                    .waitingFor(Wait.forListeningPort());
+            postgres.start();
+            datasource = new LoadTestSettings.Datasource(postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword());
+        }
+
+        try {
+            Map<Target, TargetResult> results = new LinkedHashMap<>();
+            for (Target target : settings.targets()) {
+                results.put(target, run(settings, target, datasource, postgres != null));
+            }
+
+            String report = LoadTestReport.render(settings, results);
+            LoadTestReport.write(settings, report, results);
+            System.out.println();
+            System.out.print(report);
+            System.out.println("Latency distributions and service logs: " + settings.reportDir().toAbsolutePath());
+        } finally {
+            if (postgres != null) {
+                postgres.stop();
+            }
+        }
+        System.exit(0);
+    }
+
+    private static TargetResult run(LoadTestSettings settings, Target target, LoadTestSettings.Datasource datasource,
+                                    boolean ownsDatabase) throws Exception {
+        try (var service = ServiceProcess.start(settings, target, properties(settings, target, datasource));
+             var generator = new ClosedModelLoadGenerator(settings, service.baseUrl(),
+                     target.label() + "-" + System.currentTimeMillis())) {
+
+            System.out.printf("[%s] Seeding %d individuals%n", target.label(), settings.seed());
+            generator.seed(settings.seed());
+
+            System.out.printf("[%s] Warming up for %ds with %d clients%n", target.label(), settings.warmup().toSeconds(), settings.clients());
+            generator.run(settings.warmup());
+
+            Map<String, Long> pinnedBefore = target.virtualThreads() ? service.pinned() : Map.of();
+            Duration cpuBefore = service.cpuTime();
+            System.out.printf("[%s] Measuring for %ds with %d clients%n", target.label(), settings.duration().toSeconds(), settings.clients());
+            Map<Scenario, ScenarioResult> scenarios = generator.run(settings.duration());
+            Duration cpu = service.cpuTime().minus(cpuBefore);
+
+            Map<String, Long> pinned = target.virtualThreads() ? service.pinned() : new HashMap<>();
+            pinned.replaceAll((source, count) -> count - pinnedBefore.getOrDefault(source, 0L));
+            pinned.values().removeIf(count -> count == 0);
+
+            return new TargetResult(scenarios, cpu, pinned, target.virtualThreads());
+        } finally {
+            if (ownsDatabase) {
+                cleanup(datasource);
+            }
+        }
+    }
+
+    private static Map<String, Object> properties(LoadTestSettings settings, Target target,
+                                                  LoadTestSettings.Datasource datasource) {
+        Map<String, Object> properties = new LinkedHashMap<>();
+        properties.put("spring.security.oauth2.resourceserver.jwt.issuer-uri", "http://localhost/loadtest");
+        properties.put("management.tracing.export.enabled", false);
+        properties.put("logging.level.root", "WARN");
+        switch (target.runtime()) {
+            case JPA -> {
+                properties.put("spring.datasource.url", datasource.url());
+                properties.put("spring.datasource.username", datasource.username());
+                properties.put("spring.datasource.password", datasource.password());
+                properties.put("spring.datasource.hikari.maximum-pool-size", settings.connections());
+                properties.put("spring.datasource.hikari.minimum-idle", settings.connections());
+                properties.put("spring.datasource.hikari.connection-timeout", 30_000);
+                properties.put("spring.jpa.properties.hibernate.default_schema", "person");
+                properties.put("spring.jpa.properties.org.hibernate.envers.default_schema", "person");
+            }
+            case REACTIVE -> {
+                properties.put("spring.r2dbc.url", datasource.r2dbcUrl());
+                properties.put("spring.r2dbc.username", datasource.username());
+                properties.put("spring.r2dbc.password", datasource.password());
+                properties.put("spring.r2dbc.pool.initial-size", settings.connections());
+                properties.put("spring.r2dbc.pool.max-size", settings.connections());
+                properties.put("spring.r2dbc.pool.max-acquire-time", "30s");
+                properties.put("spring.flyway.url", datasource.url());
+                properties.put("spring.flyway.user", datasource.username());
+                properties.put("spring.flyway.password", datasource.password());
+            }
+        }
+        properties.putAll(settings.appProperties());
+        return properties;
+    }
+
+    private static void cleanup(LoadTestSettings.Datasource datasource) throws SQLException {
+        try (Connection connection = DriverManager.getConnection(datasource.url(), datasource.username(), datasource.password());
+             Statement statement = connection.createStatement()) {
+            statement.execute(CLEANUP);
+        }
+    }
+
+}
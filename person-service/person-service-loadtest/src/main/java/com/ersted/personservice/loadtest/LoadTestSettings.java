@@ -0,0 +1,98 @@
+package com.ersted.personservice.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+public record LoadTestSettings(
+        List<Target> targets,
+        int clients,
+        int connections,
+        Duration warmup,
+        Duration duration,
+        Map<Scenario, Integer> mix,
+        int seed,
+        Datasource datasource,
+        String java,
+        List<String> jvmArgs,
+        Map<Target.Runtime, String> classpaths,
+        Map<String, Object> appProperties,
+        Path reportDir
+) {
+
+    private static final String PREFIX = "loadtest.";
+    private static final String APP_PREFIX = PREFIX + "app.";
+
+    public record Datasource(String url, String username, String password) {
+
+        static Datasource of(Properties properties) {
+            String url = properties.getProperty(PREFIX + "datasource.url");
+            if (url == null || url.isBlank()) {
+                return null;
+            }
+            return new Datasource(
+                    url,
+                    properties.getProperty(PREFIX + "datasource.username", "postgres"),
+                    properties.getProperty(PREFIX + "datasource.password", "postgres")
+            );
+        }
+
+        public String r2dbcUrl() {
+            return url.replaceFirst("^jdbc:", "r2dbc:");
+        }
+
+    }
+
+    public static LoadTestSettings from(Properties properties) {
+        Map<String, Object> appProperties = new LinkedHashMap<>();
+        properties.stringPropertyNames().stream()
+                .filter(name -> name.startsWith(APP_PREFIX))
+                .forEach(name -> appProperties.put(name.substring(APP_PREFIX.length()), properties.getProperty(name)));
+
+        Map<Target.Runtime, String> classpaths = new EnumMap<>(Target.Runtime.class);
+        classpaths.put(Target.Runtime.JPA, properties.getProperty(PREFIX + "classpath.jpa", ""));
+        classpaths.put(Target.Runtime.REACTIVE, properties.getProperty(PREFIX + "classpath.reactive", ""));
+
+        return new LoadTestSettings(
+                Arrays.stream(properties.getProperty(PREFIX + "targets", "jpa-platform,jpa-virtual,reactive").split(","))
+                        .map(String::trim)
+                        .map(Target::byName)
+                        .toList(),
+                Integer.parseInt(properties.getProperty(PREFIX + "clients", "400")),
+                Integer.parseInt(properties.getProperty(PREFIX + "connections", "20")),
+                Duration.ofSeconds(Long.parseLong(properties.getProperty(PREFIX + "warmup-seconds", "20"))),
+                Duration.ofSeconds(Long.parseLong(properties.getProperty(PREFIX + "duration-seconds", "60"))),
+                parseMix(properties.getProperty(PREFIX + "mix", "create:1,get:4")),
+                Integer.parseInt(properties.getProperty(PREFIX + "seed", "1000")),
+                Datasource.of(properties),
+                properties.getProperty(PREFIX + "java", Path.of(System.getProperty("java.home"), "bin", "java").toString()),
+                Arrays.stream(properties.getProperty(PREFIX + "jvm-args", "-Xms1g -Xmx1g -XX:+UseG1GC").split(" "))
+                        .filter(arg -> !arg.isBlank())
+                        .toList(),
+                classpaths,
+                appProperties,
+                Path.of(properties.getProperty(PREFIX + "report-dir", "build/reports/loadtest"))
+        );
+    }
+
+    private static Map<Scenario, Integer> parseMix(String mix) {
+        Map<Scenario, Integer> weights = new LinkedHashMap<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.trim().split(":");
+            int weight = Integer.parseInt(parts[1].trim());
+            if (weight > 0) {
+                weights.put(Scenario.byName(parts[0].trim()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("Load mix has no scenarios: " + mix);
+        }
+        return weights;
+    }
+
+}
@@ -0,0 +1,27 @@
+package com.ersted.personservice.loadtest;
+
+import java.util.Arrays;
+
+public enum Scenario {
+
+    CREATE("createIndividual"),
+    GET("getIndividual");
+
+    private final String label;
+
+    Scenario(String label) {
+        this.label = label;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public static Scenario byName(String name) {
+        return Arrays.stream(values())
+                .filter(scenario -> scenario.name().equalsIgnoreCase(name) || scenario.label.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown scenario: " + name));
+    }
+
+}
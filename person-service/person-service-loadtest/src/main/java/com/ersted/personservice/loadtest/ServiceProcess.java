@@ -0,0 +1,131 @@
+package com.ersted.personservice.loadtest;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One person-service runtime in its own JVM, so the runtimes under comparison do not share heap,
+ * JIT state or carrier threads with each other or with the load generator.
+ */
+public class ServiceProcess implements AutoCloseable {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+    private static final Pattern PINNED_COUNT =
+            Pattern.compile("^jvm_threads_virtual_pinned_seconds_count\\{.*source=\"([^\"]*)\".*} ([0-9.eE+]+)$");
+
+    private final Process process;
+    private final String baseUrl;
+    private final Path log;
+    private final HttpClient httpClient = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+
+    private ServiceProcess(Process process, String baseUrl, Path log) {
+        this.process = process;
+        this.baseUrl = baseUrl;
+        this.log = log;
+    }
+
+    public static ServiceProcess start(LoadTestSettings settings, Target target, Map<String, Object> properties)
+            throws IOException, InterruptedException {
+        String classpath = settings.classpaths().get(target.runtime());
+        if (classpath.isBlank()) {
+            throw new IllegalStateException("No classpath for " + target.runtime() + ", run through the loadTest Gradle task");
+        }
+
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(settings.java());
+        command.addAll(settings.jvmArgs());
+        command.add("-cp");
+        command.add(classpath);
+        command.add(target.runtime().mainClass());
+        command.add("--server.port=" + port);
+        if (target.profile() != null) {
+            command.add("--spring.profiles.active=" + target.profile());
+        }
+        properties.forEach((key, value) -> command.add("--" + key + "=" + value));
+
+        Files.createDirectories(settings.reportDir());
+        Path log = settings.reportDir().resolve(target.label() + ".log");
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(log.toFile())
+                .start();
+
+        ServiceProcess service = new ServiceProcess(process, "http://localhost:" + port, log);
+        service.awaitHealthy();
+        return service;
+    }
+
+    public String baseUrl() {
+        return baseUrl;
+    }
+
+    public Duration cpuTime() {
+        return process.toHandle().info().totalCpuDuration().orElse(Duration.ZERO);
+    }
+
+    public Map<String, Long> pinned() throws IOException, InterruptedException {
+        HttpResponse<String> response = httpClient.send(HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/prometheus"))
+                .header("Authorization", "Bearer load-test")
+                .build(), HttpResponse.BodyHandlers.ofString());
+        Map<String, Long> counts = new TreeMap<>();
+        for (String line : response.body().split("\n")) {
+            Matcher matcher = PINNED_COUNT.matcher(line);
+            if (matcher.matches()) {
+                counts.merge(matcher.group(1), (long) Double.parseDouble(matcher.group(2)), Long::sum);
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        process.destroy();
+        if (!process.waitFor(30, TimeUnit.SECONDS)) {
+            process.destroyForcibly().waitFor();
+        }
+    }
+
+    private void awaitHealthy() throws InterruptedException {
+        long deadline = System.nanoTime() + STARTUP_TIMEOUT.toNanos();
+        while (System.nanoTime() < deadline) {
+            if (!process.isAlive()) {
+                throw new IllegalStateException("Service exited with code " + process.exitValue() + ", see " + log.toAbsolutePath());
+            }
+            try {
+                HttpResponse<Void> response = httpClient.send(
+                        HttpRequest.newBuilder(URI.create(baseUrl + "/actuator/health")).build(),
+                        HttpResponse.BodyHandlers.discarding());
+                if (response.statusCode() == 200) {
+                    return;
+                }
+            } catch (IOException _) {
+                // not listening yet
+            }
+            Thread.sleep(500);
+        }
+        close();
+        throw new IllegalStateException("Service did not become healthy in " + STARTUP_TIMEOUT + ", see " + log.toAbsolutePath());
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+}
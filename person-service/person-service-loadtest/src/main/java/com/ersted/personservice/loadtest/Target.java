@@ -0,0 +1,61 @@
+package com.ersted.personservice.loadtest;
+
+import java.util.Arrays;
+
+public enum Target {
+
+    JPA_PLATFORM("jpa-platform", Runtime.JPA, null),
+    JPA_VIRTUAL("jpa-virtual", Runtime.JPA, "virtual-threads"),
+    REACTIVE("reactive", Runtime.REACTIVE, null);
+
+    public enum Runtime {
+
+        JPA("com.ersted.personservice.PersonServiceApplication"),
+        REACTIVE("com.ersted.personservice.PersonServiceReactiveApplication");
+
+        private final String mainClass;
+
+        Runtime(String mainClass) {
+            this.mainClass = mainClass;
+        }
+
+        public String mainClass() {
+            return mainClass;
+        }
+
+    }
+
+    private final String label;
+    private final Runtime runtime;
+    private final String profile;
+
+    Target(String label, Runtime runtime, String profile) {
+        this.label = label;
+        this.runtime = runtime;
+        this.profile = profile;
+    }
+
+    public String label() {
+        return label;
+    }
+
+    public Runtime runtime() {
+        return runtime;
+    }
+
+    public String profile() {
+        return profile;
+    }
+
+    public boolean virtualThreads() {
+        return "virtual-threads".equals(profile);
+    }
+
+    public static Target byName(String name) {
+        return Arrays.stream(values())
+                .filter(target -> target.label.equalsIgnoreCase(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown target: " + name));
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.ersted.personservice.loadtest;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.ReactiveJwtDecoder;
+import reactor.core.publisher.Mono;
+
+import java.time.Instant;
+
+@Configuration
+public class LoadTestJwtConfig {
+
+    @Bean
+    @Primary
+    public ReactiveJwtDecoder loadTestJwtDecoder() {
+        return token -> Mono.just(Jwt.withTokenValue(token)
+                .header("alg", "none")
+                .claim("sub", "load-test")
+                .issuedAt(Instant.now())
+                .expiresAt(Instant.now().plusSeconds(3600))
+                .build());
+    }
+
+}
@@ -0,0 +1,13 @@
+package com.ersted.personservice;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class PersonServiceReactiveApplication {
+
+	public static void main(String[] args) {
+		SpringApplication.run(PersonServiceReactiveApplication.class, args);
+	}
+
+}
@@ -0,0 +1,143 @@
+package com.ersted.personservice.audit;
+
+import com.ersted.personservice.entity.Address;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.r2dbc.core.Parameter;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+/**
+ * Writes the same history rows Hibernate Envers writes in person-service-app, so both runtimes can share
+ * one schema. Revision numbers come from {@code person.revinfo_seq} with Hibernate's pooled optimizer
+ * semantics: every {@code nextval} reserves the 50 numbers ending at the returned value.
+ */
+@Repository
+@RequiredArgsConstructor
+public class AuditRepository {
+
+    static final int REVISION_SEQUENCE_INCREMENT = 50;
+
+    private static final String NEXT_REVISION_BLOCK = "SELECT nextval('person.revinfo_seq')";
+
+    private static final String INSERT_REVISION = """
+            INSERT INTO person.revinfo (rev, revtstmp) VALUES (:rev, :timestamp)
+            """;
+
+    private static final String INSERT_INDIVIDUAL = """
+            INSERT INTO person.individuals_aud
+                (id, rev, revtype, archived_at, passport_number, phone_number, status, verified_at, user_id)
+            VALUES (:id, :rev, :revtype, :archivedAt, :passportNumber, :phoneNumber, :status, :verifiedAt, :userId)
+            """;
+
+    private static final String INSERT_USER = """
+            INSERT INTO person.users_aud
+                (id, rev, revtype, created, email, filled, first_name, last_name, secret_key, updated, address_id)
+            VALUES (:id, :rev, :revtype, :created, :email, :filled, :firstName, :lastName, :secretKey, :updated, :addressId)
+            """;
+
+    private static final String INSERT_ADDRESS = """
+            INSERT INTO person.addresses_aud
+                (id, rev, revtype, address, archived, city, created, state, updated, zip_code, country_id)
+            VALUES (:id, :rev, :revtype, :address, :archived, :city, :created, :state, :updated, :zipCode, :countryId)
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    private final Object revisionLock = new Object();
+    private long nextRevision = 1;
+    private long lastRevision = 0;
+
+    public Mono<Integer> newRevision() {
+        return allocateRevision()
+                .flatMap(revision -> databaseClient.sql(INSERT_REVISION)
+                        .bind("rev", revision)
+                        .bind("timestamp", System.currentTimeMillis())
+                        .then()
+                        .thenReturn(revision));
+    }
+
+    public Mono<Void> individual(int revision, RevisionType type, Individual individual) {
+        boolean deleted = type == RevisionType.DEL;
+        return databaseClient.sql(INSERT_INDIVIDUAL)
+                .bind("id", individual.getId())
+                .bind("rev", revision)
+                .bind("revtype", type.code())
+                .bind("archivedAt", value(deleted, individual.getArchivedAt(), OffsetDateTime.class))
+                .bind("passportNumber", value(deleted, individual.getPassportNumber(), String.class))
+                .bind("phoneNumber", value(deleted, individual.getPhoneNumber(), String.class))
+                .bind("status", value(deleted, individual.getStatus() == null ? null : individual.getStatus().name(), String.class))
+                .bind("verifiedAt", value(deleted, individual.getVerifiedAt(), OffsetDateTime.class))
+                .bind("userId", value(deleted, individual.getUserId(), UUID.class))
+                .then();
+    }
+
+    public Mono<Void> user(int revision, RevisionType type, User user) {
+        boolean deleted = type == RevisionType.DEL;
+        return databaseClient.sql(INSERT_USER)
+                .bind("id", user.getId())
+                .bind("rev", revision)
+                .bind("revtype", type.code())
+                .bind("created", value(deleted, user.getCreated(), OffsetDateTime.class))
+                .bind("email", value(deleted, user.getEmail(), String.class))
+                .bind("filled", value(deleted, user.getFilled(), Boolean.class))
+                .bind("firstName", value(deleted, user.getFirstName(), String.class))
+                .bind("lastName", value(deleted, user.getLastName(), String.class))
+                .bind("secretKey", value(deleted, user.getSecretKey(), String.class))
+                .bind("updated", value(deleted, user.getUpdated(), OffsetDateTime.class))
+                .bind("addressId", value(deleted, user.getAddressId(), UUID.class))
+                .then();
+    }
+
+    public Mono<Void> address(int revision, RevisionType type, Address address) {
+        boolean deleted = type == RevisionType.DEL;
+        return databaseClient.sql(INSERT_ADDRESS)
+                .bind("id", address.getId())
+                .bind("rev", revision)
+                .bind("revtype", type.code())
+                .bind("address", value(deleted, address.getAddress(), String.class))
+                .bind("archived", value(deleted, address.getArchived(), OffsetDateTime.class))
+                .bind("city", value(deleted, address.getCity(), String.class))
+                .bind("created", value(deleted, address.getCreated(), OffsetDateTime.class))
+                .bind("state", value(deleted, address.getState(), String.class))
+                .bind("updated", value(deleted, address.getUpdated(), OffsetDateTime.class))
+                .bind("zipCode", value(deleted, address.getZipCode(), String.class))
+                .bind("countryId", value(deleted, address.getCountryId(), Integer.class))
+                .then();
+    }
+
+    private Mono<Integer> allocateRevision() {
+        return Mono.defer(() -> {
+            synchronized (revisionLock) {
+                if (nextRevision <= lastRevision) {
+                    return Mono.just((int) nextRevision++);
+                }
+            }
+            return databaseClient.sql(NEXT_REVISION_BLOCK)
+                    .map(row -> row.get(0, Long.class))
+                    .one()
+                    .map(this::takeBlock);
+        });
+    }
+
+    private int takeBlock(long high) {
+        long low = Math.max(1, high - REVISION_SEQUENCE_INCREMENT + 1);
+        synchronized (revisionLock) {
+            if (nextRevision > lastRevision) {
+                nextRevision = low + 1;
+                lastRevision = high;
+            }
+        }
+        return (int) low;
+    }
+
+    private static Parameter value(boolean deleted, Object value, Class<?> type) {
+        return deleted ? Parameter.empty(type) : Parameter.fromOrEmpty(value, type);
+    }
+
+}
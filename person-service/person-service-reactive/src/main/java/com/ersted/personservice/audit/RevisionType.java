@@ -0,0 +1,19 @@
+package com.ersted.personservice.audit;
+
+public enum RevisionType {
+
+    ADD((short) 0),
+    MOD((short) 1),
+    DEL((short) 2);
+
+    private final short code;
+
+    RevisionType(short code) {
+        this.code = code;
+    }
+
+    public short code() {
+        return code;
+    }
+
+}
@@ -0,0 +1,56 @@
+package com.ersted.personservice.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.data.convert.ReadingConverter;
+import org.springframework.data.convert.WritingConverter;
+import org.springframework.data.r2dbc.convert.R2dbcCustomConversions;
+import org.springframework.data.r2dbc.dialect.DialectResolver;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+@Configuration
+public class R2dbcConfig {
+
+    /**
+     * Entity timestamps live in {@code timestamp without time zone} columns. Hibernate stores them in the
+     * JVM time zone, so the reactive runtime converts the same way to read and write identical values.
+     */
+    @Bean
+    public R2dbcCustomConversions r2dbcCustomConversions(ConnectionFactory connectionFactory) {
+        return R2dbcCustomConversions.of(DialectResolver.getDialect(connectionFactory), List.of(
+                OffsetDateTimeToLocalDateTime.INSTANCE,
+                LocalDateTimeToOffsetDateTime.INSTANCE
+        ));
+    }
+
+    @WritingConverter
+    enum OffsetDateTimeToLocalDateTime implements Converter<OffsetDateTime, LocalDateTime> {
+
+        INSTANCE;
+
+        @Override
+        public LocalDateTime convert(OffsetDateTime source) {
+            return source.atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        }
+
+    }
+
+    @ReadingConverter
+    enum LocalDateTimeToOffsetDateTime implements Converter<LocalDateTime, OffsetDateTime> {
+
+        INSTANCE;
+
+        @Override
+        public OffsetDateTime convert(LocalDateTime source) {
+            return source.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+        }
+
+    }
+
+}
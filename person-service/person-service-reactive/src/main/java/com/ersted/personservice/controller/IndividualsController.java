@@ -0,0 +1,72 @@
+package com.ersted.personservice.controller;
+
+import com.ersted.personservice.api.IndividualsApi;
+import com.ersted.personservice.model.IndividualCreateProfileRequest;
+import com.ersted.personservice.model.IndividualInfoResponse;
+import com.ersted.personservice.model.IndividualInfoUpdateRequest;
+import com.ersted.personservice.service.IndividualService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/v1")
+@RequiredArgsConstructor
+public class IndividualsController implements IndividualsApi {
+
+    private final IndividualService individualService;
+
+    @Override
+    public Mono<ResponseEntity<IndividualInfoResponse>> createIndividual(
+            Mono<IndividualCreateProfileRequest> individualCreateProfileRequest,
+            ServerWebExchange exchange
+    ) {
+        return individualCreateProfileRequest
+                .flatMap(individualService::create)
+                .map(dto -> ResponseEntity
+                        .created(URI.create("/v1/individuals/" + dto.getId()))
+                        .body(dto));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> activateIndividual(UUID userUuid, ServerWebExchange exchange) {
+        return individualService.active(userUuid)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok().build()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> archiveIndividual(UUID userUuid, ServerWebExchange exchange) {
+        return individualService.archive(userUuid)
+                .then(Mono.fromSupplier(() -> ResponseEntity.ok().build()));
+    }
+
+    @Override
+    public Mono<ResponseEntity<IndividualInfoResponse>> getIndividual(UUID userUuid, ServerWebExchange exchange) {
+        return individualService.profileInfo(userUuid)
+                .map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<IndividualInfoResponse>> updateIndividual(
+            UUID userUuid,
+            Mono<IndividualInfoUpdateRequest> individualInfoUpdateRequest,
+            ServerWebExchange exchange
+    ) {
+        return individualInfoUpdateRequest
+                .flatMap(request -> individualService.update(userUuid, request))
+                .map(ResponseEntity::ok);
+    }
+
+    @Override
+    public Mono<ResponseEntity<Void>> purgeIndividual(UUID userUuid, ServerWebExchange exchange) {
+        return individualService.purge(userUuid)
+                .then(Mono.fromSupplier(() -> ResponseEntity.noContent().build()));
+    }
+
+}
@@ -0,0 +1,47 @@
+package com.ersted.personservice.entity;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@Table(schema = "person", name = "addresses")
+public class Address {
+
+    @Id
+    @Column("id")
+    private UUID id;
+
+    @Column("country_id")
+    private Integer countryId;
+
+    @Column("address")
+    private String address;
+
+    @Column("zip_code")
+    private String zipCode;
+
+    @Column("city")
+    private String city;
+
+    @Column("state")
+    private String state;
+
+    @Column("archived")
+    private OffsetDateTime archived;
+
+    @Column("created")
+    private OffsetDateTime created;
+
+    @Column("updated")
+    private OffsetDateTime updated;
+
+}
@@ -0,0 +1,31 @@
+package com.ersted.personservice.entity;
+
+import com.ersted.personservice.entity.status.CountryStatus;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+@Getter
+@Setter
+@Table(schema = "person", name = "countries")
+public class Country {
+
+    @Id
+    @Column("id")
+    private Integer id;
+
+    @Column("name")
+    private String name;
+
+    @Column("alpha2")
+    private String alpha2;
+
+    @Column("alpha3")
+    private String alpha3;
+
+    @Column("status")
+    private CountryStatus status;
+
+}
@@ -0,0 +1,42 @@
+package com.ersted.personservice.entity;
+
+import com.ersted.personservice.entity.status.IndividualStatus;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@Table(schema = "person", name = "individuals")
+public class Individual {
+
+    @Id
+    @Column("id")
+    private UUID id;
+
+    @Column("user_id")
+    private UUID userId;
+
+    @Column("passport_number")
+    private String passportNumber;
+
+    @Column("phone_number")
+    private String phoneNumber;
+
+    @Column("verified_at")
+    private OffsetDateTime verifiedAt;
+
+    @Column("archived_at")
+    private OffsetDateTime archivedAt;
+
+    @Column("status")
+    private IndividualStatus status;
+
+}
@@ -0,0 +1,47 @@
+package com.ersted.personservice.entity;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.time.OffsetDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@EqualsAndHashCode
+@Table(schema = "person", name = "users")
+public class User {
+
+    @Id
+    @Column("id")
+    private UUID id;
+
+    @Column("address_id")
+    private UUID addressId;
+
+    @Column("secret_key")
+    private String secretKey;
+
+    @Column("email")
+    private String email;
+
+    @Column("first_name")
+    private String firstName;
+
+    @Column("last_name")
+    private String lastName;
+
+    @Column("filled")
+    private Boolean filled;
+
+    @Column("created")
+    private OffsetDateTime created;
+
+    @Column("updated")
+    private OffsetDateTime updated;
+
+}
@@ -0,0 +1,6 @@
+package com.ersted.personservice.entity.status;
+
+public enum CountryStatus {
+    ACTIVE,
+    DISABLED
+}
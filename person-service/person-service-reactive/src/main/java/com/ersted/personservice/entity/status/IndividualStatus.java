@@ -0,0 +1,7 @@
+package com.ersted.personservice.entity.status;
+
+public enum IndividualStatus {
+    PENDING,
+    ACTIVE,
+    ARCHIVED
+}
@@ -0,0 +1,9 @@
+package com.ersted.personservice.exception;
+
+public class NotFoundException extends ApiException {
+
+    public NotFoundException(String message) {
+        super(message);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.ersted.personservice.exception;
+
+public class ValidateException extends ApiException {
+
+    public ValidateException(String msg) {
+        super(msg);
+    }
+
+}
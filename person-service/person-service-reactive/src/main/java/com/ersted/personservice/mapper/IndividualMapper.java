@@ -0,0 +1,90 @@
+package com.ersted.personservice.mapper;
+
+import com.ersted.personservice.entity.Address;
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+import com.ersted.personservice.model.IndividualCreateProfileRequest;
+import com.ersted.personservice.model.IndividualCreateProfileRequestAddress;
+import com.ersted.personservice.model.IndividualInfoResponse;
+import com.ersted.personservice.model.IndividualInfoResponseAddress;
+import com.ersted.personservice.model.IndividualInfoResponseAddressCountry;
+import com.ersted.personservice.model.IndividualInfoUpdateRequest;
+import com.ersted.personservice.model.IndividualInfoUpdateRequestAddress;
+import com.ersted.personservice.repository.IndividualDetail;
+import org.mapstruct.*;
+
+@Mapper(componentModel = "spring")
+public interface IndividualMapper {
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "userId", ignore = true)
+    @Mapping(target = "verifiedAt", ignore = true)
+    @Mapping(target = "archivedAt", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    Individual mapIndividual(IndividualCreateProfileRequest dto);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "addressId", ignore = true)
+    @Mapping(target = "filled", ignore = true)
+    @Mapping(target = "created", ignore = true)
+    @Mapping(target = "updated", ignore = true)
+    User mapUser(IndividualCreateProfileRequest dto);
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "countryId", ignore = true)
+    @Mapping(target = "archived", ignore = true)
+    @Mapping(target = "created", ignore = true)
+    @Mapping(target = "updated", ignore = true)
+    Address mapAddress(IndividualCreateProfileRequestAddress dto);
+
+    @Mapping(source = "individual.id", target = "id")
+    @Mapping(source = "user.id", target = "userId")
+    @Mapping(source = "individual.passportNumber", target = "passportNumber")
+    @Mapping(source = "individual.phoneNumber", target = "phoneNumber")
+    @Mapping(source = "individual.status", target = "status")
+    @Mapping(source = "user.created", target = "created")
+    @Mapping(target = "address", expression = "java(mapAddress(detail.address(), detail.country()))")
+    IndividualInfoResponse map(IndividualDetail detail);
+
+    @Mapping(source = "address.address", target = "address")
+    @Mapping(source = "address.zipCode", target = "zipCode")
+    @Mapping(source = "address.city", target = "city")
+    @Mapping(source = "address.state", target = "state")
+    @Mapping(source = "country", target = "country")
+    IndividualInfoResponseAddress mapAddress(Address address, Country country);
+
+    IndividualInfoResponseAddressCountry map(Country country);
+
+    Individual copy(Individual individual);
+
+    User copy(User user);
+
+    Address copy(Address address);
+
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "userId", ignore = true)
+    @Mapping(target = "verifiedAt", ignore = true)
+    @Mapping(target = "archivedAt", ignore = true)
+    @Mapping(target = "status", ignore = true)
+    void updateFromRequest(IndividualInfoUpdateRequest request, @MappingTarget Individual individual);
+
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "addressId", ignore = true)
+    @Mapping(target = "email", ignore = true)
+    @Mapping(target = "filled", ignore = true)
+    @Mapping(target = "created", ignore = true)
+    @Mapping(target = "updated", ignore = true)
+    void updateFromRequest(IndividualInfoUpdateRequest request, @MappingTarget User user);
+
+    @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "countryId", ignore = true)
+    @Mapping(target = "archived", ignore = true)
+    @Mapping(target = "created", ignore = true)
+    @Mapping(target = "updated", ignore = true)
+    void updateFromRequest(IndividualInfoUpdateRequestAddress request, @MappingTarget Address address);
+
+}
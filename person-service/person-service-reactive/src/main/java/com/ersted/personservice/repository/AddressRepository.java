@@ -0,0 +1,9 @@
+package com.ersted.personservice.repository;
+
+import com.ersted.personservice.entity.Address;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import java.util.UUID;
+
+public interface AddressRepository extends R2dbcRepository<Address, UUID> {
+}
@@ -0,0 +1,11 @@
+package com.ersted.personservice.repository;
+
+import com.ersted.personservice.entity.Country;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+public interface CountryRepository extends R2dbcRepository<Country, Integer> {
+
+    Mono<Country> findCountryByAlpha3(String alpha3);
+
+}
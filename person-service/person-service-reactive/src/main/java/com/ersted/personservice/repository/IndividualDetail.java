@@ -0,0 +1,9 @@
+package com.ersted.personservice.repository;
+
+import com.ersted.personservice.entity.Address;
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+
+public record IndividualDetail(Individual individual, User user, Address address, Country country) {
+}
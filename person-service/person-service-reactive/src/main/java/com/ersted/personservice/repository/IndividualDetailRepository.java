@@ -0,0 +1,11 @@
+package com.ersted.personservice.repository;
+
+import reactor.core.publisher.Mono;
+
+import java.util.UUID;
+
+public interface IndividualDetailRepository {
+
+    Mono<IndividualDetail> findWithDetailById(UUID id);
+
+}
@@ -0,0 +1,107 @@
+package com.ersted.personservice.repository;
+
+import com.ersted.personservice.entity.Address;
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+import com.ersted.personservice.entity.status.CountryStatus;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import io.r2dbc.spi.Readable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.r2dbc.core.DatabaseClient;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class IndividualDetailRepositoryImpl implements IndividualDetailRepository {
+
+    private static final String FIND_WITH_DETAIL = """
+            SELECT i.id, i.user_id, i.passport_number, i.phone_number, i.verified_at, i.archived_at, i.status,
+                   u.address_id, u.secret_key, u.email, u.first_name, u.last_name, u.filled,
+                   u.created AS user_created, u.updated AS user_updated,
+                   a.country_id, a.address, a.zip_code, a.city, a.state, a.archived,
+                   a.created AS address_created, a.updated AS address_updated,
+                   c.name AS country_name, c.alpha2 AS country_alpha2, c.alpha3 AS country_alpha3,
+                   c.status AS country_status
+            FROM person.individuals i
+                     LEFT JOIN person.users u ON u.id = i.user_id
+                     LEFT JOIN person.addresses a ON a.id = u.address_id
+                     LEFT JOIN person.countries c ON c.id = a.country_id
+            WHERE i.id = :id
+            """;
+
+    private final DatabaseClient databaseClient;
+
+    @Override
+    public Mono<IndividualDetail> findWithDetailById(UUID id) {
+        return databaseClient.sql(FIND_WITH_DETAIL)
+                .bind("id", id)
+                .map(IndividualDetailRepositoryImpl::detail)
+                .one();
+    }
+
+    private static IndividualDetail detail(Readable row) {
+        Individual individual = new Individual();
+        individual.setId(row.get("id", UUID.class));
+        individual.setUserId(row.get("user_id", UUID.class));
+        individual.setPassportNumber(row.get("passport_number", String.class));
+        individual.setPhoneNumber(row.get("phone_number", String.class));
+        individual.setVerifiedAt(timestamp(row, "verified_at"));
+        individual.setArchivedAt(timestamp(row, "archived_at"));
+        individual.setStatus(enumValue(IndividualStatus.class, row.get("status", String.class)));
+
+        User user = null;
+        if (individual.getUserId() != null) {
+            user = new User();
+            user.setId(individual.getUserId());
+            user.setAddressId(row.get("address_id", UUID.class));
+            user.setSecretKey(row.get("secret_key", String.class));
+            user.setEmail(row.get("email", String.class));
+            user.setFirstName(row.get("first_name", String.class));
+            user.setLastName(row.get("last_name", String.class));
+            user.setFilled(row.get("filled", Boolean.class));
+            user.setCreated(timestamp(row, "user_created"));
+            user.setUpdated(timestamp(row, "user_updated"));
+        }
+
+        Address address = null;
+        if (user != null && user.getAddressId() != null) {
+            address = new Address();
+            address.setId(user.getAddressId());
+            address.setCountryId(row.get("country_id", Integer.class));
+            address.setAddress(row.get("address", String.class));
+            address.setZipCode(row.get("zip_code", String.class));
+            address.setCity(row.get("city", String.class));
+            address.setState(row.get("state", String.class));
+            address.setArchived(timestamp(row, "archived"));
+            address.setCreated(timestamp(row, "address_created"));
+            address.setUpdated(timestamp(row, "address_updated"));
+        }
+
+        Country country = null;
+        if (address != null && address.getCountryId() != null) {
+            country = new Country();
+            country.setId(address.getCountryId());
+            country.setName(row.get("country_name", String.class));
+            country.setAlpha2(row.get("country_alpha2", String.class));
+            country.setAlpha3(row.get("country_alpha3", String.class));
+            country.setStatus(enumValue(CountryStatus.class, row.get("country_status", String.class)));
+        }
+
+        return new IndividualDetail(individual, user, address, country);
+    }
+
+    private static OffsetDateTime timestamp(Readable row, String column) {
+        LocalDateTime value = row.get(column, LocalDateTime.class);
+        return value == null ? null : value.atZone(ZoneId.systemDefault()).toOffsetDateTime();
+    }
+
+    private static <E extends Enum<E>> E enumValue(Class<E> type, String value) {
+        return value == null ? null : Enum.valueOf(type, value);
+    }
+
+}
@@ -0,0 +1,9 @@
+package com.ersted.personservice.repository;
+
+import com.ersted.personservice.entity.Individual;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import java.util.UUID;
+
+public interface IndividualRepository extends R2dbcRepository<Individual, UUID>, IndividualDetailRepository {
+}
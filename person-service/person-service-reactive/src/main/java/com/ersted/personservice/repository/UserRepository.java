@@ -0,0 +1,9 @@
+package com.ersted.personservice.repository;
+
+import com.ersted.personservice.entity.User;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+import java.util.UUID;
+
+public interface UserRepository extends R2dbcRepository<User, UUID> {
+}
@@ -0,0 +1,214 @@
+package com.ersted.personservice.service;
+
+import com.ersted.personservice.annotation.Counted;
+import com.ersted.personservice.audit.AuditRepository;
+import com.ersted.personservice.audit.RevisionType;
+import com.ersted.personservice.entity.Address;
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import com.ersted.personservice.exception.NotFoundException;
+import com.ersted.personservice.exception.ValidateException;
+import com.ersted.personservice.mapper.IndividualMapper;
+import com.ersted.personservice.model.IndividualCreateProfileRequest;
+import com.ersted.personservice.model.IndividualInfoResponse;
+import com.ersted.personservice.model.IndividualInfoUpdateRequest;
+import com.ersted.personservice.repository.AddressRepository;
+import com.ersted.personservice.repository.CountryRepository;
+import com.ersted.personservice.repository.IndividualDetail;
+import com.ersted.personservice.repository.IndividualRepository;
+import com.ersted.personservice.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Mono;
+
+import java.time.OffsetDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class IndividualService {
+
+    private final IndividualRepository individualRepository;
+
+    private final UserRepository userRepository;
+
+    private final AddressRepository addressRepository;
+
+    private final CountryRepository countryRepository;
+
+    private final AuditRepository auditRepository;
+
+    private final IndividualMapper individualMapper;
+
+    @Counted("person.service.api.individual.create")
+    @Transactional
+    public Mono<IndividualInfoResponse> create(IndividualCreateProfileRequest request) {
+        log.info("Creating individual email: [{}]", request.getEmail());
+
+        String alpha3 = request.getAddress().getCountry().getAlpha3();
+        return countryRepository.findCountryByAlpha3(alpha3)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("Country not found by alpha3: [{}]", alpha3);
+                    return new ValidateException("Couldn't find the country by alpha3");
+                }))
+                .flatMap(country -> {
+                    OffsetDateTime now = OffsetDateTime.now();
+
+                    Address address = individualMapper.mapAddress(request.getAddress());
+                    address.setCountryId(country.getId());
+                    address.setCreated(now);
+                    address.setUpdated(now);
+
+                    User user = individualMapper.mapUser(request);
+                    user.setFilled(true);
+                    user.setCreated(now);
+                    user.setUpdated(now);
+
+                    Individual individual = individualMapper.mapIndividual(request);
+                    individual.setStatus(IndividualStatus.PENDING);
+
+                    return addressRepository.save(address)
+                            .flatMap(saved -> {
+                                user.setAddressId(saved.getId());
+                                return userRepository.save(user);
+                            })
+                            .flatMap(saved -> {
+                                individual.setUserId(saved.getId());
+                                return individualRepository.save(individual);
+                            })
+                            .then(Mono.defer(() -> audit(RevisionType.ADD, individual, user, address)))
+                            .thenReturn(new IndividualDetail(individual, user, address, country));
+                })
+                .map(detail -> {
+                    log.info("Individual profile created, id: [{}]", detail.individual().getId());
+                    return individualMapper.map(detail);
+                });
+    }
+
+    @Counted("person.service.api.individual.profileinfo")
+    public Mono<IndividualInfoResponse> profileInfo(UUID userUuid) {
+        return individualRepository.findWithDetailById(userUuid)
+                .map(individualMapper::map)
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("Couldn't find user with id: [{}]", userUuid);
+                    return new NotFoundException("Couldn't find user with id: %s".formatted(userUuid));
+                }));
+    }
+
+    @Counted("person.service.api.individual.update")
+    @Transactional
+    public Mono<IndividualInfoResponse> update(UUID userUuid, IndividualInfoUpdateRequest request) {
+        return individualRepository.findWithDetailById(userUuid)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Couldn't find user with id: %s".formatted(userUuid))))
+                .flatMap(detail -> country(request, detail)
+                        .flatMap(country -> update(detail, request, country.orElse(null))))
+                .map(individualMapper::map);
+    }
+
+    @Counted("person.service.api.individual.active")
+    @Transactional
+    public Mono<Void> active(UUID userUuid) {
+        return individualRepository.findById(userUuid)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Couldn't find user with id: %s".formatted(userUuid))))
+                .flatMap(individual -> {
+                    individual.setStatus(IndividualStatus.ACTIVE);
+                    individual.setVerifiedAt(OffsetDateTime.now());
+                    return individualRepository.save(individual);
+                })
+                .flatMap(individual -> audit(RevisionType.MOD, individual, null, null))
+                .doOnSuccess(_ -> log.info("Individual activated, id: [{}]", userUuid));
+    }
+
+    @Counted("person.service.api.individual.purge")
+    @Transactional
+    public Mono<Void> purge(UUID userUuid) {
+        log.warn("Purging individual, id: [{}]", userUuid);
+        return individualRepository.findWithDetailById(userUuid)
+                .flatMap(detail -> individualRepository.delete(detail.individual())
+                        .then(detail.user() == null ? Mono.empty() : userRepository.delete(detail.user()))
+                        .then(detail.address() == null ? Mono.empty() : addressRepository.delete(detail.address()))
+                        .then(Mono.defer(() -> audit(RevisionType.DEL, detail.individual(), detail.user(), detail.address()))));
+    }
+
+    @Counted("person.service.api.individual.archive")
+    @Transactional
+    public Mono<Void> archive(UUID userUuid) {
+        return individualRepository.findById(userUuid)
+                .switchIfEmpty(Mono.error(() -> new NotFoundException("Couldn't find user with id: %s".formatted(userUuid))))
+                .flatMap(individual -> {
+                    individual.setStatus(IndividualStatus.ARCHIVED);
+                    individual.setArchivedAt(OffsetDateTime.now());
+                    return individualRepository.save(individual);
+                })
+                .flatMap(individual -> audit(RevisionType.MOD, individual, null, null))
+                .doOnSuccess(_ -> log.info("Individual archived, id: [{}]", userUuid));
+    }
+
+    private Mono<Optional<Country>> country(IndividualInfoUpdateRequest request, IndividualDetail detail) {
+        if (request.getAddress() == null
+                || request.getAddress().getCountry() == null
+                || request.getAddress().getCountry().getAlpha3() == null) {
+            return Mono.just(Optional.ofNullable(detail.country()));
+        }
+        return countryRepository.findCountryByAlpha3(request.getAddress().getCountry().getAlpha3())
+                .map(Optional::of)
+                .switchIfEmpty(Mono.error(() -> new ValidateException("Couldn't find the country by alpha3")));
+    }
+
+    private Mono<IndividualDetail> update(IndividualDetail detail, IndividualInfoUpdateRequest request, Country country) {
+        Individual individual = detail.individual();
+        User user = detail.user();
+        Address address = detail.address();
+
+        Individual individualBefore = individualMapper.copy(individual);
+        User userBefore = user == null ? null : individualMapper.copy(user);
+        Address addressBefore = address == null ? null : individualMapper.copy(address);
+
+        individualMapper.updateFromRequest(request, individual);
+        if (user != null) {
+            individualMapper.updateFromRequest(request, user);
+        }
+        if (address != null && request.getAddress() != null) {
+            individualMapper.updateFromRequest(request.getAddress(), address);
+        }
+        if (address != null && country != null) {
+            address.setCountryId(country.getId());
+        }
+
+        OffsetDateTime now = OffsetDateTime.now();
+        Individual changedIndividual = individual.equals(individualBefore) ? null : individual;
+        User changedUser = user == null || user.equals(userBefore) ? null : user;
+        Address changedAddress = address == null || address.equals(addressBefore) ? null : address;
+
+        Mono<Void> writes = Mono.empty();
+        if (changedAddress != null) {
+            changedAddress.setUpdated(now);
+            writes = writes.then(addressRepository.save(changedAddress)).then();
+        }
+        if (changedUser != null) {
+            changedUser.setUpdated(now);
+            writes = writes.then(userRepository.save(changedUser)).then();
+        }
+        if (changedIndividual != null) {
+            writes = writes.then(individualRepository.save(changedIndividual)).then();
+        }
+        if (changedIndividual != null || changedUser != null || changedAddress != null) {
+            writes = writes.then(Mono.defer(() -> audit(RevisionType.MOD, changedIndividual, changedUser, changedAddress)));
+        }
+        return writes.thenReturn(new IndividualDetail(individual, user, address, country));
+    }
+
+    private Mono<Void> audit(RevisionType type, Individual individual, User user, Address address) {
+        return auditRepository.newRevision()
+                .flatMap(revision -> (address == null ? Mono.<Void>empty() : auditRepository.address(revision, type, address))
+                        .then(user == null ? Mono.empty() : auditRepository.user(revision, type, user))
+                        .then(individual == null ? Mono.empty() : auditRepository.individual(revision, type, individual)));
+    }
+
+}
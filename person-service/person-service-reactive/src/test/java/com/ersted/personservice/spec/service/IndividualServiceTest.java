@@ -0,0 +1,271 @@
+package com.ersted.personservice.spec.service;
+
+import com.ersted.personservice.audit.AuditRepository;
+import com.ersted.personservice.audit.RevisionType;
+import com.ersted.personservice.entity.Address;
+import com.ersted.personservice.entity.Country;
+import com.ersted.personservice.entity.Individual;
+import com.ersted.personservice.entity.User;
+import com.ersted.personservice.entity.status.IndividualStatus;
+import com.ersted.personservice.exception.NotFoundException;
+import com.ersted.personservice.exception.ValidateException;
+import com.ersted.personservice.mapper.IndividualMapper;
+import com.ersted.personservice.model.IndividualCreateProfileRequest;
+import com.ersted.personservice.model.IndividualCreateProfileRequestAddress;
+import com.ersted.personservice.model.IndividualCreateProfileRequestAddressCountry;
+import com.ersted.personservice.model.IndividualInfoUpdateRequest;
+import com.ersted.personservice.repository.AddressRepository;
+import com.ersted.personservice.repository.CountryRepository;
+import com.ersted.personservice.repository.IndividualDetail;
+import com.ersted.personservice.repository.IndividualRepository;
+import com.ersted.personservice.repository.UserRepository;
+import com.ersted.personservice.service.IndividualService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mapstruct.factory.Mappers;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IndividualServiceTest {
+
+    @Mock
+    private IndividualRepository individualRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private AddressRepository addressRepository;
+
+    @Mock
+    private CountryRepository countryRepository;
+
+    @Mock
+    private AuditRepository auditRepository;
+
+    @Spy
+    private IndividualMapper individualMapper = Mappers.getMapper(IndividualMapper.class);
+
+    @InjectMocks
+    private IndividualService individualService;
+
+    @Test
+    void shouldCreateIndividualAndWriteAddRevision() {
+        // Given
+        IndividualCreateProfileRequest request = buildCreateRequest("RUS");
+        Country country = buildCountry();
+
+        when(countryRepository.findCountryByAlpha3("RUS")).thenReturn(Mono.just(country));
+        when(addressRepository.save(any(Address.class))).thenAnswer(invocation -> {
+            Address address = invocation.getArgument(0);
+            address.setId(UUID.randomUUID());
+            return Mono.just(address);
+        });
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> {
+            User user = invocation.getArgument(0);
+            user.setId(UUID.randomUUID());
+            return Mono.just(user);
+        });
+        when(individualRepository.save(any(Individual.class))).thenAnswer(invocation -> {
+            Individual individual = invocation.getArgument(0);
+            individual.setId(UUID.randomUUID());
+            return Mono.just(individual);
+        });
+        when(auditRepository.newRevision()).thenReturn(Mono.just(1));
+        when(auditRepository.address(eq(1), eq(RevisionType.ADD), any())).thenReturn(Mono.empty());
+        when(auditRepository.user(eq(1), eq(RevisionType.ADD), any())).thenReturn(Mono.empty());
+        when(auditRepository.individual(eq(1), eq(RevisionType.ADD), any())).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(individualService.create(request))
+                .assertNext(response -> {
+                    assertNotNull(response.getId());
+                    assertNotNull(response.getUserId());
+                    assertEquals("PENDING", response.getStatus());
+                    assertEquals("RUS", response.getAddress().getCountry().getAlpha3());
+                })
+                .verifyComplete();
+
+        // Verify
+        verify(auditRepository).individual(eq(1), eq(RevisionType.ADD), any());
+    }
+
+    @Test
+    void shouldFailCreateWhenCountryNotFound() {
+        // Given
+        IndividualCreateProfileRequest request = buildCreateRequest("XYZ");
+
+        when(countryRepository.findCountryByAlpha3("XYZ")).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(individualService.create(request))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(ValidateException.class, error);
+                    assertEquals("Couldn't find the country by alpha3", error.getMessage());
+                })
+                .verify();
+
+        verifyNoInteractions(addressRepository, userRepository, individualRepository, auditRepository);
+    }
+
+    @Test
+    void shouldFailGetProfileInfoWhenNotFound() {
+        // Given
+        UUID userUuid = UUID.randomUUID();
+
+        when(individualRepository.findWithDetailById(userUuid)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(individualService.profileInfo(userUuid))
+                .expectErrorSatisfies(error -> {
+                    assertInstanceOf(NotFoundException.class, error);
+                    assertTrue(error.getMessage().contains(userUuid.toString()));
+                })
+                .verify();
+    }
+
+    @Test
+    void shouldSkipWritesWhenUpdateChangesNothing() {
+        // Given
+        IndividualDetail detail = buildDetail();
+        UUID userUuid = detail.individual().getId();
+        IndividualInfoUpdateRequest request = new IndividualInfoUpdateRequest();
+        request.setPassportNumber(detail.individual().getPassportNumber());
+
+        when(individualRepository.findWithDetailById(userUuid)).thenReturn(Mono.just(detail));
+
+        // When / Then
+        StepVerifier.create(individualService.update(userUuid, request))
+                .assertNext(response -> assertEquals(userUuid, response.getId()))
+                .verifyComplete();
+
+        verify(individualRepository, never()).save(any());
+        verifyNoInteractions(userRepository, addressRepository, auditRepository);
+    }
+
+    @Test
+    void shouldActivateIndividualAndWriteModRevision() {
+        // Given
+        Individual individual = buildDetail().individual();
+        UUID userUuid = individual.getId();
+
+        when(individualRepository.findById(userUuid)).thenReturn(Mono.just(individual));
+        when(individualRepository.save(individual)).thenReturn(Mono.just(individual));
+        when(auditRepository.newRevision()).thenReturn(Mono.just(2));
+        when(auditRepository.individual(2, RevisionType.MOD, individual)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(individualService.active(userUuid)).verifyComplete();
+
+        assertEquals(IndividualStatus.ACTIVE, individual.getStatus());
+        assertNotNull(individual.getVerifiedAt());
+        verify(auditRepository, never()).user(anyInt(), any(), any());
+    }
+
+    @Test
+    void shouldFailArchiveWhenIndividualNotFound() {
+        // Given
+        UUID userUuid = UUID.randomUUID();
+
+        when(individualRepository.findById(userUuid)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(individualService.archive(userUuid))
+                .expectError(NotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    void shouldPurgeIndividualWithUserAndAddress() {
+        // Given
+        IndividualDetail detail = buildDetail();
+        UUID userUuid = detail.individual().getId();
+
+        when(individualRepository.findWithDetailById(userUuid)).thenReturn(Mono.just(detail));
+        when(individualRepository.delete(detail.individual())).thenReturn(Mono.empty());
+        when(userRepository.delete(detail.user())).thenReturn(Mono.empty());
+        when(addressRepository.delete(detail.address())).thenReturn(Mono.empty());
+        when(auditRepository.newRevision()).thenReturn(Mono.just(3));
+        when(auditRepository.address(3, RevisionType.DEL, detail.address())).thenReturn(Mono.empty());
+        when(auditRepository.user(3, RevisionType.DEL, detail.user())).thenReturn(Mono.empty());
+        when(auditRepository.individual(3, RevisionType.DEL, detail.individual())).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(individualService.purge(userUuid)).verifyComplete();
+
+        // Verify
+        verify(addressRepository).delete(detail.address());
+        verify(auditRepository).individual(3, RevisionType.DEL, detail.individual());
+    }
+
+    @Test
+    void shouldIgnorePurgeOfMissingIndividual() {
+        // Given
+        UUID userUuid = UUID.randomUUID();
+
+        when(individualRepository.findWithDetailById(userUuid)).thenReturn(Mono.empty());
+
+        // When / Then
+        StepVerifier.create(individualService.purge(userUuid)).verifyComplete();
+
+        verifyNoInteractions(userRepository, addressRepository, auditRepository);
+    }
+
+    // ─── Helpers ────────────────────────────────────────────────────────────────
+
+    private IndividualCreateProfileRequest buildCreateRequest(String alpha3) {
+        IndividualCreateProfileRequestAddressCountry country =
+                new IndividualCreateProfileRequestAddressCountry("Russia", "RU", alpha3);
+        IndividualCreateProfileRequestAddress address =
+                new IndividualCreateProfileRequestAddress("Test Street 1", "123456", "Moscow", "Moscow", country);
+        return new IndividualCreateProfileRequest("AB123456", "+79001234567", "test@test.com", "John", "Doe", "secret123", address);
+    }
+
+    private Country buildCountry() {
+        Country country = new Country();
+        country.setId(1);
+        country.setName("Russia");
+        country.setAlpha2("RU");
+        country.setAlpha3("RUS");
+        return country;
+    }
+
+    private IndividualDetail buildDetail() {
+        Country country = buildCountry();
+
+        Address address = new Address();
+        address.setId(UUID.randomUUID());
+        address.setCountryId(country.getId());
+        address.setCity("Moscow");
+
+        User user = new User();
+        user.setId(UUID.randomUUID());
+        user.setAddressId(address.getId());
+        user.setEmail("test@test.com");
+        user.setFirstName("John");
+        user.setLastName("Doe");
+        user.setFilled(true);
+
+        Individual individual = new Individual();
+        individual.setId(UUID.randomUUID());
+        individual.setUserId(user.getId());
+        individual.setPassportNumber("AB123456");
+        individual.setPhoneNumber("+79001234567");
+        individual.setStatus(IndividualStatus.PENDING);
+        return new IndividualDetail(individual, user, address, country);
+    }
+
+}
@@ -2,5 +2,7 @@ rootProject.name = "person-service"
 
 include(
     "person-service-app",
+    "person-service-loadtest",
+    "person-service-reactive",
     "person-service-sdk"
 )
\ No newline at end of file